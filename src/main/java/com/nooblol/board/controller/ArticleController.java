@@ -2,16 +2,21 @@ package com.nooblol.board.controller;
 
 import com.nooblol.board.dto.ArticleDto;
 import com.nooblol.board.dto.ArticleInsertRequestDto;
+import com.nooblol.board.dto.ArticleListSearchDto;
 import com.nooblol.board.dto.ArticleUpdateRequestDto;
 import com.nooblol.board.service.ArticleService;
 import com.nooblol.global.annotation.UserLoginCheck;
 import com.nooblol.global.dto.ResponseDto;
+import com.nooblol.global.utils.RequestUtils;
 import com.nooblol.global.utils.ResponseUtils;
 import com.nooblol.global.utils.SessionUtils;
+import java.time.LocalDateTime;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -19,6 +24,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -35,16 +41,63 @@ public class ArticleController {
      *
      * @param articleId
      * @param session
+     * @param request 로그인하지 않은 사용자의 순 방문자 구분에 사용
      * @return
      */
     @GetMapping("/{articleId}")
-    public ResponseDto getArticle(@PathVariable int articleId, HttpSession session) {
+    public ResponseDto getArticle(
+            @PathVariable int articleId, HttpSession session, HttpServletRequest request) {
         ArticleDto article =
-                articleService.getArticleInfo(articleId, SessionUtils.getSessionUserId(session));
+                articleService.getArticleInfo(
+                        articleId, session, RequestUtils.getClientFingerprint(request));
 
         return ResponseUtils.makeToResponseOkDto(article);
     }
 
+    /**
+     * 게시판의 게시물 리스트 조회, 본문을 제외한 요약정보만 최신순으로 반환한다.
+     *
+     * <p>다음 페이지를 조회하는 경우 이전 결과의 마지막 게시물의 createdAt, articleId를 Cursor로 전달한다.
+     *
+     * @param bbsId 조회할 게시판 ID
+     * @param cursorCreatedAt 이전 페이지 마지막 게시물의 작성일, 첫 페이지인 경우 생략
+     * @param cursorArticleId 이전 페이지 마지막 게시물의 ID, 첫 페이지인 경우 생략
+     * @param limitNum 값이 제공되지 않으면 30개, 최대 100개까지 조회한다.
+     * @return
+     */
+    @GetMapping("/list")
+    public ResponseDto getArticleList(
+            @RequestParam(value = "bbsId") int bbsId,
+            @RequestParam(value = "cursorCreatedAt", required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime cursorCreatedAt,
+            @RequestParam(value = "cursorArticleId", required = false) Integer cursorArticleId,
+            @RequestParam(value = "limit", required = false, defaultValue = "30") int limitNum) {
+        ArticleListSearchDto searchDto =
+                ArticleListSearchDto.builder()
+                        .bbsId(bbsId)
+                        .cursorCreatedAt(cursorCreatedAt)
+                        .cursorArticleId(cursorArticleId)
+                        .limitNum(limitNum)
+                        .build();
+
+        return ResponseUtils.makeResponseOkDtoOfNullable(
+                articleService.getArticleListByBbsId(searchDto));
+    }
+
+    /**
+     * 인기 게시물 리스트 조회, 조회, 추천, 댓글에 시간 감쇠를 적용한 점수순으로 주기적으로 갱신된 리스트를 반환한다.
+     *
+     * @param bbsId 조회할 게시판 ID, 생략하는 경우 전체 게시판 기준
+     * @return
+     */
+    @GetMapping("/trending")
+    public ResponseDto getTrendingArticleList(
+            @RequestParam(value = "bbsId", required = false) Integer bbsId) {
+        return ResponseUtils.makeResponseOkDtoOfNullable(
+                articleService.getTrendingArticleList(bbsId));
+    }
+
     /**
      * 게시물 등록
      *
@@ -1,15 +1,18 @@
 package com.nooblol.board.controller;
 
 import com.nooblol.board.dto.ReplyInsertDto;
+import com.nooblol.board.dto.ReplyListSearchDto;
 import com.nooblol.board.dto.ReplyUpdateDto;
 import com.nooblol.board.service.ArticleReplyService;
 import com.nooblol.global.annotation.UserLoginCheck;
 import com.nooblol.global.dto.ResponseDto;
 import com.nooblol.global.utils.ResponseUtils;
+import java.time.LocalDateTime;
 import javax.servlet.http.HttpSession;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -51,6 +55,69 @@ public class ArticleReplyController {
                 articleReplyService.selectReplyListByArticleId(articleId));
     }
 
+    /**
+     * 게시물의 최상위 댓글을 등록순으로 조회하며, 각 댓글의 답글 수를 같이 반환한다.
+     *
+     * <p>다음 페이지를 조회하는 경우 이전 결과의 마지막 댓글의 createdAt, replyId를 Cursor로 전달한다.
+     *
+     * @param articleId 조회할 게시물 ID, 존재하지 않는 경우 BadRequest
+     * @param cursorCreatedAt 이전 페이지 마지막 댓글의 작성일, 첫 페이지인 경우 생략
+     * @param cursorReplyId 이전 페이지 마지막 댓글의 ID, 첫 페이지인 경우 생략
+     * @param limitNum 값이 제공되지 않으면 20개, 최대 100개까지 조회한다.
+     * @return
+     */
+    @GetMapping("/page/{articleId}")
+    public ResponseDto getReplyPage(
+            @PathVariable(value = "articleId") int articleId,
+            @RequestParam(value = "cursorCreatedAt", required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime cursorCreatedAt,
+            @RequestParam(value = "cursorReplyId", required = false) Integer cursorReplyId,
+            @RequestParam(value = "limit", required = false, defaultValue = "20") int limitNum) {
+        ReplyListSearchDto searchDto =
+                ReplyListSearchDto.builder()
+                        .articleId(articleId)
+                        .cursorCreatedAt(cursorCreatedAt)
+                        .cursorReplyId(cursorReplyId)
+                        .limitNum(limitNum)
+                        .build();
+
+        return ResponseUtils.makeResponseOkDtoOfNullable(
+                articleReplyService.getReplyListByCursor(searchDto));
+    }
+
+    /**
+     * 댓글의 답글을 등록순으로 조회한다. Cursor의 사용은 댓글 리스트 조회와 같다.
+     *
+     * @param articleId 댓글이 등록된 게시물 ID, 존재하지 않는 경우 BadRequest
+     * @param replyId 답글을 조회할 최상위 댓글 ID, 게시물의 최상위 댓글이 아닌 경우 BadRequest
+     * @param cursorCreatedAt 이전 페이지 마지막 답글의 작성일, 첫 페이지인 경우 생략
+     * @param cursorReplyId 이전 페이지 마지막 답글의 ID, 첫 페이지인 경우 생략
+     * @param limitNum 값이 제공되지 않으면 20개, 최대 100개까지 조회한다.
+     * @return
+     */
+    @GetMapping("/page/{articleId}/{replyId}/children")
+    public ResponseDto getChildReplyPage(
+            @PathVariable(value = "articleId") int articleId,
+            @PathVariable(value = "replyId") int replyId,
+            @RequestParam(value = "cursorCreatedAt", required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime cursorCreatedAt,
+            @RequestParam(value = "cursorReplyId", required = false) Integer cursorReplyId,
+            @RequestParam(value = "limit", required = false, defaultValue = "20") int limitNum) {
+        ReplyListSearchDto searchDto =
+                ReplyListSearchDto.builder()
+                        .articleId(articleId)
+                        .parentReplyId(replyId)
+                        .cursorCreatedAt(cursorCreatedAt)
+                        .cursorReplyId(cursorReplyId)
+                        .limitNum(limitNum)
+                        .build();
+
+        return ResponseUtils.makeResponseOkDtoOfNullable(
+                articleReplyService.getReplyListByCursor(searchDto));
+    }
+
     @UserLoginCheck
     @PostMapping("/")
     public ResponseDto addReply(
@@ -2,8 +2,10 @@ package com.nooblol.board.controller;
 
 import com.nooblol.board.dto.BbsInsertDto;
 import com.nooblol.board.dto.BbsUpdateDto;
+import com.nooblol.board.dto.BoardNavigationResponseDto;
 import com.nooblol.board.dto.CategoryInsertDto;
 import com.nooblol.board.dto.CategoryUpdateDto;
+import com.nooblol.board.service.ArticleSearchService;
 import com.nooblol.board.service.CategoryService;
 import com.nooblol.board.utils.ArticleMessage;
 import com.nooblol.global.annotation.UserRoleIsAdminCehck;
@@ -15,6 +17,11 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,6 +29,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -35,6 +43,8 @@ public class BoardController {
 
     private final CategoryService categoryService;
 
+    private final ArticleSearchService articleSearchService;
+
     /**
      * 파라미터로 받은 status와 일치하는 모든 category를 반환한다.
      *
@@ -68,6 +78,61 @@ public class BoardController {
         return ResponseUtils.makeListToResponseDto(categoryService.getAllBbsList());
     }
 
+    /**
+     * 활성화된 카테고리와 하위 게시판의 메뉴 트리를 한번에 반환한다. 미리 직렬화된 응답을 그대로 쓰며, gzip을 지원하는 경우 압축본을 반환한다.
+     *
+     * <p>If-None-Match가 현재 ETag와 같은 경우 본문없이 304를 반환한다.
+     *
+     * @param ifNoneMatch 이전 응답의 ETag
+     * @param acceptEncoding
+     * @return
+     */
+    @GetMapping("/navigation")
+    public ResponseEntity<byte[]> getBoardNavigation(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                    String acceptEncoding) {
+        BoardNavigationResponseDto snapshot = categoryService.getBoardNavigation();
+
+        if (ifNoneMatch != null
+                && (ifNoneMatch.equals("*") || ifNoneMatch.contains(snapshot.getEtag()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder responseBuilder =
+                ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .eTag(snapshot.getEtag())
+                        .cacheControl(CacheControl.noCache())
+                        .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return responseBuilder
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(snapshot.getGzipBody());
+        }
+        return responseBuilder.body(snapshot.getJsonBody());
+    }
+
+    /**
+     * 게시물의 제목, 본문, 댓글을 대상으로 검색하며, 검색어와 일치하는 정도가 높은 게시물부터 반환한다.
+     *
+     * @param keyword 검색어, 공백이거나 100자를 넘는 경우 BadRequest
+     * @param page 1부터 시작하는 페이지 번호
+     * @param limit 한 페이지의 건수, 최대 100건
+     * @return
+     */
+    @GetMapping("/search")
+    public ResponseDto searchArticle(
+            @RequestParam(value = "keyword") String keyword,
+            @RequestParam(value = "page", defaultValue = "1") int page,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ResponseUtils.makeListToResponseDto(
+                articleSearchService.searchArticle(keyword, page, limit));
+    }
+
     /**
      * 카테고리 추가하며, 정상적으로 Insert가 되면 결과값으로 True를 Return한다
      *
@@ -0,0 +1,32 @@
+package com.nooblol.board.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleDeleteQueueDto {
+
+    private int articleId;
+
+    private int status;
+
+    private int retryCount;
+
+    private int deletedStatusCount;
+
+    private int deletedReplyCount;
+
+    private String lastError;
+
+    private LocalDateTime nextRunAt;
+
+    private LocalDateTime createdAt;
+}
@@ -1,6 +1,7 @@
 package com.nooblol.board.dto;
 
 import com.nooblol.board.utils.ArticleStatus;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,8 +13,10 @@ import lombok.Setter;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
-public class ArticleDto {
+@Builder(toBuilder = true)
+public class ArticleDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /*
     Integer로 변경하는 이유는 기본값 0이 들어감으로 인해서 Mybatis에서 NullCheck를 못하는 경우를 제외하기 위해 변경
@@ -25,8 +28,13 @@ public class ArticleDto {
     private int articleReadCount;
     private String articleContent;
     private ArticleStatus status;
+    private int likeCount;
+    private int notLikeCount;
+    private int replyCount;
     private String createdUserId;
     private LocalDateTime createdAt = LocalDateTime.now();
     private LocalDateTime updatedAt = LocalDateTime.now();
     private String authMessage;
+    // HyperLogLog로 추정한 순 방문자수
+    private long uniqueViewers;
 }
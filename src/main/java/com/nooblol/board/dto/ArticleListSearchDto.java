@@ -0,0 +1,29 @@
+package com.nooblol.board.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 게시물 리스트 조회 조건, (createdAt, articleId)를 Cursor로 사용한다.
+ *
+ * <p>Cursor값이 없는 경우 가장 최신글부터 조회하며, 이전 조회결과의 마지막 게시물의 createdAt, articleId를 넘기면 그 다음 게시물부터 조회한다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleListSearchDto {
+
+    private int bbsId;
+
+    private LocalDateTime cursorCreatedAt;
+
+    private Integer cursorArticleId;
+
+    private int limitNum;
+}
@@ -0,0 +1,27 @@
+package com.nooblol.board.dto;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 게시물 검색 결과, 검색 Index에 보관된 정보만으로 구성하며 본문은 포함하지 않는다. */
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSearchResultDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private int articleId;
+    private int bbsId;
+    private String articleTitle;
+    private String createdUserId;
+    private LocalDateTime createdAt;
+    private double score;
+}
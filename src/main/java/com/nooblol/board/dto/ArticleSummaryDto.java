@@ -0,0 +1,29 @@
+package com.nooblol.board.dto;
+
+import com.nooblol.board.utils.ArticleStatus;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 게시판의 게시물 리스트 조회시 사용하며, 본문(article_content)은 포함하지 않는다. */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSummaryDto {
+
+    private int articleId;
+    private int bbsId;
+    private String articleTitle;
+    private int articleReadCount;
+    private ArticleStatus status;
+    private int likeCount;
+    private int notLikeCount;
+    private int replyCount;
+    private String createdUserId;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,22 @@
+package com.nooblol.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 인기 게시물 리스트의 항목, score는 조회, 추천, 댓글에 시간 감쇠를 적용한 점수이다. */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleTrendingDto {
+
+    private int articleId;
+    private int bbsId;
+    private String articleTitle;
+    private String createdUserId;
+    private double score;
+}
@@ -1,6 +1,7 @@
 package com.nooblol.board.dto;
 
 import com.nooblol.board.utils.BoardStatus;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +14,9 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class BbsDto {
+public class BbsDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private int bbsId;
     private int categoryId;
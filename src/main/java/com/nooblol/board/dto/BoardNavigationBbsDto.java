@@ -0,0 +1,18 @@
+package com.nooblol.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardNavigationBbsDto {
+
+    private int bbsId;
+    private String bbsName;
+}
@@ -0,0 +1,21 @@
+package com.nooblol.board.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 게시판 메뉴 구성용 카테고리와 하위 게시판 리스트, 활성화 상태인 카테고리와 게시판만 포함한다. */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardNavigationDto {
+
+    private int categoryId;
+    private String categoryName;
+    private List<BoardNavigationBbsDto> bbsList;
+}
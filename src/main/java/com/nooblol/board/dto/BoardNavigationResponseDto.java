@@ -0,0 +1,16 @@
+package com.nooblol.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/** 응답 JSON과 gzip으로 미리 직렬화된 게시판 메뉴 트리, 응답에 그대로 사용하므로 byte 배열은 수정하지 않는다. */
+@Getter
+@Builder
+@AllArgsConstructor
+public class BoardNavigationResponseDto {
+
+    private final String etag;
+    private final byte[] jsonBody;
+    private final byte[] gzipBody;
+}
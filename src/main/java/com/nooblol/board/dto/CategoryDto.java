@@ -1,6 +1,7 @@
 package com.nooblol.board.dto;
 
 import com.nooblol.board.utils.CategoryStatus;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +14,9 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class CategoryDto {
+public class CategoryDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private int categoryId;
     private String categoryName;
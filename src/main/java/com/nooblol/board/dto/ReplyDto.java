@@ -23,8 +23,14 @@ public class ReplyDto {
 
     private ReplyStatus status;
 
+    // 최상위 댓글인 경우 null
+    private Integer parentReplyId;
+
     private int sortNo;
 
+    // 답글 수, 댓글 리스트 조회시에만 설정된다
+    private int childReplyCount;
+
     private String createdUserId;
 
     private LocalDateTime createdAt;
@@ -18,12 +18,17 @@ public class ReplyInsertDto extends ReplyRequestDto {
 
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // 답글인 경우 답글을 다는 댓글의 ID
+    private Integer parentReplyId;
+
     @Builder
     public ReplyInsertDto(
             @NotNull(message = ArticleMessage.ARTICLE_ID_NULL) Integer articleId,
             @NotNull(message = ArticleMessage.REPLY_CONTENT_NULL) String replyContent,
             @NotNull(message = ArticleMessage.REPLY_STATUS_NULL) ReplyStatus status,
-            Integer sortNo) {
+            Integer sortNo,
+            Integer parentReplyId) {
         super(articleId, replyContent, status, sortNo);
+        this.parentReplyId = parentReplyId;
     }
 }
@@ -0,0 +1,32 @@
+package com.nooblol.board.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 댓글 리스트 조회 조건, (createdAt, replyId)를 Cursor로 사용한다.
+ *
+ * <p>parentReplyId가 없는 경우 게시물의 댓글을, 있는 경우 해당 댓글의 답글을 등록순으로 조회한다. 이전 조회결과의 마지막 댓글의 createdAt,
+ * replyId를 넘기면 그 다음 댓글부터 조회한다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplyListSearchDto {
+
+    private int articleId;
+
+    private Integer parentReplyId;
+
+    private LocalDateTime cursorCreatedAt;
+
+    private Integer cursorReplyId;
+
+    private int limitNum;
+}
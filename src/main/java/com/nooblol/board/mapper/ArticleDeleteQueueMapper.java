@@ -0,0 +1,33 @@
+package com.nooblol.board.mapper;
+
+import com.nooblol.board.dto.ArticleDeleteQueueDto;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ArticleDeleteQueueMapper {
+
+    int insertDeleteQueue(@Param("articleId") int articleId, @Param("now") LocalDateTime now);
+
+    List<ArticleDeleteQueueDto> selectRunnableDeleteQueueList(
+            @Param("now") LocalDateTime now, @Param("limitNum") int limitNum);
+
+    int claimDeleteQueue(@Param("articleId") int articleId, @Param("now") LocalDateTime now);
+
+    int addDeletedCount(
+            @Param("articleId") int articleId,
+            @Param("statusDelta") int statusDelta,
+            @Param("replyDelta") int replyDelta);
+
+    int completeDeleteQueue(@Param("articleId") int articleId, @Param("now") LocalDateTime now);
+
+    int failDeleteQueue(
+            @Param("articleId") int articleId,
+            @Param("status") int status,
+            @Param("nextRunAt") LocalDateTime nextRunAt,
+            @Param("lastError") String lastError);
+
+    int releaseStaleDeleteQueue(@Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -1,16 +1,47 @@
 package com.nooblol.board.mapper;
 
 import com.nooblol.board.dto.ArticleDto;
+import com.nooblol.board.dto.ArticleListSearchDto;
+import com.nooblol.board.dto.ArticleReadCountDto;
+import com.nooblol.board.dto.ArticleSummaryDto;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface ArticleMapper {
 
     ArticleDto selectArticleByArticleId(int articleId);
 
-    void addReadCount(int articleId);
+    List<ArticleSummaryDto> selectArticleSummaryListByArticleIds(
+            @Param("articleIdList") List<Integer> articleIdList);
 
-    int selectUserAuth(String userId);
+    boolean existsArticleByArticleId(int articleId);
+
+    List<Integer> selectArticleIdsByRange(
+            @Param("startArticleId") int startArticleId, @Param("endArticleId") int endArticleId);
+
+    List<ArticleDto> selectArticleListByRange(
+            @Param("startArticleId") int startArticleId, @Param("endArticleId") int endArticleId);
+
+    List<ArticleSummaryDto> selectArticleListByBbsId(ArticleListSearchDto articleListSearchDto);
+
+    int addReadCountBatch(List<ArticleReadCountDto> readCountList);
+
+    int addLikeCount(
+            @Param("articleId") int articleId,
+            @Param("likeDelta") int likeDelta,
+            @Param("notLikeDelta") int notLikeDelta);
+
+    int addReplyCount(@Param("articleId") int articleId, @Param("replyDelta") int replyDelta);
+
+    Integer selectMaxArticleId();
+
+    List<Integer> selectCountMismatchedArticleIdsByRange(
+            @Param("startArticleId") int startArticleId, @Param("endArticleId") int endArticleId);
+
+    int reconcileArticleCountByArticleIds(@Param("articleIdList") List<Integer> articleIdList);
 
     int insertArticle(ArticleDto articleDto);
 
@@ -18,5 +49,8 @@ public interface ArticleMapper {
 
     String selectCreatedUserId(int articleId);
 
+    int softDeleteArticle(
+            @Param("articleId") int articleId, @Param("updatedAt") LocalDateTime updatedAt);
+
     int deleteArticleByArticleId(int articleId);
 }
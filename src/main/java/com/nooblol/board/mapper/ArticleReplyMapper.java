@@ -1,8 +1,11 @@
 package com.nooblol.board.mapper;
 
 import com.nooblol.board.dto.ReplyDto;
+import com.nooblol.board.dto.ReplyListSearchDto;
 import java.util.ArrayList;
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface ArticleReplyMapper {
@@ -15,9 +18,21 @@ public interface ArticleReplyMapper {
 
     int deleteReplyByReplyId(int replyId);
 
+    int deleteReplyByParentReplyId(int parentReplyId);
+
+    List<Integer> selectReplyIdListByParentReplyId(int parentReplyId);
+
     int deleteReplyByArticleId(int articleId);
 
+    int deleteReplyByArticleIdWithLimit(
+            @Param("articleId") int articleId, @Param("limitNum") int limitNum);
+
     ReplyDto selectReplyByReplyId(int replyId);
 
     ArrayList<ReplyDto> selectReplyListByArticleId(int articleId);
+
+    List<ReplyDto> selectReplyListByCursor(ReplyListSearchDto replyListSearchDto);
+
+    List<ReplyDto> selectReplyListByArticleIdRange(
+            @Param("startArticleId") int startArticleId, @Param("endArticleId") int endArticleId);
 }
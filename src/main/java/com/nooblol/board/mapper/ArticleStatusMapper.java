@@ -3,15 +3,17 @@ package com.nooblol.board.mapper;
 import com.nooblol.board.dto.ArticleStatusDto;
 import com.nooblol.board.dto.LikeAndNotLikeResponseDto;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface ArticleStatusMapper {
 
-    ArticleStatusDto selectArticleStatusByArticleIdAndUserId(ArticleStatusDto articleStatusDto);
-
     LikeAndNotLikeResponseDto selectArticleAllStatusByArticleId(int articleId);
 
-    int insertArticleStatus(ArticleStatusDto articleStatusDto);
+    int insertArticleStatusIfAbsent(ArticleStatusDto articleStatusDto);
 
     int deleteArticleStatus(ArticleStatusDto articleStatusDto);
+
+    int deleteArticleStatusByArticleIdWithLimit(
+            @Param("articleId") int articleId, @Param("limitNum") int limitNum);
 }
@@ -0,0 +1,20 @@
+package com.nooblol.board.mapper;
+
+import java.time.LocalDateTime;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ArticleUniqueViewerMapper {
+
+    byte[] selectSketch(int articleId);
+
+    byte[] selectSketchForUpdate(int articleId);
+
+    int upsertSketchIfArticleExists(
+            @Param("articleId") int articleId,
+            @Param("sketch") byte[] sketch,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    int deleteSketch(int articleId);
+}
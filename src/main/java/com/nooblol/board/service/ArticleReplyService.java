@@ -2,6 +2,7 @@ package com.nooblol.board.service;
 
 import com.nooblol.board.dto.ReplyDto;
 import com.nooblol.board.dto.ReplyInsertDto;
+import com.nooblol.board.dto.ReplyListSearchDto;
 import com.nooblol.board.dto.ReplyUpdateDto;
 import java.util.List;
 import javax.servlet.http.HttpSession;
@@ -9,7 +10,7 @@ import javax.servlet.http.HttpSession;
 public interface ArticleReplyService {
 
     /**
-     * 댓글 추가
+     * 댓글 추가, parentReplyId가 있는 경우 해당 댓글의 답글로 추가한다.
      *
      * @param insertDto
      * @param session
@@ -27,7 +28,7 @@ public interface ArticleReplyService {
     boolean updateReply(ReplyUpdateDto updateDto, HttpSession session);
 
     /**
-     * 댓글의 삭제, 요청자가 작성자인 경우이거나 또는 관리자인 경우에 해당 기능이 실행된다.
+     * 댓글의 삭제, 요청자가 작성자인 경우이거나 또는 관리자인 경우에 해당 기능이 실행된다. 최상위 댓글인 경우 답글도 같이 삭제된다.
      *
      * @param replyId
      * @param session
@@ -44,11 +45,20 @@ public interface ArticleReplyService {
     ReplyDto selectReplyByReplyId(int replyId);
 
     /**
-     * 댓글 리스트 조회
+     * 댓글 리스트 조회, 게시물의 모든 댓글과 답글을 한번에 반환한다. 댓글이 많은 게시물은 getReplyListByCursor를 사용한다.
      *
      * @param articleId
      * @return
      */
-    // TODO [22. 09. 15] : 보통 댓글의 경우에는 타 웹사이트들에서도 댓글을 한번에 볼 수 있는 경우가 많아 Limit를 따로 하지 않았으나 해야하나 고민 됨.
     List<ReplyDto> selectReplyListByArticleId(int articleId);
+
+    /**
+     * 게시물의 댓글 또는 댓글의 답글을 (createdAt, replyId) Cursor 기준으로 등록순 조회한다. 각 댓글에는 답글 수가 포함된다.
+     *
+     * <p>답글을 조회하는 경우 parentReplyId가 해당 게시물의 최상위 댓글이 아니면 BadRequest가 발생한다.
+     *
+     * @param replyListSearchDto
+     * @return
+     */
+    List<ReplyDto> getReplyListByCursor(ReplyListSearchDto replyListSearchDto);
 }
@@ -0,0 +1,17 @@
+package com.nooblol.board.service;
+
+import com.nooblol.board.dto.ArticleSearchResultDto;
+import java.util.List;
+
+public interface ArticleSearchService {
+
+    /**
+     * 게시물의 제목, 본문, 댓글에서 검색어를 찾아 일치하는 정도가 높은 순서로 반환한다. 비공개 게시물은 검색되지 않는다.
+     *
+     * @param keyword 검색어
+     * @param page 1부터 시작하는 페이지 번호
+     * @param limit 한 페이지의 최대 건수
+     * @return
+     */
+    List<ArticleSearchResultDto> searchArticle(String keyword, int page, int limit);
+}
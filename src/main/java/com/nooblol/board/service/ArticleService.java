@@ -1,29 +1,50 @@
 package com.nooblol.board.service;
 
 import com.nooblol.board.dto.ArticleDto;
+import com.nooblol.board.dto.ArticleListSearchDto;
+import com.nooblol.board.dto.ArticleSummaryDto;
+import com.nooblol.board.dto.ArticleTrendingDto;
+import java.util.List;
 import javax.servlet.http.HttpSession;
 
 public interface ArticleService {
 
     /**
-     * 받은 articleId로 조회수를 증가한 이후 게시물정보를 반환한다.
+     * 받은 articleId로 조회수를 증가하고 순 방문자로 기록한 이후 게시물정보를 반환한다. 게시물정보는 ArticleInfoCache를 통해 조회한다.
      *
      * @param articleId 조회해야 하는 게시물 ID
-     * @param userId 로그인을 한 경우, Session에 저장된 UserId
+     * @param session 요청자의 Session, 로그인 하지 않은 경우 GUEST 권한으로 처리한다
+     * @param clientFingerprint 로그인 하지 않은 경우 순 방문자를 구분할 Client 정보
      * @return
      */
-    ArticleDto getArticleInfo(int articleId, String userId);
+    ArticleDto getArticleInfo(int articleId, HttpSession session, String clientFingerprint);
 
     /**
-     * 해당 사용자가 실제 사용자인지확인후, 게시물에서 행동할 수 있는 권한을 Return한다
+     * 게시판의 게시물 리스트를 (createdAt, articleId) Cursor 기준으로 최신순 조회한다. 게시물 본문은 포함하지 않는다.
      *
-     * @param userId
+     * @param articleListSearchDto
      * @return
      */
-    String getUserArticleAuth(String userId);
+    List<ArticleSummaryDto> getArticleListByBbsId(ArticleListSearchDto articleListSearchDto);
 
     /**
-     * 받은 articleId의 조회수를 1 증가시킨다
+     * 조회, 추천, 댓글에 시간 감쇠를 적용한 점수 기준의 인기 게시물 리스트, TrendingArticleRanker가 주기적으로 공개한 리스트를 반환한다.
+     *
+     * @param bbsId null인 경우 전체 게시판 기준
+     * @return
+     */
+    List<ArticleTrendingDto> getTrendingArticleList(Integer bbsId);
+
+    /**
+     * Session에 저장된 사용자 권한으로, 게시물에서 행동할 수 있는 권한을 Return한다
+     *
+     * @param session
+     * @return
+     */
+    String getUserArticleAuth(HttpSession session);
+
+    /**
+     * 받은 articleId의 조회수를 1 증가시킨다, DB에는 ArticleReadCountBuffer를 통해 주기적으로 반영된다.
      *
      * @param articleId
      */
@@ -57,7 +78,7 @@ public interface ArticleService {
     boolean deleteArticle(int articleId, HttpSession session);
 
     /**
-     * DB에 실제 해당 게시물이 존재하는지 여부 확인
+     * 실제 해당 게시물이 존재하는지 여부 확인, ArticleExistenceIndex를 통해 게시물 Row를 조회하지 않고 확인한다.
      *
      * @param articleId
      * @return
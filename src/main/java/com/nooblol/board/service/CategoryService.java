@@ -3,6 +3,7 @@ package com.nooblol.board.service;
 import com.nooblol.board.dto.BbsDto;
 import com.nooblol.board.dto.BbsInsertDto;
 import com.nooblol.board.dto.BbsUpdateDto;
+import com.nooblol.board.dto.BoardNavigationResponseDto;
 import com.nooblol.board.dto.CategoryDto;
 import com.nooblol.board.dto.CategoryInsertDto;
 import com.nooblol.board.dto.CategoryUpdateDto;
@@ -38,6 +39,13 @@ public interface CategoryService {
      */
     List<BbsDto> getAllBbsList();
 
+    /**
+     * 활성화된 카테고리와 하위 게시판의 메뉴 트리, 응답 JSON으로 미리 직렬화된 Snapshot을 반환한다.
+     *
+     * @return
+     */
+    BoardNavigationResponseDto getBoardNavigation();
+
     /**
      * 해당 사용자가 관리자일 경우 카테고리의 추가가 가능하다.
      *
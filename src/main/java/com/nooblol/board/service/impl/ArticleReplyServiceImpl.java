@@ -1,44 +1,114 @@
 package com.nooblol.board.service.impl;
 
+import com.nooblol.board.dto.ArticleDto;
 import com.nooblol.board.dto.ReplyDto;
 import com.nooblol.board.dto.ReplyInsertDto;
+import com.nooblol.board.dto.ReplyListSearchDto;
 import com.nooblol.board.dto.ReplyUpdateDto;
+import com.nooblol.board.mapper.ArticleMapper;
 import com.nooblol.board.mapper.ArticleReplyMapper;
 import com.nooblol.board.service.ArticleReplyService;
 import com.nooblol.board.service.ArticleService;
+import com.nooblol.board.support.ArticleInfoCache;
+import com.nooblol.board.support.ArticleSearchIndex;
+import com.nooblol.board.support.TrendingArticleRanker;
 import com.nooblol.global.exception.ExceptionMessage;
 import com.nooblol.global.utils.SessionUtils;
+import com.nooblol.notification.dto.NotificationDto;
+import com.nooblol.notification.support.NotificationHub;
+import com.nooblol.notification.utils.NotificationType;
 import com.nooblol.user.utils.UserRoleStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import javax.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ArticleReplyServiceImpl implements ArticleReplyService {
 
+    private static final int REPLY_SORT_NO = 1;
+
+    private static final int CHILD_REPLY_SORT_NO = 2;
+
+    private static final int REPLY_LIST_MAX_LIMIT = 100;
+
     private final ArticleReplyMapper articleReplyMapper;
 
+    private final ArticleMapper articleMapper;
+
     private final ArticleService articleService;
 
+    private final ArticleInfoCache articleInfoCache;
+
+    private final ArticleSearchIndex articleSearchIndex;
+
+    private final TrendingArticleRanker trendingArticleRanker;
+
+    private final NotificationHub notificationHub;
+
     @Override
+    @Transactional
     public boolean insertReply(ReplyInsertDto insertDto, HttpSession session) {
         articleService.checkNotExistsArticleByArticleId(insertDto.getArticleId());
 
-        return articleReplyMapper.insertReply(
-                        new ReplyDto()
-                                .builder()
-                                .articleId(insertDto.getArticleId())
-                                .replyContent(insertDto.getReplyContent())
-                                .status(insertDto.getStatus())
-                                .createdUserId(Optional.of(SessionUtils.getSessionUserId(session)).get())
-                                .createdAt(insertDto.getCreatedAt())
-                                .build())
-                > 0;
+        Integer rootReplyId = getRootReplyId(insertDto);
+        ReplyDto insertReply =
+                new ReplyDto()
+                        .builder()
+                        .articleId(insertDto.getArticleId())
+                        .replyContent(insertDto.getReplyContent())
+                        .status(insertDto.getStatus())
+                        .parentReplyId(rootReplyId)
+                        .sortNo(rootReplyId == null ? REPLY_SORT_NO : CHILD_REPLY_SORT_NO)
+                        .createdUserId(Optional.of(SessionUtils.getSessionUserId(session)).get())
+                        .createdAt(insertDto.getCreatedAt())
+                        .build();
+
+        boolean isInserted = articleReplyMapper.insertReply(insertReply) > 0;
+        if (isInserted) {
+            articleMapper.addReplyCount(insertDto.getArticleId(), 1);
+            articleInfoCache.evictAfterCommit(insertDto.getArticleId());
+            articleSearchIndex.indexReply(insertReply);
+            trendingArticleRanker.recordReply(insertDto.getArticleId());
+            publishReplyToArticleCreatedUser(
+                    insertReply.getArticleId(), insertReply.getCreatedUserId());
+        }
+        return isInserted;
+    }
+
+    /**
+     * 게시물 작성자에게 댓글 등록을 알린다. 본인 게시물에 본인이 작성한 경우는 제외한다.
+     *
+     * <p>연결중인 사용자가 없으면 작성자를 조회하지 않으며, 작성자는 ArticleInfoCache에서 확인한다.
+     *
+     * @param articleId
+     * @param actorUserId
+     */
+    private void publishReplyToArticleCreatedUser(int articleId, String actorUserId) {
+        if (!notificationHub.hasSubscribers()) {
+            return;
+        }
+        ArticleDto article = articleInfoCache.getArticle(articleId);
+        if (article == null
+                || article.getCreatedUserId() == null
+                || article.getCreatedUserId().equals(actorUserId)) {
+            return;
+        }
+        notificationHub.publish(
+                article.getCreatedUserId(),
+                NotificationDto.builder()
+                        .type(NotificationType.REPLY)
+                        .targetId(articleId)
+                        .actorUserId(actorUserId)
+                        .createdAt(LocalDateTime.now())
+                        .build());
     }
 
     @Override
@@ -46,25 +116,52 @@ public class ArticleReplyServiceImpl implements ArticleReplyService {
         articleService.checkNotExistsArticleByArticleId(updateDto.getArticleId());
 
         if (isReplyCreatedUserOrAdminUser(updateDto.getReplyId(), session)) {
-            return articleReplyMapper.updateReply(
-                            new ReplyDto()
-                                    .builder()
-                                    .replyId(updateDto.getReplyId())
-                                    .replyContent(updateDto.getReplyContent())
-                                    .status(updateDto.getStatus())
-                                    .build())
-                    > 0;
+            boolean isUpdated =
+                    articleReplyMapper.updateReply(
+                                    new ReplyDto()
+                                            .builder()
+                                            .replyId(updateDto.getReplyId())
+                                            .replyContent(updateDto.getReplyContent())
+                                            .status(updateDto.getStatus())
+                                            .build())
+                            > 0;
+            if (isUpdated) {
+                articleSearchIndex.indexReply(
+                        articleReplyMapper.selectReplyByReplyId(updateDto.getReplyId()));
+            }
+            return isUpdated;
         }
         throw new IllegalArgumentException(ExceptionMessage.FORBIDDEN);
     }
 
     @Override
+    @Transactional
     public boolean deleteReplyByReplyId(int replyId, HttpSession session) {
-        if (isReplyCreatedUserOrAdminUser(replyId, session)) {
-            return articleReplyMapper.deleteReplyByReplyId(replyId) > 0;
+        if (!isReplyCreatedUserOrAdminUser(replyId, session)) {
+            throw new IllegalArgumentException(ExceptionMessage.FORBIDDEN);
         }
 
-        throw new IllegalArgumentException(ExceptionMessage.FORBIDDEN);
+        ReplyDto deleteReply = articleReplyMapper.selectReplyByReplyId(replyId);
+        if (ObjectUtils.isEmpty(deleteReply)) {
+            return false;
+        }
+
+        // 최상위 댓글을 삭제하는 경우 답글도 같이 삭제하며, 댓글수는 실제 삭제된 답글수만큼 감소시킨다.
+        List<Integer> childReplyIdList = List.of();
+        int deletedChildReplyCount = 0;
+        if (deleteReply.getParentReplyId() == null) {
+            childReplyIdList = articleReplyMapper.selectReplyIdListByParentReplyId(replyId);
+            deletedChildReplyCount = articleReplyMapper.deleteReplyByParentReplyId(replyId);
+        }
+
+        boolean isDeleted = articleReplyMapper.deleteReplyByReplyId(replyId) > 0;
+        if (isDeleted) {
+            articleMapper.addReplyCount(deleteReply.getArticleId(), -1 - deletedChildReplyCount);
+            articleInfoCache.evictAfterCommit(deleteReply.getArticleId());
+            articleSearchIndex.removeReply(replyId);
+            childReplyIdList.forEach(articleSearchIndex::removeReply);
+        }
+        return isDeleted;
     }
 
     @Override
@@ -79,6 +176,68 @@ public class ArticleReplyServiceImpl implements ArticleReplyService {
         return articleReplyMapper.selectReplyListByArticleId(articleId);
     }
 
+    @Override
+    public List<ReplyDto> getReplyListByCursor(ReplyListSearchDto replyListSearchDto) {
+        if (replyListSearchDto.getLimitNum() <= 0) {
+            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        }
+
+        // Cursor는 createdAt, replyId 두개가 모두 있어야 의미가 있다.
+        if ((replyListSearchDto.getCursorCreatedAt() == null)
+                != (replyListSearchDto.getCursorReplyId() == null)) {
+            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        }
+
+        articleService.checkNotExistsArticleByArticleId(replyListSearchDto.getArticleId());
+        if (replyListSearchDto.getParentReplyId() != null) {
+            checkRootReplyOfArticle(
+                    replyListSearchDto.getParentReplyId(), replyListSearchDto.getArticleId());
+        }
+
+        replyListSearchDto.setLimitNum(
+                Math.min(replyListSearchDto.getLimitNum(), REPLY_LIST_MAX_LIMIT));
+        return articleReplyMapper.selectReplyListByCursor(replyListSearchDto);
+    }
+
+    /**
+     * 답글인 경우 답글이 등록될 최상위 댓글의 ID를 반환한다. 답글에 답글을 다는 경우에도 최상위 댓글의 답글로 등록되며, 부모 댓글이 없거나 다른 게시물의
+     * 댓글인 경우 BadRequest가 발생한다.
+     *
+     * @param insertDto
+     * @return 최상위 댓글인 경우 null
+     */
+    private Integer getRootReplyId(ReplyInsertDto insertDto) {
+        if (insertDto.getParentReplyId() == null) {
+            return null;
+        }
+
+        ReplyDto parentReply =
+                articleReplyMapper.selectReplyByReplyId(insertDto.getParentReplyId());
+        if (ObjectUtils.isEmpty(parentReply)
+                || parentReply.getArticleId() != insertDto.getArticleId()) {
+            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        }
+
+        return parentReply.getParentReplyId() == null
+                ? parentReply.getReplyId()
+                : parentReply.getParentReplyId();
+    }
+
+    /**
+     * 답글을 조회할 댓글이 해당 게시물의 최상위 댓글인지 확인한다. 댓글이 없거나, 다른 게시물의 댓글이거나, 답글인 경우 BadRequest가 발생한다.
+     *
+     * @param replyId
+     * @param articleId
+     */
+    private void checkRootReplyOfArticle(int replyId, int articleId) {
+        ReplyDto reply = articleReplyMapper.selectReplyByReplyId(replyId);
+        if (ObjectUtils.isEmpty(reply)
+                || reply.getArticleId() != articleId
+                || reply.getParentReplyId() != null) {
+            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        }
+    }
+
     private boolean isReplyCreatedUserOrAdminUser(int replyId, HttpSession session) {
         Optional<String> createdUserIdOptional =
                 Optional.ofNullable(articleReplyMapper.selectCreatedUserIdByReplyId(replyId));
@@ -0,0 +1,37 @@
+package com.nooblol.board.service.impl;
+
+import com.nooblol.board.dto.ArticleSearchResultDto;
+import com.nooblol.board.service.ArticleSearchService;
+import com.nooblol.board.support.ArticleSearchIndex;
+import com.nooblol.global.exception.ExceptionMessage;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleSearchServiceImpl implements ArticleSearchService {
+
+    private static final int SEARCH_MAX_LIMIT = 100;
+
+    private static final int KEYWORD_MAX_LENGTH = 100;
+
+    private final ArticleSearchIndex articleSearchIndex;
+
+    @Override
+    public List<ArticleSearchResultDto> searchArticle(String keyword, int page, int limit) {
+        if (StringUtils.isBlank(keyword)
+                || keyword.length() > KEYWORD_MAX_LENGTH
+                || page <= 0
+                || limit <= 0) {
+            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        }
+
+        int limitNum = Math.min(limit, SEARCH_MAX_LIMIT);
+        int offset = (int) Math.min((long) (page - 1) * limitNum, Integer.MAX_VALUE);
+        return articleSearchIndex.search(keyword, offset, limitNum);
+    }
+}
@@ -1,14 +1,26 @@
 package com.nooblol.board.service.impl;
 
 import com.nooblol.board.dto.ArticleDto;
-import com.nooblol.board.dto.ArticleStatusDto;
+import com.nooblol.board.dto.ArticleListSearchDto;
+import com.nooblol.board.dto.ArticleSummaryDto;
+import com.nooblol.board.dto.ArticleTrendingDto;
+import com.nooblol.board.mapper.ArticleDeleteQueueMapper;
 import com.nooblol.board.mapper.ArticleMapper;
-import com.nooblol.board.mapper.ArticleStatusMapper;
 import com.nooblol.board.service.ArticleService;
+import com.nooblol.board.support.ArticleExistenceIndex;
+import com.nooblol.board.support.ArticleInfoCache;
+import com.nooblol.board.support.ArticleReadCountBuffer;
+import com.nooblol.board.support.ArticleSearchIndex;
+import com.nooblol.board.support.TrendingArticleRanker;
+import com.nooblol.board.support.UniqueViewerCounter;
 import com.nooblol.board.utils.ArticleAuthMessage;
+import com.nooblol.board.utils.ArticleStatus;
 import com.nooblol.global.exception.ExceptionMessage;
 import com.nooblol.global.utils.SessionUtils;
 import com.nooblol.user.utils.UserRoleStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import javax.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,31 +35,83 @@ import org.springframework.util.ObjectUtils;
 @RequiredArgsConstructor
 public class ArticleServiceImpl implements ArticleService {
 
+    private static final int ARTICLE_LIST_MAX_LIMIT = 100;
+
     private final ArticleMapper articleMapper;
 
-    private final ArticleStatusMapper articleStatusMapper;
+    private final ArticleDeleteQueueMapper articleDeleteQueueMapper;
+
+    private final ArticleReadCountBuffer articleReadCountBuffer;
+
+    private final ArticleInfoCache articleInfoCache;
+
+    private final ArticleExistenceIndex articleExistenceIndex;
+
+    private final ArticleSearchIndex articleSearchIndex;
+
+    private final TrendingArticleRanker trendingArticleRanker;
+
+    private final UniqueViewerCounter uniqueViewerCounter;
 
     @Override
-    public ArticleDto getArticleInfo(int articleId, String userId) {
-        addReadCount(articleId);
-        ArticleDto result = articleMapper.selectArticleByArticleId(articleId);
+    public ArticleDto getArticleInfo(
+            int articleId, HttpSession session, String clientFingerprint) {
+        ArticleDto cachedArticle = articleInfoCache.getArticle(articleId);
 
-        if (ObjectUtils.isEmpty(result)) {
+        if (ObjectUtils.isEmpty(cachedArticle)) {
             throw new IllegalArgumentException(ExceptionMessage.NO_DATA);
         }
-
-        result.setAuthMessage(getUserArticleAuth(userId));
+        addReadCount(articleId);
+        trendingArticleRanker.recordView(articleId, cachedArticle.getBbsId());
+        uniqueViewerCounter.recordViewer(articleId, getViewerKey(session, clientFingerprint));
+
+        // Cache된 객체는 공유되므로 조회자별 정보는 복사본에 설정한다.
+        ArticleDto result = cachedArticle.toBuilder().build();
+        result.setArticleReadCount(
+                getReadCountWithPending(articleId, result.getArticleReadCount()));
+        result.setUniqueViewers(uniqueViewerCounter.getUniqueViewers(articleId));
+        result.setAuthMessage(getUserArticleAuth(session));
         return result;
     }
 
     @Override
-    public String getUserArticleAuth(String userId) {
-        if (StringUtils.isBlank(userId)) {
+    public List<ArticleSummaryDto> getArticleListByBbsId(
+            ArticleListSearchDto articleListSearchDto) {
+        if (articleListSearchDto.getLimitNum() <= 0) {
+            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        }
+
+        // Cursor는 createdAt, articleId 두개가 모두 있어야 의미가 있다.
+        if ((articleListSearchDto.getCursorCreatedAt() == null)
+                != (articleListSearchDto.getCursorArticleId() == null)) {
+            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        }
+
+        articleListSearchDto.setLimitNum(
+                Math.min(articleListSearchDto.getLimitNum(), ARTICLE_LIST_MAX_LIMIT));
+        List<ArticleSummaryDto> articleList =
+                articleMapper.selectArticleListByBbsId(articleListSearchDto);
+        for (ArticleSummaryDto article : articleList) {
+            article.setArticleReadCount(
+                    getReadCountWithPending(article.getArticleId(), article.getArticleReadCount()));
+        }
+        return articleList;
+    }
+
+    @Override
+    public List<ArticleTrendingDto> getTrendingArticleList(Integer bbsId) {
+        return trendingArticleRanker.getTrendingArticleList(bbsId);
+    }
+
+    @Override
+    public String getUserArticleAuth(HttpSession session) {
+        Optional<Integer> userRole =
+                Optional.ofNullable(SessionUtils.getSessionUserRole(session));
+        if (userRole.isEmpty()) {
             return ArticleAuthMessage.GUEST.name();
         }
 
-        int userAuthData = articleMapper.selectUserAuth(userId);
-        if (userAuthData == UserRoleStatus.ADMIN.getRoleValue()) {
+        if (UserRoleStatus.isUserRoleAdmin(userRole.get())) {
             return ArticleAuthMessage.ADMIN.name();
         }
 
@@ -56,20 +120,34 @@ public class ArticleServiceImpl implements ArticleService {
 
     @Override
     public void addReadCount(int articleId) {
-        articleMapper.addReadCount(articleId);
+        articleReadCountBuffer.increment(articleId);
     }
 
     @Override
     public boolean insertArticle(ArticleDto articleDto) {
-        return articleMapper.insertArticle(articleDto) > 0;
+        checkNotDeleteStatus(articleDto.getStatus());
+        boolean isInserted = articleMapper.insertArticle(articleDto) > 0;
+        if (isInserted) {
+            articleExistenceIndex.add(articleDto.getArticleId());
+            articleSearchIndex.indexArticle(articleDto);
+        }
+        return isInserted;
     }
 
     @Override
     public boolean updateArticle(ArticleDto articleDto, HttpSession session) {
+        checkNotDeleteStatus(articleDto.getStatus());
         // 관리자 또는 게시글 작성자
         if (isArticleCreatedUserOrAdminUser(
                 articleMapper.selectCreatedUserId(articleDto.getArticleId()), session)) {
-            return articleMapper.updateArticle(articleDto) > 0;
+            boolean isUpdated = articleMapper.updateArticle(articleDto) > 0;
+            articleInfoCache.evictAfterCommit(articleDto.getArticleId());
+            if (isUpdated) {
+                // 일부 항목만 수정될 수 있으므로 수정된 게시물을 다시 조회하여 색인한다.
+                articleSearchIndex.indexArticle(
+                        articleMapper.selectArticleByArticleId(articleDto.getArticleId()));
+            }
+            return isUpdated;
         }
 
         // 일반 사용자이면서, 게시물의 원작자 여부 확인
@@ -93,11 +171,48 @@ public class ArticleServiceImpl implements ArticleService {
 
     @Override
     public void checkNotExistsArticleByArticleId(int articleId) {
-        if (ObjectUtils.isEmpty(articleMapper.selectArticleByArticleId(articleId))) {
+        if (!articleExistenceIndex.exists(articleId)) {
             throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
         }
     }
 
+    /**
+     * 삭제 상태는 삭제 요청을 통해서만 설정되어야 하므로, 등록, 수정시 요청된 경우 BadRequest Exception이 발생한다.
+     *
+     * @param status
+     */
+    private void checkNotDeleteStatus(ArticleStatus status) {
+        if (status == ArticleStatus.DELETE) {
+            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * 순 방문자 구분값, 로그인한 경우 사용자 ID를 사용하여 접속환경이 바뀌어도 같은 방문자로 처리한다.
+     *
+     * @param session
+     * @param clientFingerprint
+     * @return
+     */
+    private String getViewerKey(HttpSession session, String clientFingerprint) {
+        String userId = SessionUtils.getSessionUserId(session);
+        if (StringUtils.isNotBlank(userId)) {
+            return "user:" + userId;
+        }
+        return "guest:" + clientFingerprint;
+    }
+
+    /**
+     * DB의 조회수에 아직 반영되지 않은 Buffer의 조회수를 더한다.
+     *
+     * @param articleId
+     * @param dbReadCount
+     * @return
+     */
+    private int getReadCountWithPending(int articleId, int dbReadCount) {
+        return dbReadCount + (int) articleReadCountBuffer.getPendingCount(articleId);
+    }
+
     /**
      * 게시물에 대한 작업의 요청자가 관리자나 제작자가 맞는지를 확인한다
      *
@@ -112,17 +227,23 @@ public class ArticleServiceImpl implements ArticleService {
     }
 
     /**
-     * 먼저 추천, 비추천에 대한 기록도 모두 삭제하며,
+     * 게시글의 상태를 삭제로 변경하고 삭제 Queue에 등록한다.
      *
-     * <p>이후 게시글을 삭제하며, 정상적으로 삭제가 되면 True, 삭제된 건수가 없으면 False를 Return한다
+     * <p>추천, 비추천, 댓글과 게시글 Row는 ArticleDeleteCleanupJob이 나누어 삭제하므로, 요청 Transaction에서는 게시글 한건만
+     * Lock을 잡는다. 정상적으로 삭제 상태가 되면 True, 변경된 건수가 없으면 False를 Return한다
      *
      * @param articleId
      * @return
      */
     private boolean isArticleDeleteSuccess(int articleId) {
-        articleStatusMapper.deleteArticleStatus(
-                new ArticleStatusDto().builder().articleId(articleId).build());
-
-        return articleMapper.deleteArticleByArticleId(articleId) > 0;
+        LocalDateTime now = LocalDateTime.now();
+        boolean isDeleted = articleMapper.softDeleteArticle(articleId, now) > 0;
+        if (isDeleted) {
+            articleDeleteQueueMapper.insertDeleteQueue(articleId, now);
+        }
+        articleExistenceIndex.remove(articleId);
+        articleSearchIndex.removeArticle(articleId);
+        articleInfoCache.evictAfterCommit(articleId);
+        return isDeleted;
     }
 }
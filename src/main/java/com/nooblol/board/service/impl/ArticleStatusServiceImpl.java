@@ -1,18 +1,26 @@
 package com.nooblol.board.service.impl;
 
+import com.nooblol.board.dto.ArticleDto;
 import com.nooblol.board.dto.ArticleStatusDto;
 import com.nooblol.board.dto.LikeAndNotLikeResponseDto;
+import com.nooblol.board.mapper.ArticleMapper;
 import com.nooblol.board.mapper.ArticleStatusMapper;
 import com.nooblol.board.service.ArticleService;
 import com.nooblol.board.service.ArticleStatusService;
+import com.nooblol.board.support.ArticleInfoCache;
+import com.nooblol.board.support.TrendingArticleRanker;
 import com.nooblol.board.utils.ArticleLikeStatus;
 import com.nooblol.global.exception.ExceptionMessage;
 import com.nooblol.global.utils.SessionUtils;
+import com.nooblol.notification.dto.NotificationDto;
+import com.nooblol.notification.support.NotificationHub;
+import com.nooblol.notification.utils.NotificationType;
+import java.time.LocalDateTime;
 import javax.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.util.ObjectUtils;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -21,9 +29,18 @@ public class ArticleStatusServiceImpl implements ArticleStatusService {
 
     private final ArticleStatusMapper articleStatusMapper;
 
+    private final ArticleMapper articleMapper;
+
     private final ArticleService articleService;
 
+    private final ArticleInfoCache articleInfoCache;
+
+    private final TrendingArticleRanker trendingArticleRanker;
+
+    private final NotificationHub notificationHub;
+
     @Override
+    @Transactional
     public boolean likeArticle(int articleId, HttpSession session) {
         articleService.checkNotExistsArticleByArticleId(articleId);
 
@@ -34,6 +51,7 @@ public class ArticleStatusServiceImpl implements ArticleStatusService {
     }
 
     @Override
+    @Transactional
     public boolean notLikeArticle(int articleId, HttpSession session) {
         articleService.checkNotExistsArticleByArticleId(articleId);
 
@@ -55,6 +73,7 @@ public class ArticleStatusServiceImpl implements ArticleStatusService {
                         .articleId(articleId)
                         .userId(userId)
                         .likeType(ArticleLikeStatus.findLikeStatusType(type))
+                        .createdAt(LocalDateTime.now())
                         .build();
 
         return articleStatusDto;
@@ -64,22 +83,72 @@ public class ArticleStatusServiceImpl implements ArticleStatusService {
      * 추천, 비추천에 대한 프로세스, 해당 게시물에 대해 사용자가 좋아요가 없는 경우 Insert 이미 같은 타입(추천, 비추천)을 한경우는 삭제, 다른 타입인 경우는
      * Exception이 발생한다
      *
+     * <p>조회 후 처리하면 동시에 요청된 경우 중복 Row가 생길 수 있으므로, (article_id, user_id) PK에 대한 INSERT IGNORE를 먼저
+     * 실행하고, 추가되지 않은 경우 같은 타입의 Row만 삭제한다. 둘다 처리된 건이 없으면 다른 타입이 이미 존재하는 경우이다.
+     *
+     * <p>Insert, Delete가 성공한 경우 게시물의 추천, 비추천 수도 같은 Transaction에서 증감하며, 게시물 Cache는
+     * 무효화한다. 추천이 새로 추가된 경우에만 인기 게시물 점수에 반영하고 게시물 작성자에게 알린다.
+     *
      * @param requestArticleStatusDto
      * @return
      */
     private boolean statusProcess(ArticleStatusDto requestArticleStatusDto) {
-        ArticleStatusDto isHaveStatusData =
-                articleStatusMapper.selectArticleStatusByArticleIdAndUserId(requestArticleStatusDto);
+        if (articleStatusMapper.insertArticleStatusIfAbsent(requestArticleStatusDto) > 0) {
+            addArticleLikeCount(requestArticleStatusDto, 1);
+            if (requestArticleStatusDto.getLikeType().isLikeStatus()) {
+                trendingArticleRanker.recordLike(requestArticleStatusDto.getArticleId());
+                publishLikeToArticleCreatedUser(requestArticleStatusDto);
+            }
+            return true;
+        }
 
-        if (ObjectUtils.isEmpty(isHaveStatusData)) {
-            return articleStatusMapper.insertArticleStatus(requestArticleStatusDto) > 0;
+        if (articleStatusMapper.deleteArticleStatus(requestArticleStatusDto) > 0) {
+            addArticleLikeCount(requestArticleStatusDto, -1);
+            return true;
         }
 
-        if (isHaveStatusData.getLikeType().isLikeStatus()
-                != requestArticleStatusDto.getLikeType().isLikeStatus()) {
-            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+    }
+
+    /**
+     * 게시물 작성자에게 추천을 알린다. 본인 게시물을 본인이 추천한 경우는 제외한다.
+     *
+     * <p>연결중인 사용자가 없으면 작성자를 조회하지 않으며, 작성자는 ArticleInfoCache에서 확인한다.
+     *
+     * @param articleStatusDto
+     */
+    private void publishLikeToArticleCreatedUser(ArticleStatusDto articleStatusDto) {
+        if (!notificationHub.hasSubscribers()) {
+            return;
         }
+        ArticleDto article = articleInfoCache.getArticle(articleStatusDto.getArticleId());
+        if (article == null
+                || article.getCreatedUserId() == null
+                || article.getCreatedUserId().equals(articleStatusDto.getUserId())) {
+            return;
+        }
+        notificationHub.publish(
+                article.getCreatedUserId(),
+                NotificationDto.builder()
+                        .type(NotificationType.LIKE)
+                        .targetId(articleStatusDto.getArticleId())
+                        .actorUserId(articleStatusDto.getUserId())
+                        .createdAt(articleStatusDto.getCreatedAt())
+                        .build());
+    }
 
-        return articleStatusMapper.deleteArticleStatus(requestArticleStatusDto) > 0;
+    /**
+     * 요청한 타입(추천, 비추천)에 해당하는 게시물의 Count만 delta만큼 증감한다.
+     *
+     * @param articleStatusDto
+     * @param delta
+     */
+    private void addArticleLikeCount(ArticleStatusDto articleStatusDto, int delta) {
+        if (articleStatusDto.getLikeType().isLikeStatus()) {
+            articleMapper.addLikeCount(articleStatusDto.getArticleId(), delta, 0);
+        } else {
+            articleMapper.addLikeCount(articleStatusDto.getArticleId(), 0, delta);
+        }
+        articleInfoCache.evictAfterCommit(articleStatusDto.getArticleId());
     }
 }
@@ -3,12 +3,14 @@ package com.nooblol.board.service.impl;
 import com.nooblol.board.dto.BbsDto;
 import com.nooblol.board.dto.BbsInsertDto;
 import com.nooblol.board.dto.BbsUpdateDto;
+import com.nooblol.board.dto.BoardNavigationResponseDto;
 import com.nooblol.board.dto.CategoryDto;
 import com.nooblol.board.dto.CategoryInsertDto;
 import com.nooblol.board.dto.CategoryUpdateDto;
 import com.nooblol.board.dto.SearchBbsListDto;
 import com.nooblol.board.mapper.CategoryMapper;
 import com.nooblol.board.service.CategoryService;
+import com.nooblol.board.support.BoardNavigationCache;
 import com.nooblol.board.utils.BoardStatus;
 import com.nooblol.board.utils.CategoryStatus;
 import com.nooblol.global.exception.ExceptionMessage;
@@ -20,6 +22,7 @@ import javax.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +35,8 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryMapper categoryMapper;
 
+    private final BoardNavigationCache boardNavigationCache;
+
     @Override
     @Transactional(readOnly = true)
     @Cacheable(cacheNames = "category", key = "#status")
@@ -44,7 +49,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "bbs", key = "#categoryId")
+    @Cacheable(cacheNames = "bbs", key = "#categoryId + ':' + #status")
     public List<BbsDto> getBbsList(int categoryId, int status) {
         if (BoardStatus.isExistStatus(status)) {
             return categoryMapper.selectBbsList(
@@ -61,21 +66,28 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    public BoardNavigationResponseDto getBoardNavigation() {
+        return boardNavigationCache.getSnapshot();
+    }
+
+    @Override
+    @CacheEvict(cacheNames = "category", allEntries = true)
     public boolean insertCategory(CategoryInsertDto categoryInsertDto, HttpSession session) {
         String reqUserId = Optional.of(SessionUtils.getSessionUserId(session)).get();
         categoryInsertDto.setCreatedUserId(reqUserId);
         categoryInsertDto.setUpdatedUserId(reqUserId);
 
-        return categoryMapper.insertCategory(categoryInsertDto) > 0;
+        return refreshNavigationIfChanged(categoryMapper.insertCategory(categoryInsertDto) > 0);
     }
 
     @Override
+    @CacheEvict(cacheNames = "category", allEntries = true)
     public boolean updateCategory(CategoryUpdateDto categoryUpdateDto, HttpSession session) {
         CategoryDto dbCategoryData = selectCategory(categoryUpdateDto.getCategoryId());
 
         isChangeCategoryData(categoryUpdateDto, dbCategoryData);
         categoryUpdateDto.setUpdatedUserId(SessionUtils.getSessionUserId(session));
-        return categoryMapper.updateCategory(categoryUpdateDto) > 0;
+        return refreshNavigationIfChanged(categoryMapper.updateCategory(categoryUpdateDto) > 0);
     }
 
     private void isChangeCategoryData(
@@ -106,6 +118,7 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @CacheEvict(cacheNames = "category", allEntries = true)
     public boolean deleteCategory(int categoryId, HttpSession session) {
         CategoryDto dbCategoryData = selectCategory(categoryId);
 
@@ -118,37 +131,40 @@ public class CategoryServiceImpl implements CategoryService {
             throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
         }
 
-        return categoryMapper.deleteCategory(
-                        new CategoryDto()
-                                .builder()
-                                .categoryId(categoryId)
-                                .status(CategoryStatus.DELETE)
-                                .updatedUserId(SessionUtils.getSessionUserId(session))
-                                .updatedAt(LocalDateTime.now())
-                                .build())
-                > 0;
+        CategoryDto deleteDto =
+                new CategoryDto()
+                        .builder()
+                        .categoryId(categoryId)
+                        .status(CategoryStatus.DELETE)
+                        .updatedUserId(SessionUtils.getSessionUserId(session))
+                        .updatedAt(LocalDateTime.now())
+                        .build();
+        return refreshNavigationIfChanged(categoryMapper.deleteCategory(deleteDto) > 0);
     }
 
     @Override
+    @CacheEvict(cacheNames = {"bbs", "allBbs"}, allEntries = true)
     public boolean insertBbs(BbsInsertDto bbsInsertDto, HttpSession session) {
         String createdUserId = SessionUtils.getSessionUserId(session);
 
         bbsInsertDto.setCreatedUserId(createdUserId);
         bbsInsertDto.setUpdatedUserId(createdUserId);
 
-        return categoryMapper.insertBbs(bbsInsertDto) > 0;
+        return refreshNavigationIfChanged(categoryMapper.insertBbs(bbsInsertDto) > 0);
     }
 
     @Override
+    @CacheEvict(cacheNames = {"bbs", "allBbs"}, allEntries = true)
     public boolean updateBbs(BbsUpdateDto bbsUpdateDto, HttpSession session) {
         BbsDto dbBbsData = Optional.of(getBbsDataByBbsId(bbsUpdateDto.getBbsId())).get();
 
         isChangeBbsData(bbsUpdateDto, dbBbsData);
         bbsUpdateDto.setUpdatedUserId(SessionUtils.getSessionUserId(session));
-        return categoryMapper.updateBbs(bbsUpdateDto) > 0;
+        return refreshNavigationIfChanged(categoryMapper.updateBbs(bbsUpdateDto) > 0);
     }
 
     @Override
+    @CacheEvict(cacheNames = {"bbs", "allBbs"}, allEntries = true)
     public boolean deleteBbs(int bbsId, HttpSession session) {
         if (ObjectUtils.isEmpty(getBbsDataByBbsId(bbsId))) {
             log.warn("[deleteBbsData " + ExceptionMessage.NOT_FOUND + "]", bbsId);
@@ -162,7 +178,20 @@ public class CategoryServiceImpl implements CategoryService {
                         .updatedUserId(SessionUtils.getSessionUserId(session))
                         .updatedAt(LocalDateTime.now())
                         .build();
-        return categoryMapper.deleteBbs(deleteDto) > 0;
+        return refreshNavigationIfChanged(categoryMapper.deleteBbs(deleteDto) > 0);
+    }
+
+    /**
+     * 카테고리, 게시판이 변경된 경우 모든 서버의 메뉴 트리 Snapshot을 다시 만든다.
+     *
+     * @param isChanged
+     * @return isChanged를 그대로 반환
+     */
+    private boolean refreshNavigationIfChanged(boolean isChanged) {
+        if (isChanged) {
+            boardNavigationCache.invalidate();
+        }
+        return isChanged;
     }
 
     /**
@@ -0,0 +1,80 @@
+package com.nooblol.board.support;
+
+import com.nooblol.board.mapper.ArticleMapper;
+import com.nooblol.global.mapper.ScheduledJobLockMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비정규화된 게시물의 추천, 비추천, 댓글수(like_count, not_like_count, reply_count)를 실제 건수와 맞추는 보정 Job
+ *
+ * <p>한번에 전체 게시물을 Update하면 Lock을 오래 잡게 되므로, articleId 범위 단위로 나누어 건수가 다른 게시물만 보정하고, 보정한 게시물은
+ * ArticleInfoCache에서 무효화한다. 여러 서버에서 같은 시각에 실행되므로 scheduled_job_lock을 선점한 서버만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleCountReconcileJob {
+
+    static final String JOB_NAME = "articleCountReconcile";
+
+    private static final int RECONCILE_RANGE_SIZE = 1000;
+
+    // 다른 서버가 같은 주기에 다시 실행하지 않도록, 실행 주기(1일)보다 짧고 실행시간보다 충분히 길게 둔다.
+    private static final long LOCK_HOURS = 1;
+
+    private final String lockOwnerId = UUID.randomUUID().toString();
+
+    private final ArticleMapper articleMapper;
+
+    private final ArticleInfoCache articleInfoCache;
+
+    private final ScheduledJobLockMapper scheduledJobLockMapper;
+
+    @Scheduled(cron = "${board.count.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        scheduledJobLockMapper.insertJobLockIfAbsent(JOB_NAME);
+        // 다른 서버에서 먼저 실행한 경우
+        if (scheduledJobLockMapper.claimJobLock(
+                        JOB_NAME, lockOwnerId, now, now.plusHours(LOCK_HOURS))
+                == 0) {
+            return;
+        }
+
+        Integer maxArticleId = articleMapper.selectMaxArticleId();
+        if (maxArticleId == null) {
+            return;
+        }
+
+        int reconciledCount = 0;
+        for (int startArticleId = 1;
+                startArticleId <= maxArticleId;
+                startArticleId += RECONCILE_RANGE_SIZE) {
+            int endArticleId = startArticleId + RECONCILE_RANGE_SIZE - 1;
+            try {
+                List<Integer> articleIdList =
+                        articleMapper.selectCountMismatchedArticleIdsByRange(
+                                startArticleId, endArticleId);
+                if (articleIdList.isEmpty()) {
+                    continue;
+                }
+                reconciledCount += articleMapper.reconcileArticleCountByArticleIds(articleIdList);
+                articleIdList.forEach(articleInfoCache::evictAfterCommit);
+            } catch (Exception e) {
+                log.warn(
+                        "[ArticleCountReconcileJob] Reconcile Fail, range : "
+                                + startArticleId
+                                + " ~ "
+                                + endArticleId,
+                        e);
+            }
+        }
+        log.info("[ArticleCountReconcileJob] Reconciled Article Count : " + reconciledCount);
+    }
+}
@@ -0,0 +1,128 @@
+package com.nooblol.board.support;
+
+import com.nooblol.board.dto.ArticleDeleteQueueDto;
+import com.nooblol.board.mapper.ArticleDeleteQueueMapper;
+import com.nooblol.board.mapper.ArticleMapper;
+import com.nooblol.board.mapper.ArticleReplyMapper;
+import com.nooblol.board.mapper.ArticleStatusMapper;
+import com.nooblol.board.mapper.ArticleUniqueViewerMapper;
+import com.nooblol.board.utils.ArticleDeleteQueueStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 삭제 상태로 변경된 게시물의 추천, 비추천, 댓글, 순 방문자 Sketch, 색인과 게시물 Row를 정리하는 Job
+ *
+ * <p>한번에 삭제하면 추천이 많은 게시물의 경우 Lock을 오래 잡게 되므로, DELETE_BATCH_SIZE 단위로 나누어 삭제하고 삭제한 건수를 Queue에
+ * 기록한다. 실패한 경우 재시도 간격을 늘려가며 MAX_RETRY_COUNT까지 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleDeleteCleanupJob {
+
+    private static final int QUEUE_FETCH_SIZE = 20;
+
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    private static final int MAX_RETRY_COUNT = 5;
+
+    private static final long RETRY_BASE_DELAY_MINUTES = 1;
+
+    private static final long STALE_PROCESSING_MINUTES = 30;
+
+    private static final int LAST_ERROR_MAX_LENGTH = 1000;
+
+    private final ArticleDeleteQueueMapper articleDeleteQueueMapper;
+
+    private final ArticleMapper articleMapper;
+
+    private final ArticleStatusMapper articleStatusMapper;
+
+    private final ArticleReplyMapper articleReplyMapper;
+
+    private final ArticleUniqueViewerMapper articleUniqueViewerMapper;
+
+    private final ArticleExistenceIndex articleExistenceIndex;
+
+    private final ArticleSearchIndex articleSearchIndex;
+
+    private final UniqueViewerCounter uniqueViewerCounter;
+
+    @Scheduled(fixedDelayString = "${board.delete-cleanup.interval-ms:10000}")
+    public void cleanup() {
+        LocalDateTime now = LocalDateTime.now();
+        articleDeleteQueueMapper.releaseStaleDeleteQueue(
+                now.minusMinutes(STALE_PROCESSING_MINUTES));
+
+        List<ArticleDeleteQueueDto> queueList =
+                articleDeleteQueueMapper.selectRunnableDeleteQueueList(now, QUEUE_FETCH_SIZE);
+        for (ArticleDeleteQueueDto queue : queueList) {
+            // 다른 서버에서 먼저 가져간 경우
+            if (articleDeleteQueueMapper.claimDeleteQueue(queue.getArticleId(), now) == 0) {
+                continue;
+            }
+
+            try {
+                cleanupArticle(queue.getArticleId());
+                articleDeleteQueueMapper.completeDeleteQueue(
+                        queue.getArticleId(), LocalDateTime.now());
+            } catch (Exception e) {
+                log.warn("[ArticleDeleteCleanupJob] Cleanup Fail : " + queue.getArticleId(), e);
+                failQueue(queue, e);
+            }
+        }
+    }
+
+    /**
+     * 추천, 비추천, 댓글을 나누어 삭제한 뒤 게시물 Row를 삭제한다. 중간에 실패하더라도 이미 삭제한 데이터는 다시 조회되지 않으므로 재시도시 남은 데이터만
+     * 삭제한다.
+     *
+     * @param articleId
+     */
+    private void cleanupArticle(int articleId) {
+        int deletedCount;
+        do {
+            deletedCount =
+                    articleStatusMapper.deleteArticleStatusByArticleIdWithLimit(
+                            articleId, DELETE_BATCH_SIZE);
+            articleDeleteQueueMapper.addDeletedCount(articleId, deletedCount, 0);
+        } while (deletedCount == DELETE_BATCH_SIZE);
+
+        do {
+            deletedCount =
+                    articleReplyMapper.deleteReplyByArticleIdWithLimit(
+                            articleId, DELETE_BATCH_SIZE);
+            articleDeleteQueueMapper.addDeletedCount(articleId, 0, deletedCount);
+        } while (deletedCount == DELETE_BATCH_SIZE);
+
+        // 게시물을 먼저 삭제해야 다른 서버의 Flush가 Sketch를 다시 저장하지 않는다.
+        articleMapper.deleteArticleByArticleId(articleId);
+        articleUniqueViewerMapper.deleteSketch(articleId);
+        articleExistenceIndex.remove(articleId);
+        articleSearchIndex.removeArticle(articleId);
+        uniqueViewerCounter.remove(articleId);
+    }
+
+    private void failQueue(ArticleDeleteQueueDto queue, Exception e) {
+        int retryCount = queue.getRetryCount() + 1;
+        ArticleDeleteQueueStatus status =
+                retryCount >= MAX_RETRY_COUNT
+                        ? ArticleDeleteQueueStatus.FAIL
+                        : ArticleDeleteQueueStatus.WAIT;
+        LocalDateTime nextRunAt =
+                LocalDateTime.now()
+                        .plusMinutes(RETRY_BASE_DELAY_MINUTES << queue.getRetryCount());
+
+        articleDeleteQueueMapper.failDeleteQueue(
+                queue.getArticleId(),
+                status.getStatus(),
+                nextRunAt,
+                StringUtils.abbreviate(String.valueOf(e.getMessage()), LAST_ERROR_MAX_LENGTH));
+    }
+}
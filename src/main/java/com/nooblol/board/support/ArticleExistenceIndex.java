@@ -0,0 +1,199 @@
+package com.nooblol.board.support;
+
+import com.nooblol.board.mapper.ArticleMapper;
+import com.nooblol.global.cache.CacheInvalidationPublisher;
+import com.nooblol.global.cache.LocalInvalidationHandler;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 존재하는 게시물의 articleId를 BitSet으로 보관하여, 게시물 존재여부 확인시 게시물 Row를 조회하지 않도록 한다.
+ *
+ * <p>애플리케이션 시작시 articleId 범위 단위로 전체 ID를 적재하며, 이후 게시물의 등록, 삭제시 add, remove로 유지한다. BitSet에 없는
+ * articleId는 다른 서버에서 등록되었을 수 있으므로, PK Index만 사용하는 SELECT 1 쿼리로 확인후 BitSet에 반영한다.
+ *
+ * <p>삭제는 BitSet에 남아있으면 삭제된 게시물에 쓰기가 허용되므로, 무효화 채널로 다른 서버에도 전달하여 BitSet에서 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleExistenceIndex implements LocalInvalidationHandler {
+
+    public static final String INVALIDATION_NAME = "articleExistence";
+
+    private static final int LOAD_RANGE_SIZE = 10_000;
+
+    private final ArticleMapper articleMapper;
+
+    private final ObjectProvider<CacheInvalidationPublisher> cacheInvalidationPublisherProvider;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private BitSet liveArticleIds = new BitSet();
+
+    // 적재중 삭제된 articleId, 적재가 끝난 BitSet에서 제외한다.
+    private BitSet removedWhileLoading = new BitSet();
+
+    private boolean loading = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            loading = true;
+            removedWhileLoading = new BitSet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        BitSet loadedArticleIds = new BitSet();
+        try {
+            Integer maxArticleId = articleMapper.selectMaxArticleId();
+            int maxId = maxArticleId == null ? 0 : maxArticleId;
+            for (int startArticleId = 1;
+                    startArticleId <= maxId;
+                    startArticleId += LOAD_RANGE_SIZE) {
+                List<Integer> articleIds =
+                        articleMapper.selectArticleIdsByRange(
+                                startArticleId, startArticleId + LOAD_RANGE_SIZE - 1);
+                articleIds.forEach(loadedArticleIds::set);
+            }
+        } catch (Exception e) {
+            // 적재에 실패해도 존재하지 않는 ID는 DB로 확인하므로, 기존 BitSet을 그대로 사용한다.
+            log.warn("[ArticleExistenceIndex] Load Fail", e);
+            finishLoading(null);
+            return;
+        }
+        finishLoading(loadedArticleIds);
+        log.info(
+                "[ArticleExistenceIndex] Loaded Article Count : " + loadedArticleIds.cardinality());
+    }
+
+    /**
+     * 게시물 존재여부 확인, BitSet에 없는 경우에만 DB를 조회한다.
+     *
+     * @param articleId
+     * @return
+     */
+    public boolean exists(int articleId) {
+        if (articleId <= 0) {
+            return false;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveArticleIds.get(articleId)) {
+                return true;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (!articleMapper.existsArticleByArticleId(articleId)) {
+            return false;
+        }
+        add(articleId);
+        return true;
+    }
+
+    public void add(Integer articleId) {
+        if (articleId == null || articleId <= 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            liveArticleIds.set(articleId);
+            removedWhileLoading.clear(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 서버의 BitSet에서 즉시 제거하고, Commit 이후 한번 더 제거하면서 다른 서버에도 제거를 전달한다.
+     *
+     * <p>Commit 이전에는 다른 요청이 아직 삭제되지 않은 Row를 조회하여 다시 BitSet에 추가할 수 있다. 자신이 발행한 메시지는 받지 않으므로 현재
+     * 서버도 Commit 이후에 직접 다시 제거한다.
+     *
+     * @param articleId
+     */
+    public void remove(int articleId) {
+        if (articleId <= 0) {
+            return;
+        }
+        removeLocal(articleId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            removeLocal(articleId);
+                            publish(articleId);
+                        }
+                    });
+            return;
+        }
+        publish(articleId);
+    }
+
+    @Override
+    public String getInvalidationName() {
+        return INVALIDATION_NAME;
+    }
+
+    @Override
+    public void onInvalidation(Object key) {
+        if (key instanceof Integer) {
+            removeLocal((Integer) key);
+        }
+    }
+
+    private void removeLocal(int articleId) {
+        lock.writeLock().lock();
+        try {
+            liveArticleIds.clear(articleId);
+            if (loading) {
+                removedWhileLoading.set(articleId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void publish(int articleId) {
+        CacheInvalidationPublisher publisher = cacheInvalidationPublisherProvider.getIfAvailable();
+        if (publisher != null) {
+            publisher.publish(INVALIDATION_NAME, articleId);
+        }
+    }
+
+    /**
+     * 적재된 BitSet으로 교체한다. 적재중 등록된 ID는 합치고, 삭제된 ID는 제외한다.
+     *
+     * @param loadedArticleIds 적재에 실패한 경우 null
+     */
+    private void finishLoading(BitSet loadedArticleIds) {
+        lock.writeLock().lock();
+        try {
+            if (loadedArticleIds != null) {
+                loadedArticleIds.or(liveArticleIds);
+                loadedArticleIds.andNot(removedWhileLoading);
+                liveArticleIds = loadedArticleIds;
+            }
+            loading = false;
+            removedWhileLoading = new BitSet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
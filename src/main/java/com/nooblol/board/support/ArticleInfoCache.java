@@ -0,0 +1,55 @@
+package com.nooblol.board.support;
+
+import com.nooblol.board.dto.ArticleDto;
+import com.nooblol.board.mapper.ArticleMapper;
+import com.nooblol.global.cache.CacheType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시물 본문과 메타정보의 Cache, 게시물의 수정, 삭제와 추천, 댓글수의 변경시 evictAfterCommit으로 무효화한다.
+ *
+ * <p>Cache된 객체는 여러 요청이 공유하므로, 조회자별 정보(권한, 조회수)를 설정하는 경우 반드시 복사본을 사용해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleInfoCache {
+
+    private final ArticleMapper articleMapper;
+
+    private final CacheManager cacheManager;
+
+    @Cacheable(cacheNames = "article", key = "#articleId", unless = "#result == null")
+    public ArticleDto getArticle(int articleId) {
+        return articleMapper.selectArticleByArticleId(articleId);
+    }
+
+    /**
+     * Transaction 안에서 호출된 경우 Commit 이후에 무효화한다.
+     *
+     * <p>Commit 이전에 무효화하면 그 사이의 조회가 Commit 전의 게시물을 다시 Cache하여 만료시간까지 남을 수 있다.
+     *
+     * @param articleId
+     */
+    public void evictAfterCommit(int articleId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            evict(articleId);
+                        }
+                    });
+            return;
+        }
+        evict(articleId);
+    }
+
+    private void evict(int articleId) {
+        cacheManager.getCache(CacheType.ARTICLE.getCacheName()).evict(articleId);
+    }
+}
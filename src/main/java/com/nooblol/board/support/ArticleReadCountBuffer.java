@@ -0,0 +1,130 @@
+package com.nooblol.board.support;
+
+import com.nooblol.board.dto.ArticleReadCountDto;
+import com.nooblol.board.mapper.ArticleMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시물 조회수를 요청마다 UPDATE하지 않고 메모리에 모아두었다가 주기적으로 한번에 DB에 반영한다.
+ *
+ * <p>조회수 증가는 articleId별 LongAdder에 누적되며, Flush시 CASE문을 사용한 단일 UPDATE로 여러 게시물을 같이 반영한다. DB에
+ * 반영되지 않은 값은 getPendingCount로 조회하여 응답시 더해준다. 애플리케이션 종료시에도 남은 값을 Flush한다.
+ *
+ * <p>반영이 끝난 게시물은 ArticleInfoCache에서 evict하여, Cache된 조회수가 DB보다 작게 남지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleReadCountBuffer implements DisposableBean {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final ArticleMapper articleMapper;
+
+    private final ArticleInfoCache articleInfoCache;
+
+    private final ConcurrentHashMap<Integer, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+
+    // Flush중 DB에 반영되고 있는 값, 반영이 끝나기 전까지 조회수가 줄어 보이지 않도록 보관한다.
+    private final ConcurrentHashMap<Integer, Long> flushingCounts = new ConcurrentHashMap<>();
+
+    // 조회가 없어 Map에서 제거한 LongAdder, 제거 직전에 참조를 얻은 증가가 더해질 수 있으므로 다음 Flush에서 한번 더 확인한다. Flush에서만 사용한다.
+    private Map<Integer, LongAdder> retiredCounts = new HashMap<>();
+
+    public void increment(int articleId) {
+        add(articleId, 1L);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     *
+     * @param articleId
+     * @return
+     */
+    public long getPendingCount(int articleId) {
+        LongAdder adder = pendingCounts.get(articleId);
+        long pending = adder == null ? 0L : adder.sum();
+        return pending + flushingCounts.getOrDefault(articleId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${board.read-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<ArticleReadCountDto> batch = new ArrayList<>();
+
+        sweepRetiredCounts();
+        for (Map.Entry<Integer, LongAdder> entry : pendingCounts.entrySet()) {
+            int articleId = entry.getKey();
+            LongAdder adder = entry.getValue();
+            long readCount = adder.sumThenReset();
+
+            if (readCount == 0) {
+                // 이전 Flush이후 조회가 없던 게시물은 Map에서 제거하고, 제거된 LongAdder에 늦게 더해진 값은 다음 Flush에서 옮긴다.
+                if (pendingCounts.remove(articleId, adder)) {
+                    retiredCounts.put(articleId, adder);
+                }
+                continue;
+            }
+
+            flushingCounts.put(articleId, readCount);
+            batch.add(new ArticleReadCountDto(articleId, readCount));
+
+            if (batch.size() >= FLUSH_BATCH_SIZE) {
+                writeBatch(batch);
+                batch = new ArrayList<>();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private void add(int articleId, long count) {
+        pendingCounts.computeIfAbsent(articleId, key -> new LongAdder()).add(count);
+    }
+
+    /** 이전 Flush에서 제거한 LongAdder에 제거 이후 더해진 값을 현재 Map으로 옮긴다. */
+    private void sweepRetiredCounts() {
+        Map<Integer, LongAdder> sweepTarget = retiredCounts;
+        retiredCounts = new HashMap<>();
+        sweepTarget.forEach(
+                (articleId, adder) -> {
+                    long lateCount = adder.sumThenReset();
+                    if (lateCount > 0) {
+                        add(articleId, lateCount);
+                    }
+                });
+    }
+
+    /**
+     * 실패한 경우 다음 Flush에서 다시 반영되도록 Buffer로 되돌린다.
+     *
+     * @param batch
+     */
+    private void writeBatch(List<ArticleReadCountDto> batch) {
+        try {
+            articleMapper.addReadCountBatch(batch);
+            batch.forEach(dto -> articleInfoCache.evictAfterCommit(dto.getArticleId()));
+        } catch (Exception e) {
+            log.warn("[ArticleReadCountBuffer] ReadCount Flush Fail, size : " + batch.size(), e);
+            batch.forEach(dto -> add(dto.getArticleId(), dto.getReadCount()));
+        } finally {
+            batch.forEach(dto -> flushingCounts.remove(dto.getArticleId()));
+        }
+    }
+}
@@ -0,0 +1,743 @@
+package com.nooblol.board.support;
+
+import com.nooblol.board.dto.ArticleDto;
+import com.nooblol.board.dto.ArticleSearchResultDto;
+import com.nooblol.board.dto.ReplyDto;
+import com.nooblol.board.mapper.ArticleMapper;
+import com.nooblol.board.mapper.ArticleReplyMapper;
+import com.nooblol.board.utils.ArticleStatus;
+import com.nooblol.board.utils.ReplyStatus;
+import com.nooblol.global.cache.CacheInvalidationPublisher;
+import com.nooblol.global.cache.LocalInvalidationHandler;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시물의 제목, 본문과 댓글을 대상으로 하는 메모리 역색인(Inverted Index)
+ *
+ * <p>한글은 형태소 분석 없이도 조사가 붙은 단어를 찾을 수 있도록, 단어를 2글자 단위(Bigram)로 나누어 색인한다. 1글자 단어는 그대로 색인한다.
+ * 게시물과 댓글은 각각 하나의 문서로 색인하고, 검색시 게시물 단위로 점수(TF-IDF)를 합산한다. 공개(ACTIVE)된 게시물, 댓글만 색인한다.
+ *
+ * <p>게시물, 댓글의 변경은 Transaction이 Commit된 이후에 반영하고, 무효화 채널로 변경된 docKey를 전달하여 다른 서버도 DB에서 다시 읽어 반영하도록
+ * 한다. 색인은 주기적으로 로컬 디스크에 Snapshot으로 저장한다. 시작시
+ * Snapshot으로 바로 검색을 제공하고, Snapshot 이후 다른 서버에서 변경되거나 중지된 동안 삭제된 게시물, 댓글이 남지 않도록 Background에서
+ * DB로 다시 색인하여 교체한다. Snapshot이 없는 경우에는 시작시 DB에서 전체를 다시 색인한다.
+ *
+ * <p>Snapshot은 Java 직렬화를 사용하지 않고, 버전이 포함된 고정 형식(DataOutputStream)으로 기록한다.
+ */
+@Slf4j
+@Component
+public class ArticleSearchIndex implements DisposableBean, LocalInvalidationHandler {
+
+    public static final String INVALIDATION_NAME = "articleSearch";
+
+    private static final int TITLE_WEIGHT = 3;
+
+    private static final int REBUILD_RANGE_SIZE = 1000;
+
+    private static final int SNAPSHOT_MAGIC = 0x4E4C5349;
+
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private static final String ARTICLE_KEY_PREFIX = "A";
+
+    private static final String REPLY_KEY_PREFIX = "R";
+
+    // 점수 내림차순, 같은 점수는 최신 게시물(articleId 내림차순) 우선
+    private static final Comparator<Map.Entry<Integer, Double>> SEARCH_RESULT_ORDER =
+            Map.Entry.<Integer, Double>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+
+    private static final Pattern NON_WORD_PATTERN = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ArticleMapper articleMapper;
+
+    private final ArticleReplyMapper articleReplyMapper;
+
+    private final Path indexPath;
+
+    private final Executor rebuildExecutor;
+
+    private final ObjectProvider<CacheInvalidationPublisher> cacheInvalidationPublisherProvider;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // docKey → 문서
+    private final Map<String, SearchDocument> documents = new HashMap<>();
+
+    // token → (docKey → 가중치가 적용된 출현빈도)
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+
+    // articleId → 해당 게시물에 달린 댓글의 docKey
+    private final Map<Integer, Set<String>> replyKeysByArticleId = new HashMap<>();
+
+    private volatile boolean dirty = false;
+
+    // 다시 색인하는 동안 변경된 docKey, 교체시 DB에서 읽은 내용 대신 현재 색인의 내용을 유지한다. 다시 색인중이 아닌 경우 null
+    private Set<String> changedWhileRebuilding;
+
+    @Autowired
+    public ArticleSearchIndex(
+            ArticleMapper articleMapper,
+            ArticleReplyMapper articleReplyMapper,
+            ObjectProvider<CacheInvalidationPublisher> cacheInvalidationPublisherProvider,
+            @Value("${board.search.index-path:./data/article-search-index.bin}") String indexPath) {
+        this(
+                articleMapper,
+                articleReplyMapper,
+                cacheInvalidationPublisherProvider,
+                indexPath,
+                task -> {
+                    Thread thread = new Thread(task, "article-search-rebuild");
+                    thread.setDaemon(true);
+                    thread.start();
+                });
+    }
+
+    ArticleSearchIndex(
+            ArticleMapper articleMapper,
+            ArticleReplyMapper articleReplyMapper,
+            ObjectProvider<CacheInvalidationPublisher> cacheInvalidationPublisherProvider,
+            String indexPath,
+            Executor rebuildExecutor) {
+        this.articleMapper = articleMapper;
+        this.articleReplyMapper = articleReplyMapper;
+        this.cacheInvalidationPublisherProvider = cacheInvalidationPublisherProvider;
+        this.indexPath = Paths.get(indexPath);
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (Files.exists(indexPath) && loadSnapshot()) {
+            rebuildExecutor.execute(
+                    () -> {
+                        try {
+                            rebuild();
+                        } catch (Exception e) {
+                            // 실패해도 Snapshot과 이후의 변경으로 검색은 계속 제공한다.
+                            log.warn("[ArticleSearchIndex] Background Rebuild Fail", e);
+                        }
+                    });
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * DB의 전체 게시물과 댓글을 articleId 범위 단위로 조회하여 색인을 다시 만든다. 조회하는 동안에도 기존 색인으로 검색을 제공하며, 그 사이 변경된
+     * 문서는 교체시 현재 색인의 내용을 유지한다.
+     */
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedWhileRebuilding = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Integer maxArticleId = articleMapper.selectMaxArticleId();
+            int maxId = maxArticleId == null ? 0 : maxArticleId;
+
+            List<SearchDocument> rebuiltDocuments = new ArrayList<>();
+            for (int startArticleId = 1;
+                    startArticleId <= maxId;
+                    startArticleId += REBUILD_RANGE_SIZE) {
+                int endArticleId = startArticleId + REBUILD_RANGE_SIZE - 1;
+                for (ArticleDto article :
+                        articleMapper.selectArticleListByRange(startArticleId, endArticleId)) {
+                    addIfNotNull(rebuiltDocuments, createArticleDocument(article));
+                }
+                for (ReplyDto reply :
+                        articleReplyMapper.selectReplyListByArticleIdRange(
+                                startArticleId, endArticleId)) {
+                    addIfNotNull(rebuiltDocuments, createReplyDocument(reply));
+                }
+            }
+
+            replaceAllExceptChanged(rebuiltDocuments);
+            log.info("[ArticleSearchIndex] Rebuilt Document Count : " + rebuiltDocuments.size());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedWhileRebuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 게시물을 색인한다. 공개상태가 아닌 경우 색인에서 제거한다.
+     *
+     * @param article articleId가 있어야 한다
+     */
+    public void indexArticle(ArticleDto article) {
+        if (article == null || article.getArticleId() == null) {
+            return;
+        }
+        String key = articleKey(article.getArticleId());
+        SearchDocument document = createArticleDocument(article);
+        runAfterCommit(
+                () -> {
+                    putOrRemoveDocument(key, document);
+                    publish(key);
+                });
+    }
+
+    /**
+     * 댓글을 색인한다. 활성상태가 아닌 경우 색인에서 제거한다.
+     *
+     * @param reply replyId가 있어야 한다
+     */
+    public void indexReply(ReplyDto reply) {
+        if (reply == null || reply.getReplyId() == null) {
+            return;
+        }
+        String key = replyKey(reply.getReplyId());
+        SearchDocument document = createReplyDocument(reply);
+        runAfterCommit(
+                () -> {
+                    putOrRemoveDocument(key, document);
+                    publish(key);
+                });
+    }
+
+    /**
+     * 게시물과 해당 게시물에 달린 댓글을 모두 색인에서 제거한다.
+     *
+     * @param articleId
+     */
+    public void removeArticle(int articleId) {
+        runAfterCommit(
+                () -> {
+                    removeArticleDocuments(articleId);
+                    publish(articleKey(articleId));
+                });
+    }
+
+    public void removeReply(int replyId) {
+        runAfterCommit(
+                () -> {
+                    removeDocuments(List.of(replyKey(replyId)));
+                    publish(replyKey(replyId));
+                });
+    }
+
+    @Override
+    public String getInvalidationName() {
+        return INVALIDATION_NAME;
+    }
+
+    /**
+     * 다른 서버에서 변경된 문서를 DB에서 다시 읽어 반영한다. 게시물이 삭제된 경우 댓글도 같이 제거한다.
+     *
+     * @param key 변경된 docKey
+     */
+    @Override
+    public void onInvalidation(Object key) {
+        if (!(key instanceof String)) {
+            return;
+        }
+        String docKey = (String) key;
+        int id = Integer.parseInt(docKey.substring(1));
+
+        if (docKey.startsWith(ARTICLE_KEY_PREFIX)) {
+            ArticleDto article = articleMapper.selectArticleByArticleId(id);
+            if (article == null) {
+                removeArticleDocuments(id);
+                return;
+            }
+            putOrRemoveDocument(docKey, createArticleDocument(article));
+            return;
+        }
+
+        ReplyDto reply = articleReplyMapper.selectReplyByReplyId(id);
+        putOrRemoveDocument(docKey, reply == null ? null : createReplyDocument(reply));
+    }
+
+    /**
+     * 검색어의 모든 Token을 포함하는 게시물을 점수가 높은 순서로 반환한다. 게시물 자체가 색인되어 있지 않은 경우(비공개, 삭제)는 댓글이 일치해도 제외한다.
+     *
+     * @param keyword 검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit 최대 반환 건수
+     * @return
+     */
+    public List<ArticleSearchResultDto> search(String keyword, int offset, int limit) {
+        Set<String> queryTokens = tokenize(keyword).keySet();
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Double> scoreByArticleId = new HashMap<>();
+            Map<Integer, Integer> matchedTokenCountByArticleId = new HashMap<>();
+
+            for (String token : queryTokens) {
+                Map<String, Integer> posting = postings.get(token);
+                if (posting == null) {
+                    return List.of();
+                }
+
+                double idf = Math.log(1 + (double) documents.size() / posting.size());
+                Set<Integer> matchedArticleIds = new HashSet<>();
+                for (Map.Entry<String, Integer> entry : posting.entrySet()) {
+                    int articleId = documents.get(entry.getKey()).getArticleId();
+                    scoreByArticleId.merge(articleId, entry.getValue() * idf, Double::sum);
+                    matchedArticleIds.add(articleId);
+                }
+                for (int articleId : matchedArticleIds) {
+                    matchedTokenCountByArticleId.merge(articleId, 1, Integer::sum);
+                }
+            }
+
+            return scoreByArticleId.entrySet().stream()
+                    .filter(
+                            entry ->
+                                    matchedTokenCountByArticleId.get(entry.getKey())
+                                            == queryTokens.size())
+                    .filter(entry -> documents.containsKey(articleKey(entry.getKey())))
+                    .sorted(SEARCH_RESULT_ORDER)
+                    .skip(offset)
+                    .limit(limit)
+                    .map(
+                            entry ->
+                                    documents.get(articleKey(entry.getKey()))
+                                            .getArticle()
+                                            .toBuilder()
+                                            .score(entry.getValue())
+                                            .build())
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 변경된 내용이 있는 경우 색인을 임시파일에 기록한 이후 교체하여, 기록중 종료되어도 이전 Snapshot은 유지되도록 한다. */
+    @Scheduled(fixedDelayString = "${board.search.snapshot-interval-ms:60000}")
+    public void saveSnapshot() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+
+        List<SearchDocument> snapshot;
+        lock.readLock().lock();
+        try {
+            snapshot = new ArrayList<>(documents.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            Path parentPath = indexPath.toAbsolutePath().getParent();
+            if (parentPath != null) {
+                Files.createDirectories(parentPath);
+            }
+            Path tempPath = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+            try (DataOutputStream out =
+                    new DataOutputStream(
+                            new GZIPOutputStream(
+                                    new BufferedOutputStream(Files.newOutputStream(tempPath))))) {
+                writeSnapshot(out, snapshot);
+            }
+            Files.move(
+                    tempPath,
+                    indexPath,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("[ArticleSearchIndex] Snapshot Save Fail, path : " + indexPath, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        saveSnapshot();
+    }
+
+    /**
+     * 문자열을 NFKC 정규화, 소문자 변환 이후 문자와 숫자 단위로 나누고, 각 단어를 2글자 단위 Token으로 만들어 출현빈도와 함께 반환한다.
+     *
+     * @param text
+     * @return
+     */
+    static Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> tokens = new HashMap<>();
+        if (StringUtils.isBlank(text)) {
+            return tokens;
+        }
+
+        String normalizedText =
+                Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String word : NON_WORD_PATTERN.split(normalizedText)) {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.merge(word, 1, Integer::sum);
+                continue;
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.merge(new String(codePoints, i, 2), 1, Integer::sum);
+            }
+        }
+        return tokens;
+    }
+
+    private boolean loadSnapshot() {
+        try (DataInputStream in =
+                new DataInputStream(
+                        new GZIPInputStream(
+                                new BufferedInputStream(Files.newInputStream(indexPath))))) {
+            List<SearchDocument> snapshot = readSnapshot(in);
+            replaceAll(snapshot);
+            dirty = false;
+            log.info("[ArticleSearchIndex] Loaded Document Count : " + snapshot.size());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // 이전 형식(Java 직렬화)이거나 손상된 Snapshot은 사용하지 않고 DB로 다시 색인한다.
+            log.warn("[ArticleSearchIndex] Snapshot Load Fail, path : " + indexPath, e);
+            return false;
+        }
+    }
+
+    /**
+     * Snapshot 형식 : Magic, 버전, 문서수, 문서(docKey, articleId, Token수, (Token, 빈도)..., 게시물 정보 여부, 게시물 정보)
+     *
+     * @param out
+     * @param snapshot
+     * @throws IOException
+     */
+    private static void writeSnapshot(DataOutputStream out, List<SearchDocument> snapshot)
+            throws IOException {
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeInt(snapshot.size());
+        for (SearchDocument document : snapshot) {
+            out.writeUTF(document.getKey());
+            out.writeInt(document.getArticleId());
+            out.writeInt(document.getTermFreq().size());
+            for (Map.Entry<String, Integer> entry : document.getTermFreq().entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+
+            ArticleSearchResultDto article = document.getArticle();
+            out.writeBoolean(article != null);
+            if (article != null) {
+                out.writeInt(article.getArticleId());
+                out.writeInt(article.getBbsId());
+                writeNullableString(out, article.getArticleTitle());
+                writeNullableString(out, article.getCreatedUserId());
+                writeNullableString(
+                        out,
+                        article.getCreatedAt() == null ? null : article.getCreatedAt().toString());
+            }
+        }
+    }
+
+    private static List<SearchDocument> readSnapshot(DataInputStream in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("Unsupported Snapshot Format");
+        }
+
+        int documentCount = in.readInt();
+        List<SearchDocument> snapshot = new ArrayList<>(documentCount);
+        for (int i = 0; i < documentCount; i++) {
+            String key = in.readUTF();
+            int articleId = in.readInt();
+            int tokenCount = in.readInt();
+            Map<String, Integer> termFreq = new HashMap<>(tokenCount * 2);
+            for (int j = 0; j < tokenCount; j++) {
+                termFreq.put(in.readUTF(), in.readInt());
+            }
+
+            ArticleSearchResultDto article = null;
+            if (in.readBoolean()) {
+                int resultArticleId = in.readInt();
+                int bbsId = in.readInt();
+                String articleTitle = readNullableString(in);
+                String createdUserId = readNullableString(in);
+                String createdAt = readNullableString(in);
+                article =
+                        ArticleSearchResultDto.builder()
+                                .articleId(resultArticleId)
+                                .bbsId(bbsId)
+                                .articleTitle(articleTitle)
+                                .createdUserId(createdUserId)
+                                .createdAt(
+                                        createdAt == null ? null : LocalDateTime.parse(createdAt))
+                                .build();
+            }
+            snapshot.add(new SearchDocument(key, articleId, termFreq, article));
+        }
+        return snapshot;
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value)
+            throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private SearchDocument createArticleDocument(ArticleDto article) {
+        if (article.getStatus() != ArticleStatus.ACTIVE) {
+            return null;
+        }
+
+        Map<String, Integer> termFreq = new HashMap<>();
+        tokenize(article.getArticleTitle())
+                .forEach(
+                        (token, count) ->
+                                termFreq.merge(token, count * TITLE_WEIGHT, Integer::sum));
+        tokenize(article.getArticleContent())
+                .forEach((token, count) -> termFreq.merge(token, count, Integer::sum));
+
+        ArticleSearchResultDto searchResult =
+                ArticleSearchResultDto.builder()
+                        .articleId(article.getArticleId())
+                        .bbsId(article.getBbsId())
+                        .articleTitle(article.getArticleTitle())
+                        .createdUserId(article.getCreatedUserId())
+                        .createdAt(
+                                article.getCreatedAt() == null
+                                        ? LocalDateTime.now()
+                                        : article.getCreatedAt())
+                        .build();
+
+        return new SearchDocument(
+                articleKey(article.getArticleId()), article.getArticleId(), termFreq, searchResult);
+    }
+
+    private SearchDocument createReplyDocument(ReplyDto reply) {
+        if (reply.getReplyId() == null || reply.getStatus() != ReplyStatus.ACTIVE) {
+            return null;
+        }
+        return new SearchDocument(
+                replyKey(reply.getReplyId()),
+                reply.getArticleId(),
+                tokenize(reply.getReplyContent()),
+                null);
+    }
+
+    private void putOrRemoveDocument(String key, SearchDocument document) {
+        if (document == null) {
+            removeDocuments(List.of(key));
+            return;
+        }
+        putDocument(document);
+    }
+
+    private void removeArticleDocuments(int articleId) {
+        List<String> keys = new ArrayList<>();
+        keys.add(articleKey(articleId));
+        lock.readLock().lock();
+        try {
+            keys.addAll(replyKeysByArticleId.getOrDefault(articleId, Set.of()));
+        } finally {
+            lock.readLock().unlock();
+        }
+        removeDocuments(keys);
+    }
+
+    private void publish(String key) {
+        CacheInvalidationPublisher publisher = cacheInvalidationPublisherProvider.getIfAvailable();
+        if (publisher != null) {
+            publisher.publish(INVALIDATION_NAME, key);
+        }
+    }
+
+    private void putDocument(SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            putDocumentWithoutLock(document);
+            if (changedWhileRebuilding != null) {
+                changedWhileRebuilding.add(document.getKey());
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeDocuments(List<String> keys) {
+        lock.writeLock().lock();
+        try {
+            keys.forEach(this::removeDocumentWithoutLock);
+            if (changedWhileRebuilding != null) {
+                changedWhileRebuilding.addAll(keys);
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void replaceAll(List<SearchDocument> newDocuments) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            replyKeysByArticleId.clear();
+            newDocuments.forEach(this::putDocumentWithoutLock);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 다시 색인한 문서로 교체한다. 다시 색인하는 동안 변경된 문서는 DB에서 읽은 시점 이후의 변경일 수 있으므로 현재 색인의 내용을 유지한다.
+     *
+     * @param rebuiltDocuments
+     */
+    private void replaceAllExceptChanged(List<SearchDocument> rebuiltDocuments) {
+        lock.writeLock().lock();
+        try {
+            List<SearchDocument> newDocuments = new ArrayList<>();
+            for (SearchDocument document : rebuiltDocuments) {
+                if (!changedWhileRebuilding.contains(document.getKey())) {
+                    newDocuments.add(document);
+                }
+            }
+            for (String key : changedWhileRebuilding) {
+                addIfNotNull(newDocuments, documents.get(key));
+            }
+            replaceAll(newDocuments);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putDocumentWithoutLock(SearchDocument document) {
+        removeDocumentWithoutLock(document.getKey());
+
+        documents.put(document.getKey(), document);
+        document.getTermFreq()
+                .forEach(
+                        (token, count) ->
+                                postings.computeIfAbsent(token, key -> new HashMap<>())
+                                        .put(document.getKey(), count));
+        if (document.getKey().startsWith(REPLY_KEY_PREFIX)) {
+            replyKeysByArticleId
+                    .computeIfAbsent(document.getArticleId(), key -> new HashSet<>())
+                    .add(document.getKey());
+        }
+    }
+
+    private void removeDocumentWithoutLock(String key) {
+        SearchDocument document = documents.remove(key);
+        if (document == null) {
+            return;
+        }
+
+        for (String token : document.getTermFreq().keySet()) {
+            Map<String, Integer> posting = postings.get(token);
+            posting.remove(key);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+        if (key.startsWith(REPLY_KEY_PREFIX)) {
+            Set<String> replyKeys = replyKeysByArticleId.get(document.getArticleId());
+            replyKeys.remove(key);
+            if (replyKeys.isEmpty()) {
+                replyKeysByArticleId.remove(document.getArticleId());
+            }
+        }
+    }
+
+    /**
+     * Transaction 안에서 호출된 경우 Commit 이후에 실행하여, Rollback된 변경이 색인에 남지 않도록 한다.
+     *
+     * @param task
+     */
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            task.run();
+                        }
+                    });
+            return;
+        }
+        task.run();
+    }
+
+    private void addIfNotNull(List<SearchDocument> documentList, SearchDocument document) {
+        if (document != null) {
+            documentList.add(document);
+        }
+    }
+
+    private static String articleKey(int articleId) {
+        return ARTICLE_KEY_PREFIX + articleId;
+    }
+
+    private static String replyKey(int replyId) {
+        return REPLY_KEY_PREFIX + replyId;
+    }
+
+    /** 색인의 단위, 게시물 문서인 경우에만 검색결과로 반환할 게시물 정보를 가진다. */
+    @Getter
+    @AllArgsConstructor
+    static class SearchDocument {
+
+        private final String key;
+
+        private final int articleId;
+
+        private final Map<String, Integer> termFreq;
+
+        private final ArticleSearchResultDto article;
+    }
+}
@@ -0,0 +1,188 @@
+package com.nooblol.board.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nooblol.board.dto.BbsDto;
+import com.nooblol.board.dto.BoardNavigationBbsDto;
+import com.nooblol.board.dto.BoardNavigationDto;
+import com.nooblol.board.dto.BoardNavigationResponseDto;
+import com.nooblol.board.dto.CategoryDto;
+import com.nooblol.board.mapper.CategoryMapper;
+import com.nooblol.board.utils.BoardStatus;
+import com.nooblol.board.utils.CategoryStatus;
+import com.nooblol.global.cache.CacheInvalidationPublisher;
+import com.nooblol.global.cache.LocalInvalidationHandler;
+import com.nooblol.global.dto.ResponseDto;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 카테고리 - 게시판 메뉴 트리를 응답 JSON과 gzip으로 미리 직렬화하여 보관한다.
+ *
+ * <p>카테고리, 게시판이 변경되면 새 Snapshot을 만든 뒤 참조만 교체하므로(Copy On Write), 조회는 Lock 없이 byte 배열을 그대로 응답한다. 변경은
+ * 무효화 채널로 다른 서버에도 전달하여 다시 만들도록 하며, 메시지를 놓친 경우를 위해 주기적으로도 다시 만든다.
+ */
+@Slf4j
+@Component
+public class BoardNavigationCache implements LocalInvalidationHandler {
+
+    public static final String INVALIDATION_NAME = "boardNavigation";
+
+    private final CategoryMapper categoryMapper;
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectProvider<CacheInvalidationPublisher> cacheInvalidationPublisherProvider;
+
+    private volatile BoardNavigationResponseDto snapshot;
+
+    public BoardNavigationCache(
+            CategoryMapper categoryMapper,
+            ObjectMapper objectMapper,
+            ObjectProvider<CacheInvalidationPublisher> cacheInvalidationPublisherProvider) {
+        this.categoryMapper = categoryMapper;
+        this.objectMapper = objectMapper;
+        this.cacheInvalidationPublisherProvider = cacheInvalidationPublisherProvider;
+    }
+
+    public BoardNavigationResponseDto getSnapshot() {
+        BoardNavigationResponseDto currentSnapshot = snapshot;
+        if (currentSnapshot == null) {
+            return rebuild();
+        }
+        return currentSnapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${board.navigation.refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("[BoardNavigationCache] Refresh Fail", e);
+        }
+    }
+
+    /**
+     * 카테고리, 게시판이 변경된 경우 호출한다. Commit 이후 현재 서버의 Snapshot을 다시 만들고, 다른 서버에도 다시 만들도록 전달한다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            refreshAndPublish();
+                        }
+                    });
+            return;
+        }
+        refreshAndPublish();
+    }
+
+    @Override
+    public String getInvalidationName() {
+        return INVALIDATION_NAME;
+    }
+
+    @Override
+    public void onInvalidation(Object key) {
+        refresh();
+    }
+
+    /**
+     * DB에서 메뉴 트리를 다시 조회하여 Snapshot을 교체한다. 동시에 요청된 경우 나중에 들어온 요청이 마지막에 DB를 조회하도록 순서대로 처리한다.
+     *
+     * @return 새로 만든 Snapshot
+     */
+    public synchronized BoardNavigationResponseDto rebuild() {
+        List<BoardNavigationDto> navigationList = selectNavigationList();
+        byte[] jsonBody = serialize(navigationList);
+
+        BoardNavigationResponseDto newSnapshot =
+                BoardNavigationResponseDto.builder()
+                        .etag("\"" + DigestUtils.md5DigestAsHex(jsonBody) + "\"")
+                        .jsonBody(jsonBody)
+                        .gzipBody(gzip(jsonBody))
+                        .build();
+        snapshot = newSnapshot;
+        return newSnapshot;
+    }
+
+    private void refreshAndPublish() {
+        refresh();
+        CacheInvalidationPublisher publisher = cacheInvalidationPublisherProvider.getIfAvailable();
+        if (publisher != null) {
+            publisher.publish(INVALIDATION_NAME, null);
+        }
+    }
+
+    private List<BoardNavigationDto> selectNavigationList() {
+        Map<Integer, List<BoardNavigationBbsDto>> bbsListByCategoryId =
+                categoryMapper.selectAllBbsList().stream()
+                        .filter(bbs -> bbs.getStatus() == BoardStatus.ACTIVE)
+                        .sorted(Comparator.comparingInt(BbsDto::getBbsId))
+                        .collect(
+                                Collectors.groupingBy(
+                                        BbsDto::getCategoryId,
+                                        Collectors.mapping(
+                                                bbs ->
+                                                        BoardNavigationBbsDto.builder()
+                                                                .bbsId(bbs.getBbsId())
+                                                                .bbsName(bbs.getBbsName())
+                                                                .build(),
+                                                Collectors.toList())));
+
+        return categoryMapper.selectCategoryList(CategoryStatus.ACTIVE.getStatus()).stream()
+                .sorted(Comparator.comparingInt(CategoryDto::getCategoryId))
+                .map(
+                        category ->
+                                BoardNavigationDto.builder()
+                                        .categoryId(category.getCategoryId())
+                                        .categoryName(category.getCategoryName())
+                                        .bbsList(
+                                                bbsListByCategoryId.getOrDefault(
+                                                        category.getCategoryId(), List.of()))
+                                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private byte[] serialize(List<BoardNavigationDto> navigationList) {
+        try {
+            return objectMapper.writeValueAsBytes(
+                    new ResponseDto<>(HttpStatus.OK.value(), navigationList));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] gzip(byte[] body) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,321 @@
+package com.nooblol.board.support;
+
+import com.nooblol.board.dto.ArticleSummaryDto;
+import com.nooblol.board.dto.ArticleTrendingDto;
+import com.nooblol.board.mapper.ArticleMapper;
+import com.nooblol.board.utils.ArticleStatus;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 조회, 추천, 댓글 이벤트로 게시물의 인기점수를 누적하고, 주기적으로 게시판별, 전체 인기 게시물 리스트를 만들어 공개한다.
+ *
+ * <p>점수는 반감기(half-life)를 갖는 지수 감쇠를 적용하며, 모든 점수를 매번 감쇠시키지 않도록 기준시각(landmark) 이후 경과시간만큼 이벤트의 가중치를
+ * 키워서 더한다(Forward Decay). 공개 주기마다 기준시각이 현재인 새 점수판(ScoreGeneration)으로 교체하면서 이전 점수판의 점수를 다시 환산하여 옮기고,
+ * 충분히 작아진 게시물은 옮기지 않는다.
+ *
+ * <p>이벤트 반영은 volatile로 공개된 점수판에 더하기만 하므로 Lock이 필요하지 않다. 교체 직전의 점수판을 읽은 이벤트가 옮긴 뒤에 더해질 수 있으므로,
+ * 교체된 점수판은 다음 공개 주기에 한번 더 옮긴 뒤 버린다. 조회는 불변 List로 만들어진 Snapshot을 그대로 반환한다.
+ *
+ * <p>Transaction 안에서 기록된 이벤트는 Commit 이후에 반영하여, Rollback된 추천, 댓글이 점수에 더해지지 않도록 한다. 리스트는 점수 상위
+ * maxCandidates개의 후보로만 만들며, 후보의 게시물 정보는 본문을 제외한 요약 정보만 조회한다.
+ */
+@Component
+public class TrendingArticleRanker {
+
+    private static final double VIEW_WEIGHT = 1.0;
+
+    private static final double LIKE_WEIGHT = 5.0;
+
+    private static final double REPLY_WEIGHT = 3.0;
+
+    // 현재 시점으로 환산한 점수가 이 값보다 작으면 더이상 추적하지 않는다.
+    private static final double MIN_TRACKED_SCORE = 0.5;
+
+    // 게시물 정보를 IN 조건으로 한번에 조회할 후보수
+    private static final int ARTICLE_LOAD_BATCH_SIZE = 500;
+
+    private final ArticleMapper articleMapper;
+
+    private final double decayRatePerMillis;
+
+    private final int topK;
+
+    private final int maxCandidates;
+
+    private final LongSupplier currentTimeMillis;
+
+    private volatile ScoreGeneration currentGeneration;
+
+    // 직전 공개 주기에 교체된 점수판, 공개 작업에서만 사용한다.
+    private ScoreGeneration retiredGeneration;
+
+    private volatile TrendingSnapshot snapshot = new TrendingSnapshot(List.of(), Map.of());
+
+    @Autowired
+    public TrendingArticleRanker(
+            ArticleMapper articleMapper,
+            @Value("${board.trending.half-life-minutes:360}") long halfLifeMinutes,
+            @Value("${board.trending.top-k:50}") int topK,
+            @Value("${board.trending.max-candidates:2000}") int maxCandidates) {
+        this(articleMapper, halfLifeMinutes, topK, maxCandidates, System::currentTimeMillis);
+    }
+
+    TrendingArticleRanker(
+            ArticleMapper articleMapper,
+            long halfLifeMinutes,
+            int topK,
+            int maxCandidates,
+            LongSupplier currentTimeMillis) {
+        this.articleMapper = articleMapper;
+        this.decayRatePerMillis = Math.log(2) / (halfLifeMinutes * 60_000d);
+        this.topK = topK;
+        this.maxCandidates = maxCandidates;
+        this.currentTimeMillis = currentTimeMillis;
+        this.currentGeneration = new ScoreGeneration(currentTimeMillis.getAsLong());
+    }
+
+    public void recordView(int articleId, int bbsId) {
+        record(articleId, bbsId, VIEW_WEIGHT);
+    }
+
+    public void recordLike(int articleId) {
+        record(articleId, null, LIKE_WEIGHT);
+    }
+
+    public void recordReply(int articleId) {
+        record(articleId, null, REPLY_WEIGHT);
+    }
+
+    /**
+     * 마지막으로 공개된 인기 게시물 리스트
+     *
+     * @param bbsId null인 경우 전체 게시판 기준
+     * @return
+     */
+    public List<ArticleTrendingDto> getTrendingArticleList(Integer bbsId) {
+        TrendingSnapshot currentSnapshot = snapshot;
+        if (bbsId == null) {
+            return currentSnapshot.getSiteWide();
+        }
+        return currentSnapshot.getByBbsId().getOrDefault(bbsId, List.of());
+    }
+
+    @Scheduled(fixedDelayString = "${board.trending.publish-interval-ms:60000}")
+    public synchronized void publish() {
+        List<TrendingCandidate> candidates = rebaseAndCollect();
+        candidates.sort(Comparator.comparingDouble(TrendingCandidate::getScore).reversed());
+        snapshot =
+                buildSnapshot(candidates.subList(0, Math.min(candidates.size(), maxCandidates)));
+    }
+
+    private void record(int articleId, Integer bbsId, double weight) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            addScore(articleId, bbsId, weight);
+                        }
+                    });
+            return;
+        }
+        addScore(articleId, bbsId, weight);
+    }
+
+    private void addScore(int articleId, Integer bbsId, double weight) {
+        ScoreGeneration generation = currentGeneration;
+        double boostedWeight =
+                weight
+                        * Math.exp(
+                                decayRatePerMillis
+                                        * (currentTimeMillis.getAsLong()
+                                                - generation.landmarkMillis));
+        TrendingEntry entry =
+                generation.entries.computeIfAbsent(articleId, key -> new TrendingEntry());
+        if (bbsId != null) {
+            entry.bbsId = bbsId;
+        }
+        entry.score.add(boostedWeight);
+    }
+
+    /**
+     * 기준시각이 현재인 점수판으로 교체하면서 이전 점수판의 점수를 현재 시점으로 환산하여 옮기고, 작아진 게시물은 제외한다.
+     *
+     * @return 현재 시점의 점수를 가진 후보 리스트
+     */
+    private List<TrendingCandidate> rebaseAndCollect() {
+        long nowMillis = currentTimeMillis.getAsLong();
+        ScoreGeneration nextGeneration = new ScoreGeneration(nowMillis);
+        ScoreGeneration previousGeneration = currentGeneration;
+        currentGeneration = nextGeneration;
+
+        // 교체 이전에 점수판을 읽고 늦게 더해진 점수를 옮긴다.
+        if (retiredGeneration != null) {
+            moveScores(retiredGeneration, nextGeneration, 0);
+        }
+        moveScores(previousGeneration, nextGeneration, MIN_TRACKED_SCORE);
+        retiredGeneration = previousGeneration;
+
+        List<TrendingCandidate> candidates = new ArrayList<>();
+        nextGeneration.entries.forEach(
+                (articleId, entry) ->
+                        candidates.add(
+                                new TrendingCandidate(
+                                        articleId, entry.bbsId, entry.score.sum())));
+        return candidates;
+    }
+
+    private void moveScores(ScoreGeneration from, ScoreGeneration to, double minScore) {
+        double decayFactor =
+                Math.exp(-decayRatePerMillis * (to.landmarkMillis - from.landmarkMillis));
+        from.entries.forEach(
+                (articleId, entry) -> {
+                    double score = entry.score.sumThenReset() * decayFactor;
+                    if (score <= 0 || score < minScore) {
+                        return;
+                    }
+                    TrendingEntry movedEntry =
+                            to.entries.computeIfAbsent(articleId, key -> new TrendingEntry());
+                    if (entry.bbsId != null && movedEntry.bbsId == null) {
+                        movedEntry.bbsId = entry.bbsId;
+                    }
+                    movedEntry.score.add(score);
+                });
+    }
+
+    /**
+     * 점수순으로 정렬된 후보로 전체, 게시판별 상위 topK개의 리스트를 만든다. 게시물 정보는 리스트에 들어갈 수 있는 후보만 묶어서 요약 정보를 한번에
+     * 조회하며, 삭제되었거나 비공개인 게시물은 제외한다.
+     *
+     * @param sortedCandidates
+     * @return
+     */
+    private TrendingSnapshot buildSnapshot(List<TrendingCandidate> sortedCandidates) {
+        List<ArticleTrendingDto> siteWide = new ArrayList<>();
+        Map<Integer, List<ArticleTrendingDto>> byBbsId = new HashMap<>();
+
+        for (int fromIndex = 0;
+                fromIndex < sortedCandidates.size();
+                fromIndex += ARTICLE_LOAD_BATCH_SIZE) {
+            List<TrendingCandidate> batch =
+                    sortedCandidates.subList(
+                            fromIndex,
+                            Math.min(
+                                    fromIndex + ARTICLE_LOAD_BATCH_SIZE,
+                                    sortedCandidates.size()));
+            // 전체 리스트가 찼고 게시판 리스트도 찬것을 이미 아는 경우 게시물 조회를 생략한다.
+            List<Integer> articleIdList =
+                    batch.stream()
+                            .filter(candidate -> !isSkippable(siteWide, byBbsId, candidate))
+                            .map(TrendingCandidate::getArticleId)
+                            .collect(Collectors.toList());
+            if (articleIdList.isEmpty()) {
+                continue;
+            }
+            Map<Integer, ArticleSummaryDto> articleMap =
+                    articleMapper.selectArticleSummaryListByArticleIds(articleIdList).stream()
+                            .collect(
+                                    Collectors.toMap(
+                                            ArticleSummaryDto::getArticleId,
+                                            Function.identity()));
+
+            for (TrendingCandidate candidate : batch) {
+                ArticleSummaryDto article = articleMap.get(candidate.getArticleId());
+                if (article == null || article.getStatus() != ArticleStatus.ACTIVE) {
+                    continue;
+                }
+
+                ArticleTrendingDto trendingArticle =
+                        ArticleTrendingDto.builder()
+                                .articleId(article.getArticleId())
+                                .bbsId(article.getBbsId())
+                                .articleTitle(article.getArticleTitle())
+                                .createdUserId(article.getCreatedUserId())
+                                .score(candidate.getScore())
+                                .build();
+                if (siteWide.size() < topK) {
+                    siteWide.add(trendingArticle);
+                }
+                if (!isFull(byBbsId, article.getBbsId())) {
+                    byBbsId.computeIfAbsent(article.getBbsId(), key -> new ArrayList<>())
+                            .add(trendingArticle);
+                }
+            }
+        }
+
+        Map<Integer, List<ArticleTrendingDto>> immutableByBbsId = new HashMap<>();
+        byBbsId.forEach((bbsId, list) -> immutableByBbsId.put(bbsId, List.copyOf(list)));
+        return new TrendingSnapshot(List.copyOf(siteWide), Map.copyOf(immutableByBbsId));
+    }
+
+    private boolean isSkippable(
+            List<ArticleTrendingDto> siteWide,
+            Map<Integer, List<ArticleTrendingDto>> byBbsId,
+            TrendingCandidate candidate) {
+        return siteWide.size() >= topK
+                && candidate.getBbsId() != null
+                && isFull(byBbsId, candidate.getBbsId());
+    }
+
+    private boolean isFull(Map<Integer, List<ArticleTrendingDto>> byBbsId, int bbsId) {
+        return byBbsId.getOrDefault(bbsId, List.of()).size() >= topK;
+    }
+
+    private static class ScoreGeneration {
+
+        // 이 점수판의 점수가 환산된 기준시각
+        private final long landmarkMillis;
+
+        private final ConcurrentHashMap<Integer, TrendingEntry> entries = new ConcurrentHashMap<>();
+
+        private ScoreGeneration(long landmarkMillis) {
+            this.landmarkMillis = landmarkMillis;
+        }
+    }
+
+    private static class TrendingEntry {
+
+        // 조회 이벤트로 알게된 게시판 ID, 추천, 댓글 이벤트만 있는 경우 null
+        private volatile Integer bbsId;
+
+        // 기준시각 기준으로 환산된 점수
+        private final DoubleAdder score = new DoubleAdder();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class TrendingCandidate {
+
+        private final int articleId;
+
+        private final Integer bbsId;
+
+        private final double score;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class TrendingSnapshot {
+
+        private final List<ArticleTrendingDto> siteWide;
+
+        private final Map<Integer, List<ArticleTrendingDto>> byBbsId;
+    }
+}
@@ -0,0 +1,150 @@
+package com.nooblol.board.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nooblol.board.mapper.ArticleUniqueViewerMapper;
+import com.nooblol.global.sketch.HyperLogLog;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시물별 순 방문자수를 HyperLogLog로 추정한다.
+ *
+ * <p>조회자는 로그인한 경우 사용자 ID, 아닌 경우 Client 정보로 구분하며, 마지막 Flush 이후 새로 조회한 방문자만 게시물별 Sketch에 모아둔다. Flush시
+ * DB의 Sketch에 Merge하여 저장하고, 조회시에는 DB의 Sketch와 아직 반영되지 않은 Sketch를 Merge하여 추정한다.
+ *
+ * <p>삭제된 게시물의 방문자가 다른 서버에 남아있더라도 Flush시 게시물이 존재하는 경우에만 저장하므로 Sketch가 다시 생성되지 않는다.
+ *
+ * <p>Sketch는 게시물당 1024byte로 고정되며, DB에서 읽은 Sketch는 MAX_PERSISTED_SKETCH_COUNT개까지만 메모리에 보관한다.
+ */
+@Slf4j
+@Component
+public class UniqueViewerCounter implements DisposableBean {
+
+    private static final int MAX_PERSISTED_SKETCH_COUNT = 10_000;
+
+    // 다른 서버에서 Flush한 방문자도 반영되도록 일정시간 이후 DB에서 다시 읽는다.
+    private static final Duration PERSISTED_SKETCH_TTL = Duration.ofMinutes(10);
+
+    private final ArticleUniqueViewerMapper articleUniqueViewerMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Integer, HyperLogLog> pendingSketches =
+            new ConcurrentHashMap<>();
+
+    // Flush중 DB에 반영되고 있는 Sketch, 반영이 끝나기 전까지 방문자수가 줄어 보이지 않도록 보관한다.
+    private final ConcurrentHashMap<Integer, HyperLogLog> flushingSketches =
+            new ConcurrentHashMap<>();
+
+    private final Cache<Integer, HyperLogLog> persistedSketches =
+            Caffeine.newBuilder()
+                    .maximumSize(MAX_PERSISTED_SKETCH_COUNT)
+                    .expireAfterWrite(PERSISTED_SKETCH_TTL)
+                    .build();
+
+    public UniqueViewerCounter(
+            ArticleUniqueViewerMapper articleUniqueViewerMapper,
+            TransactionTemplate transactionTemplate) {
+        this.articleUniqueViewerMapper = articleUniqueViewerMapper;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Map의 compute안에서 추가하므로, Flush에서 Map에서 제거한 이후의 Sketch에는 더이상 추가되지 않는다.
+     *
+     * @param articleId
+     * @param viewerKey
+     */
+    public void recordViewer(int articleId, String viewerKey) {
+        pendingSketches.compute(
+                articleId,
+                (key, sketch) -> {
+                    HyperLogLog targetSketch = sketch == null ? new HyperLogLog() : sketch;
+                    targetSketch.offer(viewerKey);
+                    return targetSketch;
+                });
+    }
+
+    public long getUniqueViewers(int articleId) {
+        HyperLogLog mergedSketch = getPersistedSketch(articleId).copy();
+        mergeIfPresent(mergedSketch, flushingSketches.get(articleId));
+        mergeIfPresent(mergedSketch, pendingSketches.get(articleId));
+        return mergedSketch.estimate();
+    }
+
+    /**
+     * 게시물 삭제시 메모리에 남은 Sketch를 제거한다.
+     *
+     * @param articleId
+     */
+    public void remove(int articleId) {
+        pendingSketches.remove(articleId);
+        persistedSketches.invalidate(articleId);
+    }
+
+    @Scheduled(fixedDelayString = "${board.unique-viewer.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        List<Integer> articleIdList = new ArrayList<>(pendingSketches.keySet());
+        for (Integer articleId : articleIdList) {
+            HyperLogLog pendingSketch = pendingSketches.remove(articleId);
+            if (pendingSketch == null) {
+                continue;
+            }
+
+            flushingSketches.put(articleId, pendingSketch);
+            try {
+                HyperLogLog savedSketch =
+                        transactionTemplate.execute(
+                                status -> mergeAndSaveSketch(articleId, pendingSketch));
+                persistedSketches.put(articleId, savedSketch);
+            } catch (Exception e) {
+                log.warn("[UniqueViewerCounter] Sketch Flush Fail : " + articleId, e);
+                // 다음 Flush에서 다시 반영되도록 되돌린다.
+                pendingSketches.merge(
+                        articleId,
+                        pendingSketch,
+                        (current, failed) -> {
+                            current.merge(failed);
+                            return current;
+                        });
+            } finally {
+                flushingSketches.remove(articleId);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private HyperLogLog mergeAndSaveSketch(int articleId, HyperLogLog pendingSketch) {
+        HyperLogLog savedSketch =
+                HyperLogLog.fromBytes(articleUniqueViewerMapper.selectSketchForUpdate(articleId));
+        savedSketch.merge(pendingSketch);
+        articleUniqueViewerMapper.upsertSketchIfArticleExists(
+                articleId, savedSketch.toBytes(), LocalDateTime.now());
+        return savedSketch;
+    }
+
+    private HyperLogLog getPersistedSketch(int articleId) {
+        return persistedSketches.get(
+                articleId,
+                key -> HyperLogLog.fromBytes(articleUniqueViewerMapper.selectSketch(key)));
+    }
+
+    private void mergeIfPresent(HyperLogLog target, HyperLogLog source) {
+        if (source != null) {
+            target.merge(source);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.nooblol.board.utils;
+
+import lombok.Getter;
+
+/** bbs_articles_delete_queue의 처리 상태 */
+@Getter
+public enum ArticleDeleteQueueStatus {
+    WAIT(0),
+    PROCESSING(1),
+    DONE(2),
+    FAIL(3);
+
+    ArticleDeleteQueueStatus(int status) {
+        this.status = status;
+    }
+
+    int status;
+}
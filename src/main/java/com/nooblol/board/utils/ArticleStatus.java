@@ -8,7 +8,9 @@ import lombok.Getter;
 @Getter
 public enum ArticleStatus {
     ACTIVE(1),
-    SECRET(2);
+    SECRET(2),
+    // 삭제 요청된 게시물, ArticleDeleteCleanupJob이 관련 데이터와 함께 실제로 삭제한다.
+    DELETE(9);
 
     ArticleStatus(int status) {
         this.status = status;
@@ -0,0 +1,20 @@
+package com.nooblol.global.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/** 검증된 Access Token의 내용, issuedAt과 expiresAt은 epoch millisecond이다. */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AccessTokenClaims {
+
+    private final String userId;
+
+    private final int userRole;
+
+    private final long issuedAt;
+
+    private final long expiresAt;
+}
@@ -0,0 +1,63 @@
+package com.nooblol.global.auth;
+
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Authorization Header의 Bearer Token을 검증하여 Request 속성에 저장한다. Token이 없거나 유효하지 않은 경우 로그인하지 않은
+ * 요청으로 처리하며, 로그인 여부는 AuthCheckAspect에서 SessionUtils로 확인한다.
+ *
+ * <p>Controller의 HttpSession 파라미터는 request.getSession()으로 Session을 만들기 때문에, Token 인증에서는 Session을
+ * 새로 만들지 않는 Request로 감싸서 전달한다. Session이 없는 경우 파라미터는 null이 되며, SessionUtils는 Token의 사용자를
+ * 먼저 확인한다.
+ */
+@RequiredArgsConstructor
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    public static final String CLAIMS_ATTRIBUTE = AccessTokenFilter.class.getName() + ".CLAIMS";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AccessTokenProvider accessTokenProvider;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            AccessTokenClaims claims =
+                    accessTokenProvider.verify(authorization.substring(BEARER_PREFIX.length()));
+            if (claims != null) {
+                request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+            }
+        }
+        filterChain.doFilter(new NoSessionCreationRequest(request), response);
+    }
+
+    /** 이미 있는 Session만 반환하고, 새로 만들지 않는다. */
+    private static class NoSessionCreationRequest extends HttpServletRequestWrapper {
+
+        NoSessionCreationRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return getSession(false);
+        }
+
+        @Override
+        public HttpSession getSession(boolean create) {
+            return super.getSession(false);
+        }
+    }
+}
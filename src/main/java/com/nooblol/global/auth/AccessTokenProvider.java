@@ -0,0 +1,232 @@
+package com.nooblol.global.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * auth.mode가 token인 경우 로그인시 발급하고 요청마다 검증하는 HMAC-SHA256 서명 Access Token
+ *
+ * <p>Token은 {@code keyId.payload.signature} 형식이며, payload에 userId, userRole, 발급시간, 만료시간을 담는다. 검증은
+ * 서명 비교(상수시간)와 만료시간 확인만 하므로 Session이나 Redis를 조회하지 않는다.
+ *
+ * <p>Key 교체시 새 Key를 auth.token.keys에 추가하고 active-key-id를 바꾸며, 이전 Key는 발급된 Token이 만료될 때까지(ttl) 남겨둔다.
+ *
+ * <p>정지, 삭제된 사용자는 서버 메모리의 폐기목록에 추가하여 그 이전에 발급된 Token을 거부한다. 폐기목록은 서버간 공유하지 않으므로 다른
+ * 서버에서는 Token이 만료될 때까지 사용될 수 있으며, ttl을 짧게 두어 그 기간을 제한한다.
+ */
+@Component
+public class AccessTokenProvider {
+
+    public static final String MODE_TOKEN = "token";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private static final String TOKEN_DELIMITER = ".";
+
+    private static final String PAYLOAD_DELIMITER = "\n";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final boolean enabled;
+
+    private final Map<String, ThreadLocal<Mac>> macByKeyId = new HashMap<>();
+
+    private final String activeKeyId;
+
+    private final long ttlMillis;
+
+    private final Clock clock;
+
+    // userId별 폐기시간, 이 시간 이전에 발급된 Token은 거부한다.
+    private final ConcurrentHashMap<String, Long> revokedAtByUserId = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AccessTokenProvider(
+            @Value("${auth.mode:session}") String mode,
+            @Value("${auth.token.keys:}") String keys,
+            @Value("${auth.token.active-key-id:}") String activeKeyId,
+            @Value("${auth.token.ttl-seconds:900}") long ttlSeconds) {
+        this(MODE_TOKEN.equals(mode), keys, activeKeyId, ttlSeconds * 1000, Clock.systemUTC());
+    }
+
+    AccessTokenProvider(
+            boolean enabled, String keys, String activeKeyId, long ttlMillis, Clock clock) {
+        this.enabled = enabled;
+        this.activeKeyId = activeKeyId;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        if (!enabled) {
+            return;
+        }
+
+        parseKeys(keys);
+        if (!macByKeyId.containsKey(activeKeyId)) {
+            throw new IllegalStateException("auth.token.active-key-id is not in auth.token.keys");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    public String issue(String userId, int userRole) {
+        long issuedAt = clock.millis();
+        String payload =
+                userId
+                        + PAYLOAD_DELIMITER
+                        + userRole
+                        + PAYLOAD_DELIMITER
+                        + issuedAt
+                        + PAYLOAD_DELIMITER
+                        + (issuedAt + ttlMillis);
+        String signingInput =
+                activeKeyId
+                        + TOKEN_DELIMITER
+                        + ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return signingInput
+                + TOKEN_DELIMITER
+                + ENCODER.encodeToString(sign(activeKeyId, signingInput));
+    }
+
+    /**
+     * 서명, 만료시간, 폐기여부를 확인한다.
+     *
+     * @param token
+     * @return 유효하지 않은 Token인 경우 null
+     */
+    public AccessTokenClaims verify(String token) {
+        if (!enabled || StringUtils.isBlank(token)) {
+            return null;
+        }
+
+        int signatureIndex = token.lastIndexOf(TOKEN_DELIMITER);
+        int payloadIndex = token.indexOf(TOKEN_DELIMITER);
+        if (payloadIndex <= 0 || signatureIndex <= payloadIndex) {
+            return null;
+        }
+
+        String keyId = token.substring(0, payloadIndex);
+        if (!macByKeyId.containsKey(keyId)) {
+            return null;
+        }
+
+        String signingInput = token.substring(0, signatureIndex);
+        try {
+            byte[] signature = DECODER.decode(token.substring(signatureIndex + 1));
+            if (!MessageDigest.isEqual(sign(keyId, signingInput), signature)) {
+                return null;
+            }
+
+            String payload =
+                    new String(
+                            DECODER.decode(token.substring(payloadIndex + 1, signatureIndex)),
+                            StandardCharsets.UTF_8);
+            String[] fields = payload.split(PAYLOAD_DELIMITER, -1);
+            if (fields.length != 4) {
+                return null;
+            }
+
+            AccessTokenClaims claims =
+                    AccessTokenClaims.builder()
+                            .userId(fields[0])
+                            .userRole(Integer.parseInt(fields[1]))
+                            .issuedAt(Long.parseLong(fields[2]))
+                            .expiresAt(Long.parseLong(fields[3]))
+                            .build();
+            if (claims.getExpiresAt() <= clock.millis() || isRevoked(claims)) {
+                return null;
+            }
+            return claims;
+        } catch (IllegalArgumentException e) {
+            // Base64, 숫자 형식이 잘못된 경우
+            return null;
+        }
+    }
+
+    /**
+     * 사용자에게 지금까지 발급된 Token을 모두 거부한다. 이후 다시 로그인하여 발급받은 Token은 사용할 수 있다.
+     *
+     * @param userId
+     */
+    public void revoke(String userId) {
+        if (!enabled) {
+            return;
+        }
+        revokedAtByUserId.put(userId, clock.millis());
+    }
+
+    /** 폐기 이후 ttl이 지나면 그 이전에 발급된 Token은 모두 만료되었으므로 폐기목록에서 제거한다. */
+    @Scheduled(fixedDelayString = "${auth.token.revoke-cleanup-interval-ms:60000}")
+    public void removeExpiredRevocation() {
+        long expiredBefore = clock.millis() - ttlMillis;
+        revokedAtByUserId.values().removeIf(revokedAt -> revokedAt < expiredBefore);
+    }
+
+    int getRevokedCount() {
+        return revokedAtByUserId.size();
+    }
+
+    private boolean isRevoked(AccessTokenClaims claims) {
+        Long revokedAt = revokedAtByUserId.get(claims.getUserId());
+        return revokedAt != null && claims.getIssuedAt() <= revokedAt;
+    }
+
+    private byte[] sign(String keyId, String signingInput) {
+        return macByKeyId.get(keyId).get().doFinal(signingInput.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * keyId:Base64 Secret 형식을 쉼표로 구분한 값을 읽는다. Mac은 Thread에 안전하지 않으므로 Thread마다 생성한다.
+     *
+     * @param keys
+     */
+    private void parseKeys(String keys) {
+        for (String key : StringUtils.split(StringUtils.defaultString(keys), ',')) {
+            String[] keyIdAndSecret = StringUtils.split(key.trim(), ':');
+            if (keyIdAndSecret.length != 2) {
+                throw new IllegalStateException("auth.token.keys must be keyId:base64Secret");
+            }
+
+            byte[] secret = Base64.getDecoder().decode(keyIdAndSecret[1]);
+            if (secret.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException(
+                        "auth.token.keys secret must be at least " + MIN_SECRET_BYTES + " bytes");
+            }
+
+            SecretKeySpec secretKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+            macByKeyId.put(
+                    keyIdAndSecret[0],
+                    ThreadLocal.withInitial(
+                            () -> {
+                                try {
+                                    Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                                    mac.init(secretKey);
+                                    return mac;
+                                } catch (GeneralSecurityException e) {
+                                    throw new IllegalStateException(e);
+                                }
+                            }));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.nooblol.global.cache;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 다른 서버가 발행한 무효화 메시지를 받아 현재 서버의 L1 Cache만 무효화한다.
+ *
+ * <p>Cache가 아닌 이름의 메시지는 같은 이름의 LocalInvalidationHandler에 전달한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    private final CacheManager cacheManager;
+
+    private final RedisSerializer<Object> serializer;
+
+    private final String originId;
+
+    private final List<LocalInvalidationHandler> localInvalidationHandlers;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body = serializer.deserialize(message.getBody());
+        if (!(body instanceof CacheInvalidationMessage)) {
+            log.warn("[CacheInvalidationListener] Unknown Message : " + body);
+            return;
+        }
+
+        CacheInvalidationMessage invalidationMessage = (CacheInvalidationMessage) body;
+        if (originId.equals(invalidationMessage.getOriginId())) {
+            return;
+        }
+
+        Cache cache = cacheManager.getCache(invalidationMessage.getCacheName());
+        if (!(cache instanceof TwoTierCache)) {
+            handleLocalInvalidation(invalidationMessage);
+            return;
+        }
+
+        TwoTierCache twoTierCache = (TwoTierCache) cache;
+        if (invalidationMessage.getKeys() != null) {
+            invalidationMessage.getKeys().forEach(twoTierCache::evictLocal);
+            return;
+        }
+        if (invalidationMessage.getKey() == null) {
+            twoTierCache.clearLocal();
+            return;
+        }
+        twoTierCache.evictLocal(invalidationMessage.getKey());
+    }
+
+    private void handleLocalInvalidation(CacheInvalidationMessage invalidationMessage) {
+        for (LocalInvalidationHandler handler : localInvalidationHandlers) {
+            if (!handler.getInvalidationName().equals(invalidationMessage.getCacheName())) {
+                continue;
+            }
+            if (invalidationMessage.getKeys() != null) {
+                invalidationMessage.getKeys().forEach(handler::onInvalidation);
+                continue;
+            }
+            handler.onInvalidation(invalidationMessage.getKey());
+        }
+    }
+}
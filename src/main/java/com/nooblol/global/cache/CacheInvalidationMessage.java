@@ -0,0 +1,30 @@
+package com.nooblol.global.cache;
+
+import java.io.Serializable;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 다른 서버의 L1 Cache 무효화 요청, key가 null인 경우 Cache 전체를 비운다.
+ *
+ * <p>여러 key를 한번에 무효화하는 경우 key 대신 keys를 사용한다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // 메시지를 발행한 서버, 자신이 발행한 메시지는 무시한다.
+    private String originId;
+    private String cacheName;
+    private Object key;
+    private List<Object> keys;
+}
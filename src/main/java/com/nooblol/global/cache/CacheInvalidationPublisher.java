@@ -0,0 +1,77 @@
+package com.nooblol.global.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/** Cache 변경시 Redis Pub/Sub으로 다른 서버에 L1 Cache 무효화 메시지를 발행한다. */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Getter private final String originId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 무효화 메시지 발행, 발행에 실패한 경우 다른 서버는 L1 만료시간까지 이전 값을 제공할 수 있으므로 로그만 남긴다.
+     *
+     * @param cacheName
+     * @param key null인 경우 Cache 전체 무효화
+     */
+    public void publish(String cacheName, Object key) {
+        CacheInvalidationMessage message =
+                CacheInvalidationMessage.builder()
+                        .originId(originId)
+                        .cacheName(cacheName)
+                        .key(key)
+                        .build();
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("[CacheInvalidationPublisher] Publish Fail : " + cacheName + ", " + key, e);
+        }
+    }
+
+    /**
+     * 여러 key의 무효화 메시지를 하나로 발행한다.
+     *
+     * @param cacheName
+     * @param keys
+     */
+    public void publishAll(String cacheName, Collection<?> keys) {
+        CacheInvalidationMessage message =
+                CacheInvalidationMessage.builder()
+                        .originId(originId)
+                        .cacheName(cacheName)
+                        .keys(new ArrayList<>(keys))
+                        .build();
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            log.warn(
+                    "[CacheInvalidationPublisher] Publish Fail : "
+                            + cacheName
+                            + ", size : "
+                            + keys.size(),
+                    e);
+        }
+    }
+
+    /**
+     * L2의 여러 key를 한번의 DEL로 삭제한다.
+     *
+     * @param redisKeys Prefix가 포함된 Redis key
+     */
+    public void deleteSharedKeys(Collection<String> redisKeys) {
+        redisTemplate.delete(redisKeys);
+    }
+}
@@ -0,0 +1,49 @@
+package com.nooblol.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * 애플리케이션에서 사용하는 Cache 목록과 설정
+ *
+ * <p>localTtl은 다른 서버의 무효화 메시지를 놓친 경우에도 오래된 값을 제공하는 최대 시간이 되므로 sharedTtl보다 짧게 둔다.
+ */
+@Getter
+public enum CacheType {
+    CATEGORY("category", 100, Duration.ofMinutes(10), Duration.ofHours(1)),
+    BBS("bbs", 1_000, Duration.ofMinutes(10), Duration.ofHours(1)),
+    ALL_BBS("allBbs", 10, Duration.ofMinutes(10), Duration.ofHours(1)),
+    // 게시물은 건수가 계속 늘어나므로 최대 건수를 크게 두고, 변경이 잦으므로 만료시간은 짧게 둔다.
+    ARTICLE("article", 10_000, Duration.ofMinutes(10), Duration.ofMinutes(30)),
+    LETTER_UNREAD_COUNT("letterUnreadCount", 10_000, Duration.ofMinutes(10), Duration.ofHours(1)),
+    USER_INFO("userInfo", 10_000, Duration.ofMinutes(10), Duration.ofHours(1)),
+    // 로그아웃을 놓친 서버가 오래 로그인 상태를 유지하지 않도록 L1은 짧게 두고, L2는 Session 만료시간(1시간)과 맞춘다. L2 없이는 사용하지 않는다.
+    SESSION("session", 10_000, Duration.ofMinutes(1), Duration.ofHours(1));
+
+    CacheType(String cacheName, long localMaximumSize, Duration localTtl, Duration sharedTtl) {
+        this.cacheName = cacheName;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+        this.sharedTtl = sharedTtl;
+    }
+
+    private final String cacheName;
+
+    private final long localMaximumSize;
+
+    private final Duration localTtl;
+
+    private final Duration sharedTtl;
+
+    public CaffeineCache buildLocalCache() {
+        return new CaffeineCache(
+                cacheName,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaximumSize)
+                        .expireAfterWrite(localTtl)
+                        .recordStats()
+                        .build());
+    }
+}
@@ -0,0 +1,19 @@
+package com.nooblol.global.cache;
+
+/**
+ * Cache가 아닌 서버 메모리의 자료구조를 무효화 채널로 다른 서버와 맞출 때 구현한다.
+ *
+ * <p>CacheInvalidationPublisher로 getInvalidationName()과 같은 이름의 메시지를 발행하면, 다른 서버의
+ * CacheInvalidationListener가 onInvalidation을 호출한다.
+ */
+public interface LocalInvalidationHandler {
+
+    String getInvalidationName();
+
+    /**
+     * 다른 서버가 발행한 무효화 메시지 처리, 현재 서버의 메모리만 변경하고 다시 발행하지 않아야 한다.
+     *
+     * @param key null인 경우 전체 무효화
+     */
+    void onInvalidation(Object key);
+}
@@ -0,0 +1,244 @@
+package com.nooblol.global.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nooblol.global.dto.CacheStatsDto;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.cache.RedisCache;
+
+/**
+ * 서버 내부의 Caffeine Cache(L1)와 서버간 공유되는 Cache(L2, Redis)를 차례로 조회하는 Cache
+ *
+ * <p>L1에 없는 경우 L2를 조회하여 L1을 채우고, 둘다 없는 경우에만 원본을 조회한다. 변경(evict, clear)은 L2, L1 순으로 반영한 뒤 다른 서버의 L1도
+ * 무효화하도록 메시지를 발행한다. L2에 장애가 있는 경우 L1과 원본만으로 동작한다.
+ *
+ * <p>shared, publisher가 null인 경우 L1만 사용한다.
+ */
+@Slf4j
+public class TwoTierCache implements Cache {
+
+    private final CaffeineCache local;
+
+    private final Cache shared;
+
+    private final CacheInvalidationPublisher publisher;
+
+    private final LongAdder sharedHitCount = new LongAdder();
+
+    private final LongAdder sharedMissCount = new LongAdder();
+
+    public TwoTierCache(CaffeineCache local, Cache shared, CacheInvalidationPublisher publisher) {
+        this.local = local;
+        this.shared = shared;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper localValue = local.get(key);
+        if (localValue != null) {
+            return localValue;
+        }
+
+        ValueWrapper sharedValue = getFromShared(key);
+        if (sharedValue != null) {
+            local.put(key, sharedValue.get());
+        }
+        return sharedValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+
+        Object result = value.get();
+        if (result != null && type != null && !type.isInstance(result)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + result);
+        }
+        return (T) result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return local.get(
+                key,
+                () -> {
+                    ValueWrapper sharedValue = getFromShared(key);
+                    if (sharedValue != null) {
+                        return (T) sharedValue.get();
+                    }
+
+                    T value = valueLoader.call();
+                    putToShared(key, value);
+                    return value;
+                });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        putToShared(key, value);
+        local.put(key, value);
+    }
+
+    /**
+     * 이미 저장된 값을 변경한다. L2를 비우지 않고 새 값으로 덮어쓴 뒤 다른 서버의 L1만 무효화하므로, 변경 중에도 다른 서버는 L2에서 값을
+     * 조회할 수 있다.
+     *
+     * @param key
+     * @param value
+     */
+    public void update(Object key, Object value) {
+        put(key, value);
+        publishInvalidation(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (shared != null) {
+            try {
+                shared.evict(key);
+            } catch (Exception e) {
+                log.warn("[TwoTierCache] Shared Evict Fail : " + getName() + ", " + key, e);
+            }
+        }
+        local.evict(key);
+        publishInvalidation(key);
+    }
+
+    /**
+     * 여러 key를 한번에 무효화한다. L2가 Redis인 경우 한번의 DEL로 삭제하고, 다른 서버에는 메시지를 하나만 발행한다.
+     *
+     * @param keys
+     */
+    public void evictAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        evictAllFromShared(keys);
+        keys.forEach(local::evict);
+        if (publisher != null) {
+            publisher.publishAll(getName(), keys);
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (shared != null) {
+            try {
+                shared.clear();
+            } catch (Exception e) {
+                log.warn("[TwoTierCache] Shared Clear Fail : " + getName(), e);
+            }
+        }
+        local.clear();
+        publishInvalidation(null);
+    }
+
+    /**
+     * 다른 서버의 무효화 메시지를 받은 경우 사용, L2는 메시지를 발행한 서버가 이미 반영하였으므로 L1만 무효화한다.
+     *
+     * @param key
+     */
+    public void evictLocal(Object key) {
+        local.evict(key);
+    }
+
+    public void clearLocal() {
+        local.clear();
+    }
+
+    public CacheStatsDto getStats() {
+        CacheStats localStats = local.getNativeCache().stats();
+        return CacheStatsDto.builder()
+                .cacheName(getName())
+                .localSize(local.getNativeCache().estimatedSize())
+                .localHitCount(localStats.hitCount())
+                .localMissCount(localStats.missCount())
+                .localHitRate(localStats.hitRate())
+                .localEvictionCount(localStats.evictionCount())
+                .sharedEnabled(shared != null)
+                .sharedHitCount(sharedHitCount.sum())
+                .sharedMissCount(sharedMissCount.sum())
+                .build();
+    }
+
+    private ValueWrapper getFromShared(Object key) {
+        if (shared == null) {
+            return null;
+        }
+
+        ValueWrapper sharedValue;
+        try {
+            sharedValue = shared.get(key);
+        } catch (Exception e) {
+            log.warn("[TwoTierCache] Shared Get Fail : " + getName() + ", " + key, e);
+            return null;
+        }
+
+        if (sharedValue == null) {
+            sharedMissCount.increment();
+        } else {
+            sharedHitCount.increment();
+        }
+        return sharedValue;
+    }
+
+    private void putToShared(Object key, Object value) {
+        if (shared == null) {
+            return;
+        }
+        try {
+            shared.put(key, value);
+        } catch (Exception e) {
+            log.warn("[TwoTierCache] Shared Put Fail : " + getName() + ", " + key, e);
+        }
+    }
+
+    private void evictAllFromShared(Collection<?> keys) {
+        if (shared == null) {
+            return;
+        }
+        try {
+            if (shared instanceof RedisCache && publisher != null) {
+                // RedisCache의 key는 Prefix(cacheName::)와 key의 문자열로 저장된다.
+                String keyPrefix =
+                        ((RedisCache) shared).getCacheConfiguration().getKeyPrefixFor(getName());
+                publisher.deleteSharedKeys(
+                        keys.stream().map(key -> keyPrefix + key).collect(Collectors.toList()));
+                return;
+            }
+            keys.forEach(shared::evict);
+        } catch (Exception e) {
+            log.warn(
+                    "[TwoTierCache] Shared Evict Fail : " + getName() + ", size : " + keys.size(),
+                    e);
+        }
+    }
+
+    private void publishInvalidation(Object key) {
+        if (publisher != null) {
+            publisher.publish(getName(), key);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.nooblol.global.config;
+
+import com.nooblol.global.auth.AccessTokenFilter;
+import com.nooblol.global.auth.AccessTokenProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/** auth.mode가 token인 경우 모든 요청의 Access Token을 검증하는 Filter를 등록한다. */
+@Configuration
+@ConditionalOnProperty(prefix = "auth", name = "mode", havingValue = AccessTokenProvider.MODE_TOKEN)
+public class AccessTokenConfig {
+
+    @Bean
+    public FilterRegistrationBean<AccessTokenFilter> accessTokenFilter(
+            AccessTokenProvider accessTokenProvider) {
+        FilterRegistrationBean<AccessTokenFilter> registration =
+                new FilterRegistrationBean<>(new AccessTokenFilter(accessTokenProvider));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -32,7 +32,7 @@ public class AuthCheckAspect {
         HttpSession session =
                 ((ServletRequestAttributes) (RequestContextHolder.currentRequestAttributes()))
                         .getRequest()
-                        .getSession();
+                        .getSession(false);
 
         if (Optional.ofNullable(SessionUtils.getSessionUserId(session)).isEmpty()) {
             throw new IllegalArgumentException(ExceptionMessage.UNAUTHORIZED);
@@ -51,7 +51,7 @@ public class AuthCheckAspect {
         HttpSession session =
                 ((ServletRequestAttributes) (RequestContextHolder.currentRequestAttributes()))
                         .getRequest()
-                        .getSession();
+                        .getSession(false);
 
         // 사용자 정보가 존재하지 않는 경우 GUEST로 설정
         Integer userRole =
@@ -43,7 +43,7 @@ public class LetterTypeCheckAspect {
         HttpSession session =
                 ((ServletRequestAttributes) (RequestContextHolder.currentRequestAttributes()))
                         .getRequest()
-                        .getSession();
+                        .getSession(false);
 
         return SessionUtils.getSessionUserId(session);
     }
@@ -1,25 +1,33 @@
 package com.nooblol.global.config;
 
-import java.util.List;
+import com.nooblol.global.cache.CacheType;
+import com.nooblol.global.cache.TwoTierCache;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/** cache.redis.enabled가 true가 아닌 경우 서버 내부 Cache(L1)만 사용한다. Redis를 사용하는 경우는 RedisCacheConfig를 참고 */
 @Configuration
 @EnableCaching
 public class LocalCacheConfig {
 
     @Bean
+    @ConditionalOnProperty(
+            prefix = "cache.redis",
+            name = "enabled",
+            havingValue = "false",
+            matchIfMissing = true)
     public CacheManager cacheManager() {
         SimpleCacheManager simpleCacheManager = new SimpleCacheManager();
         simpleCacheManager.setCaches(
-                List.of(
-                        new ConcurrentMapCache("category"),
-                        new ConcurrentMapCache("bbs"),
-                        new ConcurrentMapCache("allBbs")));
+                Arrays.stream(CacheType.values())
+                        .map(cacheType -> new TwoTierCache(cacheType.buildLocalCache(), null, null))
+                        .collect(Collectors.toList()));
         return simpleCacheManager;
     }
 }
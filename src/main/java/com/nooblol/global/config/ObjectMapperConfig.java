@@ -3,6 +3,7 @@ package com.nooblol.global.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
@@ -13,6 +14,9 @@ public class ObjectMapperConfig {
     /**
      * ObjectMapper Custom, Parameter 전부 없어도 변환 가능하도록, DateTime의 경우 JavaTimeModule로 변환하도록
      *
+     * <p>BlackbirdModule은 Getter, Setter 호출을 Reflection 대신 LambdaMetafactory로 생성한 함수로 대체하여, 전적 리스트처럼 필드가
+     * 많은 DTO의 직렬화 비용을 줄인다.
+     *
      * @return
      */
     @Bean("objectMapper")
@@ -20,7 +24,7 @@ public class ObjectMapperConfig {
         return Jackson2ObjectMapperBuilder.json()
                 .featuresToDisable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
                 .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-                .modules(new JavaTimeModule())
+                .modules(new JavaTimeModule(), new BlackbirdModule())
                 .build();
     }
 }
@@ -0,0 +1,98 @@
+package com.nooblol.global.config;
+
+import com.nooblol.global.cache.CacheInvalidationListener;
+import com.nooblol.global.cache.CacheInvalidationPublisher;
+import com.nooblol.global.cache.CacheType;
+import com.nooblol.global.cache.LocalInvalidationHandler;
+import com.nooblol.global.cache.TwoTierCache;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * cache.redis.enabled가 true인 경우 L1(Caffeine), L2(Redis) 2단계 Cache를 사용한다.
+ *
+ * <p>서버가 여러대인 경우 한 서버의 변경이 다른 서버의 L1에 남지 않도록, 변경시 Redis Pub/Sub으로 무효화 메시지를 주고받는다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "cache.redis", name = "enabled", havingValue = "true")
+public class RedisCacheConfig {
+
+    private final RedisSerializer<Object> cacheSerializer = new JdkSerializationRedisSerializer();
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(
+            RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(cacheSerializer);
+        redisTemplate.afterPropertiesSet();
+        return new CacheInvalidationPublisher(redisTemplate);
+    }
+
+    @Bean
+    public CacheManager cacheManager(
+            RedisConnectionFactory redisConnectionFactory,
+            CacheInvalidationPublisher cacheInvalidationPublisher) {
+        Map<String, RedisCacheConfiguration> sharedCacheConfigurations = new HashMap<>();
+        for (CacheType cacheType : CacheType.values()) {
+            sharedCacheConfigurations.put(
+                    cacheType.getCacheName(),
+                    RedisCacheConfiguration.defaultCacheConfig()
+                            .entryTtl(cacheType.getSharedTtl()));
+        }
+        RedisCacheManager redisCacheManager =
+                RedisCacheManager.builder(redisConnectionFactory)
+                        .withInitialCacheConfigurations(sharedCacheConfigurations)
+                        .build();
+        redisCacheManager.afterPropertiesSet();
+
+        SimpleCacheManager simpleCacheManager = new SimpleCacheManager();
+        simpleCacheManager.setCaches(
+                Arrays.stream(CacheType.values())
+                        .map(
+                                cacheType ->
+                                        new TwoTierCache(
+                                                cacheType.buildLocalCache(),
+                                                redisCacheManager.getCache(
+                                                        cacheType.getCacheName()),
+                                                cacheInvalidationPublisher))
+                        .collect(Collectors.toList()));
+        return simpleCacheManager;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            CacheManager cacheManager,
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            ObjectProvider<LocalInvalidationHandler> localInvalidationHandlers) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                new CacheInvalidationListener(
+                        cacheManager,
+                        cacheSerializer,
+                        cacheInvalidationPublisher.getOriginId(),
+                        localInvalidationHandlers.orderedStream().collect(Collectors.toList())),
+                new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,40 @@
+package com.nooblol.global.config;
+
+import com.nooblol.global.cache.CacheType;
+import com.nooblol.global.cache.TwoTierCache;
+import com.nooblol.global.session.CacheSessionRepository;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+/**
+ * session.redis.enabled가 true인 경우 Tomcat의 HttpSession 대신 CacheSessionRepository에 Session을 저장한다.
+ *
+ * <p>cache.redis.enabled도 true여야 한다. false인 경우 Session이 L1 Cache에만 남는데, L1은 만료시간이 짧고 최대 건수가 있어 사용중인 Session이
+ * 사라지므로 시작시 실패하도록 한다.
+ */
+@Configuration
+@EnableSpringHttpSession
+@ConditionalOnProperty(prefix = "session.redis", name = "enabled", havingValue = "true")
+public class SessionConfig {
+
+    @Bean
+    public CacheSessionRepository sessionRepository(
+            CacheManager cacheManager,
+            @Value("${cache.redis.enabled:false}") boolean cacheRedisEnabled,
+            @Value("${server.servlet.session.timeout:3600}") long sessionTimeoutSeconds,
+            @Value("${session.redis.touch-interval-seconds:60}") long touchIntervalSeconds) {
+        if (!cacheRedisEnabled) {
+            throw new IllegalStateException(
+                    "session.redis.enabled requires cache.redis.enabled=true");
+        }
+        return new CacheSessionRepository(
+                (TwoTierCache) cacheManager.getCache(CacheType.SESSION.getCacheName()),
+                Duration.ofSeconds(sessionTimeoutSeconds),
+                Duration.ofSeconds(touchIntervalSeconds));
+    }
+}
@@ -0,0 +1,41 @@
+package com.nooblol.global.controller;
+
+import com.nooblol.global.annotation.UserRoleIsAdminCehck;
+import com.nooblol.global.cache.TwoTierCache;
+import com.nooblol.global.dto.CacheStatsDto;
+import com.nooblol.global.dto.ResponseDto;
+import com.nooblol.global.utils.ResponseUtils;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/cache")
+@RequiredArgsConstructor
+public class CacheAdminController {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 관리자 권한으로, Cache별 L1, L2 적중률 등의 통계를 조회한다.
+     *
+     * @return
+     */
+    @UserRoleIsAdminCehck
+    @GetMapping("/stats")
+    public ResponseDto getCacheStats() {
+        List<CacheStatsDto> cacheStatsList =
+                cacheManager.getCacheNames().stream()
+                        .map(cacheManager::getCache)
+                        .filter(Objects::nonNull)
+                        .filter(cache -> cache instanceof TwoTierCache)
+                        .map(cache -> ((TwoTierCache) cache).getStats())
+                        .collect(Collectors.toList());
+        return ResponseUtils.makeListToResponseDto(cacheStatsList);
+    }
+}
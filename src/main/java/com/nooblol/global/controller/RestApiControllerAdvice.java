@@ -1,12 +1,17 @@
 package com.nooblol.global.controller;
 
-import com.nooblol.global.dto.ResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nooblol.global.exception.ExceptionMessage;
 import com.nooblol.global.utils.ResponseEnum;
+import java.util.EnumMap;
+import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.util.ObjectUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -22,8 +27,22 @@ public class RestApiControllerAdvice {
 
     private final Logger log = LoggerFactory.getLogger(getClass());
 
+    // 오류 응답은 값이 바뀌지 않으므로 설정된 ObjectMapper로 시작시 한번만 직렬화한다. 응답에 그대로 사용하므로 수정하지 않는다.
+    private final Map<ResponseEnum, byte[]> responseBodyMap = new EnumMap<>(ResponseEnum.class);
+
+    public RestApiControllerAdvice(ObjectMapper objectMapper) {
+        for (ResponseEnum responseEnum : ResponseEnum.values()) {
+            try {
+                responseBodyMap.put(
+                        responseEnum, objectMapper.writeValueAsBytes(responseEnum.getResponse()));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
     @ExceptionHandler({ConstraintViolationException.class})
-    public ResponseDto constraintViolationException(
+    public ResponseEntity<byte[]> constraintViolationException(
             ConstraintViolationException e, HttpServletRequest request) {
         if (!ObjectUtils.isEmpty(e)) {
             e.getConstraintViolations()
@@ -44,11 +63,11 @@ public class RestApiControllerAdvice {
                             });
             log.warn("Exception Trace : ", e);
         }
-        return ResponseEnum.BAD_REQUEST.getResponse();
+        return toResponseEntity(ResponseEnum.BAD_REQUEST);
     }
 
     @ExceptionHandler({IllegalArgumentException.class})
-    public ResponseDto illegalArgumentException(
+    public ResponseEntity<byte[]> illegalArgumentException(
             IllegalArgumentException e, HttpServletRequest request) {
         if (!ObjectUtils.isEmpty(e)) {
             log.warn(
@@ -62,26 +81,24 @@ public class RestApiControllerAdvice {
         switch (e.getMessage()) {
             case ExceptionMessage.NO_DATA:
             case ExceptionMessage.NOT_FOUND:
-                return ResponseEnum.NOT_FOUND.getResponse();
+                return toResponseEntity(ResponseEnum.NOT_FOUND);
 
             case ExceptionMessage.SERVER_ERROR:
-                return ResponseEnum.INTERNAL_SERVER_ERROR.getResponse();
+                return toResponseEntity(ResponseEnum.INTERNAL_SERVER_ERROR);
 
             case ExceptionMessage.HAVE_DATA:
-                ResponseDto rtn = ResponseEnum.CONFLICT.getResponse();
-                rtn.setResult("이미 존재하는 데이터 입니다");
-                return rtn;
+                return toResponseEntity(ResponseEnum.CONFLICT);
 
             case ExceptionMessage.UNAUTHORIZED:
-                return ResponseEnum.UNAUTHORIZED.getResponse();
+                return toResponseEntity(ResponseEnum.UNAUTHORIZED);
 
             default:
-                return ResponseEnum.BAD_REQUEST.getResponse();
+                return toResponseEntity(ResponseEnum.BAD_REQUEST);
         }
     }
 
     @ExceptionHandler({MethodArgumentNotValidException.class})
-    public ResponseDto methodValidException(
+    public ResponseEntity<byte[]> methodValidException(
             MethodArgumentNotValidException e, HttpServletRequest request) {
         if (!ObjectUtils.isEmpty(e.getBindingResult())) {
             BindingResult br = e.getBindingResult();
@@ -101,14 +118,14 @@ public class RestApiControllerAdvice {
             log.info("[MethodArgumentNotValidException] : " + ", ErrorStack : " + e.getStackTrace());
         }
 
-        return ResponseEnum.BAD_REQUEST.getResponse();
+        return toResponseEntity(ResponseEnum.BAD_REQUEST);
     }
 
     // PathVariable의 파라미터가 없는경우 해당 Exception이 실행 된다.
     @ExceptionHandler({NoHandlerFoundException.class})
-    public ResponseDto noHandlerFoundExceptionHandling(NoHandlerFoundException e) {
+    public ResponseEntity<byte[]> noHandlerFoundExceptionHandling(NoHandlerFoundException e) {
         log.warn("[NoHandlerFoundExceptionHandling]", e);
-        return ResponseEnum.BAD_REQUEST.getResponse();
+        return toResponseEntity(ResponseEnum.BAD_REQUEST);
     }
 
     /**
@@ -119,8 +136,21 @@ public class RestApiControllerAdvice {
      * @return
      */
     @ExceptionHandler({HttpRequestMethodNotSupportedException.class})
-    public ResponseDto methodNotAllowedExceptionHandling(HttpRequestMethodNotSupportedException e) {
+    public ResponseEntity<byte[]> methodNotAllowedExceptionHandling(
+            HttpRequestMethodNotSupportedException e) {
         log.warn("[HttpRequestMethodNotSupportedException]", e);
-        return ResponseEnum.BAD_REQUEST.getResponse();
+        return toResponseEntity(ResponseEnum.BAD_REQUEST);
+    }
+
+    /**
+     * 미리 직렬화한 오류 응답을 ObjectMapper를 거치지 않고 그대로 응답한다.
+     *
+     * @param responseEnum
+     * @return
+     */
+    private ResponseEntity<byte[]> toResponseEntity(ResponseEnum responseEnum) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(responseBodyMap.get(responseEnum));
     }
 }
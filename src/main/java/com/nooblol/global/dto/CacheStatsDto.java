@@ -0,0 +1,26 @@
+package com.nooblol.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** Cache별 L1(local), L2(shared) 조회 통계 */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDto {
+
+    private String cacheName;
+    private long localSize;
+    private long localHitCount;
+    private long localMissCount;
+    private double localHitRate;
+    private long localEvictionCount;
+    private boolean sharedEnabled;
+    private long sharedHitCount;
+    private long sharedMissCount;
+}
@@ -0,0 +1,17 @@
+package com.nooblol.global.mapper;
+
+import java.time.LocalDateTime;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ScheduledJobLockMapper {
+
+    int insertJobLockIfAbsent(@Param("jobName") String jobName);
+
+    int claimJobLock(
+            @Param("jobName") String jobName,
+            @Param("lockedBy") String lockedBy,
+            @Param("now") LocalDateTime now,
+            @Param("lockedUntil") LocalDateTime lockedUntil);
+}
@@ -0,0 +1,199 @@
+package com.nooblol.global.session;
+
+import com.nooblol.global.cache.TwoTierCache;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+/**
+ * Session을 Cache에 저장하는 SessionRepository, RedisCacheConfig의 TwoTierCache를 사용하면 서버내부 L1에서 Session을
+ * 조회하므로 요청마다 Redis를 조회하지 않으며, 여러 서버가 L2(Redis)로 로그인 정보를 공유한다.
+ *
+ * <p>로그인, 로그아웃처럼 속성이 변경된 경우에만 Session 전체를 저장하고, 다른 서버의 L1도 무효화한다. 속성 변경없이 마지막
+ * 접근시간만 바뀐 경우에는 touchInterval이 지난 경우에만 저장하므로, Session은 설정된 만료시간보다 최대 touchInterval만큼 일찍
+ * 만료될 수 있다.
+ *
+ * <p>Cache에는 복사본을 저장하고 조회할 때도 복사본을 반환하여, 동시에 처리중인 요청끼리 같은 Session 객체를 변경하지 않도록 한다.
+ */
+public class CacheSessionRepository
+        implements SessionRepository<CacheSessionRepository.CacheSession> {
+
+    private final TwoTierCache cache;
+
+    private final Duration defaultMaxInactiveInterval;
+
+    private final Duration touchInterval;
+
+    public CacheSessionRepository(
+            TwoTierCache cache, Duration defaultMaxInactiveInterval, Duration touchInterval) {
+        this.cache = cache;
+        this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+        this.touchInterval = touchInterval;
+    }
+
+    @Override
+    public CacheSession createSession() {
+        MapSession session = new MapSession();
+        session.setMaxInactiveInterval(defaultMaxInactiveInterval);
+        return new CacheSession(session, true);
+    }
+
+    @Override
+    public void save(CacheSession session) {
+        if (!session.getId().equals(session.originalId)) {
+            cache.evict(session.originalId);
+            session.changed = true;
+        }
+
+        if (session.isNew) {
+            cache.put(session.getId(), new MapSession(session.delegate));
+            session.markSaved();
+            return;
+        }
+
+        if (session.changed) {
+            // L2를 비우면 그 사이 다른 서버의 요청이 Session을 찾지 못해 새 Session을 발급하므로, 새 값으로 덮어쓴 뒤 다른 서버의 L1만
+            // 무효화한다.
+            cache.update(session.getId(), new MapSession(session.delegate));
+            session.markSaved();
+            return;
+        }
+
+        if (isTouchRequired(session)) {
+            touch(session);
+            session.markSaved();
+        }
+    }
+
+    @Override
+    public CacheSession findById(String id) {
+        MapSession savedSession = cache.get(id, MapSession.class);
+        if (savedSession == null) {
+            return null;
+        }
+        if (savedSession.isExpired()) {
+            deleteById(id);
+            return null;
+        }
+        return new CacheSession(new MapSession(savedSession), false);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        cache.evict(id);
+    }
+
+    private boolean isTouchRequired(CacheSession session) {
+        return Duration.between(session.savedLastAccessedTime, session.getLastAccessedTime())
+                        .compareTo(touchInterval)
+                >= 0;
+    }
+
+    /**
+     * 마지막 접근시간만 갱신한다. 같은 Session의 다른 요청이 먼저 속성을 변경한 경우 덮어쓰지 않도록, 저장된 Session을 다시 조회하여
+     * 접근시간만 변경한다.
+     */
+    private void touch(CacheSession session) {
+        MapSession savedSession = cache.get(session.getId(), MapSession.class);
+        if (savedSession == null) {
+            return;
+        }
+        MapSession touchedSession = new MapSession(savedSession);
+        touchedSession.setLastAccessedTime(session.getLastAccessedTime());
+        cache.put(session.getId(), touchedSession);
+    }
+
+    /** 속성 변경 여부와 마지막으로 저장한 접근시간을 기록하는 Session */
+    public static final class CacheSession implements Session {
+
+        private final MapSession delegate;
+
+        private boolean isNew;
+
+        private boolean changed;
+
+        private String originalId;
+
+        private Instant savedLastAccessedTime;
+
+        CacheSession(MapSession delegate, boolean isNew) {
+            this.delegate = delegate;
+            this.isNew = isNew;
+            this.originalId = delegate.getId();
+            this.savedLastAccessedTime = delegate.getLastAccessedTime();
+        }
+
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return delegate.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return delegate.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return delegate.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            delegate.setAttribute(attributeName, attributeValue);
+            changed = true;
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            delegate.removeAttribute(attributeName);
+            changed = true;
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return delegate.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            delegate.setLastAccessedTime(lastAccessedTime);
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return delegate.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            delegate.setMaxInactiveInterval(interval);
+            changed = true;
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return delegate.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return delegate.isExpired();
+        }
+
+        private void markSaved() {
+            isNew = false;
+            changed = false;
+            originalId = delegate.getId();
+            savedLastAccessedTime = delegate.getLastAccessedTime();
+        }
+    }
+}
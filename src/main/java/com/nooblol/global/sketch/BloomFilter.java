@@ -0,0 +1,84 @@
+package com.nooblol.global.sketch;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 값이 포함되어 있는지를 고정된 크기의 bit 배열로 확인하는 Bloom Filter
+ *
+ * <p>mightContain이 false인 값은 추가된 적이 없는 값이며, true인 값은 falsePositiveRate의 확률로 추가되지 않은 값일 수 있다.
+ * 값을 제거할 수 없으므로, 삭제가 필요한 경우 새 Filter를 만들어 다시 적재한다.
+ *
+ * <p>bit 배열은 AtomicLongArray로 Lock 없이 변경하며, 추가와 조회가 동시에 진행되어도 추가가 끝난 값은 항상 true를 반환한다.
+ */
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    /**
+     * expectedInsertions개를 추가했을 때 오탐률이 falsePositiveRate가 되도록 bit 배열과 Hash 개수를 정한다.
+     *
+     * @param expectedInsertions
+     * @param falsePositiveRate 0보다 크고 1보다 작은 값
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException(
+                    "Invalid BloomFilter Size : "
+                            + expectedInsertions
+                            + ", "
+                            + falsePositiveRate);
+        }
+
+        long optimalBitCount =
+                (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBitCount + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * Long.SIZE;
+        this.hashCount =
+                Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * LN2));
+    }
+
+    public void put(String value) {
+        long hash1 = SketchHash.hash64(value);
+        long hash2 = SketchHash.fmix64(hash1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, bitCount);
+            setBit(bitIndex);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = SketchHash.hash64(value);
+        long hash2 = SketchHash.fmix64(hash1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private void setBit(long bitIndex) {
+        int wordIndex = (int) (bitIndex >>> 6);
+        long mask = 1L << bitIndex;
+        long word = words.get(wordIndex);
+        while ((word & mask) == 0 && !words.compareAndSet(wordIndex, word, word | mask)) {
+            word = words.get(wordIndex);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.nooblol.global.sketch;
+
+import java.nio.charset.StandardCharsets;
+
+/** Sketch 자료구조에서 공통으로 사용하는 64bit Hash */
+final class SketchHash {
+
+    private SketchHash() {}
+
+    /**
+     * UTF-8 byte에 대한 FNV-1a 64bit Hash에 MurmurHash3의 fmix64를 적용하여, 상위 bit까지 고르게 분포하도록 한다.
+     *
+     * @param value
+     * @return
+     */
+    static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return fmix64(hash);
+    }
+
+    static long fmix64(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,19 @@
+package com.nooblol.global.utils;
+
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+
+public class RequestUtils {
+
+    private RequestUtils() {}
+
+    /**
+     * 로그인하지 않은 사용자를 구분하기 위한 Client 정보, 접속 IP와 User-Agent를 조합한다.
+     *
+     * @param request
+     * @return
+     */
+    public static String getClientFingerprint(HttpServletRequest request) {
+        return request.getRemoteAddr() + "|" + request.getHeader(HttpHeaders.USER_AGENT);
+    }
+}
@@ -4,6 +4,7 @@ import com.nooblol.global.dto.ResponseDto;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
+/** 고정된 응답값, getResponse는 호출할 때마다 새 ResponseDto를 반환하므로 result를 변경해도 다른 요청에 영향이 없다. */
 @Getter
 public enum ResponseEnum {
     BAD_REQUEST(HttpStatus.BAD_REQUEST.value(), HttpStatus.BAD_REQUEST),
@@ -16,12 +17,19 @@ public enum ResponseEnum {
 
     OK(HttpStatus.OK.value(), null),
 
-    CONFLICT(HttpStatus.CONFLICT.value(), null);
+    CONFLICT(HttpStatus.CONFLICT.value(), "이미 존재하는 데이터 입니다");
 
-    ResponseDto response;
+    private final int resultCode;
 
-    <T> ResponseEnum(int resultCode, T result) {
-        this.response = new ResponseDto(resultCode, result);
+    private final Object result;
+
+    ResponseEnum(int resultCode, Object result) {
+        this.resultCode = resultCode;
+        this.result = result;
+    }
+
+    public ResponseDto getResponse() {
+        return new ResponseDto(resultCode, result);
     }
 
     public static ResponseDto getResponseOkDto(Object result) {
@@ -1,15 +1,28 @@
 package com.nooblol.global.utils;
 
+import com.nooblol.global.auth.AccessTokenClaims;
+import com.nooblol.global.auth.AccessTokenFilter;
 import com.nooblol.user.dto.UserDto;
 import javax.servlet.http.HttpSession;
 import org.springframework.util.ObjectUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 public class SessionUtils {
 
     private SessionUtils() {}
 
+    /*
+     * auth.mode가 token인 경우 AccessTokenFilter가 검증한 Token의 사용자를 먼저 확인하며, Token이 없는 경우 Session의 사용자를
+     * 확인한다.
+     */
     public static String getSessionUserId(HttpSession session) {
-        UserDto userAttribute = (UserDto) session.getAttribute(SessionEnum.USER_LOGIN.getValue());
+        AccessTokenClaims claims = getRequestTokenClaims();
+        if (claims != null) {
+            return claims.getUserId();
+        }
+
+        UserDto userAttribute = getSessionUser(session);
         if (ObjectUtils.isEmpty(userAttribute)) {
             return null;
         }
@@ -17,10 +30,38 @@ public class SessionUtils {
     }
 
     public static Integer getSessionUserRole(HttpSession session) {
-        UserDto userAttribute = (UserDto) session.getAttribute(SessionEnum.USER_LOGIN.getValue());
+        AccessTokenClaims claims = getRequestTokenClaims();
+        if (claims != null) {
+            return claims.getUserRole();
+        }
+
+        UserDto userAttribute = getSessionUser(session);
         if (ObjectUtils.isEmpty(userAttribute)) {
             return null;
         }
         return userAttribute.getUserRole();
     }
+
+    /**
+     * Session이 없는 경우 null을 반환한다.
+     *
+     * @param session 로그인 확인만 하는 경우 Session을 새로 만들지 않도록 request.getSession(false)의 결과를 전달한다.
+     * @return
+     */
+    private static UserDto getSessionUser(HttpSession session) {
+        if (session == null) {
+            return null;
+        }
+        return (UserDto) session.getAttribute(SessionEnum.USER_LOGIN.getValue());
+    }
+
+    private static AccessTokenClaims getRequestTokenClaims() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+        return (AccessTokenClaims)
+                requestAttributes.getAttribute(
+                        AccessTokenFilter.CLAIMS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
 }
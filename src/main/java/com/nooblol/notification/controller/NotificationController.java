@@ -0,0 +1,34 @@
+package com.nooblol.notification.controller;
+
+import com.nooblol.global.annotation.UserLoginCheck;
+import com.nooblol.global.utils.SessionUtils;
+import com.nooblol.notification.support.NotificationHub;
+import javax.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/notification")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationHub notificationHub;
+
+    /**
+     * 로그인한 사용자의 실시간 알림(쪽지 수신, 내 게시물의 댓글, 추천)을 SSE로 구독한다.
+     *
+     * <p>연결은 사용자당 하나만 유지되며, 연결이 만료되거나 끊어진 경우 Client가 다시 구독한다.
+     *
+     * @param session
+     * @return
+     */
+    @UserLoginCheck
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(HttpSession session) {
+        return notificationHub.subscribe(SessionUtils.getSessionUserId(session));
+    }
+}
@@ -0,0 +1,26 @@
+package com.nooblol.notification.dto;
+
+import com.nooblol.notification.utils.NotificationType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 실시간 알림 내용, targetId는 LETTER인 경우 쪽지 ID, REPLY와 LIKE인 경우 게시물 ID이다. */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDto {
+
+    private NotificationType type;
+
+    private int targetId;
+
+    private String actorUserId;
+
+    private LocalDateTime createdAt;
+}
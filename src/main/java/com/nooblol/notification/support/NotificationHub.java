@@ -0,0 +1,324 @@
+package com.nooblol.notification.support;
+
+import com.nooblol.notification.dto.NotificationDto;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * 로그인한 사용자별 SSE 연결을 관리하고 알림을 전달한다.
+ *
+ * <p>SseEmitter는 Servlet 비동기 처리로 응답하므로 연결을 유지하는 동안 요청 Thread를 점유하지 않는다. 알림은 사용자별로
+ * bufferSize 크기의 Queue에 넣고 소수의 전송 Thread가 Queue를 비우며, 느린 Client의 Queue가 가득 찬 경우 가장 오래된 알림부터
+ * 버린다. 사용자당 연결은 하나만 유지하며, 새로 연결하면 기존 연결은 종료한다.
+ *
+ * <p>전송 Thread는 고정된 수이므로, 한 Event의 전송이 writeTimeoutMs를 넘긴 연결은 종료하고 목록에서 제거하여 다른 사용자의
+ * 알림이 계속 밀리지 않도록 한다.
+ *
+ * <p>Proxy나 Load Balancer가 유휴 연결을 끊지 않도록 보낼 알림이 없는 연결에는 주기적으로 Heartbeat Comment를 보낸다.
+ */
+@Slf4j
+@Component
+public class NotificationHub implements DisposableBean {
+
+    private static final String CONNECT_EVENT_NAME = "CONNECT";
+
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final ConcurrentHashMap<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+    private final Executor sendExecutor;
+
+    private final int bufferSize;
+
+    private final long emitterTimeoutMs;
+
+    private final long writeTimeoutMs;
+
+    private final LongSupplier currentTimeMillis;
+
+    @Autowired
+    public NotificationHub(
+            @Value("${notification.send-thread-count:4}") int sendThreadCount,
+            @Value("${notification.buffer-size:100}") int bufferSize,
+            @Value("${notification.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${notification.write-timeout-ms:10000}") long writeTimeoutMs) {
+        this(
+                createSendExecutor(sendThreadCount),
+                bufferSize,
+                emitterTimeoutMs,
+                writeTimeoutMs,
+                System::currentTimeMillis);
+    }
+
+    NotificationHub(
+            Executor sendExecutor,
+            int bufferSize,
+            long emitterTimeoutMs,
+            long writeTimeoutMs,
+            LongSupplier currentTimeMillis) {
+        this.sendExecutor = sendExecutor;
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.writeTimeoutMs = writeTimeoutMs;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    public SseEmitter subscribe(String userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(userId, subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(userId, subscriber));
+
+        Subscriber previous = subscribers.put(userId, subscriber);
+        if (previous != null) {
+            previous.getEmitter().complete();
+        }
+
+        // 연결 직후 응답 Header가 전송되도록 첫 Event를 보낸다.
+        subscriber.offer(SseEmitter.event().name(CONNECT_EVENT_NAME).data(userId));
+        scheduleSend(subscriber);
+        return emitter;
+    }
+
+    /**
+     * 연결중인 사용자에게 알림을 보낸다. Transaction 안에서 호출된 경우 Commit 이후에 보내므로, Rollback된 변경은 알리지 않는다.
+     *
+     * @param userId
+     * @param notification
+     */
+    public void publish(String userId, NotificationDto notification) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            send(userId, notification);
+                        }
+                    });
+            return;
+        }
+        send(userId, notification);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.offerIfIdle(SseEmitter.event().comment(HEARTBEAT_COMMENT))) {
+                scheduleSend(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 전송이 writeTimeoutMs를 넘긴 연결을 종료한다. 전송중인 Thread는 Servlet Container의 Write Timeout으로 풀리며, 종료된
+     * 연결에는 더이상 전송 작업을 등록하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${notification.write-timeout-ms:10000}")
+    public void dropStalledSubscribers() {
+        long now = currentTimeMillis.getAsLong();
+        for (Subscriber subscriber : subscribers.values()) {
+            if (!subscriber.isWriteStalled(now, writeTimeoutMs)) {
+                continue;
+            }
+            log.debug(
+                    "[NotificationHub] Write Timeout, Subscriber Dropped : "
+                            + subscriber.getUserId());
+            subscribers.remove(subscriber.getUserId(), subscriber);
+            subscriber.getEmitter().complete();
+        }
+    }
+
+    /** 현재 서버에 연결중인 사용자가 없는 경우, 알림 대상을 조회하지 않도록 먼저 확인한다. */
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 아직 전송되지 않은 알림수
+     *
+     * @param userId
+     * @return 연결중이 아닌 경우 0
+     */
+    int getPendingCount(String userId) {
+        return Optional.ofNullable(subscribers.get(userId))
+                .map(Subscriber::getPendingCount)
+                .orElse(0);
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.values().forEach(subscriber -> subscriber.getEmitter().complete());
+        subscribers.clear();
+        if (sendExecutor instanceof ExecutorService) {
+            ((ExecutorService) sendExecutor).shutdown();
+        }
+    }
+
+    private void send(String userId, NotificationDto notification) {
+        Subscriber subscriber = subscribers.get(userId);
+        if (subscriber == null) {
+            return;
+        }
+
+        SseEventBuilder event =
+                SseEmitter.event()
+                        .name(notification.getType().name())
+                        .data(notification, MediaType.APPLICATION_JSON);
+        if (subscriber.offer(event)) {
+            log.debug("[NotificationHub] Buffer Full, Oldest Notification Dropped : " + userId);
+        }
+        scheduleSend(subscriber);
+    }
+
+    /** 사용자별로 한 Thread만 전송하도록, 전송중이 아닌 경우에만 전송 작업을 등록한다. */
+    private void scheduleSend(Subscriber subscriber) {
+        if (!subscriber.startSending()) {
+            return;
+        }
+        try {
+            sendExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.finishSending();
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEventBuilder event;
+            while ((event = subscriber.poll()) != null) {
+                subscriber.startWrite(currentTimeMillis.getAsLong());
+                subscriber.getEmitter().send(event);
+                subscriber.finishWrite();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client가 연결을 끊은 경우, 연결 종료는 Servlet Container가 처리한다.
+            log.debug("[NotificationHub] Send Fail : " + subscriber.getUserId());
+            subscribers.remove(subscriber.getUserId(), subscriber);
+            return;
+        } finally {
+            subscriber.finishWrite();
+            subscriber.finishSending();
+        }
+
+        // 전송을 마치는 사이에 추가된 알림이 있는 경우
+        if (subscriber.getPendingCount() > 0) {
+            scheduleSend(subscriber);
+        }
+    }
+
+    private static Executor createSendExecutor(int sendThreadCount) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(
+                sendThreadCount,
+                runnable -> {
+                    Thread thread =
+                            new Thread(
+                                    runnable,
+                                    "notification-send-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private static class Subscriber {
+
+        private final String userId;
+
+        private final SseEmitter emitter;
+
+        private final ArrayBlockingQueue<SseEventBuilder> queue;
+
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        // 전송중인 Event의 전송 시작시간, 전송중이 아닌 경우 0
+        private volatile long writeStartedAt;
+
+        Subscriber(String userId, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        /**
+         * Queue가 가득 찬 경우 가장 오래된 알림을 버리고 추가한다.
+         *
+         * @param event
+         * @return 버려진 알림이 있는 경우 true
+         */
+        boolean offer(SseEventBuilder event) {
+            boolean dropped = false;
+            while (!queue.offer(event)) {
+                if (queue.poll() != null) {
+                    dropped = true;
+                }
+            }
+            return dropped;
+        }
+
+        boolean offerIfIdle(SseEventBuilder event) {
+            return queue.isEmpty() && !sending.get() && queue.offer(event);
+        }
+
+        SseEventBuilder poll() {
+            return queue.poll();
+        }
+
+        boolean startSending() {
+            return sending.compareAndSet(false, true);
+        }
+
+        void finishSending() {
+            sending.set(false);
+        }
+
+        void startWrite(long now) {
+            writeStartedAt = now;
+        }
+
+        void finishWrite() {
+            writeStartedAt = 0;
+        }
+
+        boolean isWriteStalled(long now, long writeTimeoutMs) {
+            long startedAt = writeStartedAt;
+            return startedAt > 0 && now - startedAt > writeTimeoutMs;
+        }
+
+        int getPendingCount() {
+            return queue.size();
+        }
+
+        String getUserId() {
+            return userId;
+        }
+
+        SseEmitter getEmitter() {
+            return emitter;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.nooblol.notification.utils;
+
+/**
+ * 실시간 알림의 종류, SSE Event의 name으로 사용한다.
+ *
+ * <p>LETTER: 쪽지 수신, REPLY: 내 게시물에 댓글 등록, LIKE: 내 게시물 추천
+ */
+public enum NotificationType {
+    LETTER,
+    REPLY,
+    LIKE
+}
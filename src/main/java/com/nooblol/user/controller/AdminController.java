@@ -2,15 +2,18 @@ package com.nooblol.user.controller;
 
 import com.nooblol.global.annotation.UserRoleIsAdminCehck;
 import com.nooblol.global.dto.ResponseDto;
+import com.nooblol.user.dto.UserSearchDto;
 import com.nooblol.user.dto.UserSignOutDto;
 import com.nooblol.user.dto.UserSignUpRequestDto;
 import com.nooblol.user.service.AdminService;
 import com.nooblol.user.utils.AdminConstants;
 import com.nooblol.user.utils.UserConstants;
+import java.time.LocalDateTime;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -71,19 +74,55 @@ public class AdminController {
     }
 
     /**
-     * 관리자 권한으로, 모든 사용자 계정의 조회
+     * 관리자 권한으로, 사용자 계정을 가입일 역순으로 조회한다.
      *
-     * @param pageNum 값이 제공되지 않으면 Default Value로 0이 들어가며 첫번째 페이지를 제공한다.
-     * @param limitNum 값이 제공되지 않으면 Default Value로 30이 설정되며, 한번조회에 30개의 데이터가 제공된다.
+     * @param userRole 조회할 사용자 권한, 생략한 경우 전체 권한
+     * @param createdFrom 가입일 조회 시작(포함), 생략 가능
+     * @param createdTo 가입일 조회 종료(미포함), 생략 가능
+     * @param userNamePrefix 사용자 이름 앞부분, 생략 가능
+     * @param cursorCreatedAt 이전 페이지 마지막 사용자의 가입일, 첫 페이지인 경우 생략
+     * @param cursorUserId 이전 페이지 마지막 사용자의 ID, 첫 페이지인 경우 생략
+     * @param limitNum 값이 제공되지 않으면 30개, 최대 100개까지 조회한다.
      * @return
      */
     @UserRoleIsAdminCehck
     @GetMapping("/userList")
-    public ResponseDto getAllUserList(
-            @RequestParam(value = "page", defaultValue = "0") int pageNum,
+    public ResponseDto getUserList(
+            @RequestParam(value = "userRole", required = false) Integer userRole,
+            @RequestParam(value = "createdFrom", required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime createdFrom,
+            @RequestParam(value = "createdTo", required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime createdTo,
+            @RequestParam(value = "userName", required = false) String userNamePrefix,
+            @RequestParam(value = "cursorCreatedAt", required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime cursorCreatedAt,
+            @RequestParam(value = "cursorUserId", required = false) String cursorUserId,
             @RequestParam(value = "limit", defaultValue = "30") int limitNum) {
-        pageNum = pageNum * limitNum;
-        return adminService.getAllUserList(pageNum, limitNum);
+        UserSearchDto userSearchDto =
+                UserSearchDto.builder()
+                        .userRole(userRole)
+                        .createdFrom(createdFrom)
+                        .createdTo(createdTo)
+                        .userNamePrefix(userNamePrefix)
+                        .cursorCreatedAt(cursorCreatedAt)
+                        .cursorUserId(cursorUserId)
+                        .limitNum(limitNum)
+                        .build();
+        return adminService.getUserList(userSearchDto);
+    }
+
+    /**
+     * 관리자 권한으로 권한별 사용자수를 조회한다.
+     *
+     * @return
+     */
+    @UserRoleIsAdminCehck
+    @GetMapping("/userCount")
+    public ResponseDto getUserCount() {
+        return adminService.getUserCount();
     }
 
     /**
@@ -113,4 +152,15 @@ public class AdminController {
                     String changeUserId) {
         return adminService.changeToSuspensionUser(changeUserId);
     }
+
+    /**
+     * 관리자 권한으로 메일 발송 현황을 조회한다.
+     *
+     * @return
+     */
+    @UserRoleIsAdminCehck
+    @GetMapping("/mailOutboxStats")
+    public ResponseDto getMailOutboxStats() {
+        return adminService.getMailOutboxStats();
+    }
 }
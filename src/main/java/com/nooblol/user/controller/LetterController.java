@@ -2,27 +2,32 @@ package com.nooblol.user.controller;
 
 import com.nooblol.global.annotation.LetterTypeValidation;
 import com.nooblol.global.annotation.UserLoginCheck;
+import com.nooblol.global.annotation.UserRoleIsAdminCehck;
 import com.nooblol.global.dto.ResponseDto;
 import com.nooblol.global.utils.ResponseEnum;
 import com.nooblol.global.utils.ResponseUtils;
 import com.nooblol.global.utils.SessionUtils;
+import com.nooblol.user.dto.LetterBroadcastRequestDto;
 import com.nooblol.user.dto.LetterDto;
 import com.nooblol.user.dto.LetterInsertRequestDto;
 import com.nooblol.user.dto.LetterSearchDto;
 import com.nooblol.user.service.LetterService;
 import com.nooblol.user.utils.LetterConstants;
-import com.nooblol.user.utils.LetterStatus;
 import com.nooblol.user.utils.LetterType;
+import java.time.LocalDateTime;
+import java.util.List;
 import javax.servlet.http.HttpSession;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -57,11 +62,14 @@ public class LetterController {
     }
 
     /**
-     * 발송, 수신 둘중 한개의 쪽지 리스트 조회한다
+     * 발송, 수신 둘중 한개의 쪽지 리스트를 본문을 제외하고 조회한다
+     *
+     * <p>다음 페이지를 조회하는 경우 이전 결과의 마지막 쪽지의 createdAt, letterId를 Cursor로 전달한다.
      *
      * @param type 발송리스트, 수신리스트를 선택한다. 값이 없는 경우 BAD_REQUEST
-     * @param pageNum
-     * @param limitNum
+     * @param cursorCreatedAt 이전 페이지 마지막 쪽지의 발송일, 첫 페이지인 경우 생략
+     * @param cursorLetterId 이전 페이지 마지막 쪽지의 ID, 첫 페이지인 경우 생략
+     * @param limitNum 값이 제공되지 않으면 30개, 최대 100개까지 조회한다.
      * @param session
      * @return
      */
@@ -70,11 +78,20 @@ public class LetterController {
     @GetMapping("/list/{type}")
     public ResponseDto getLetterToList(
             @PathVariable LetterType type,
-            @RequestParam(value = "page", required = false, defaultValue = "0") int pageNum,
+            @RequestParam(value = "cursorCreatedAt", required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime cursorCreatedAt,
+            @RequestParam(value = "cursorLetterId", required = false) Integer cursorLetterId,
             @RequestParam(value = "limit", required = false, defaultValue = "30") int limitNum,
             HttpSession session) {
         LetterSearchDto searchParameterDto =
-                makeLetterListSearchDto(SessionUtils.getSessionUserId(session), pageNum, limitNum, type);
+                LetterSearchDto.builder()
+                        .userId(SessionUtils.getSessionUserId(session))
+                        .cursorCreatedAt(cursorCreatedAt)
+                        .cursorLetterId(cursorLetterId)
+                        .limitNum(limitNum)
+                        .letterType(type)
+                        .build();
 
         // Data 가 Null인경우 CommonUtils에선 NotFound로 보내버려서 직접 설정함.
         ResponseDto result = ResponseEnum.OK.getResponse();
@@ -83,6 +100,18 @@ public class LetterController {
         return result;
     }
 
+    /**
+     * 로그인한 사용자의 읽지 않은 수신 쪽지수를 조회한다.
+     *
+     * @param session
+     * @return
+     */
+    @UserLoginCheck
+    @GetMapping("/unread-count")
+    public ResponseDto getUnreadCount(HttpSession session) {
+        return ResponseUtils.makeToResponseOkDto(letterService.getUnreadCount(session));
+    }
+
     /**
      * 쪽지의 발송기능이며, 본인이 본인한테의 쪽지 발송은 불가능하다.
      *
@@ -116,30 +145,76 @@ public class LetterController {
     }
 
     /**
-     * 쪽지 리스트를 조회하는 DTO 생성
+     * 관리자의 전체 쪽지 발송, 요청만 저장하며 정지된 사용자를 제외한 모든 사용자에게 순차적으로 발송된다.
      *
-     * @param userId
-     * @param pageNum
-     * @param limitNum
-     * @param type
+     * @param requestDto
+     * @param session
+     * @return 발송 진행상황 조회에 사용할 broadcastId
+     */
+    @UserRoleIsAdminCehck
+    @PostMapping("/broadcast")
+    public ResponseDto insertBroadcastLetter(
+            @Valid @RequestBody LetterBroadcastRequestDto requestDto, HttpSession session) {
+        return ResponseUtils.makeToResponseOkDto(
+                letterService.insertBroadcastLetter(requestDto, session));
+    }
+
+    /**
+     * 관리자의 전체 쪽지 발송 진행상황 조회
+     *
+     * @param broadcastId
      * @return
      */
-    private LetterSearchDto makeLetterListSearchDto(
-            String userId, int pageNum, int limitNum, LetterType type) {
-        String searchListStr = "";
-        for (int i = 0; i < LetterStatus.SEARCH_STATUS_ARR.length; i++) {
-            searchListStr += "\'" + LetterStatus.SEARCH_STATUS_ARR[i] + "\'";
-            if (i != LetterStatus.SEARCH_STATUS_ARR.length - 1) {
-                searchListStr += ",";
-            }
-        }
-
-        return LetterSearchDto.builder()
-                .userId(userId)
-                .statusArr(searchListStr)
-                .pageNum(pageNum * limitNum)
-                .limitNum(limitNum)
-                .letterType(type)
-                .build();
+    @UserRoleIsAdminCehck
+    @GetMapping("/broadcast/{broadcastId}")
+    public ResponseDto getBroadcastLetter(@PathVariable int broadcastId) {
+        return ResponseUtils.makeToResponseOkDto(letterService.getBroadcastLetter(broadcastId));
+    }
+
+    /**
+     * 읽지 않은 수신 쪽지를 모두 읽음 상태로 변경한다.
+     *
+     * @param session
+     * @return 읽음 상태로 변경된 쪽지수
+     */
+    @UserLoginCheck
+    @PutMapping("/read-all")
+    public ResponseDto readAllLetter(HttpSession session) {
+        return ResponseUtils.makeToResponseOkDto(letterService.readAllLetter(session));
+    }
+
+    /**
+     * 선택한 쪽지들의 삭제 - Type에 해당하는 Status만 한번에 변경하며, 본인의 쪽지가 아닌 경우는 제외된다.
+     *
+     * @param type
+     * @param letterIdList 삭제할 쪽지 ID 목록, 최대 1000개
+     * @param session
+     * @return 삭제된 쪽지수
+     */
+    @UserLoginCheck
+    @LetterTypeValidation
+    @DeleteMapping("/{type}")
+    public ResponseDto deleteLetterList(
+            @PathVariable @NotNull(message = LetterConstants.LETTER_TYPE_NULL) LetterType type,
+            @RequestParam(value = "letterIds") List<Integer> letterIdList,
+            HttpSession session) {
+        return ResponseUtils.makeToResponseOkDto(
+                letterService.deleteLetterList(letterIdList, type, session));
+    }
+
+    /**
+     * 수신함 또는 발신함의 쪽지를 모두 삭제한다.
+     *
+     * @param type
+     * @param session
+     * @return 삭제된 쪽지수
+     */
+    @UserLoginCheck
+    @LetterTypeValidation
+    @DeleteMapping("/{type}/all")
+    public ResponseDto deleteAllLetter(
+            @PathVariable @NotNull(message = LetterConstants.LETTER_TYPE_NULL) LetterType type,
+            HttpSession session) {
+        return ResponseUtils.makeToResponseOkDto(letterService.deleteAllLetter(type, session));
     }
 }
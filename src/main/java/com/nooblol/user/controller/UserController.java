@@ -47,6 +47,21 @@ public class UserController {
         return userSignUpService.signUpUser(userSignUpDto);
     }
 
+    /**
+     * 회원가입 전 Email의 사용 가능여부를 확인한다.
+     *
+     * @param email
+     * @return 사용 가능한 Email인 경우 OK상태코드와 true, 이미 사용중인 경우 false를 Return한다.
+     */
+    @GetMapping("/signup/available/{email:.+}")
+    public ResponseDto checkEmailAvailable(
+            @PathVariable
+                    @NotBlank
+                    @Pattern(regexp = RegexConstants.MAIL_REGEX, message = "이메일 형식에 맞지 않습니다.")
+                    String email) {
+        return userSignUpService.checkEmailAvailable(email.trim());
+    }
+
     /**
      * 사용자의 정보 수정 기능.
      *
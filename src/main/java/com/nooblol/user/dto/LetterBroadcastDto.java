@@ -0,0 +1,45 @@
+package com.nooblol.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 전체 쪽지 발송 요청과 진행상황, sentCount / targetCount로 진행률을 확인한다. */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LetterBroadcastDto {
+
+    private int broadcastId;
+
+    private String letterTitle;
+
+    private String letterContent;
+
+    private String fromUserId;
+
+    private int status;
+
+    private int targetCount;
+
+    private int sentCount;
+
+    private String lastUserId;
+
+    private int retryCount;
+
+    private String lastError;
+
+    private LocalDateTime nextRunAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.nooblol.user.dto;
+
+import com.nooblol.user.utils.LetterConstants;
+import javax.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LetterBroadcastRequestDto {
+
+    @NotBlank(message = LetterConstants.LETTER_TITLE_NULL)
+    private String letterTitle;
+
+    @NotBlank(message = LetterConstants.LETTER_CONTENT_NULL)
+    private String letterContent;
+}
@@ -1,12 +1,20 @@
 package com.nooblol.user.dto;
 
+import com.nooblol.user.utils.LetterStatus;
 import com.nooblol.user.utils.LetterType;
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * 쪽지 리스트 조회 조건, (createdAt, letterId)를 Cursor로 사용한다.
+ *
+ * <p>Cursor값이 없는 경우 가장 최신 쪽지부터 조회하며, 이전 조회결과의 마지막 쪽지의 createdAt, letterId를 넘기면 그 다음 쪽지부터 조회한다.
+ */
 @Getter
 @Setter
 @Builder
@@ -16,9 +24,11 @@ public class LetterSearchDto {
 
     private String userId;
 
-    private String statusArr;
+    private List<LetterStatus> statusList;
 
-    private int pageNum;
+    private LocalDateTime cursorCreatedAt;
+
+    private Integer cursorLetterId;
 
     private int limitNum;
 
@@ -0,0 +1,26 @@
+package com.nooblol.user.dto;
+
+import com.nooblol.user.utils.LetterStatus;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 쪽지 리스트 조회시 사용하며, 본문(letter_content)은 포함하지 않는다. 본문은 쪽지 단건 조회로 확인한다. */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LetterSummaryDto {
+
+    private int letterId;
+    private String letterTitle;
+    private String toUserId;
+    private LetterStatus toStatus;
+    private String fromUserId;
+    private LetterStatus fromStatus;
+    private LocalDateTime createdAt;
+}
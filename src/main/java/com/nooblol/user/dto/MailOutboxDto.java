@@ -0,0 +1,43 @@
+package com.nooblol.user.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 발송 대기중인 메일, templateName의 Thymeleaf Template에 userName과 mailContent를 넣어 발송한다. */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailOutboxDto {
+
+    private int mailId;
+
+    private String toEmail;
+
+    private String mailTitle;
+
+    private String templateName;
+
+    private String userName;
+
+    private String mailContent;
+
+    private int status;
+
+    private int retryCount;
+
+    private String lastError;
+
+    private LocalDateTime nextRunAt;
+
+    private LocalDateTime sentAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,35 @@
+package com.nooblol.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 메일 발송 현황, 상태별 건수는 users_mail_outbox에서 조회하며 sent, failed, retried는 서버가 실행된 이후 MailOutboxJob이
+ * 처리한 건수이다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailOutboxStatsDto {
+
+    private int waitCount;
+
+    private int processingCount;
+
+    private int doneCount;
+
+    private int failCount;
+
+    private long sentCount;
+
+    private long failedCount;
+
+    private long retriedCount;
+
+    private long lastBatchSendMs;
+}
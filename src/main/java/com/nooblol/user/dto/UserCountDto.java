@@ -0,0 +1,24 @@
+package com.nooblol.user.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 권한별 사용자수, refreshedAt 시점에 집계한 값이다. */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserCountDto {
+
+    private long totalCount;
+
+    private List<UserRoleCountDto> roleCountList;
+
+    private LocalDateTime refreshedAt;
+}
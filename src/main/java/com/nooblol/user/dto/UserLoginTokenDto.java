@@ -0,0 +1,24 @@
+package com.nooblol.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** auth.mode가 token인 경우의 로그인 결과, 이후 요청은 Authorization: Bearer {accessToken} Header로 인증한다. */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserLoginTokenDto {
+
+    private String accessToken;
+
+    private String tokenType;
+
+    private long expiresIn;
+
+    private UserDto user;
+}
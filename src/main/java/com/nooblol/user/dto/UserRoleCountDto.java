@@ -0,0 +1,19 @@
+package com.nooblol.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRoleCountDto {
+
+    private int userRole;
+
+    private long userCount;
+}
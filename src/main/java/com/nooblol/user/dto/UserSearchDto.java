@@ -0,0 +1,35 @@
+package com.nooblol.user.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 관리자의 사용자 리스트 조회 조건, (createdAt, userId)를 Cursor로 사용한다.
+ *
+ * <p>조건값이 없는 항목은 조회조건에서 제외하며, 이전 조회결과의 마지막 사용자의 createdAt, userId를 넘기면 그 다음 사용자부터 조회한다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchDto {
+
+    private Integer userRole;
+
+    private LocalDateTime createdFrom;
+
+    private LocalDateTime createdTo;
+
+    private String userNamePrefix;
+
+    private LocalDateTime cursorCreatedAt;
+
+    private String cursorUserId;
+
+    private int limitNum;
+}
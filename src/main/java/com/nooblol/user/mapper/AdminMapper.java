@@ -2,16 +2,19 @@ package com.nooblol.user.mapper;
 
 import com.nooblol.user.dto.AdminUserDto;
 import com.nooblol.user.dto.UserDto;
+import com.nooblol.user.dto.UserRoleCountDto;
+import com.nooblol.user.dto.UserSearchDto;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
-import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface AdminMapper {
 
     UserDto selectAdminDto(AdminUserDto adminDto);
 
-    List<UserDto> getAllUserList(@Param("pageNum") int pageNum, @Param("limitNum") int limitNum);
+    List<UserDto> selectUserList(UserSearchDto userSearchDto);
+
+    List<UserRoleCountDto> selectUserCountGroupByRole();
 
     int forcedDeleteUser(String deleteUserId);
 
@@ -0,0 +1,45 @@
+package com.nooblol.user.mapper;
+
+import com.nooblol.user.dto.LetterBroadcastDto;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface LetterBroadcastMapper {
+
+    int insertBroadcast(LetterBroadcastDto letterBroadcastDto);
+
+    LetterBroadcastDto selectBroadcastByBroadcastId(int broadcastId);
+
+    List<LetterBroadcastDto> selectRunnableBroadcastList(
+            @Param("now") LocalDateTime now, @Param("limitNum") int limitNum);
+
+    int claimBroadcast(@Param("broadcastId") int broadcastId, @Param("now") LocalDateTime now);
+
+    int selectBroadcastTargetCount(
+            @Param("fromUserId") String fromUserId, @Param("excludeRole") int excludeRole);
+
+    List<String> selectBroadcastTargetUserIdList(
+            @Param("fromUserId") String fromUserId,
+            @Param("excludeRole") int excludeRole,
+            @Param("lastUserId") String lastUserId,
+            @Param("limitNum") int limitNum);
+
+    int addBroadcastProgress(
+            @Param("broadcastId") int broadcastId,
+            @Param("sentDelta") int sentDelta,
+            @Param("lastUserId") String lastUserId);
+
+    int completeBroadcast(
+            @Param("broadcastId") int broadcastId, @Param("now") LocalDateTime now);
+
+    int failBroadcast(
+            @Param("broadcastId") int broadcastId,
+            @Param("status") int status,
+            @Param("nextRunAt") LocalDateTime nextRunAt,
+            @Param("lastError") String lastError);
+
+    int releaseStaleBroadcast(@Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -2,21 +2,47 @@ package com.nooblol.user.mapper;
 
 import com.nooblol.user.dto.LetterDto;
 import com.nooblol.user.dto.LetterSearchDto;
+import com.nooblol.user.dto.LetterSummaryDto;
+import com.nooblol.user.utils.LetterStatus;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface LetterMapper {
 
     int insertLetter(LetterDto letterDto);
 
+    int insertBroadcastLetterList(
+            @Param("letter") LetterDto letterDto,
+            @Param("toUserIdList") List<String> toUserIdList);
+
     LetterDto selectLetterByLetterId(int letterId);
 
-    List<LetterDto> selectLetterListByUserIdAndTypeTo(LetterSearchDto letterSearchDto);
+    List<LetterSummaryDto> selectLetterListByUserIdAndTypeTo(LetterSearchDto letterSearchDto);
 
-    List<LetterDto> selectLetterListByUserIdAndTypeFrom(LetterSearchDto letterSearchDto);
+    List<LetterSummaryDto> selectLetterListByUserIdAndTypeFrom(LetterSearchDto letterSearchDto);
 
     int updateLetterToStatusByLetterIdAndToUserId(LetterDto letterDto);
 
+    int updateUnreadLetterToStatusByLetterIdAndToUserId(LetterDto letterDto);
+
     int updateLetterFromStatusByLetterIdAndFromUserId(LetterDto letterDto);
+
+    int updateLetterToStatusListByToUserId(
+            @Param("toUserId") String toUserId,
+            @Param("letterIdList") List<Integer> letterIdList,
+            @Param("beforeStatus") LetterStatus beforeStatus,
+            @Param("afterStatus") LetterStatus afterStatus);
+
+    int updateLetterFromStatusListByFromUserId(
+            @Param("fromUserId") String fromUserId,
+            @Param("letterIdList") List<Integer> letterIdList,
+            @Param("afterStatus") LetterStatus afterStatus);
+
+    Integer selectUnreadCount(String userId);
+
+    int addUnreadCount(@Param("userId") String userId, @Param("delta") int delta);
+
+    int addUnreadCountList(@Param("userIdList") List<String> userIdList);
 }
@@ -0,0 +1,32 @@
+package com.nooblol.user.mapper;
+
+import com.nooblol.user.dto.MailOutboxDto;
+import com.nooblol.user.dto.MailOutboxStatsDto;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface MailOutboxMapper {
+
+    int insertMail(MailOutboxDto mailOutboxDto);
+
+    List<MailOutboxDto> selectRunnableMailList(
+            @Param("now") LocalDateTime now, @Param("limitNum") int limitNum);
+
+    int claimMail(@Param("mailId") int mailId, @Param("now") LocalDateTime now);
+
+    int completeMailList(
+            @Param("mailIdList") List<Integer> mailIdList, @Param("now") LocalDateTime now);
+
+    int failMail(
+            @Param("mailId") int mailId,
+            @Param("status") int status,
+            @Param("nextRunAt") LocalDateTime nextRunAt,
+            @Param("lastError") String lastError);
+
+    int releaseStaleMail(@Param("staleBefore") LocalDateTime staleBefore);
+
+    MailOutboxStatsDto selectMailStatusCount();
+}
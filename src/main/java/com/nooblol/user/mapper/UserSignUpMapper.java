@@ -1,7 +1,10 @@
 package com.nooblol.user.mapper;
 
+import com.nooblol.user.dto.UserDto;
 import com.nooblol.user.dto.UserSignUpRequestDto;
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface UserSignUpMapper {
@@ -13,4 +16,13 @@ public interface UserSignUpMapper {
     UserSignUpRequestDto selectUserInfoByUserId(String userId);
 
     int updateUserRole(UserSignUpRequestDto userDto);
+
+    boolean existsUserByEmail(String userEmail);
+
+    boolean existsUserByUserId(String userId);
+
+    long selectUserCount();
+
+    List<UserDto> selectUserIdAndEmailList(
+            @Param("cursorUserId") String cursorUserId, @Param("limitNum") int limitNum);
 }
@@ -2,6 +2,7 @@ package com.nooblol.user.service;
 
 import com.nooblol.global.dto.ResponseDto;
 import com.nooblol.user.dto.UserSignOutDto;
+import com.nooblol.user.dto.UserSearchDto;
 import com.nooblol.user.dto.UserSignUpRequestDto;
 
 /**
@@ -35,13 +36,19 @@ public interface AdminService {
     ResponseDto forceDeleteUser(String deleteUserId);
 
     /**
-     * 모든 사용자 계정의 조회한다 limitNum건 단위로 pageNum번에 맞춰서 조회한다.
+     * 조건에 맞는 사용자 계정을 가입일 역순으로 limitNum건씩 조회한다. Cursor가 있는 경우 Cursor 다음 사용자부터 조회한다.
      *
-     * @param pageNum
-     * @param limitNum
+     * @param userSearchDto
      * @return
      */
-    ResponseDto getAllUserList(int pageNum, int limitNum);
+    ResponseDto getUserList(UserSearchDto userSearchDto);
+
+    /**
+     * 권한별 사용자수를 조회한다. 주기적으로 집계한 값이므로 최근 변경이 반영되지 않았을 수 있다.
+     *
+     * @return
+     */
+    ResponseDto getUserCount();
 
     /**
      * 사용자의 Status를 활성상태(AUTH_USER)로 변경
@@ -58,4 +65,11 @@ public interface AdminService {
      * @return
      */
     ResponseDto changeToSuspensionUser(String changeUserId);
+
+    /**
+     * 메일 Outbox의 상태별 건수와 서버가 실행된 이후의 발송 현황을 조회한다.
+     *
+     * @return
+     */
+    ResponseDto getMailOutboxStats();
 }
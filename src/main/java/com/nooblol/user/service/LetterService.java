@@ -1,8 +1,12 @@
 package com.nooblol.user.service;
 
+import com.nooblol.user.dto.LetterBroadcastDto;
+import com.nooblol.user.dto.LetterBroadcastRequestDto;
 import com.nooblol.user.dto.LetterDto;
 import com.nooblol.user.dto.LetterInsertRequestDto;
 import com.nooblol.user.dto.LetterSearchDto;
+import com.nooblol.user.dto.LetterSummaryDto;
+import com.nooblol.user.utils.LetterType;
 import java.util.List;
 import javax.servlet.http.HttpSession;
 
@@ -18,12 +22,22 @@ public interface LetterService {
     LetterDto getLetter(int letterId, HttpSession session);
 
     /**
-     * 쪽지의 최근 리스트를 반환하며, Type값에 따라 수신리스트인지 발신리스트인지를 구분한다.
+     * 쪽지의 최근 리스트를 본문을 제외하고 반환하며, Type값에 따라 수신리스트인지 발신리스트인지를 구분한다.
+     *
+     * <p>삭제되지 않은 쪽지만 조회하며, 다음 페이지는 이전 결과의 마지막 쪽지의 createdAt, letterId를 Cursor로 전달하여 조회한다.
      *
      * @param letterSearchDto
      * @return
      */
-    List<LetterDto> getLetterListByUserId(LetterSearchDto letterSearchDto);
+    List<LetterSummaryDto> getLetterListByUserId(LetterSearchDto letterSearchDto);
+
+    /**
+     * 로그인한 사용자의 읽지 않은 수신 쪽지수, users_letter를 조회하지 않고 LetterUnreadCounter의 값을 반환한다.
+     *
+     * @param session
+     * @return
+     */
+    int getUnreadCount(HttpSession session);
 
     /**
      * 쪽지의 발송기능이며, 본인이 본인한테의 쪽지 발송은 불가능하다.
@@ -42,4 +56,48 @@ public interface LetterService {
      * @return
      */
     boolean deleteLetter(LetterDto letterDto, HttpSession session);
+
+    /**
+     * 로그인한 사용자의 읽지 않은 수신 쪽지를 모두 읽음 상태로 변경한다.
+     *
+     * @param session
+     * @return 읽음 상태로 변경된 쪽지수
+     */
+    int readAllLetter(HttpSession session);
+
+    /**
+     * 선택한 쪽지들을 한번에 삭제한다. 로그인한 사용자가 Type에 해당하는 수신자 또는 발신자인 쪽지만 삭제된다.
+     *
+     * @param letterIdList 최대 1000개, 비어있거나 초과하는 경우 BAD_REQUEST
+     * @param letterType
+     * @param session
+     * @return 삭제된 쪽지수
+     */
+    int deleteLetterList(List<Integer> letterIdList, LetterType letterType, HttpSession session);
+
+    /**
+     * Type에 해당하는 수신함 또는 발신함의 쪽지를 모두 삭제한다.
+     *
+     * @param letterType
+     * @param session
+     * @return 삭제된 쪽지수
+     */
+    int deleteAllLetter(LetterType letterType, HttpSession session);
+
+    /**
+     * 관리자의 전체 쪽지 발송 요청을 저장한다. 실제 발송은 LetterBroadcastJob이 사용자를 나누어 진행한다.
+     *
+     * @param requestDto
+     * @param session
+     * @return 발송 진행상황 조회에 사용할 broadcastId
+     */
+    int insertBroadcastLetter(LetterBroadcastRequestDto requestDto, HttpSession session);
+
+    /**
+     * 전체 쪽지 발송 요청의 내용과 진행상황을 조회한다.
+     *
+     * @param broadcastId
+     * @return
+     */
+    LetterBroadcastDto getBroadcastLetter(int broadcastId);
 }
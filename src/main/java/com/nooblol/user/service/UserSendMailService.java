@@ -1,6 +1,8 @@
 package com.nooblol.user.service;
 
 import java.util.Map;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
 
 public interface UserSendMailService {
 
@@ -11,4 +13,15 @@ public interface UserSendMailService {
      * @param mailContent 제목과 내용이 포함되어야 한다.
      */
     boolean sendMail(String toUser, Map<String, String> mailContent);
+
+    /**
+     * 발송하지 않고 Template을 적용한 메일만 생성한다. 여러건을 한번의 SMTP 연결로 발송할 때 사용한다.
+     *
+     * @param toUser 메일을 수신받을 이메일
+     * @param mailContent 제목과 내용이 포함되어야 한다.
+     * @return
+     * @throws MessagingException
+     */
+    MimeMessage createMailMessage(String toUser, Map<String, String> mailContent)
+            throws MessagingException;
 }
@@ -15,7 +15,15 @@ public interface UserSignUpService {
     ResponseDto signUpUser(UserSignUpRequestDto userDto);
 
     /**
-     * 사용자가 회원가입을 하게 될 경우 인증메일을 발송한다
+     * 회원가입 전 Email의 사용 가능여부를 확인한다.
+     *
+     * @param userEmail
+     * @return 사용중인 Email이 아닌 경우 결과값으로 true
+     */
+    ResponseDto checkEmailAvailable(String userEmail);
+
+    /**
+     * 사용자가 회원가입을 하게 될 경우 인증메일을 발송한다, 바로 발송하지 않고 users_mail_outbox에 저장하며 MailOutboxJob이 발송한다.
      *
      * @param userDto
      * @return
@@ -1,22 +1,30 @@
 package com.nooblol.user.service.impl;
 
+import com.nooblol.global.auth.AccessTokenProvider;
 import com.nooblol.global.dto.ResponseDto;
 import com.nooblol.global.exception.ExceptionMessage;
 import com.nooblol.global.utils.EncryptUtils;
 import com.nooblol.global.utils.ResponseEnum;
+import com.nooblol.user.dto.MailOutboxStatsDto;
 import com.nooblol.user.dto.UserDto;
+import com.nooblol.user.dto.UserSearchDto;
 import com.nooblol.user.dto.UserSignOutDto;
 import com.nooblol.user.dto.UserSignUpRequestDto;
 import com.nooblol.user.mapper.AdminMapper;
+import com.nooblol.user.mapper.MailOutboxMapper;
 import com.nooblol.user.mapper.UserSignUpMapper;
 import com.nooblol.user.service.AdminService;
 import com.nooblol.user.service.UserSignOutService;
+import com.nooblol.user.support.MailOutboxJob;
+import com.nooblol.user.support.UserExistenceFilter;
+import com.nooblol.user.support.UserInfoCache;
+import com.nooblol.user.support.UserRoleCountCache;
 import com.nooblol.user.utils.UserRoleStatus;
 import java.io.UnsupportedEncodingException;
 import java.security.NoSuchAlgorithmException;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
@@ -25,12 +33,26 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class AdminServiceImpl implements AdminService {
 
+    private static final int USER_LIST_MAX_LIMIT = 100;
+
     private final UserSignOutService userSignOutService;
 
     private final UserSignUpMapper userSignUpMapper;
 
     private final AdminMapper adminMapper;
 
+    private final MailOutboxMapper mailOutboxMapper;
+
+    private final MailOutboxJob mailOutboxJob;
+
+    private final AccessTokenProvider accessTokenProvider;
+
+    private final UserRoleCountCache userRoleCountCache;
+
+    private final UserInfoCache userInfoCache;
+
+    private final UserExistenceFilter userExistenceFilter;
+
     @Override
     public ResponseDto addAdminMember(UserSignUpRequestDto userSignUpRequestDto) {
         try {
@@ -39,8 +61,14 @@ public class AdminServiceImpl implements AdminService {
 
             userSignUpRequestDto.setAdminUserRole();
 
+            boolean inserted = userSignUpMapper.insertSignUpUser(userSignUpRequestDto) > 0;
+            if (inserted) {
+                userExistenceFilter.add(
+                        userSignUpRequestDto.getUserId(), userSignUpRequestDto.getUserEmail());
+            }
+
             ResponseDto returnDto = ResponseEnum.OK.getResponse();
-            returnDto.setResult(userSignUpMapper.insertSignUpUser(userSignUpRequestDto) > 0);
+            returnDto.setResult(inserted);
             return returnDto;
         } catch (NoSuchAlgorithmException | UnsupportedEncodingException e) {
             throw new IllegalArgumentException(ExceptionMessage.SERVER_ERROR, e);
@@ -58,18 +86,47 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public ResponseDto forceDeleteUser(String deleteUserId) {
+        boolean deleted = adminMapper.forcedDeleteUser(deleteUserId) > 0;
+        if (deleted) {
+            userInfoCache.evict(deleteUserId);
+            accessTokenProvider.revoke(deleteUserId);
+        }
+
         ResponseDto resultDto = ResponseEnum.OK.getResponse();
-        resultDto.setResult(adminMapper.forcedDeleteUser(deleteUserId) > 0);
+        resultDto.setResult(deleted);
         return resultDto;
     }
 
     @Override
-    public ResponseDto getAllUserList(int pageNum, int limitNum) {
-        List<UserDto> userList = adminMapper.getAllUserList(pageNum, limitNum);
+    public ResponseDto getUserList(UserSearchDto userSearchDto) {
+        if (userSearchDto.getLimitNum() <= 0) {
+            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        }
+
+        // Cursor는 createdAt, userId 두개가 모두 있어야 의미가 있다.
+        if ((userSearchDto.getCursorCreatedAt() == null)
+                != (userSearchDto.getCursorUserId() == null)) {
+            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        }
+
+        if (userSearchDto.getCreatedFrom() != null
+                && userSearchDto.getCreatedTo() != null
+                && !userSearchDto.getCreatedFrom().isBefore(userSearchDto.getCreatedTo())) {
+            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        }
+
+        userSearchDto.setLimitNum(Math.min(userSearchDto.getLimitNum(), USER_LIST_MAX_LIMIT));
+        userSearchDto.setUserNamePrefix(escapeLikePattern(userSearchDto.getUserNamePrefix()));
 
         ResponseDto resultDto = ResponseEnum.OK.getResponse();
-        resultDto.setResult(userList);
+        resultDto.setResult(adminMapper.selectUserList(userSearchDto));
+        return resultDto;
+    }
 
+    @Override
+    public ResponseDto getUserCount() {
+        ResponseDto resultDto = ResponseEnum.OK.getResponse();
+        resultDto.setResult(userRoleCountCache.getUserCount());
         return resultDto;
     }
 
@@ -80,14 +137,60 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public ResponseDto changeToSuspensionUser(String changeUserId) {
-        return updateUser(changeUserId, UserRoleStatus.SUSPENSION_USER.getRoleValue());
+        boolean changed =
+                changeUserRole(changeUserId, UserRoleStatus.SUSPENSION_USER.getRoleValue());
+
+        ResponseDto result = ResponseEnum.OK.getResponse();
+        result.setResult(changed);
+        return result;
     }
 
-    private ResponseDto updateUser(String changeUserId, int roleStatus) {
-        UserDto changeUser = new UserDto().builder().userId(changeUserId).userRole(roleStatus).build();
+    @Override
+    public ResponseDto getMailOutboxStats() {
+        MailOutboxStatsDto stats = mailOutboxMapper.selectMailStatusCount();
+        stats.setSentCount(mailOutboxJob.getSentCount());
+        stats.setFailedCount(mailOutboxJob.getFailedCount());
+        stats.setRetriedCount(mailOutboxJob.getRetriedCount());
+        stats.setLastBatchSendMs(mailOutboxJob.getLastBatchSendMs());
 
         ResponseDto result = ResponseEnum.OK.getResponse();
-        result.setResult(adminMapper.changeUserRole(changeUser) > 0);
+        result.setResult(stats);
         return result;
     }
+
+    private ResponseDto updateUser(String changeUserId, int roleStatus) {
+        ResponseDto result = ResponseEnum.OK.getResponse();
+        result.setResult(changeUserRole(changeUserId, roleStatus));
+        return result;
+    }
+
+    /**
+     * 이름 앞부분 검색어의 LIKE 특수문자를 일반 문자로 검색하도록 Escape한다. 빈 값인 경우 조건에서 제외한다.
+     *
+     * @param userNamePrefix
+     * @return
+     */
+    private String escapeLikePattern(String userNamePrefix) {
+        if (StringUtils.isEmpty(userNamePrefix)) {
+            return null;
+        }
+        return userNamePrefix.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    /**
+     * 권한을 변경하고, 이전 권한이 담긴 Token으로는 더 이상 요청할 수 없도록 폐기한다.
+     *
+     * @param changeUserId
+     * @param roleStatus
+     * @return
+     */
+    private boolean changeUserRole(String changeUserId, int roleStatus) {
+        UserDto changeUser = new UserDto().builder().userId(changeUserId).userRole(roleStatus).build();
+        boolean changed = adminMapper.changeUserRole(changeUser) > 0;
+        if (changed) {
+            userInfoCache.evict(changeUserId);
+            accessTokenProvider.revoke(changeUserId);
+        }
+        return changed;
+    }
 }
@@ -2,20 +2,31 @@ package com.nooblol.user.service.impl;
 
 import com.nooblol.global.exception.ExceptionMessage;
 import com.nooblol.global.utils.SessionUtils;
+import com.nooblol.notification.dto.NotificationDto;
+import com.nooblol.notification.support.NotificationHub;
+import com.nooblol.notification.utils.NotificationType;
+import com.nooblol.user.dto.LetterBroadcastDto;
+import com.nooblol.user.dto.LetterBroadcastRequestDto;
 import com.nooblol.user.dto.LetterDto;
 import com.nooblol.user.dto.LetterInsertRequestDto;
 import com.nooblol.user.dto.LetterSearchDto;
+import com.nooblol.user.dto.LetterSummaryDto;
+import com.nooblol.user.mapper.LetterBroadcastMapper;
 import com.nooblol.user.mapper.LetterMapper;
 import com.nooblol.user.service.LetterService;
 import com.nooblol.user.service.UserInfoService;
+import com.nooblol.user.support.LetterUnreadCounter;
+import com.nooblol.user.utils.LetterBroadcastStatus;
 import com.nooblol.user.utils.LetterStatus;
 import com.nooblol.user.utils.LetterType;
+import com.nooblol.user.utils.UserRoleStatus;
 import java.time.LocalDateTime;
 import java.util.List;
 import javax.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 @Slf4j
@@ -23,11 +34,23 @@ import org.springframework.util.ObjectUtils;
 @RequiredArgsConstructor
 public class LetterServiceImpl implements LetterService {
 
+    private static final int LETTER_LIST_MAX_LIMIT = 100;
+
+    // 한번에 삭제할 수 있는 쪽지수, IN 조건이 과도하게 길어지지 않도록 제한한다.
+    private static final int LETTER_BULK_MAX_SIZE = 1000;
+
     private final LetterMapper letterMapper;
 
+    private final LetterBroadcastMapper letterBroadcastMapper;
+
     private final UserInfoService userInfoService;
 
+    private final LetterUnreadCounter letterUnreadCounter;
+
+    private final NotificationHub notificationHub;
+
     @Override
+    @Transactional
     public LetterDto getLetter(int letterId, HttpSession session) {
         LetterDto letterDto = letterMapper.selectLetterByLetterId(letterId);
         String letterReqUserId = SessionUtils.getSessionUserId(session);
@@ -54,7 +77,20 @@ public class LetterServiceImpl implements LetterService {
     }
 
     @Override
-    public List<LetterDto> getLetterListByUserId(LetterSearchDto letterSearchDto) {
+    public List<LetterSummaryDto> getLetterListByUserId(LetterSearchDto letterSearchDto) {
+        if (letterSearchDto.getLimitNum() <= 0) {
+            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        }
+
+        // Cursor는 createdAt, letterId 두개가 모두 있어야 의미가 있다.
+        if ((letterSearchDto.getCursorCreatedAt() == null)
+                != (letterSearchDto.getCursorLetterId() == null)) {
+            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        }
+
+        letterSearchDto.setLimitNum(Math.min(letterSearchDto.getLimitNum(), LETTER_LIST_MAX_LIMIT));
+        letterSearchDto.setStatusList(List.of(LetterStatus.SEARCH_STATUS_ARR));
+
         if (LetterType.TO.equals(letterSearchDto.getLetterType())) {
             return letterMapper.selectLetterListByUserIdAndTypeTo(letterSearchDto);
         }
@@ -67,6 +103,12 @@ public class LetterServiceImpl implements LetterService {
     }
 
     @Override
+    public int getUnreadCount(HttpSession session) {
+        return letterUnreadCounter.getUnreadCount(SessionUtils.getSessionUserId(session));
+    }
+
+    @Override
+    @Transactional
     public boolean insertLetter(LetterInsertRequestDto requestDto, HttpSession session) {
         String fromUserId = SessionUtils.getSessionUserId(session);
         if (requestDto.getToUserId().equals(fromUserId)) {
@@ -89,18 +131,121 @@ public class LetterServiceImpl implements LetterService {
                         .createdAt(LocalDateTime.now())
                         .build();
 
-        return letterMapper.insertLetter(insertLetter) > 0;
+        boolean isInserted = letterMapper.insertLetter(insertLetter) > 0;
+        if (isInserted) {
+            letterUnreadCounter.increment(insertLetter.getToUserId());
+            notificationHub.publish(
+                    insertLetter.getToUserId(),
+                    NotificationDto.builder()
+                            .type(NotificationType.LETTER)
+                            .targetId(insertLetter.getLetterId())
+                            .actorUserId(fromUserId)
+                            .createdAt(insertLetter.getCreatedAt())
+                            .build());
+        }
+        return isInserted;
     }
 
     @Override
+    @Transactional
     public boolean deleteLetter(LetterDto letterDto, HttpSession session) {
         return updateLetterStatus(
                 letterDto.getLetterId(), LetterStatus.DELETE, letterDto.getType(), session);
     }
 
+    @Override
+    @Transactional
+    public int readAllLetter(HttpSession session) {
+        String userId = SessionUtils.getSessionUserId(session);
+        int readCount =
+                letterMapper.updateLetterToStatusListByToUserId(
+                        userId, null, LetterStatus.UNREAD, LetterStatus.READ);
+        letterUnreadCounter.decrement(userId, readCount);
+        return readCount;
+    }
+
+    @Override
+    @Transactional
+    public int deleteLetterList(
+            List<Integer> letterIdList, LetterType letterType, HttpSession session) {
+        if (ObjectUtils.isEmpty(letterIdList) || letterIdList.size() > LETTER_BULK_MAX_SIZE) {
+            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        }
+        return updateLetterStatusList(letterIdList, letterType, session);
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllLetter(LetterType letterType, HttpSession session) {
+        return updateLetterStatusList(null, letterType, session);
+    }
+
+    @Override
+    public int insertBroadcastLetter(LetterBroadcastRequestDto requestDto, HttpSession session) {
+        String fromUserId = SessionUtils.getSessionUserId(session);
+        LetterBroadcastDto broadcastDto =
+                LetterBroadcastDto.builder()
+                        .letterTitle(requestDto.getLetterTitle())
+                        .letterContent(requestDto.getLetterContent())
+                        .fromUserId(fromUserId)
+                        .status(LetterBroadcastStatus.WAIT.getStatus())
+                        .targetCount(
+                                letterBroadcastMapper.selectBroadcastTargetCount(
+                                        fromUserId, UserRoleStatus.SUSPENSION_USER.getRoleValue()))
+                        .createdAt(LocalDateTime.now())
+                        .build();
+
+        letterBroadcastMapper.insertBroadcast(broadcastDto);
+        return broadcastDto.getBroadcastId();
+    }
+
+    @Override
+    public LetterBroadcastDto getBroadcastLetter(int broadcastId) {
+        LetterBroadcastDto broadcastDto =
+                letterBroadcastMapper.selectBroadcastByBroadcastId(broadcastId);
+        if (ObjectUtils.isEmpty(broadcastDto)) {
+            throw new IllegalArgumentException(ExceptionMessage.NO_DATA);
+        }
+        return broadcastDto;
+    }
+
+    /**
+     * 여러 쪽지의 상태를 삭제로 한번에 Update한다. letterIdList가 null인 경우 해당 Type의 쪽지함 전체가 대상이다.
+     *
+     * <p>수신 쪽지는 읽지 않은 쪽지와 읽은 쪽지를 나누어 Update하며, 읽지 않은 쪽지의 처리건수만큼 읽지 않은 쪽지수를 차감한다.
+     *
+     * @param letterIdList
+     * @param letterType
+     * @param session
+     * @return
+     */
+    private int updateLetterStatusList(
+            List<Integer> letterIdList, LetterType letterType, HttpSession session) {
+        String userId = SessionUtils.getSessionUserId(session);
+        if (LetterType.TO.equals(letterType)) {
+            int unreadCount =
+                    letterMapper.updateLetterToStatusListByToUserId(
+                            userId, letterIdList, LetterStatus.UNREAD, LetterStatus.DELETE);
+            letterUnreadCounter.decrement(userId, unreadCount);
+            return unreadCount
+                    + letterMapper.updateLetterToStatusListByToUserId(
+                            userId, letterIdList, LetterStatus.READ, LetterStatus.DELETE);
+        }
+
+        if (LetterType.FROM.equals(letterType)) {
+            return letterMapper.updateLetterFromStatusListByFromUserId(
+                    userId, letterIdList, LetterStatus.DELETE);
+        }
+
+        throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+    }
+
     /**
      * ToStatus 또는 FromStatus 값을 Update한다
      *
+     * <p>수신 쪽지는 읽지 않은 상태에서 변경된 경우 읽지 않은 쪽지수를 차감하며, 조회 후 변경하지 않고 UNREAD 조건의 Update 처리건수로 판단하여 동시에
+     * 요청되어도 한번만 차감한다.
+     *
      * @param letterId
      * @param status
      * @param letterType
@@ -110,13 +255,17 @@ public class LetterServiceImpl implements LetterService {
     private boolean updateLetterStatus(
             int letterId, LetterStatus status, LetterType letterType, HttpSession session) {
         if (LetterType.TO.equals(letterType)) {
-            return letterMapper.updateLetterToStatusByLetterIdAndToUserId(
-                            LetterDto.builder()
-                                    .letterId(letterId)
-                                    .toStatus(status)
-                                    .toUserId(SessionUtils.getSessionUserId(session))
-                                    .build())
-                    > 0;
+            LetterDto updateDto =
+                    LetterDto.builder()
+                            .letterId(letterId)
+                            .toStatus(status)
+                            .toUserId(SessionUtils.getSessionUserId(session))
+                            .build();
+            if (letterMapper.updateUnreadLetterToStatusByLetterIdAndToUserId(updateDto) > 0) {
+                letterUnreadCounter.decrement(updateDto.getToUserId());
+                return true;
+            }
+            return letterMapper.updateLetterToStatusByLetterIdAndToUserId(updateDto) > 0;
         }
 
         if (LetterType.FROM.equals(letterType)) {
@@ -1,5 +1,6 @@
 package com.nooblol.user.service.impl;
 
+import com.nooblol.global.auth.AccessTokenProvider;
 import com.nooblol.global.dto.ResponseDto;
 import com.nooblol.global.exception.ExceptionMessage;
 import com.nooblol.global.utils.EncryptUtils;
@@ -8,8 +9,10 @@ import com.nooblol.global.utils.SessionEnum;
 import com.nooblol.user.dto.UserDto;
 import com.nooblol.user.dto.UserInfoUpdateDto;
 import com.nooblol.user.dto.UserLoginDto;
+import com.nooblol.user.dto.UserLoginTokenDto;
 import com.nooblol.user.mapper.UserInfoMapper;
 import com.nooblol.user.service.UserInfoService;
+import com.nooblol.user.support.UserInfoCache;
 import com.nooblol.user.utils.UserRoleStatus;
 import java.io.UnsupportedEncodingException;
 import java.security.NoSuchAlgorithmException;
@@ -27,6 +30,10 @@ public class UserInfoServiceImpl implements UserInfoService {
 
     private final UserInfoMapper userInfoMapper;
 
+    private final AccessTokenProvider accessTokenProvider;
+
+    private final UserInfoCache userInfoCache;
+
     @Override
     public ResponseDto updateUserInfo(UserInfoUpdateDto userInfoUpdateDto) {
         // 두개가 모두 공백인 경우는 Update를 진행할 정보가 없기 떄문에 BadRequest를 반환한다.
@@ -42,8 +49,13 @@ public class UserInfoServiceImpl implements UserInfoService {
             setNewPassword(userInfoUpdateDto);
             setNewUserName(userInfoUpdateDto);
 
+            boolean updated = userInfoMapper.updateUserInfo(userInfoUpdateDto) > 0;
+            if (updated) {
+                userInfoCache.evict(userInfoUpdateDto.getUserId());
+            }
+
             ResponseDto result = ResponseEnum.OK.getResponse();
-            result.setResult(userInfoMapper.updateUserInfo(userInfoUpdateDto) > 0);
+            result.setResult(updated);
             return result;
         } catch (Exception e) {
             throw new IllegalArgumentException(ExceptionMessage.SERVER_ERROR, e);
@@ -92,6 +104,20 @@ public class UserInfoServiceImpl implements UserInfoService {
             return result;
         }
 
+        // Token 인증을 사용하는 경우 Session에 저장하지 않고 Token을 발급한다.
+        if (accessTokenProvider.isEnabled()) {
+            result.setResult(
+                    UserLoginTokenDto.builder()
+                            .accessToken(
+                                    accessTokenProvider.issue(
+                                            loginUser.getUserId(), loginUser.getUserRole()))
+                            .tokenType("Bearer")
+                            .expiresIn(accessTokenProvider.getTtlMillis() / 1000)
+                            .user(loginUser)
+                            .build());
+            return result;
+        }
+
         session.setAttribute(SessionEnum.USER_LOGIN.getValue(), loginUser);
         result.setResult(loginUser);
         return result;
@@ -109,6 +135,6 @@ public class UserInfoServiceImpl implements UserInfoService {
 
     @Override
     public UserDto selectUserInfoByUserId(String userId) {
-        return userInfoMapper.selectUserByUserId(userId);
+        return userInfoCache.getUser(userId);
     }
 }
@@ -1,8 +1,10 @@
 package com.nooblol.user.service.impl;
 
+import com.nooblol.global.exception.ExceptionMessage;
 import com.nooblol.user.service.UserSendMailService;
 import java.util.Map;
 import javax.mail.Message.RecipientType;
+import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,19 +31,8 @@ public class UserSendMailServiceImpl implements UserSendMailService {
         if (validMailSendValue(toUser, mailContent)) {
             return false;
         }
-        MimeMessage mailMessage = javaMailSender.createMimeMessage();
         try {
-            // 수신인 설정
-            mailMessage.addRecipients(RecipientType.TO, toUser);
-
-            // 제목
-            mailMessage.setSubject(mailContent.get("title"), CharEncoding.UTF_8);
-
-            // 내용
-            Context context = getMailAuthContext(mailContent);
-            String message = templateEngine.process(mailContent.get("context"), context);
-            mailMessage.setText(message, CharEncoding.UTF_8, "html");
-            javaMailSender.send(mailMessage);
+            javaMailSender.send(createMailMessage(toUser, mailContent));
         } catch (MailException mailEx) {
             log.warn("메일 발송 실패, 사용자메일 : " + toUser);
             log.warn("[UserSendMailServiceImpl MailException]", mailEx);
@@ -54,6 +45,27 @@ public class UserSendMailServiceImpl implements UserSendMailService {
         return true;
     }
 
+    @Override
+    public MimeMessage createMailMessage(String toUser, Map<String, String> mailContent)
+            throws MessagingException {
+        if (validMailSendValue(toUser, mailContent)) {
+            throw new IllegalArgumentException(ExceptionMessage.BAD_REQUEST);
+        }
+        MimeMessage mailMessage = javaMailSender.createMimeMessage();
+
+        // 수신인 설정
+        mailMessage.addRecipients(RecipientType.TO, toUser);
+
+        // 제목
+        mailMessage.setSubject(mailContent.get("title"), CharEncoding.UTF_8);
+
+        // 내용
+        Context context = getMailAuthContext(mailContent);
+        String message = templateEngine.process(mailContent.get("context"), context);
+        mailMessage.setText(message, CharEncoding.UTF_8, "html");
+        return mailMessage;
+    }
+
     private boolean validMailSendValue(String toUser, Map<String, String> map) {
         return ObjectUtils.isEmpty(map.get("title"))
                 || ObjectUtils.isEmpty(map.get("content"))
@@ -7,6 +7,7 @@ import com.nooblol.global.utils.ResponseEnum;
 import com.nooblol.user.dto.UserSignOutDto;
 import com.nooblol.user.mapper.UserSignOutMapper;
 import com.nooblol.user.service.UserSignOutService;
+import com.nooblol.user.support.UserInfoCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +19,8 @@ public class UserSignOutServiceImpl implements UserSignOutService {
 
     private final UserSignOutMapper userSignOutMapper;
 
+    private final UserInfoCache userInfoCache;
+
     @Override
     public ResponseDto signOutUser(UserSignOutDto userSignOutDto) {
         try {
@@ -31,8 +34,13 @@ public class UserSignOutServiceImpl implements UserSignOutService {
             throw new IllegalArgumentException(ExceptionMessage.NO_DATA);
         }
 
+        boolean deleted = userSignOutMapper.deleteUser(userSignOutDto) > 0;
+        if (deleted) {
+            userInfoCache.evict(userSignOutDto.getUserId());
+        }
+
         ResponseDto rtnDto = ResponseEnum.OK.getResponse();
-        rtnDto.setResult(userSignOutMapper.deleteUser(userSignOutDto) > 0);
+        rtnDto.setResult(deleted);
         return rtnDto;
     }
 }
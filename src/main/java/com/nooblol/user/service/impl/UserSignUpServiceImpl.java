@@ -5,13 +5,18 @@ import com.nooblol.global.exception.ExceptionMessage;
 import com.nooblol.global.utils.EncryptUtils;
 import com.nooblol.global.utils.MailConstants;
 import com.nooblol.global.utils.ResponseEnum;
+import com.nooblol.user.dto.MailOutboxDto;
 import com.nooblol.user.dto.UserSignUpRequestDto;
+import com.nooblol.user.mapper.MailOutboxMapper;
 import com.nooblol.user.mapper.UserSignUpMapper;
-import com.nooblol.user.service.UserSendMailService;
 import com.nooblol.user.service.UserSignUpService;
+import com.nooblol.user.support.UserExistenceFilter;
+import com.nooblol.user.support.UserInfoCache;
+import com.nooblol.user.utils.MailOutboxStatus;
 import com.nooblol.user.utils.UserRoleStatus;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.env.Environment;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 @Slf4j
@@ -27,15 +33,26 @@ import org.springframework.util.ObjectUtils;
 public class UserSignUpServiceImpl implements UserSignUpService {
 
     private final UserSignUpMapper userSignUpMapper;
-    private final UserSendMailService userSendMailService;
+    private final MailOutboxMapper mailOutboxMapper;
+    private final UserExistenceFilter userExistenceFilter;
+    private final UserInfoCache userInfoCache;
     private final Environment environment;
 
+    /** 인증메일은 사용자와 같은 Transaction에서 Outbox에 저장하므로, 가입에 실패한 사용자에게는 발송되지 않는다. */
     @Override
+    @Transactional
     public ResponseDto signUpUser(UserSignUpRequestDto userDto) {
+        // 중복된 사용자는 INSERT를 실패시키지 않고 미리 거부한다. Filter에 없는 중복은 Unique Index로 거부된다.
+        if (!userExistenceFilter.isEmailAvailable(userDto.getUserEmail())
+                || !userExistenceFilter.isUserIdAvailable(userDto.getUserId())) {
+            throw new IllegalArgumentException(ExceptionMessage.HAVE_DATA);
+        }
+
         try {
             String encodePassword = EncryptUtils.stringChangeToSha512(userDto.getPassword());
             userDto.setPassword(encodePassword);
             userSignUpMapper.insertSignUpUser(userDto);
+            userExistenceFilter.add(userDto.getUserId(), userDto.getUserEmail());
 
         } catch (DuplicateKeyException e) {
             throw new IllegalArgumentException(ExceptionMessage.HAVE_DATA, e);
@@ -48,9 +65,27 @@ public class UserSignUpServiceImpl implements UserSignUpService {
         return response;
     }
 
+    @Override
+    public ResponseDto checkEmailAvailable(String userEmail) {
+        ResponseDto response = ResponseEnum.OK.getResponse();
+        response.setResult(userExistenceFilter.isEmailAvailable(userEmail));
+        return response;
+    }
+
     @Override
     public boolean sendSignUpUserMail(UserSignUpRequestDto userDto) {
-        return userSendMailService.sendMail(userDto.getUserEmail(), getAuthMailContent(userDto));
+        Map<String, String> mailContent = getAuthMailContent(userDto);
+        MailOutboxDto mail =
+                MailOutboxDto.builder()
+                        .toEmail(userDto.getUserEmail())
+                        .mailTitle(mailContent.get("title"))
+                        .templateName(mailContent.get("context"))
+                        .userName(mailContent.get("name"))
+                        .mailContent(mailContent.get("content"))
+                        .status(MailOutboxStatus.WAIT.getStatus())
+                        .createdAt(LocalDateTime.now())
+                        .build();
+        return mailOutboxMapper.insertMail(mail) > 0;
     }
 
     @Override
@@ -85,8 +120,14 @@ public class UserSignUpServiceImpl implements UserSignUpService {
 
         try {
 
+            boolean isUpdated = userSignUpMapper.updateUserRole(userDto) > 0;
+            if (isUpdated) {
+                // 인증전 권한으로 Cache된 사용자정보가 남지 않도록 한다.
+                userInfoCache.evict(userId);
+            }
+
             ResponseDto response = ResponseEnum.OK.getResponse();
-            response.setResult(userSignUpMapper.updateUserRole(userDto) > 0);
+            response.setResult(isUpdated);
             return response;
 
         } catch (Exception e) {
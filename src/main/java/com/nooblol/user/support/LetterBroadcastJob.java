@@ -0,0 +1,151 @@
+package com.nooblol.user.support;
+
+import com.nooblol.user.dto.LetterBroadcastDto;
+import com.nooblol.user.dto.LetterDto;
+import com.nooblol.user.mapper.LetterBroadcastMapper;
+import com.nooblol.user.mapper.LetterMapper;
+import com.nooblol.user.utils.LetterBroadcastStatus;
+import com.nooblol.user.utils.LetterStatus;
+import com.nooblol.user.utils.UserRoleStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 관리자가 요청한 전체 쪽지를 사용자에게 나누어 발송하는 Job
+ *
+ * <p>사용자 ID순으로 chunkSize명씩 조회하여 쪽지를 Multi Row INSERT하고, 읽지 않은 쪽지수 증가와 진행상황(last_user_id, sent_count)
+ * 갱신을 같은 Transaction에서 처리한다. 중간에 실패하더라도 이미 발송한 사용자에게는 다시 발송하지 않으며, 재시도 간격을 늘려가며
+ * MAX_RETRY_COUNT까지 재시도한다.
+ */
+@Slf4j
+@Component
+public class LetterBroadcastJob {
+
+    private static final int BROADCAST_FETCH_SIZE = 5;
+
+    private static final int MAX_RETRY_COUNT = 5;
+
+    private static final long RETRY_BASE_DELAY_MINUTES = 1;
+
+    private static final long STALE_PROCESSING_MINUTES = 30;
+
+    private static final int LAST_ERROR_MAX_LENGTH = 1000;
+
+    private final LetterBroadcastMapper letterBroadcastMapper;
+
+    private final LetterMapper letterMapper;
+
+    private final LetterUnreadCounter letterUnreadCounter;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+
+    public LetterBroadcastJob(
+            LetterBroadcastMapper letterBroadcastMapper,
+            LetterMapper letterMapper,
+            LetterUnreadCounter letterUnreadCounter,
+            TransactionTemplate transactionTemplate,
+            @Value("${letter.broadcast.chunk-size:1000}") int chunkSize) {
+        this.letterBroadcastMapper = letterBroadcastMapper;
+        this.letterMapper = letterMapper;
+        this.letterUnreadCounter = letterUnreadCounter;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${letter.broadcast.interval-ms:5000}")
+    public void broadcast() {
+        LocalDateTime now = LocalDateTime.now();
+        letterBroadcastMapper.releaseStaleBroadcast(now.minusMinutes(STALE_PROCESSING_MINUTES));
+
+        List<LetterBroadcastDto> broadcastList =
+                letterBroadcastMapper.selectRunnableBroadcastList(now, BROADCAST_FETCH_SIZE);
+        for (LetterBroadcastDto broadcast : broadcastList) {
+            // 다른 서버에서 먼저 가져간 경우
+            if (letterBroadcastMapper.claimBroadcast(broadcast.getBroadcastId(), now) == 0) {
+                continue;
+            }
+
+            try {
+                sendBroadcast(broadcast);
+                letterBroadcastMapper.completeBroadcast(
+                        broadcast.getBroadcastId(), LocalDateTime.now());
+            } catch (Exception e) {
+                log.warn("[LetterBroadcastJob] Broadcast Fail : " + broadcast.getBroadcastId(), e);
+                failBroadcast(broadcast, e);
+            }
+        }
+    }
+
+    /**
+     * last_user_id 다음 사용자부터 chunkSize명씩 발송하며, 조회된 사용자가 chunkSize보다 적으면 마지막 사용자까지 발송한 것으로 판단한다.
+     *
+     * @param broadcast
+     */
+    private void sendBroadcast(LetterBroadcastDto broadcast) {
+        LetterDto letter =
+                LetterDto.builder()
+                        .letterTitle(broadcast.getLetterTitle())
+                        .letterContent(broadcast.getLetterContent())
+                        .toStatus(LetterStatus.UNREAD)
+                        .fromUserId(broadcast.getFromUserId())
+                        .fromStatus(LetterStatus.DELETE)
+                        .createdAt(broadcast.getCreatedAt())
+                        .build();
+
+        String lastUserId = broadcast.getLastUserId();
+        int sentCount;
+        do {
+            String cursorUserId = lastUserId;
+            List<String> toUserIdList =
+                    transactionTemplate.execute(
+                            status -> sendChunk(broadcast.getBroadcastId(), letter, cursorUserId));
+            sentCount = toUserIdList.size();
+            if (sentCount > 0) {
+                lastUserId = toUserIdList.get(sentCount - 1);
+            }
+        } while (sentCount == chunkSize);
+    }
+
+    private List<String> sendChunk(int broadcastId, LetterDto letter, String lastUserId) {
+        List<String> toUserIdList =
+                letterBroadcastMapper.selectBroadcastTargetUserIdList(
+                        letter.getFromUserId(),
+                        UserRoleStatus.SUSPENSION_USER.getRoleValue(),
+                        lastUserId,
+                        chunkSize);
+        if (toUserIdList.isEmpty()) {
+            return toUserIdList;
+        }
+
+        letterMapper.insertBroadcastLetterList(letter, toUserIdList);
+        letterUnreadCounter.incrementAll(toUserIdList);
+        letterBroadcastMapper.addBroadcastProgress(
+                broadcastId, toUserIdList.size(), toUserIdList.get(toUserIdList.size() - 1));
+        return toUserIdList;
+    }
+
+    private void failBroadcast(LetterBroadcastDto broadcast, Exception e) {
+        int retryCount = broadcast.getRetryCount() + 1;
+        LetterBroadcastStatus status =
+                retryCount >= MAX_RETRY_COUNT
+                        ? LetterBroadcastStatus.FAIL
+                        : LetterBroadcastStatus.WAIT;
+        LocalDateTime nextRunAt =
+                LocalDateTime.now()
+                        .plusMinutes(RETRY_BASE_DELAY_MINUTES << broadcast.getRetryCount());
+
+        letterBroadcastMapper.failBroadcast(
+                broadcast.getBroadcastId(),
+                status.getStatus(),
+                nextRunAt,
+                StringUtils.abbreviate(String.valueOf(e.getMessage()), LAST_ERROR_MAX_LENGTH));
+    }
+}
@@ -0,0 +1,103 @@
+package com.nooblol.user.support;
+
+import com.nooblol.global.cache.CacheType;
+import com.nooblol.global.cache.TwoTierCache;
+import com.nooblol.user.mapper.LetterMapper;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 읽지 않은 수신 쪽지수, users_letter를 COUNT하지 않고 users_letter_unread_count의 값을 Cache하여 반환한다.
+ *
+ * <p>증감은 쪽지 상태 변경과 같은 Transaction에서 진행하며, Cache는 Commit 이후에 무효화하여 Commit 전의 값이 다시 Cache되지 않도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LetterUnreadCounter {
+
+    private final LetterMapper letterMapper;
+
+    private final CacheManager cacheManager;
+
+    public int getUnreadCount(String userId) {
+        Integer unreadCount =
+                getCache()
+                        .get(
+                                userId,
+                                () ->
+                                        Optional.ofNullable(letterMapper.selectUnreadCount(userId))
+                                                .orElse(0));
+        return unreadCount == null ? 0 : unreadCount;
+    }
+
+    public void increment(String userId) {
+        addUnreadCount(userId, 1);
+    }
+
+    /**
+     * 전체 쪽지 발송시 수신자들의 읽지 않은 쪽지수를 한번에 1씩 증가시킨다.
+     *
+     * @param userIdList
+     */
+    public void incrementAll(List<String> userIdList) {
+        if (userIdList.isEmpty()) {
+            return;
+        }
+        letterMapper.addUnreadCountList(userIdList);
+        evictAfterCommit(userIdList);
+    }
+
+    public void decrement(String userId) {
+        decrement(userId, 1);
+    }
+
+    public void decrement(String userId, int count) {
+        if (count <= 0) {
+            return;
+        }
+        addUnreadCount(userId, -count);
+    }
+
+    private void addUnreadCount(String userId, int delta) {
+        letterMapper.addUnreadCount(userId, delta);
+        evictAfterCommit(List.of(userId));
+    }
+
+    private void evictAfterCommit(List<String> userIdList) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            evict(userIdList);
+                        }
+                    });
+            return;
+        }
+        evict(userIdList);
+    }
+
+    /**
+     * 전체 쪽지 발송은 chunk 단위로 호출되므로, 수신자별로 무효화하지 않고 chunk당 한번에 무효화한다.
+     *
+     * @param userIdList
+     */
+    private void evict(List<String> userIdList) {
+        Cache cache = getCache();
+        if (cache instanceof TwoTierCache) {
+            ((TwoTierCache) cache).evictAll(userIdList);
+            return;
+        }
+        userIdList.forEach(cache::evict);
+    }
+
+    private Cache getCache() {
+        return cacheManager.getCache(CacheType.LETTER_UNREAD_COUNT.getCacheName());
+    }
+}
@@ -0,0 +1,177 @@
+package com.nooblol.user.support;
+
+import com.nooblol.user.dto.MailOutboxDto;
+import com.nooblol.user.mapper.MailOutboxMapper;
+import com.nooblol.user.service.UserSendMailService;
+import com.nooblol.user.utils.MailOutboxStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * users_mail_outbox에 저장된 메일을 batchSize건씩 발송하는 Job
+ *
+ * <p>JavaMailSender에 여러건을 한번에 전달하여 하나의 SMTP 연결로 발송하며, 수신자별로 실패한 메일만 재시도 간격을 늘려가며
+ * MAX_RETRY_COUNT까지 재시도한다. 연결이나 인증에 실패한 경우에는 batch 전체를 재시도한다.
+ */
+@Slf4j
+@Component
+public class MailOutboxJob {
+
+    private static final int MAX_RETRY_COUNT = 5;
+
+    private static final long RETRY_BASE_DELAY_MINUTES = 1;
+
+    private static final long STALE_PROCESSING_MINUTES = 10;
+
+    private static final int LAST_ERROR_MAX_LENGTH = 1000;
+
+    private final MailOutboxMapper mailOutboxMapper;
+
+    private final UserSendMailService userSendMailService;
+
+    private final JavaMailSender javaMailSender;
+
+    private final int batchSize;
+
+    private final AtomicLong sentCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final AtomicLong retriedCount = new AtomicLong();
+
+    private volatile long lastBatchSendMs;
+
+    public MailOutboxJob(
+            MailOutboxMapper mailOutboxMapper,
+            UserSendMailService userSendMailService,
+            JavaMailSender javaMailSender,
+            @Value("${mail.outbox.batch-size:50}") int batchSize) {
+        this.mailOutboxMapper = mailOutboxMapper;
+        this.userSendMailService = userSendMailService;
+        this.javaMailSender = javaMailSender;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.interval-ms:3000}")
+    public void sendOutboxMail() {
+        LocalDateTime now = LocalDateTime.now();
+        mailOutboxMapper.releaseStaleMail(now.minusMinutes(STALE_PROCESSING_MINUTES));
+
+        List<MailOutboxDto> mailList = mailOutboxMapper.selectRunnableMailList(now, batchSize);
+
+        // 다른 서버에서 먼저 가져간 메일은 제외하고, 메일 생성에 실패한 경우 바로 실패처리한다.
+        Map<MimeMessage, MailOutboxDto> messageMap = new LinkedHashMap<>();
+        for (MailOutboxDto mail : mailList) {
+            if (mailOutboxMapper.claimMail(mail.getMailId(), now) == 0) {
+                continue;
+            }
+            try {
+                messageMap.put(
+                        userSendMailService.createMailMessage(
+                                mail.getToEmail(), getMailContent(mail)),
+                        mail);
+            } catch (Exception e) {
+                failMail(mail, e);
+            }
+        }
+
+        if (messageMap.isEmpty()) {
+            return;
+        }
+        sendBatch(messageMap);
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getRetriedCount() {
+        return retriedCount.get();
+    }
+
+    public long getLastBatchSendMs() {
+        return lastBatchSendMs;
+    }
+
+    private void sendBatch(Map<MimeMessage, MailOutboxDto> messageMap) {
+        Map<Object, Exception> failedMessages = new HashMap<>();
+        long startNanos = System.nanoTime();
+        try {
+            javaMailSender.send(messageMap.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            // 연결 실패를 포함하여, 발송하지 못한 메일만 failedMessages에 포함된다.
+            failedMessages.putAll(e.getFailedMessages());
+            if (failedMessages.isEmpty()) {
+                messageMap.keySet().forEach(message -> failedMessages.put(message, e));
+            }
+        } catch (MailException e) {
+            messageMap.keySet().forEach(message -> failedMessages.put(message, e));
+        }
+        lastBatchSendMs = (System.nanoTime() - startNanos) / 1_000_000;
+
+        List<Integer> sentMailIdList = new ArrayList<>();
+        messageMap.forEach(
+                (message, mail) -> {
+                    Exception e = failedMessages.get(message);
+                    if (e == null) {
+                        sentMailIdList.add(mail.getMailId());
+                    } else {
+                        failMail(mail, e);
+                    }
+                });
+
+        if (!sentMailIdList.isEmpty()) {
+            mailOutboxMapper.completeMailList(sentMailIdList, LocalDateTime.now());
+            sentCount.addAndGet(sentMailIdList.size());
+        }
+    }
+
+    private void failMail(MailOutboxDto mail, Exception e) {
+        log.warn("[MailOutboxJob] Send Fail, mailId : " + mail.getMailId(), e);
+
+        int retryCount = mail.getRetryCount() + 1;
+        MailOutboxStatus status;
+        if (retryCount >= MAX_RETRY_COUNT) {
+            status = MailOutboxStatus.FAIL;
+            failedCount.incrementAndGet();
+        } else {
+            status = MailOutboxStatus.WAIT;
+            retriedCount.incrementAndGet();
+        }
+        LocalDateTime nextRunAt =
+                LocalDateTime.now().plusMinutes(RETRY_BASE_DELAY_MINUTES << mail.getRetryCount());
+
+        mailOutboxMapper.failMail(
+                mail.getMailId(),
+                status.getStatus(),
+                nextRunAt,
+                StringUtils.abbreviate(String.valueOf(e.getMessage()), LAST_ERROR_MAX_LENGTH));
+    }
+
+    private Map<String, String> getMailContent(MailOutboxDto mail) {
+        Map<String, String> mailContent = new HashMap<>();
+        mailContent.put("title", mail.getMailTitle());
+        mailContent.put("name", mail.getUserName());
+        mailContent.put("context", mail.getTemplateName());
+        mailContent.put("content", mail.getMailContent());
+        return mailContent;
+    }
+}
@@ -0,0 +1,217 @@
+package com.nooblol.user.support;
+
+import com.nooblol.global.cache.CacheInvalidationPublisher;
+import com.nooblol.global.cache.LocalInvalidationHandler;
+import com.nooblol.global.sketch.BloomFilter;
+import com.nooblol.user.dto.UserDto;
+import com.nooblol.user.mapper.UserSignUpMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 가입된 사용자의 Email과 userId를 Bloom Filter로 보관하여, 가입 가능여부 확인시 users를 조회하지 않도록 한다.
+ *
+ * <p>Filter에 없는 값은 사용중이 아니므로 바로 가입 가능으로 판단하고, Filter에 있는 값만 DB로 확인한다. 다른 서버에서 가입한 사용자는 무효화
+ * 채널로 전달받아 Filter에 추가하며, 메시지를 놓친 경우에도 INSERT의 Unique Index가 중복을 막는다.
+ *
+ * <p>Bloom Filter는 값을 제거할 수 없으므로 탈퇴, 삭제된 사용자는 주기적으로 Filter를 다시 적재할 때 제외된다. 그 전까지는 DB 확인으로
+ * 가입 가능여부를 판단한다.
+ */
+@Slf4j
+@Component
+public class UserExistenceFilter implements LocalInvalidationHandler {
+
+    public static final String INVALIDATION_NAME = "userExistence";
+
+    private static final String USER_ID_KEY_PREFIX = "userId:";
+
+    private static final String EMAIL_KEY_PREFIX = "email:";
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final UserSignUpMapper userSignUpMapper;
+
+    private final ObjectProvider<CacheInvalidationPublisher> cacheInvalidationPublisherProvider;
+
+    private final long expectedInsertions;
+
+    private final double falsePositiveRate;
+
+    private volatile Filters filters;
+
+    // 다시 적재하는 동안 가입한 사용자를 새 Filter에도 추가하기 위한 참조
+    private volatile Filters loadingFilters;
+
+    public UserExistenceFilter(
+            UserSignUpMapper userSignUpMapper,
+            ObjectProvider<CacheInvalidationPublisher> cacheInvalidationPublisherProvider,
+            @Value("${user.existence-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${user.existence-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userSignUpMapper = userSignUpMapper;
+        this.cacheInvalidationPublisherProvider = cacheInvalidationPublisherProvider;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filters = new Filters(expectedInsertions, falsePositiveRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${user.existence-filter.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${user.existence-filter.rebuild-interval-ms:3600000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    public boolean isEmailAvailable(String userEmail) {
+        String normalizedEmail = normalizeEmail(userEmail);
+        if (!filters.emailFilter.mightContain(normalizedEmail)) {
+            return true;
+        }
+        return !userSignUpMapper.existsUserByEmail(userEmail);
+    }
+
+    public boolean isUserIdAvailable(String userId) {
+        if (!filters.userIdFilter.mightContain(userId)) {
+            return true;
+        }
+        return !userSignUpMapper.existsUserByUserId(userId);
+    }
+
+    /**
+     * 현재 서버의 Filter에 추가하고, Commit 이후 다른 서버의 Filter에도 추가되도록 전달한다.
+     *
+     * @param userId
+     * @param userEmail
+     */
+    public void add(String userId, String userEmail) {
+        addLocal(userId, userEmail);
+        publishAfterCommit(userId, userEmail);
+    }
+
+    @Override
+    public String getInvalidationName() {
+        return INVALIDATION_NAME;
+    }
+
+    /**
+     * 다른 서버에서 가입한 사용자를 Filter에 추가한다.
+     *
+     * @param key userId: 또는 email: Prefix가 붙은 값
+     */
+    @Override
+    public void onInvalidation(Object key) {
+        if (!(key instanceof String)) {
+            return;
+        }
+        String value = (String) key;
+        if (value.startsWith(USER_ID_KEY_PREFIX)) {
+            addLocal(value.substring(USER_ID_KEY_PREFIX.length()), null);
+        } else if (value.startsWith(EMAIL_KEY_PREFIX)) {
+            addLocal(null, value.substring(EMAIL_KEY_PREFIX.length()));
+        }
+    }
+
+    private void addLocal(String userId, String userEmail) {
+        filters.put(userId, userEmail);
+        Filters currentLoadingFilters = loadingFilters;
+        if (currentLoadingFilters != null) {
+            currentLoadingFilters.put(userId, userEmail);
+        }
+    }
+
+    /**
+     * users 전체를 PK 순서로 나누어 새 Filter에 적재한 뒤 교체한다. 사용자수가 설정값보다 많아진 경우 오탐률이 유지되도록 Filter 크기를 늘린다.
+     */
+    synchronized void rebuild() {
+        try {
+            long userCount = userSignUpMapper.selectUserCount();
+            Filters newFilters =
+                    new Filters(Math.max(expectedInsertions, userCount * 2), falsePositiveRate);
+            loadingFilters = newFilters;
+
+            String cursorUserId = null;
+            List<UserDto> userList;
+            do {
+                userList = userSignUpMapper.selectUserIdAndEmailList(cursorUserId, LOAD_BATCH_SIZE);
+                for (UserDto user : userList) {
+                    newFilters.put(user.getUserId(), user.getUserEmail());
+                    cursorUserId = user.getUserId();
+                }
+            } while (userList.size() == LOAD_BATCH_SIZE);
+
+            filters = newFilters;
+            log.info("[UserExistenceFilter] Loaded User Count : " + userCount);
+        } catch (Exception e) {
+            // 적재에 실패해도 Filter에 없는 값은 INSERT의 Unique Index가 중복을 막으므로, 기존 Filter를 그대로 사용한다.
+            log.warn("[UserExistenceFilter] Load Fail", e);
+        } finally {
+            loadingFilters = null;
+        }
+    }
+
+    private void publishAfterCommit(String userId, String userEmail) {
+        CacheInvalidationPublisher publisher = cacheInvalidationPublisherProvider.getIfAvailable();
+        if (publisher == null) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        if (userId != null) {
+            keys.add(USER_ID_KEY_PREFIX + userId);
+        }
+        if (userEmail != null) {
+            keys.add(EMAIL_KEY_PREFIX + normalizeEmail(userEmail));
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            publisher.publishAll(INVALIDATION_NAME, keys);
+                        }
+                    });
+            return;
+        }
+        publisher.publishAll(INVALIDATION_NAME, keys);
+    }
+
+    /** MySQL의 기본 Collation은 대소문자를 구분하지 않으므로 소문자로 바꾸어 보관한다. */
+    private static String normalizeEmail(String userEmail) {
+        return userEmail.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Filters {
+
+        private final BloomFilter userIdFilter;
+
+        private final BloomFilter emailFilter;
+
+        Filters(long expectedInsertions, double falsePositiveRate) {
+            this.userIdFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+            this.emailFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        }
+
+        void put(String userId, String userEmail) {
+            if (userId != null) {
+                userIdFilter.put(userId);
+            }
+            if (userEmail != null) {
+                emailFilter.put(normalizeEmail(userEmail));
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.nooblol.user.support;
+
+import com.nooblol.user.dto.UserDto;
+import com.nooblol.user.mapper.UserInfoMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * userId별 사용자 정보의 Cache, 사용자 정보 수정, 권한 변경, 탈퇴, 강제 삭제시 evict로 무효화한다.
+ *
+ * <p>존재하지 않는 사용자는 Cache하지 않는다. Cache된 객체는 여러 요청이 공유하므로 변경하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserInfoCache {
+
+    private final UserInfoMapper userInfoMapper;
+
+    @Cacheable(cacheNames = "userInfo", key = "#userId", unless = "#result == null")
+    public UserDto getUser(String userId) {
+        return userInfoMapper.selectUserByUserId(userId);
+    }
+
+    @CacheEvict(cacheNames = "userInfo", key = "#userId")
+    public void evict(String userId) {}
+}
@@ -0,0 +1,60 @@
+package com.nooblol.user.support;
+
+import com.nooblol.user.dto.UserCountDto;
+import com.nooblol.user.dto.UserRoleCountDto;
+import com.nooblol.user.mapper.AdminMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 화면의 권한별 사용자수, 요청마다 users 전체를 COUNT하지 않고 주기적으로 집계한 Snapshot을 반환한다.
+ *
+ * <p>가입, 탈퇴, 권한 변경이 바로 반영되지 않으며, 최대 refresh-interval-ms만큼 이전의 값일 수 있다.
+ */
+@Slf4j
+@Component
+public class UserRoleCountCache {
+
+    private final AdminMapper adminMapper;
+
+    private volatile UserCountDto snapshot;
+
+    public UserRoleCountCache(AdminMapper adminMapper) {
+        this.adminMapper = adminMapper;
+    }
+
+    public UserCountDto getUserCount() {
+        UserCountDto currentSnapshot = snapshot;
+        if (currentSnapshot == null) {
+            return rebuild();
+        }
+        return currentSnapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${admin.user-count.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("[UserRoleCountCache] Refresh Fail", e);
+        }
+    }
+
+    private synchronized UserCountDto rebuild() {
+        List<UserRoleCountDto> roleCountList =
+                List.copyOf(adminMapper.selectUserCountGroupByRole());
+        long totalCount = roleCountList.stream().mapToLong(UserRoleCountDto::getUserCount).sum();
+
+        UserCountDto newSnapshot =
+                UserCountDto.builder()
+                        .totalCount(totalCount)
+                        .roleCountList(roleCountList)
+                        .refreshedAt(LocalDateTime.now())
+                        .build();
+        snapshot = newSnapshot;
+        return newSnapshot;
+    }
+}
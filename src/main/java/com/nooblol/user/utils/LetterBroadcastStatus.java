@@ -0,0 +1,18 @@
+package com.nooblol.user.utils;
+
+import lombok.Getter;
+
+/** users_letter_broadcast의 발송 상태 */
+@Getter
+public enum LetterBroadcastStatus {
+    WAIT(0),
+    PROCESSING(1),
+    DONE(2),
+    FAIL(3);
+
+    LetterBroadcastStatus(int status) {
+        this.status = status;
+    }
+
+    int status;
+}
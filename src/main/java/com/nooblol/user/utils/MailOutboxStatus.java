@@ -0,0 +1,18 @@
+package com.nooblol.user.utils;
+
+import lombok.Getter;
+
+/** users_mail_outbox의 발송 상태 */
+@Getter
+public enum MailOutboxStatus {
+    WAIT(0),
+    PROCESSING(1),
+    DONE(2),
+    FAIL(3);
+
+    MailOutboxStatus(int status) {
+        this.status = status;
+    }
+
+    int status;
+}
@@ -20,9 +20,9 @@ INSERT INTO bbs (category_id, bbs_name, status, created_user_id, created_at, upd
 VALUES (1, 'Test Active BBS', 1, 'test-admin-user', now(), 'test-admin-user', now());
 
 INSERT INTO bbs_articles(article_id, bbs_id, article_title, article_read_count, article_content,
-                         status,
+                         status, like_count, not_like_count, reply_count,
                          created_user_id, created_at, updated_at)
-VALUES (1, 1, 'Test Article Title - 1', 0, '내용이웨요', 1, 'test-admin-user', now(), now());
+VALUES (1, 1, 'Test Article Title - 1', 0, '내용이웨요', 1, 2, 1, 2, 'test-admin-user', now(), now());
 
 INSERT INTO bbs_articles(article_id, bbs_id, article_title, article_read_count, article_content,
                          status,
@@ -44,6 +44,6 @@ INSERT INTO bbs_articles_reply(reply_id, article_id, reply_content, status, sort
                                created_user_id, created_at)
 VALUES (1, 1, 'test', 1, 1, 'test', now());
 
-INSERT INTO bbs_articles_reply(reply_id, article_id, reply_content, status, sort_no,
-                               created_user_id, created_at)
-VALUES (2, 1, 'test', 1, 2, 'no-user', now());
\ No newline at end of file
+INSERT INTO bbs_articles_reply(reply_id, article_id, reply_content, status, parent_reply_id,
+                               sort_no, created_user_id, created_at)
+VALUES (2, 1, 'test', 1, 1, 2, 'no-user', now());
\ No newline at end of file
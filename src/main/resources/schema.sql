@@ -104,6 +104,11 @@ CREATE TABLE `users`
     `updated_at`         datetime
 );
 
+/* 관리자 사용자 리스트 조회(Keyset Pagination), 이름 앞부분 검색용 Index */
+CREATE INDEX `idx_users_created_at_user_id` ON `users` (`created_at`, `user_id`);
+CREATE INDEX `idx_users_user_role_created_at_user_id` ON `users` (`user_role`, `created_at`, `user_id`);
+CREATE INDEX `idx_users_user_name` ON `users` (`user_name`);
+
 /*
  22. 09. 14 : to_status, from_status, to_read_status의 추가
     -> 쪽지를 삭제할 시 status값을 한쪽만 사용하게 되면, 둘다 동시에 삭제하게 되는 것이므로 해당 문제를 방지하기 위해 각각 status를 보관한다.
@@ -123,6 +128,78 @@ CREATE TABLE `users_letter`
     `created_at`     datetime DEFAULT (now())
 );
 
+/* 수신, 발신 쪽지 리스트 조회(Keyset Pagination)용 Index */
+CREATE INDEX `idx_users_letter_to_user_id_status_created_at` ON `users_letter` (`to_user_id`, `to_status`, `created_at`, `letter_id`);
+CREATE INDEX `idx_users_letter_from_user_id_status_created_at` ON `users_letter` (`from_user_id`, `from_status`, `created_at`, `letter_id`);
+
+/*
+  사용자별 읽지 않은 수신 쪽지수, 쪽지 발송, 읽음, 삭제시 같은 Transaction에서 증감하여 users_letter를 COUNT하지 않는다.
+ */
+CREATE TABLE `users_letter_unread_count`
+(
+    `user_id`      varchar(255) PRIMARY KEY,
+    `unread_count` int      DEFAULT 0,
+    `updated_at`   datetime DEFAULT (now())
+);
+
+/*
+  테이블 생성 이전에 받은 쪽지는 증감되지 않았으므로, 읽지 않은 수신 쪽지를 COUNT하여 초기값을 채운다.
+  -> 채우지 않으면 Row가 없는 사용자는 0부터 증감하여, 기존 쪽지를 읽거나 삭제해도 수가 줄지 않는다.
+ */
+INSERT INTO `users_letter_unread_count` (`user_id`, `unread_count`, `updated_at`)
+SELECT `to_user_id`, COUNT(*), now()
+FROM `users_letter`
+WHERE `to_status` = 'UNREAD'
+GROUP BY `to_user_id`;
+
+/*
+  관리자의 전체 쪽지 발송, 요청시에는 1건만 저장하고 LetterBroadcastJob이 사용자 ID순으로 나누어 users_letter에 INSERT한다.
+  -> 사용자별 쪽지 INSERT와 last_user_id, sent_count 갱신을 같은 Transaction에서 처리하므로, 재시도시 last_user_id 다음 사용자부터 발송한다.
+  -> status 0: 대기, 1: 처리중, 2: 완료, 3: 실패(재시도 횟수 초과)
+ */
+CREATE TABLE `users_letter_broadcast`
+(
+    `broadcast_id`   int PRIMARY KEY AUTO_INCREMENT,
+    `letter_title`   varchar(255) NOT NULL,
+    `letter_content` text,
+    `from_user_id`   varchar(255) NOT NULL,
+    `status`         int      DEFAULT 0,
+    `target_count`   int      DEFAULT 0,
+    `sent_count`     int      DEFAULT 0,
+    `last_user_id`   varchar(255),
+    `retry_count`    int      DEFAULT 0,
+    `last_error`     varchar(1000),
+    `next_run_at`    datetime DEFAULT (now()),
+    `created_at`     datetime DEFAULT (now()),
+    `updated_at`     datetime DEFAULT (now())
+);
+
+CREATE INDEX `idx_users_letter_broadcast_status_next_run_at` ON `users_letter_broadcast` (`status`, `next_run_at`);
+
+/*
+  회원가입 인증메일 등 발송할 메일의 Outbox, 요청 Transaction에서 저장하고 MailOutboxJob이 batch 단위로 발송한다.
+  -> 요청은 SMTP 서버의 응답을 기다리지 않으며, 발송에 실패한 메일은 재시도 간격을 늘려가며 다시 발송한다.
+  -> status 0: 대기, 1: 처리중, 2: 완료, 3: 실패(재시도 횟수 초과)
+ */
+CREATE TABLE `users_mail_outbox`
+(
+    `mail_id`       int PRIMARY KEY AUTO_INCREMENT,
+    `to_email`      varchar(255) NOT NULL,
+    `mail_title`    varchar(255) NOT NULL,
+    `template_name` varchar(255) NOT NULL,
+    `user_name`     varchar(255),
+    `mail_content`  varchar(1000),
+    `status`        int      DEFAULT 0,
+    `retry_count`   int      DEFAULT 0,
+    `last_error`    varchar(1000),
+    `next_run_at`   datetime DEFAULT (now()),
+    `sent_at`       datetime,
+    `created_at`    datetime DEFAULT (now()),
+    `updated_at`    datetime DEFAULT (now())
+);
+
+CREATE INDEX `idx_users_mail_outbox_status_next_run_at` ON `users_mail_outbox` (`status`, `next_run_at`);
+
 CREATE TABLE `bbs_category`
 (
     `category_id`     int PRIMARY KEY AUTO_INCREMENT,
@@ -155,22 +232,81 @@ CREATE TABLE `bbs_articles`
     `article_read_count` int,
     `article_content`    text,
     `status`             int,
+    `like_count`         int      DEFAULT 0,
+    `not_like_count`     int      DEFAULT 0,
+    `reply_count`        int      DEFAULT 0,
     `created_user_id`    varchar(255),
     `created_at`         datetime DEFAULT (now()),
     `updated_at`         datetime
 );
 
+/*
+  추천, 비추천, 댓글수는 like_count, not_like_count, reply_count로 비정규화하여 보관한다.
+  -> ArticleStatusServiceImpl, ArticleReplyServiceImpl에서 같은 Transaction으로 증감하며, ArticleCountReconcileJob이 주기적으로 실제 건수와 맞춘다.
+ */
+
+/* 게시판별 게시물 리스트 조회(Keyset Pagination)용 Index */
+CREATE INDEX `idx_bbs_articles_bbs_id_created_at` ON `bbs_articles` (`bbs_id`, `created_at`, `article_id`);
+
+/*
+  게시물 삭제는 status를 9(DELETE)로 변경하고 삭제 Queue에 등록하는것까지만 요청 Transaction에서 처리한다.
+  -> ArticleDeleteCleanupJob이 추천/비추천, 댓글, 게시물 Row를 작은 단위로 나누어 삭제하며, 삭제한 건수를 Queue에 기록한다.
+  -> status 0: 대기, 1: 처리중, 2: 완료, 3: 실패(재시도 횟수 초과)
+ */
+CREATE TABLE `bbs_articles_delete_queue`
+(
+    `article_id`           int PRIMARY KEY,
+    `status`               int      DEFAULT 0,
+    `retry_count`          int      DEFAULT 0,
+    `deleted_status_count` int      DEFAULT 0,
+    `deleted_reply_count`  int      DEFAULT 0,
+    `last_error`           varchar(1000),
+    `next_run_at`          datetime DEFAULT (now()),
+    `created_at`           datetime DEFAULT (now()),
+    `updated_at`           datetime DEFAULT (now())
+);
+
+CREATE INDEX `idx_bbs_articles_delete_queue_status_next_run_at` ON `bbs_articles_delete_queue` (`status`, `next_run_at`);
+
+/*
+  여러 서버에서 같은 주기로 실행되는 Job을 한 서버만 실행하도록 선점하는 Lock, locked_until이 지나면 다른 서버가 다시 선점할 수 있다.
+ */
+CREATE TABLE `scheduled_job_lock`
+(
+    `job_name`     varchar(100) PRIMARY KEY,
+    `locked_by`    varchar(100),
+    `locked_until` datetime NOT NULL,
+    `updated_at`   datetime DEFAULT (now())
+);
+
+/*
+  게시물별 순 방문자수 추정용 HyperLogLog Sketch, 방문자별 Row를 저장하지 않고 게시물당 1024byte로 고정된다.
+ */
+CREATE TABLE `bbs_articles_unique_viewer`
+(
+    `article_id` int PRIMARY KEY,
+    `sketch`     varbinary(1024) NOT NULL,
+    `updated_at` datetime DEFAULT (now())
+);
+
 /*
   22. 09. 09 BBSID컬럼 삭제 : articleId로 추적이 가능하기 떄문에 해당 테이블에서는 꼭 필요하지 않다 판단.
  */
+/*
+  사용자는 게시물당 추천, 비추천중 하나만 가능하므로 (article_id, user_id)를 PK로 사용한다.
+  -> 동시에 여러번 요청되더라도 중복 Row가 생기지 않으며, 추천/취소는 INSERT IGNORE, DELETE의 처리건수로 판단한다.
+ */
 CREATE TABLE `bbs_articles_status`
 (
     `article_id` int,
     `user_id`    varchar(255),
     `type`       tinyint(1),
-    `created_at` datetime DEFAULT (now())
+    `created_at` datetime DEFAULT (now()),
+    PRIMARY KEY (`article_id`, `user_id`)
 );
 
+CREATE INDEX `idx_bbs_articles_status_article_id` ON `bbs_articles_status` (`article_id`, `type`);
+
 /*
   22. 09. 09 BBSID컬럼 삭제 : articleId로 추적이 가능하기 떄문에 해당 테이블에서는 꼭 필요하지 않다 판단.
   22. 09. 09 ReplyId Auto-Increment제거 : Upsert시 자동증가인 경우 Update도 값을 증기사키는 문제로 인한 수정
@@ -182,11 +318,22 @@ CREATE TABLE `bbs_articles_reply`
     `article_id`      int,
     `reply_content`   text,
     `status`          int,
+    `parent_reply_id` int,
     `sort_no`         int,
     `created_user_id` varchar(255),
     `created_at`      datetime DEFAULT (now())
 );
 
+/*
+  댓글은 2단계(댓글, 답글)로 구성한다.
+  -> 댓글은 parent_reply_id가 NULL, sort_no가 1이며 답글은 parent_reply_id가 최상위 댓글의 ID, sort_no가 2이다.
+  -> 답글에 다시 답글을 다는 경우에도 최상위 댓글의 답글로 등록한다.
+ */
+
+/* 게시물별 댓글, 댓글별 답글의 Cursor Pagination용 Index */
+CREATE INDEX `idx_bbs_articles_reply_article_id_created_at` ON `bbs_articles_reply` (`article_id`, `created_at`, `reply_id`);
+CREATE INDEX `idx_bbs_articles_reply_parent_reply_id_created_at` ON `bbs_articles_reply` (`parent_reply_id`, `created_at`, `reply_id`);
+
 CREATE TABLE `party_category`
 (
     `category_id`     int PRIMARY KEY AUTO_INCREMENT,
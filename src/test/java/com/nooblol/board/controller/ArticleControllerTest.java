@@ -11,19 +11,24 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.requestF
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nooblol.board.dto.ArticleDto;
 import com.nooblol.board.dto.ArticleInsertRequestDto;
+import com.nooblol.board.dto.ArticleSummaryDto;
+import com.nooblol.board.dto.ArticleTrendingDto;
 import com.nooblol.board.service.ArticleService;
 import com.nooblol.board.utils.ArticleFixtureUtils;
+import com.nooblol.board.utils.ArticleStatus;
 import com.nooblol.global.utils.ResponseEnum;
 import com.nooblol.global.utils.RestDocConfiguration;
 import com.nooblol.global.utils.SessionSampleObject;
 import com.nooblol.global.utils.SessionUtils;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.hamcrest.core.Is;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -39,6 +44,7 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
+import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(ArticleController.class)
@@ -129,9 +135,13 @@ class ArticleControllerTest {
                                         .description("Article(게시물) 내용"),
                                 fieldWithPath("result.articleReadCount").type(int.class).description("조회수"),
                                 fieldWithPath("result.status").type(int.class).description("Article(게시물) 상태"),
+                                fieldWithPath("result.likeCount").type(int.class).description("추천수"),
+                                fieldWithPath("result.notLikeCount").type(int.class).description("비추천수"),
+                                fieldWithPath("result.replyCount").type(int.class).description("댓글수"),
                                 fieldWithPath("result.createdUserId").type(String.class).description("생성한 사용자 ID"),
                                 fieldWithPath("result.createdAt").type(LocalDateTime.class).description("생성일"),
                                 fieldWithPath("result.updatedAt").type(LocalDateTime.class).description("최종 수정일"),
+                                fieldWithPath("result.uniqueViewers").type(long.class).description("순 방문자수(추정치)"),
                                 fieldWithPath("result.authMessage")
                                         .type(String.class)
                                         .description("해당글을 조회시 요청할 수 있는 권한")));
@@ -146,7 +156,7 @@ class ArticleControllerTest {
                 ArticleDto response = ArticleFixtureUtils.guestActiveArticleFixture(articleId, "test");
 
                 // mock
-                when(articleService.getArticleInfo(articleId, SessionUtils.getSessionUserId(session)))
+                when(articleService.getArticleInfo(eq(articleId), eq(session), anyString()))
                         .thenReturn(response);
 
                 // when & then
@@ -169,7 +179,7 @@ class ArticleControllerTest {
                 ArticleDto response = ArticleFixtureUtils.userActiveArticleFixture(articleId, "test");
 
                 // mock
-                when(articleService.getArticleInfo(articleId, SessionUtils.getSessionUserId(session)))
+                when(articleService.getArticleInfo(eq(articleId), eq(session), anyString()))
                         .thenReturn(response);
 
                 // when & then
@@ -192,7 +202,7 @@ class ArticleControllerTest {
                 ArticleDto response = ArticleFixtureUtils.adminActiveArticleFixture(articleId, "test");
 
                 // mock
-                when(articleService.getArticleInfo(articleId, SessionUtils.getSessionUserId(session)))
+                when(articleService.getArticleInfo(eq(articleId), eq(session), anyString()))
                         .thenReturn(response);
 
                 // when & then
@@ -207,6 +217,151 @@ class ArticleControllerTest {
             }
         }
 
+        @Nested
+        @DisplayName("게시물 리스트 조회")
+        class GetArticleList {
+
+            @Test
+            @DisplayName("게시판의 게시물 리스트를 조회하면, 본문을 제외한 게시물 요약 정보를 반환한다.")
+            void getArticleList_WhenBbsHaveArticlesThenReturnSummaryList() throws Exception {
+                // given
+                int bbsId = 1;
+                List<ArticleSummaryDto> response =
+                        List.of(
+                                ArticleSummaryDto.builder()
+                                        .articleId(2)
+                                        .bbsId(bbsId)
+                                        .articleTitle("Sample Article Title")
+                                        .articleReadCount(3)
+                                        .status(ArticleStatus.ACTIVE)
+                                        .createdUserId("test")
+                                        .createdAt(LocalDateTime.now())
+                                        .build());
+
+                // mock
+                when(articleService.getArticleListByBbsId(any())).thenReturn(response);
+
+                // when & then
+                mockMvc
+                        .perform(
+                                RestDocumentationRequestBuilders.get("/article/list")
+                                        .param("bbsId", String.valueOf(bbsId))
+                                        .param("cursorCreatedAt", "2022-10-01T12:00:00")
+                                        .param("cursorArticleId", "3")
+                                        .param("limit", "30"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
+                        .andDo(
+                                document(
+                                        "article/getArticleList",
+                                        requestParameters(
+                                                parameterWithName("bbsId").description("조회할 게시판 ID"),
+                                                parameterWithName("cursorCreatedAt")
+                                                        .description("이전 페이지 마지막 게시물의 작성일, 첫 페이지는 생략")
+                                                        .optional(),
+                                                parameterWithName("cursorArticleId")
+                                                        .description("이전 페이지 마지막 게시물의 ID, 첫 페이지는 생략")
+                                                        .optional(),
+                                                parameterWithName("limit").description("조회할 게시물 수(최대 100)").optional()),
+                                        responseHeaders(
+                                                headerWithName(HttpHeaders.CONTENT_TYPE)
+                                                        .description(MediaType.APPLICATION_JSON_VALUE)),
+                                        responseFields(
+                                                fieldWithPath("resultCode")
+                                                        .type(JsonFieldType.NUMBER)
+                                                        .description("실행 결과의 상태값"),
+                                                fieldWithPath("result[]").type(JsonFieldType.ARRAY).description("게시물 리스트"),
+                                                fieldWithPath("result[].articleId")
+                                                        .type(JsonFieldType.NUMBER)
+                                                        .description("Article(게시물) ID"),
+                                                fieldWithPath("result[].bbsId").type(JsonFieldType.NUMBER).description("게시판 ID"),
+                                                fieldWithPath("result[].articleTitle")
+                                                        .type(JsonFieldType.STRING)
+                                                        .description("Article(게시물) 제목"),
+                                                fieldWithPath("result[].articleReadCount")
+                                                        .type(JsonFieldType.NUMBER)
+                                                        .description("조회수"),
+                                                fieldWithPath("result[].status")
+                                                        .type(JsonFieldType.STRING)
+                                                        .description("Article(게시물) 상태"),
+                                                fieldWithPath("result[].likeCount")
+                                                        .type(JsonFieldType.NUMBER)
+                                                        .description("추천수"),
+                                                fieldWithPath("result[].notLikeCount")
+                                                        .type(JsonFieldType.NUMBER)
+                                                        .description("비추천수"),
+                                                fieldWithPath("result[].replyCount")
+                                                        .type(JsonFieldType.NUMBER)
+                                                        .description("댓글수"),
+                                                fieldWithPath("result[].createdUserId")
+                                                        .type(JsonFieldType.STRING)
+                                                        .description("생성한 사용자 ID"),
+                                                fieldWithPath("result[].createdAt")
+                                                        .type(JsonFieldType.STRING)
+                                                        .description("생성일"))));
+            }
+        }
+
+        @Nested
+        @DisplayName("인기 게시물 리스트 조회")
+        class GetTrendingArticleList {
+
+            @Test
+            @DisplayName("인기 게시물 리스트를 조회하면, 점수순으로 정렬된 게시물 리스트를 반환한다.")
+            void getTrendingArticleList_WhenPublishedThenReturnTrendingList() throws Exception {
+                // given
+                int bbsId = 1;
+                List<ArticleTrendingDto> response =
+                        List.of(
+                                ArticleTrendingDto.builder()
+                                        .articleId(2)
+                                        .bbsId(bbsId)
+                                        .articleTitle("Sample Article Title")
+                                        .createdUserId("test")
+                                        .score(12.5)
+                                        .build());
+
+                // mock
+                when(articleService.getTrendingArticleList(bbsId)).thenReturn(response);
+
+                // when & then
+                mockMvc
+                        .perform(
+                                RestDocumentationRequestBuilders.get("/article/trending")
+                                        .param("bbsId", String.valueOf(bbsId)))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
+                        .andDo(
+                                document(
+                                        "article/getTrendingArticleList",
+                                        requestParameters(
+                                                parameterWithName("bbsId")
+                                                        .description("조회할 게시판 ID, 생략하면 전체 게시판 기준")
+                                                        .optional()),
+                                        responseHeaders(
+                                                headerWithName(HttpHeaders.CONTENT_TYPE)
+                                                        .description(MediaType.APPLICATION_JSON_VALUE)),
+                                        responseFields(
+                                                fieldWithPath("resultCode")
+                                                        .type(JsonFieldType.NUMBER)
+                                                        .description("실행 결과의 상태값"),
+                                                fieldWithPath("result[]").type(JsonFieldType.ARRAY).description("인기 게시물 리스트"),
+                                                fieldWithPath("result[].articleId")
+                                                        .type(JsonFieldType.NUMBER)
+                                                        .description("Article(게시물) ID"),
+                                                fieldWithPath("result[].bbsId").type(JsonFieldType.NUMBER).description("게시판 ID"),
+                                                fieldWithPath("result[].articleTitle")
+                                                        .type(JsonFieldType.STRING)
+                                                        .description("Article(게시물) 제목"),
+                                                fieldWithPath("result[].createdUserId")
+                                                        .type(JsonFieldType.STRING)
+                                                        .description("생성한 사용자 ID"),
+                                                fieldWithPath("result[].score")
+                                                        .type(JsonFieldType.NUMBER)
+                                                        .description("시간 감쇠를 적용한 인기 점수"))));
+            }
+        }
+
         @Nested
         @DisplayName("게시물 삭제")
         class DeleteArticle {
@@ -11,17 +11,21 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.requestF
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nooblol.board.dto.ReplyDto;
 import com.nooblol.board.dto.ReplyInsertDto;
+import com.nooblol.board.dto.ReplyListSearchDto;
 import com.nooblol.board.dto.ReplyUpdateDto;
 import com.nooblol.board.service.ArticleReplyService;
 import com.nooblol.board.utils.ReplyStatus;
 import com.nooblol.global.utils.RestDocConfiguration;
 import com.nooblol.global.utils.SessionSampleObject;
 import java.time.LocalDateTime;
+import java.util.List;
 import javax.servlet.http.HttpSession;
 import org.hamcrest.core.Is;
 import org.junit.jupiter.api.DisplayName;
@@ -88,6 +92,10 @@ class ArticleReplyControllerTest {
                                         fieldWithPath("replyContent").type(String.class).description("댓글 내용"),
                                         fieldWithPath("status").type(int.class).description("댓글의 상태 값"),
                                         fieldWithPath("sortNo").type(int.class).ignored(),
+                                        fieldWithPath("parentReplyId")
+                                                .type(int.class)
+                                                .optional()
+                                                .description("답글인 경우 답글을 다는 댓글 ID"),
                                         fieldWithPath("createdAt").type(LocalDateTime.class).ignored()),
                                 responseHeaders(
                                         headerWithName(HttpHeaders.CONTENT_TYPE)
@@ -179,4 +187,69 @@ class ArticleReplyControllerTest {
                                         fieldWithPath("resultCode").type(int.class).description("실행 결과의 상태값"),
                                         fieldWithPath("result").type(boolean.class).description("실행 성공 유무"))));
     }
+
+    @Test
+    @DisplayName("댓글 리스트를 Cursor로 조회하면, 200상태코드와 함께 답글수가 포함된 댓글 리스트를 획득한다.")
+    void getReplyPage_WhenRequest_ThenReturnOkAndReplyList() throws Exception {
+        // given
+        int articleId = 1;
+        LocalDateTime cursorCreatedAt = LocalDateTime.of(2022, 9, 15, 12, 0, 0);
+        List<ReplyDto> response =
+                List.of(
+                        new ReplyDto()
+                                .builder()
+                                .replyId(11)
+                                .articleId(articleId)
+                                .replyContent("Sample Reply Content")
+                                .status(ReplyStatus.ACTIVE)
+                                .sortNo(1)
+                                .childReplyCount(2)
+                                .createdUserId("test")
+                                .createdAt(cursorCreatedAt.plusMinutes(1))
+                                .build());
+
+        // mock
+        when(articleReplyService.getReplyListByCursor(any(ReplyListSearchDto.class)))
+                .thenReturn(response);
+
+        // when & then
+        mockMvc
+                .perform(
+                        RestDocumentationRequestBuilders.get("/article/reply/page/{articleId}", articleId)
+                                .param("cursorCreatedAt", cursorCreatedAt.toString())
+                                .param("cursorReplyId", "10")
+                                .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.result[0].childReplyCount", Is.is(2)))
+                .andDo(
+                        document(
+                                "article/reply/getPage",
+                                pathParameters(parameterWithName("articleId").description("게시물 ID")),
+                                requestParameters(
+                                        parameterWithName("cursorCreatedAt")
+                                                .description("이전 페이지 마지막 댓글의 작성일, 첫 페이지인 경우 생략")
+                                                .optional(),
+                                        parameterWithName("cursorReplyId")
+                                                .description("이전 페이지 마지막 댓글의 ID, 첫 페이지인 경우 생략")
+                                                .optional(),
+                                        parameterWithName("limit").description("조회할 댓글 수, 기본 20개, 최대 100개").optional()),
+                                responseHeaders(
+                                        headerWithName(HttpHeaders.CONTENT_TYPE)
+                                                .description(MediaType.APPLICATION_JSON_VALUE)),
+                                responseFields(
+                                        fieldWithPath("resultCode").type(int.class).description("실행 결과의 상태값"),
+                                        fieldWithPath("result[].replyId").type(int.class).description("댓글 ID"),
+                                        fieldWithPath("result[].articleId").type(int.class).description("게시물 ID"),
+                                        fieldWithPath("result[].replyContent").type(String.class).description("댓글 내용"),
+                                        fieldWithPath("result[].status").type(int.class).description("댓글의 상태 값"),
+                                        fieldWithPath("result[].parentReplyId")
+                                                .type(int.class)
+                                                .optional()
+                                                .description("답글인 경우 최상위 댓글 ID"),
+                                        fieldWithPath("result[].sortNo").type(int.class).description("댓글 1, 답글 2"),
+                                        fieldWithPath("result[].childReplyCount").type(int.class).description("답글 수"),
+                                        fieldWithPath("result[].createdUserId").type(String.class).description("작성자 ID"),
+                                        fieldWithPath("result[].createdAt").type(LocalDateTime.class).description("작성일"))));
+    }
 }
@@ -3,6 +3,8 @@ package com.nooblol.board.controller;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
@@ -11,20 +13,28 @@ import static org.springframework.restdocs.request.RequestDocumentation.paramete
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nooblol.board.dto.ArticleSearchResultDto;
 import com.nooblol.board.dto.BbsDto;
 import com.nooblol.board.dto.BbsInsertDto;
 import com.nooblol.board.dto.BbsUpdateDto;
+import com.nooblol.board.dto.BoardNavigationBbsDto;
+import com.nooblol.board.dto.BoardNavigationDto;
+import com.nooblol.board.dto.BoardNavigationResponseDto;
 import com.nooblol.board.dto.CategoryDto;
 import com.nooblol.board.dto.CategoryInsertDto;
 import com.nooblol.board.dto.CategoryUpdateDto;
+import com.nooblol.board.service.ArticleSearchService;
 import com.nooblol.board.service.CategoryService;
 import com.nooblol.board.utils.BoardFixtureUtils;
 import com.nooblol.board.utils.BoardStatus;
 import com.nooblol.board.utils.CategoryStatus;
+import com.nooblol.global.dto.ResponseDto;
 import com.nooblol.global.utils.DocumentSnippetsUtils;
 import com.nooblol.global.utils.RestDocConfiguration;
 import com.nooblol.global.utils.SessionSampleObject;
@@ -42,6 +52,7 @@ import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDoc
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
@@ -62,6 +73,8 @@ class BoardControllerTest {
 
     @MockBean CategoryService categoryService;
 
+    @MockBean ArticleSearchService articleSearchService;
+
     @Nested
     @DisplayName("카테고리 테스트 케이스")
     class CategoryTest {
@@ -490,4 +503,154 @@ class BoardControllerTest {
                                     DocumentSnippetsUtils.responseFields_IsOkStatusAndResultTrue()));
         }
     }
+
+    @Nested
+    @DisplayName("게시물 검색 테스트 케이스")
+    class SearchTest {
+
+        @Test
+        @DisplayName("게시물 검색 요청시, 상태값으로 OK와 점수순으로 정렬된 검색결과를 획득한다")
+        void searchArticle_WhenRequest_ThenReturnOkAndSearchResultList() throws Exception {
+            // given
+            String keyword = "롤토체스";
+            List<ArticleSearchResultDto> searchResultList =
+                    List.of(
+                            new ArticleSearchResultDto()
+                                    .builder()
+                                    .articleId(2)
+                                    .bbsId(1)
+                                    .articleTitle("롤토체스 덱 추천")
+                                    .createdUserId("test")
+                                    .createdAt(LocalDateTime.now())
+                                    .score(12.5)
+                                    .build(),
+                            new ArticleSearchResultDto()
+                                    .builder()
+                                    .articleId(1)
+                                    .bbsId(1)
+                                    .articleTitle("오늘의 패치노트")
+                                    .createdUserId("test")
+                                    .createdAt(LocalDateTime.now())
+                                    .score(3.1)
+                                    .build());
+
+            // mock
+            when(articleSearchService.searchArticle(keyword, 1, 20)).thenReturn(searchResultList);
+
+            // when & then
+            mockMvc
+                    .perform(
+                            RestDocumentationRequestBuilders.get("/board/search")
+                                    .param("keyword", keyword)
+                                    .param("page", "1")
+                                    .param("limit", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
+                    .andExpect(jsonPath("$.result[0].articleId", Is.is(2)))
+                    .andDo(
+                            document(
+                                    "board/search",
+                                    requestParameters(
+                                            parameterWithName("keyword").description("검색어"),
+                                            parameterWithName("page").description("1부터 시작하는 페이지 번호"),
+                                            parameterWithName("limit").description("한 페이지의 건수, 최대 100건")),
+                                    DocumentSnippetsUtils.responseHeaders_ContentTypeApplicationJsonValue(),
+                                    responseFields(
+                                            fieldWithPath("resultCode").description("실행 결과의 상태값"),
+                                            fieldWithPath("result[].articleId").description("게시물 ID"),
+                                            fieldWithPath("result[].bbsId").description("게시판 ID"),
+                                            fieldWithPath("result[].articleTitle").description("게시물 제목"),
+                                            fieldWithPath("result[].createdUserId").description("작성자 ID"),
+                                            fieldWithPath("result[].createdAt").description("작성일"),
+                                            fieldWithPath("result[].score").description("검색어와 일치하는 정도"))));
+        }
+    }
+
+    @Nested
+    @DisplayName("게시판 메뉴 트리 테스트 케이스")
+    class NavigationTest {
+
+        private BoardNavigationResponseDto createSnapshot() throws Exception {
+            List<BoardNavigationDto> navigationList =
+                    List.of(
+                            BoardNavigationDto.builder()
+                                    .categoryId(1)
+                                    .categoryName("공지사항")
+                                    .bbsList(
+                                            List.of(
+                                                    BoardNavigationBbsDto.builder()
+                                                            .bbsId(1)
+                                                            .bbsName("공지 게시판")
+                                                            .build()))
+                                    .build());
+            byte[] jsonBody =
+                    objectMapper.writeValueAsBytes(
+                            new ResponseDto<>(HttpStatus.OK.value(), navigationList));
+            return BoardNavigationResponseDto.builder()
+                    .etag("\"etag-1\"")
+                    .jsonBody(jsonBody)
+                    .gzipBody(new byte[] {1, 2, 3})
+                    .build();
+        }
+
+        @Test
+        @DisplayName("메뉴 트리 요청시, 상태값으로 OK와 ETag, 카테고리별 게시판 리스트를 획득한다")
+        void getBoardNavigation_WhenRequest_ThenReturnOkAndNavigation() throws Exception {
+            // mock
+            when(categoryService.getBoardNavigation()).thenReturn(createSnapshot());
+
+            // when & then
+            mockMvc
+                    .perform(RestDocumentationRequestBuilders.get("/board/navigation"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"etag-1\""))
+                    .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
+                    .andExpect(jsonPath("$.result[0].bbsList[0].bbsId", Is.is(1)))
+                    .andDo(
+                            document(
+                                    "board/navigation",
+                                    responseHeaders(
+                                            headerWithName(HttpHeaders.CONTENT_TYPE)
+                                                    .description(MediaType.APPLICATION_JSON_VALUE),
+                                            headerWithName(HttpHeaders.ETAG)
+                                                    .description("메뉴 트리 버전, 다음 요청의 If-None-Match로 사용")),
+                                    responseFields(
+                                            fieldWithPath("resultCode").description("실행 결과의 상태값"),
+                                            fieldWithPath("result[].categoryId").description("카테고리 ID"),
+                                            fieldWithPath("result[].categoryName").description("카테고리명"),
+                                            fieldWithPath("result[].bbsList[].bbsId").description("게시판 ID"),
+                                            fieldWithPath("result[].bbsList[].bbsName").description("게시판명"))));
+        }
+
+        @Test
+        @DisplayName("메뉴 트리 요청시, gzip을 지원하면 압축된 본문을 획득한다")
+        void getBoardNavigation_WhenAcceptGzip_ThenReturnGzipBody() throws Exception {
+            // mock
+            when(categoryService.getBoardNavigation()).thenReturn(createSnapshot());
+
+            // when & then
+            mockMvc
+                    .perform(
+                            RestDocumentationRequestBuilders.get("/board/navigation")
+                                    .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                    .andExpect(content().bytes(new byte[] {1, 2, 3}));
+        }
+
+        @Test
+        @DisplayName("메뉴 트리 요청시, If-None-Match가 현재 ETag와 같으면 본문없이 NotModified를 획득한다")
+        void getBoardNavigation_WhenEtagMatched_ThenReturnNotModified() throws Exception {
+            // mock
+            when(categoryService.getBoardNavigation()).thenReturn(createSnapshot());
+
+            // when & then
+            mockMvc
+                    .perform(
+                            RestDocumentationRequestBuilders.get("/board/navigation")
+                                    .header(HttpHeaders.IF_NONE_MATCH, "\"etag-1\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().bytes(new byte[0]));
+        }
+    }
 }
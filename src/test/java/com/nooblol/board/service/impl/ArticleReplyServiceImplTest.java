@@ -3,15 +3,23 @@ package com.nooblol.board.service.impl;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import com.nooblol.board.dto.ArticleDto;
 import com.nooblol.board.dto.ReplyDto;
 import com.nooblol.board.dto.ReplyInsertDto;
+import com.nooblol.board.dto.ReplyListSearchDto;
 import com.nooblol.board.dto.ReplyUpdateDto;
+import com.nooblol.board.mapper.ArticleMapper;
 import com.nooblol.board.mapper.ArticleReplyMapper;
 import com.nooblol.board.service.ArticleService;
+import com.nooblol.board.support.ArticleInfoCache;
+import com.nooblol.board.support.ArticleSearchIndex;
+import com.nooblol.board.support.TrendingArticleRanker;
 import com.nooblol.board.utils.ReplyStatus;
 import com.nooblol.global.exception.ExceptionMessage;
 import com.nooblol.global.utils.SessionSampleObject;
 import com.nooblol.global.utils.SessionUtils;
+import com.nooblol.notification.support.NotificationHub;
+import com.nooblol.notification.utils.NotificationType;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -22,6 +30,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -32,6 +41,16 @@ class ArticleReplyServiceImplTest {
 
     @Mock private ArticleReplyMapper articleReplyMapper;
 
+    @Mock private ArticleMapper articleMapper;
+
+    @Mock private ArticleInfoCache articleInfoCache;
+
+    @Mock private ArticleSearchIndex articleSearchIndex;
+
+    @Mock private TrendingArticleRanker trendingArticleRanker;
+
+    @Mock private NotificationHub notificationHub;
+
     @Mock private ArticleService articleService;
 
     @InjectMocks private ArticleReplyServiceImpl articleReplyService;
@@ -81,12 +100,78 @@ class ArticleReplyServiceImplTest {
 
         // mock
         when(articleReplyMapper.insertReply(any())).thenReturn(1);
+        when(notificationHub.hasSubscribers()).thenReturn(true);
+        when(articleInfoCache.getArticle(testArticleId))
+                .thenReturn(
+                        ArticleDto.builder()
+                                .articleId(testArticleId)
+                                .createdUserId("articleWriter")
+                                .build());
 
         // when
         boolean result = articleReplyService.insertReply(replyInsertDto, authUserSession);
 
         // then
         assertEquals(result, true);
+        verify(articleMapper).addReplyCount(testArticleId, 1);
+        verify(articleInfoCache).evictAfterCommit(testArticleId);
+        verify(articleSearchIndex).indexReply(any());
+        verify(trendingArticleRanker).recordReply(testArticleId);
+        verify(notificationHub)
+                .publish(
+                        eq("articleWriter"),
+                        argThat(
+                                notification ->
+                                        notification.getType() == NotificationType.REPLY
+                                                && notification.getTargetId() == testArticleId));
+    }
+
+    @Test
+    @DisplayName("본인 게시물에 댓글을 작성한 경우 알림을 보내지 않는다")
+    void insertReply_WhenArticleCreatedUserRepliesThenNotPublish() {
+        // given
+        int testArticleId = 1;
+
+        ReplyInsertDto replyInsertDto =
+                ReplyInsertDto.builder().articleId(testArticleId).status(ReplyStatus.ACTIVE).build();
+
+        // mock
+        when(articleReplyMapper.insertReply(any())).thenReturn(1);
+        when(notificationHub.hasSubscribers()).thenReturn(true);
+        when(articleInfoCache.getArticle(testArticleId))
+                .thenReturn(
+                        ArticleDto.builder()
+                                .articleId(testArticleId)
+                                .createdUserId(SessionUtils.getSessionUserId(authUserSession))
+                                .build());
+
+        // when
+        articleReplyService.insertReply(replyInsertDto, authUserSession);
+
+        // then
+        verify(notificationHub, never()).publish(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("현재 서버에 연결중인 사용자가 없으면 게시물 작성자를 조회하지 않는다")
+    void insertReply_WhenNoSubscribersThenNotLookupArticleCreatedUser() {
+        // given
+        int testArticleId = 1;
+
+        ReplyInsertDto replyInsertDto =
+                ReplyInsertDto.builder().articleId(testArticleId).status(ReplyStatus.ACTIVE).build();
+
+        // mock
+        when(articleReplyMapper.insertReply(any())).thenReturn(1);
+        when(notificationHub.hasSubscribers()).thenReturn(false);
+
+        // when
+        articleReplyService.insertReply(replyInsertDto, authUserSession);
+
+        // then
+        verify(articleInfoCache, never()).getArticle(anyInt());
+        verify(articleMapper, never()).selectCreatedUserId(anyInt());
+        verify(notificationHub, never()).publish(anyString(), any());
     }
 
     @Test
@@ -276,6 +361,8 @@ class ArticleReplyServiceImplTest {
 
         // mock
         when(articleReplyMapper.selectCreatedUserIdByReplyId(testReplyId)).thenReturn("test");
+        when(articleReplyMapper.selectReplyByReplyId(testReplyId))
+                .thenReturn(new ReplyDto().builder().replyId(testReplyId).articleId(1).build());
         when(articleReplyMapper.deleteReplyByReplyId(testReplyId)).thenReturn(1);
 
         // when
@@ -283,6 +370,9 @@ class ArticleReplyServiceImplTest {
 
         // then
         assertEquals(result, true);
+        verify(articleMapper).addReplyCount(1, -1);
+        verify(articleInfoCache).evictAfterCommit(1);
+        verify(articleSearchIndex).removeReply(testReplyId);
     }
 
     @Test
@@ -293,6 +383,8 @@ class ArticleReplyServiceImplTest {
 
         // mock
         when(articleReplyMapper.selectCreatedUserIdByReplyId(testReplyId)).thenReturn("test");
+        when(articleReplyMapper.selectReplyByReplyId(testReplyId))
+                .thenReturn(new ReplyDto().builder().replyId(testReplyId).articleId(1).build());
         when(articleReplyMapper.deleteReplyByReplyId(testReplyId)).thenReturn(0);
 
         // when
@@ -311,6 +403,8 @@ class ArticleReplyServiceImplTest {
         // mock
         when(articleReplyMapper.selectCreatedUserIdByReplyId(testReplyId))
                 .thenReturn("NotCreatedUserId");
+        when(articleReplyMapper.selectReplyByReplyId(testReplyId))
+                .thenReturn(new ReplyDto().builder().replyId(testReplyId).articleId(1).build());
         when(articleReplyMapper.deleteReplyByReplyId(testReplyId)).thenReturn(1);
 
         // when
@@ -329,6 +423,8 @@ class ArticleReplyServiceImplTest {
         // mock
         when(articleReplyMapper.selectCreatedUserIdByReplyId(testReplyId))
                 .thenReturn("NotCreatedUserId");
+        when(articleReplyMapper.selectReplyByReplyId(testReplyId))
+                .thenReturn(new ReplyDto().builder().replyId(testReplyId).articleId(1).build());
         when(articleReplyMapper.deleteReplyByReplyId(testReplyId)).thenReturn(0);
 
         // when
@@ -461,4 +557,183 @@ class ArticleReplyServiceImplTest {
             }
         }
     }
+
+    @Test
+    @DisplayName("답글에 답글을 추가하는 경우, 최상위 댓글의 답글로 추가된다")
+    void insertReply_WhenParentIsChildReplyThenInsertToRootReply() {
+        // given
+        int testArticleId = 1;
+        ReplyInsertDto replyInsertDto =
+                new ReplyInsertDto()
+                        .builder()
+                        .articleId(testArticleId)
+                        .status(ReplyStatus.ACTIVE)
+                        .parentReplyId(2)
+                        .build();
+        ArgumentCaptor<ReplyDto> captor = ArgumentCaptor.forClass(ReplyDto.class);
+
+        // mock
+        when(articleReplyMapper.selectReplyByReplyId(2))
+                .thenReturn(
+                        new ReplyDto()
+                                .builder()
+                                .replyId(2)
+                                .articleId(testArticleId)
+                                .parentReplyId(1)
+                                .build());
+        when(articleReplyMapper.insertReply(captor.capture())).thenReturn(1);
+
+        // when
+        boolean result = articleReplyService.insertReply(replyInsertDto, authUserSession);
+
+        // then
+        assertEquals(result, true);
+        assertEquals(captor.getValue().getParentReplyId(), 1);
+        assertEquals(captor.getValue().getSortNo(), 2);
+    }
+
+    @Test
+    @DisplayName("다른 게시물의 댓글에 답글을 추가하는 경우 BadRequestException이 발생한다")
+    void insertReply_WhenParentReplyIsOtherArticleThenBadRequestException() {
+        // given
+        ReplyInsertDto replyInsertDto =
+                new ReplyInsertDto()
+                        .builder()
+                        .articleId(1)
+                        .status(ReplyStatus.ACTIVE)
+                        .parentReplyId(5)
+                        .build();
+
+        // mock
+        when(articleReplyMapper.selectReplyByReplyId(5))
+                .thenReturn(new ReplyDto().builder().replyId(5).articleId(2).build());
+
+        // when
+        Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> articleReplyService.insertReply(replyInsertDto, authUserSession));
+
+        // then
+        assertEquals(e.getMessage(), ExceptionMessage.BAD_REQUEST);
+        verify(articleReplyMapper, never()).insertReply(any());
+    }
+
+    @Test
+    @DisplayName("최상위 댓글을 삭제하는 경우 답글도 같이 삭제되며, 게시물의 댓글수도 답글수만큼 같이 감소한다")
+    void deleteReply_WhenRootReplyHaveChildThenDeleteChildReply() {
+        // given
+        int testReplyId = 1;
+
+        // mock
+        when(articleReplyMapper.selectCreatedUserIdByReplyId(testReplyId)).thenReturn("test");
+        when(articleReplyMapper.selectReplyByReplyId(testReplyId))
+                .thenReturn(new ReplyDto().builder().replyId(testReplyId).articleId(1).build());
+        when(articleReplyMapper.selectReplyIdListByParentReplyId(testReplyId))
+                .thenReturn(List.of(2, 3));
+        when(articleReplyMapper.deleteReplyByParentReplyId(testReplyId)).thenReturn(2);
+        when(articleReplyMapper.deleteReplyByReplyId(testReplyId)).thenReturn(1);
+
+        // when
+        boolean result = articleReplyService.deleteReplyByReplyId(testReplyId, authUserSession);
+
+        // then
+        assertEquals(result, true);
+        verify(articleReplyMapper).deleteReplyByParentReplyId(testReplyId);
+        verify(articleMapper).addReplyCount(1, -3);
+        verify(articleSearchIndex).removeReply(2);
+        verify(articleSearchIndex).removeReply(3);
+    }
+
+    @Test
+    @DisplayName("댓글 리스트 조회시 Cursor값이 하나만 있는 경우 BadRequestException이 발생한다")
+    void getReplyListByCursor_WhenHalfCursorThenBadRequestException() {
+        // given
+        ReplyListSearchDto searchDto =
+                ReplyListSearchDto.builder().articleId(1).cursorReplyId(10).limitNum(20).build();
+
+        // when
+        Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> articleReplyService.getReplyListByCursor(searchDto));
+
+        // then
+        assertEquals(e.getMessage(), ExceptionMessage.BAD_REQUEST);
+        verifyNoInteractions(articleReplyMapper);
+    }
+
+    @Test
+    @DisplayName("최상위 댓글을 삭제할 때 조회 이후 답글이 삭제된 경우, 게시물의 댓글수는 실제 삭제된 답글수만큼 감소한다")
+    void deleteReply_WhenChildReplyDeletedConcurrentlyThenDecreaseByDeletedCount() {
+        // given
+        int testReplyId = 1;
+
+        // mock
+        when(articleReplyMapper.selectCreatedUserIdByReplyId(testReplyId)).thenReturn("test");
+        when(articleReplyMapper.selectReplyByReplyId(testReplyId))
+                .thenReturn(new ReplyDto().builder().replyId(testReplyId).articleId(1).build());
+        when(articleReplyMapper.selectReplyIdListByParentReplyId(testReplyId))
+                .thenReturn(List.of(2, 3));
+        when(articleReplyMapper.deleteReplyByParentReplyId(testReplyId)).thenReturn(1);
+        when(articleReplyMapper.deleteReplyByReplyId(testReplyId)).thenReturn(1);
+
+        // when
+        articleReplyService.deleteReplyByReplyId(testReplyId, authUserSession);
+
+        // then
+        verify(articleMapper).addReplyCount(1, -2);
+    }
+
+    @Test
+    @DisplayName("답글 리스트 조회시 게시물의 존재여부와 최상위 댓글인지 확인하며, 최대 건수를 넘는 경우 최대 건수로 조회한다")
+    void getReplyListByCursor_WhenChildReplyListThenClampLimit() {
+        // given
+        ReplyListSearchDto searchDto =
+                ReplyListSearchDto.builder().articleId(1).parentReplyId(1).limitNum(1000).build();
+
+        // mock
+        when(articleReplyMapper.selectReplyByReplyId(1))
+                .thenReturn(new ReplyDto().builder().replyId(1).articleId(1).build());
+
+        // when
+        articleReplyService.getReplyListByCursor(searchDto);
+
+        // then
+        assertEquals(searchDto.getLimitNum(), 100);
+        verify(articleService).checkNotExistsArticleByArticleId(1);
+        verify(articleReplyMapper).selectReplyListByCursor(searchDto);
+    }
+
+    @Test
+    @DisplayName("답글 리스트 조회시 댓글이 다른 게시물의 댓글이거나 답글인 경우 BadRequestException이 발생한다")
+    void getReplyListByCursor_WhenParentIsNotRootReplyOfArticleThenBadRequestException() {
+        // given
+        ReplyListSearchDto otherArticleSearchDto =
+                ReplyListSearchDto.builder().articleId(1).parentReplyId(1).limitNum(20).build();
+        ReplyListSearchDto childReplySearchDto =
+                ReplyListSearchDto.builder().articleId(1).parentReplyId(2).limitNum(20).build();
+
+        // mock
+        when(articleReplyMapper.selectReplyByReplyId(1))
+                .thenReturn(new ReplyDto().builder().replyId(1).articleId(2).build());
+        when(articleReplyMapper.selectReplyByReplyId(2))
+                .thenReturn(
+                        new ReplyDto().builder().replyId(2).articleId(1).parentReplyId(1).build());
+
+        // when
+        Exception otherArticleException =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> articleReplyService.getReplyListByCursor(otherArticleSearchDto));
+        Exception childReplyException =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> articleReplyService.getReplyListByCursor(childReplySearchDto));
+
+        // then
+        assertEquals(otherArticleException.getMessage(), ExceptionMessage.BAD_REQUEST);
+        assertEquals(childReplyException.getMessage(), ExceptionMessage.BAD_REQUEST);
+        verify(articleReplyMapper, never()).selectReplyListByCursor(any());
+    }
 }
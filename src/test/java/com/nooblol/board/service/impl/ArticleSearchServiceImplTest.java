@@ -0,0 +1,45 @@
+package com.nooblol.board.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.nooblol.board.support.ArticleSearchIndex;
+import com.nooblol.global.exception.ExceptionMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchServiceImplTest {
+
+    @Mock private ArticleSearchIndex articleSearchIndex;
+
+    @InjectMocks private ArticleSearchServiceImpl articleSearchService;
+
+    @Test
+    @DisplayName("검색어가 공백인 경우 BadRequest Exception이 발생한다")
+    void searchArticle_WhenKeywordIsBlankThenBadRequestException() {
+        // when
+        Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> articleSearchService.searchArticle(" ", 1, 20));
+
+        // then
+        assertEquals(e.getMessage(), ExceptionMessage.BAD_REQUEST);
+        verifyNoInteractions(articleSearchIndex);
+    }
+
+    @Test
+    @DisplayName("요청 건수가 최대 건수를 넘는 경우 최대 건수로 조정하여 페이지의 시작위치를 계산한다")
+    void searchArticle_WhenLimitIsOverMaxThenClampLimit() {
+        // when
+        articleSearchService.searchArticle("정글", 3, 1000);
+
+        // then
+        verify(articleSearchIndex).search("정글", 200, 100);
+    }
+}
@@ -4,8 +4,16 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import com.nooblol.board.dto.ArticleDto;
+import com.nooblol.board.dto.ArticleListSearchDto;
+import com.nooblol.board.dto.ArticleSummaryDto;
+import com.nooblol.board.mapper.ArticleDeleteQueueMapper;
 import com.nooblol.board.mapper.ArticleMapper;
-import com.nooblol.board.mapper.ArticleStatusMapper;
+import com.nooblol.board.support.ArticleExistenceIndex;
+import com.nooblol.board.support.ArticleInfoCache;
+import com.nooblol.board.support.ArticleSearchIndex;
+import com.nooblol.board.support.TrendingArticleRanker;
+import com.nooblol.board.support.UniqueViewerCounter;
+import com.nooblol.board.support.ArticleReadCountBuffer;
 import com.nooblol.board.utils.ArticleAuthMessage;
 import com.nooblol.board.utils.ArticleStatus;
 import com.nooblol.global.exception.ExceptionMessage;
@@ -14,6 +22,8 @@ import com.nooblol.global.utils.SessionSampleObject;
 import com.nooblol.global.utils.SessionUtils;
 import com.nooblol.user.dto.UserDto;
 import com.nooblol.user.utils.UserRoleStatus;
+import java.time.LocalDateTime;
+import java.util.List;
 import javax.servlet.http.HttpSession;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,78 +38,82 @@ class ArticleServiceImplTest {
 
     @Mock private ArticleMapper articleMapper;
 
-    @Mock private ArticleStatusMapper articleStatusMapper;
+    @Mock private ArticleDeleteQueueMapper articleDeleteQueueMapper;
+
+    @Mock private ArticleReadCountBuffer articleReadCountBuffer;
+
+    @Mock private ArticleInfoCache articleInfoCache;
+
+    @Mock private ArticleSearchIndex articleSearchIndex;
+
+    @Mock private ArticleExistenceIndex articleExistenceIndex;
+
+    @Mock private TrendingArticleRanker trendingArticleRanker;
+
+    @Mock private UniqueViewerCounter uniqueViewerCounter;
 
     @InjectMocks private ArticleServiceImpl articleService;
 
     @Test
-    @DisplayName("UserId가 공백인 경우, 결과값이 GUEST로 반환된다")
-    void getUserArticleAuth_WhenUserIdIsBlankThenReturnGuest() {
+    @DisplayName("로그인 하지 않은 Session인 경우, 결과값이 GUEST로 반환된다")
+    void getUserArticleAuth_WhenNotLoginSessionThenReturnGuest() {
         // given
+        HttpSession session = new MockHttpSession();
 
         // when
-        String result = articleService.getUserArticleAuth("");
+        String result = articleService.getUserArticleAuth(session);
 
         // then
         assertEquals(result, ArticleAuthMessage.GUEST.name());
     }
 
     @Test
-    @DisplayName("UserId가 관리자인 경우, 결과값이 ADMIN으로 반환된다.")
-    void getUserArticleAuth_WhenUserIdAdminThenReturnAdmin() {
-        // given
-        String adminUserId = "test-admin-user";
-
-        // mock
-        when(articleMapper.selectUserAuth(adminUserId)).thenReturn(UserRoleStatus.ADMIN.getRoleValue());
-
+    @DisplayName("Session의 사용자가 관리자인 경우, 결과값이 ADMIN으로 반환된다.")
+    void getUserArticleAuth_WhenSessionUserAdminThenReturnAdmin() {
         // when
-        String result = articleService.getUserArticleAuth(adminUserId);
+        String result =
+                articleService.getUserArticleAuth(SessionSampleObject.adminUserLoginSession);
 
         // then
         assertEquals(result, ArticleAuthMessage.ADMIN.name());
     }
 
     @Test
-    @DisplayName("UserId가 일반 사용자 경우, 결과값이 USER로 반환된다.")
-    void getUserArticleAuth_WhenUserIdUserThenReturnUser() {
-        // given
-        String userId = "test-user";
-
-        // mock
-        when(articleMapper.selectUserAuth(userId)).thenReturn(UserRoleStatus.AUTH_USER.getRoleValue());
-
+    @DisplayName("Session의 사용자가 일반 사용자 경우, 결과값이 USER로 반환된다.")
+    void getUserArticleAuth_WhenSessionUserThenReturnUser() {
         // when
-        String result = articleService.getUserArticleAuth(userId);
+        String result = articleService.getUserArticleAuth(SessionSampleObject.authUserLoginSession);
 
         // then
         assertEquals(result, ArticleAuthMessage.USER.name());
     }
 
     @Test
-    @DisplayName("articleId가 실제로 존재하지 않는 경우 Exception이 발생한다")
+    @DisplayName("articleId가 실제로 존재하지 않는 경우 Exception이 발생하며, 조회수는 증가하지 않는다")
     void getArticleInfo_WhenArticleIsNullThenNoDataException() {
         // given
         int emptyArticleId = 99999;
 
         // mock
-        when(articleMapper.selectArticleByArticleId(emptyArticleId)).thenReturn(null);
+        when(articleInfoCache.getArticle(emptyArticleId)).thenReturn(null);
 
         // when
         Exception e =
                 assertThrows(
                         IllegalArgumentException.class,
                         () -> {
-                            articleService.getArticleInfo(emptyArticleId, "");
+                            articleService.getArticleInfo(
+                                    emptyArticleId, new MockHttpSession(), "fingerprint");
                         });
 
         // then
         assertEquals(e.getMessage(), ExceptionMessage.NO_DATA);
+        verify(articleReadCountBuffer, never()).increment(emptyArticleId);
     }
 
     @Test
-    @DisplayName("articleId가 실제로 존재하는 경우, 게시물 정보를 반환한다.")
-    void getArticleInfo_WhenArticleIdHaveDataThenReturnArticleDto() {
+    @DisplayName("articleId가 실제로 존재하는 경우, Cache된 객체의 복사본을 반환한다.")
+    void getArticleInfo_WhenArticleIdHaveDataThenReturnCopiedArticleDto() {
         // given
         int articleId = 1;
 
@@ -113,13 +127,68 @@ class ArticleServiceImplTest {
                         .build();
 
         // mock
-        when(articleMapper.selectArticleByArticleId(articleId)).thenReturn(mockData);
+        when(articleInfoCache.getArticle(articleId)).thenReturn(mockData);
+
+        // when
+        ArticleDto result =
+                articleService.getArticleInfo(
+                        articleId, SessionSampleObject.authUserLoginSession, "fingerprint");
+
+        // then
+        assertNotSame(result, mockData);
+        assertEquals(result.getArticleTitle(), mockData.getArticleTitle());
+        assertEquals(result.getAuthMessage(), ArticleAuthMessage.USER.name());
+        assertNull(mockData.getAuthMessage());
+        verifyNoInteractions(articleMapper);
+        verify(trendingArticleRanker).recordView(articleId, 1);
+    }
+
+    @Test
+    @DisplayName("게시물을 조회하는 경우, 아직 DB에 반영되지 않은 조회수를 더하여 반환한다.")
+    void getArticleInfo_WhenHavePendingReadCountThenReturnMergedReadCount() {
+        // given
+        int articleId = 1;
+
+        ArticleDto mockData =
+                new ArticleDto().builder().articleId(articleId).bbsId(1).articleReadCount(10).build();
+
+        // mock
+        when(articleInfoCache.getArticle(articleId)).thenReturn(mockData);
+        when(articleReadCountBuffer.getPendingCount(articleId)).thenReturn(3L);
 
         // when
-        ArticleDto result = articleService.getArticleInfo(articleId, "");
+        ArticleDto result =
+                articleService.getArticleInfo(articleId, new MockHttpSession(), "fingerprint");
 
         // then
-        assertEquals(result, mockData);
+        verify(articleReadCountBuffer).increment(articleId);
+        assertEquals(result.getArticleReadCount(), 13);
+        assertEquals(mockData.getArticleReadCount(), 10);
+    }
+
+    @Test
+    @DisplayName("게시물을 조회하는 경우, 로그인한 사용자는 사용자 ID로, Guest는 Client 정보로 순 방문자를 기록한다.")
+    void getArticleInfo_WhenViewThenRecordUniqueViewerByUserIdOrFingerprint() {
+        // given
+        int articleId = 1;
+        HttpSession authUserSession = SessionSampleObject.authUserLoginSession;
+
+        ArticleDto mockData = new ArticleDto().builder().articleId(articleId).bbsId(1).build();
+
+        // mock
+        when(articleInfoCache.getArticle(articleId)).thenReturn(mockData);
+        when(uniqueViewerCounter.getUniqueViewers(articleId)).thenReturn(2L);
+
+        // when
+        articleService.getArticleInfo(articleId, authUserSession, "fingerprint");
+        ArticleDto result =
+                articleService.getArticleInfo(articleId, new MockHttpSession(), "fingerprint");
+
+        // then
+        verify(uniqueViewerCounter)
+                .recordViewer(articleId, "user:" + SessionUtils.getSessionUserId(authUserSession));
+        verify(uniqueViewerCounter).recordViewer(articleId, "guest:fingerprint");
+        assertEquals(result.getUniqueViewers(), 2L);
     }
 
     @Test
@@ -166,6 +235,7 @@ class ArticleServiceImplTest {
 
         // then
         assertEquals(result, true);
+        verify(articleInfoCache).evictAfterCommit(mockArticleDto.getArticleId());
     }
 
     @Test
@@ -272,15 +342,16 @@ class ArticleServiceImplTest {
                         .build();
 
         // mock
-        when(articleMapper.deleteArticleByArticleId(testArticleId)).thenReturn(1);
+        when(articleMapper.softDeleteArticle(eq(testArticleId), any())).thenReturn(1);
         when(articleMapper.selectArticleByArticleId(testArticleId)).thenReturn(mockReturnDto);
-        when(articleStatusMapper.deleteArticleStatus(any())).thenReturn(1);
 
         // when
         boolean result = articleService.deleteArticle(testArticleId, adminUserLoginSession);
 
         // then
         assertEquals(result, true);
+        verify(articleDeleteQueueMapper).insertDeleteQueue(eq(testArticleId), any());
+        verify(articleInfoCache).evictAfterCommit(testArticleId);
     }
 
     @Test
@@ -306,9 +377,8 @@ class ArticleServiceImplTest {
                 new ArticleDto().builder().createdUserId(sessionUserData.getUserId()).build();
 
         // mock
-        when(articleMapper.deleteArticleByArticleId(testArticleId)).thenReturn(1);
+        when(articleMapper.softDeleteArticle(eq(testArticleId), any())).thenReturn(1);
         when(articleMapper.selectArticleByArticleId(testArticleId)).thenReturn(mockReturnDto);
-        when(articleStatusMapper.deleteArticleStatus(any())).thenReturn(1);
 
         // when
         boolean result = articleService.deleteArticle(testArticleId, session);
@@ -317,6 +387,52 @@ class ArticleServiceImplTest {
         assertEquals(result, true);
     }
 
+    @Test
+    @DisplayName("게시글을 삭제할 때 이미 삭제 상태로 변경된 경우, 삭제 Queue에 다시 등록하지 않고 Return으로 False값을 받는다.")
+    void deleteArticle_WhenAlreadySoftDeletedThenReturnFalse() {
+        // given
+        int testArticleId = 1;
+
+        HttpSession adminUserLoginSession = SessionSampleObject.adminUserLoginSession;
+
+        ArticleDto mockReturnDto =
+                new ArticleDto()
+                        .builder()
+                        .createdUserId(SessionUtils.getSessionUserId(adminUserLoginSession))
+                        .build();
+
+        // mock
+        when(articleMapper.softDeleteArticle(eq(testArticleId), any())).thenReturn(0);
+        when(articleMapper.selectArticleByArticleId(testArticleId)).thenReturn(mockReturnDto);
+
+        // when
+        boolean result = articleService.deleteArticle(testArticleId, adminUserLoginSession);
+
+        // then
+        assertEquals(result, false);
+        verify(articleDeleteQueueMapper, never()).insertDeleteQueue(anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("게시물을 등록할 때 상태가 삭제인 경우 BadRequest Exception이 발생한다")
+    void insertArticle_WhenStatusIsDeleteThenBadRequestException() {
+        // given
+        ArticleDto mockArticleDto =
+                new ArticleDto().builder().status(ArticleStatus.DELETE).build();
+
+        // when
+        Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> {
+                            articleService.insertArticle(mockArticleDto);
+                        });
+
+        // then
+        assertEquals(e.getMessage(), ExceptionMessage.BAD_REQUEST);
+        verify(articleMapper, never()).insertArticle(any());
+    }
+
     @Test
     @DisplayName("게시글을 삭제할 때 일반사용자가 요청시 작성자가 아닌 경우, ForBidden Exception이 발생한다.")
     void deleteArticle_WhenUserIsNotCreatedUserThenForbiddenException() {
@@ -352,4 +468,67 @@ class ArticleServiceImplTest {
         // then
         assertEquals(e.getMessage(), ExceptionMessage.FORBIDDEN);
     }
+
+    @Test
+    @DisplayName("게시물 리스트 조회시 Cursor가 createdAt, articleId중 한개만 존재하면 BadRequest Exception이 발생한다")
+    void getArticleListByBbsId_WhenCursorIsHalfThenBadRequestException() {
+        // given
+        ArticleListSearchDto searchDto =
+                ArticleListSearchDto.builder()
+                        .bbsId(1)
+                        .cursorCreatedAt(LocalDateTime.now())
+                        .limitNum(30)
+                        .build();
+
+        // when
+        Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> {
+                            articleService.getArticleListByBbsId(searchDto);
+                        });
+
+        // then
+        assertEquals(e.getMessage(), ExceptionMessage.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("게시물 리스트 조회시 limit이 최대값을 넘으면 최대값으로 제한하여 조회한다")
+    void getArticleListByBbsId_WhenLimitIsOverMaxThenLimitIsMax() {
+        // given
+        ArticleListSearchDto searchDto =
+                ArticleListSearchDto.builder().bbsId(1).limitNum(10000).build();
+        List<ArticleSummaryDto> mockList =
+                List.of(ArticleSummaryDto.builder().articleId(1).bbsId(1).build());
+
+        // mock
+        when(articleMapper.selectArticleListByBbsId(searchDto)).thenReturn(mockList);
+
+        // when
+        List<ArticleSummaryDto> result = articleService.getArticleListByBbsId(searchDto);
+
+        // then
+        assertEquals(result, mockList);
+        assertEquals(searchDto.getLimitNum(), 100);
+    }
+
+    @Test
+    @DisplayName("게시물이 존재하지 않는 경우 게시물 Row를 조회하지 않고 BadRequest Exception이 발생한다")
+    void checkNotExistsArticleByArticleId_WhenNotExistsThenBadRequestException() {
+        // given
+        int articleId = 99999;
+
+        // mock
+        when(articleExistenceIndex.exists(articleId)).thenReturn(false);
+
+        // when
+        Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> articleService.checkNotExistsArticleByArticleId(articleId));
+
+        // then
+        assertEquals(e.getMessage(), ExceptionMessage.BAD_REQUEST);
+        verifyNoInteractions(articleMapper);
+    }
 }
@@ -0,0 +1,196 @@
+package com.nooblol.board.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nooblol.board.dto.ArticleDto;
+import com.nooblol.board.service.ArticleService;
+import com.nooblol.board.service.ArticleStatusService;
+import com.nooblol.board.utils.ArticleStatus;
+import com.nooblol.global.utils.SessionEnum;
+import com.nooblol.user.dto.UserDto;
+import com.nooblol.user.utils.UserRoleStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+
+/**
+ * 한 게시물에 추천 요청이 동시에 몰리는 경우, 추천 Row와 비정규화된 추천수가 일치하는지와 처리량을 확인한다.
+ *
+ * <p>(article_id, user_id) PK와 INSERT IGNORE, DELETE의 처리건수로 판단하므로, 같은 사용자의 요청이 동시에 들어와도 Row는 최대 1건이다.
+ *
+ * <p>실행 시간이 길어 기본 test Task에서는 제외하며, benchmarkTest Task로 실행한다.
+ */
+@Slf4j
+@SpringBootTest(
+        properties = {
+            "spring.datasource.url=jdbc:h2:mem:contention;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;"
+                    + "LOCK_TIMEOUT=10000",
+            "spring.datasource.username=sa",
+            "spring.datasource.password=",
+            "spring.datasource.driver-class-name=org.h2.Driver",
+            "spring.sql.init.mode=always"
+        })
+@Tag("benchmark")
+class ArticleStatusContentionTest {
+
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired private ArticleService articleService;
+
+    @Autowired private ArticleStatusService articleStatusService;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("서로 다른 사용자가 동시에 추천하면 요청수만큼 추천 Row와 추천수가 증가한다")
+    void likeArticle_WhenDistinctUsersLikeConcurrentlyThenCountEqualsRequests() throws Exception {
+        // given
+        int articleId = createArticle();
+        int userCount = 400;
+        List<HttpSession> sessionList = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            sessionList.add(createSession("like-user-" + i));
+        }
+
+        // when
+        long startNanos = System.nanoTime();
+        AtomicInteger failCount = runConcurrently(articleId, sessionList);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        log.info(
+                "[ArticleStatusContentionTest] "
+                        + userCount
+                        + " likes, "
+                        + THREAD_COUNT
+                        + " threads : "
+                        + elapsedMillis
+                        + "ms, "
+                        + (userCount * 1000L / Math.max(elapsedMillis, 1))
+                        + " ops/s");
+
+        // then
+        assertEquals(failCount.get(), 0);
+        assertEquals(countStatusRow(articleId), userCount);
+        assertEquals(selectLikeCount(articleId), userCount);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 동시에 여러번 추천해도 사용자별 Row는 최대 1건이며, 추천수는 실제 Row수와 같다")
+    void likeArticle_WhenSameUserDoubleClicksThenNoDuplicateRow() throws Exception {
+        // given
+        int articleId = createArticle();
+        int userCount = 100;
+        List<HttpSession> sessionList = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            HttpSession session = createSession("double-click-user-" + i);
+            sessionList.add(session);
+            sessionList.add(session);
+        }
+
+        // when
+        runConcurrently(articleId, sessionList);
+
+        // then
+        Integer maxRowPerUser =
+                jdbcTemplate.queryForObject(
+                        "SELECT COALESCE(MAX(cnt), 0)"
+                                + " FROM (SELECT COUNT(*) cnt FROM bbs_articles_status"
+                                + " WHERE article_id = ? GROUP BY user_id) t",
+                        Integer.class,
+                        articleId);
+        assertTrue(maxRowPerUser <= 1);
+        assertEquals(selectLikeCount(articleId), countStatusRow(articleId));
+    }
+
+    /**
+     * 모든 요청을 동시에 시작하며, 실패한 요청(이미 다른 요청이 처리한 경우 등)의 수를 반환한다.
+     *
+     * @param articleId
+     * @param sessionList
+     * @return
+     * @throws Exception
+     */
+    private AtomicInteger runConcurrently(int articleId, List<HttpSession> sessionList)
+            throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger failCount = new AtomicInteger();
+        List<Future<?>> futureList = new ArrayList<>();
+        try {
+            for (HttpSession session : sessionList) {
+                futureList.add(
+                        executorService.submit(
+                                () -> {
+                                    startLatch.await();
+                                    try {
+                                        articleStatusService.likeArticle(articleId, session);
+                                    } catch (Exception e) {
+                                        failCount.incrementAndGet();
+                                    }
+                                    return null;
+                                }));
+            }
+            startLatch.countDown();
+            for (Future<?> future : futureList) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        return failCount;
+    }
+
+    private int createArticle() {
+        ArticleDto articleDto =
+                ArticleDto.builder()
+                        .bbsId(1)
+                        .articleTitle("Contention Test")
+                        .articleContent("Contention Test")
+                        .status(ArticleStatus.ACTIVE)
+                        .createdUserId("test")
+                        .createdAt(LocalDateTime.now())
+                        .updatedAt(LocalDateTime.now())
+                        .build();
+        articleService.insertArticle(articleDto);
+        return articleDto.getArticleId();
+    }
+
+    private HttpSession createSession(String userId) {
+        UserDto userDto =
+                UserDto.builder()
+                        .userId(userId)
+                        .userRole(UserRoleStatus.AUTH_USER.getRoleValue())
+                        .build();
+        HttpSession session = new MockHttpSession();
+        session.setAttribute(SessionEnum.USER_LOGIN.getValue(), userDto);
+        return session;
+    }
+
+    private int countStatusRow(int articleId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bbs_articles_status WHERE article_id = ? AND type = 1",
+                Integer.class,
+                articleId);
+    }
+
+    private int selectLikeCount(int articleId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT like_count FROM bbs_articles WHERE article_id = ?",
+                Integer.class,
+                articleId);
+    }
+}
@@ -2,20 +2,32 @@ package com.nooblol.board.service.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.nooblol.board.dto.ArticleDto;
 import com.nooblol.board.dto.ArticleStatusDto;
+import com.nooblol.board.mapper.ArticleMapper;
 import com.nooblol.board.mapper.ArticleStatusMapper;
+import com.nooblol.board.support.ArticleInfoCache;
+import com.nooblol.board.support.TrendingArticleRanker;
 import com.nooblol.board.utils.ArticleLikeStatus;
 import com.nooblol.global.exception.ExceptionMessage;
 import com.nooblol.global.utils.SessionEnum;
+import com.nooblol.notification.support.NotificationHub;
+import com.nooblol.notification.utils.NotificationType;
 import com.nooblol.user.dto.UserDto;
 import com.nooblol.user.utils.UserRoleStatus;
 import javax.servlet.http.HttpSession;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -26,6 +38,14 @@ class ArticleStatusServiceImplTest {
 
     @Mock private ArticleStatusMapper articleStatusMapper;
 
+    @Mock private ArticleMapper articleMapper;
+
+    @Mock private ArticleInfoCache articleInfoCache;
+
+    @Mock private TrendingArticleRanker trendingArticleRanker;
+
+    @Mock private NotificationHub notificationHub;
+
     @Mock private ArticleServiceImpl articleService;
 
     @InjectMocks private ArticleStatusServiceImpl articleStatusService;
@@ -74,17 +94,33 @@ class ArticleStatusServiceImplTest {
         session.setAttribute(SessionEnum.USER_LOGIN.getValue(), mockUserDto);
 
         // mock
-        when(articleStatusMapper.selectArticleStatusByArticleIdAndUserId(any())).thenReturn(null);
-        when(articleStatusMapper.insertArticleStatus(any())).thenReturn(1);
+        when(articleStatusMapper.insertArticleStatusIfAbsent(any())).thenReturn(1);
+        when(notificationHub.hasSubscribers()).thenReturn(true);
+        when(articleInfoCache.getArticle(testArticleId))
+                .thenReturn(
+                        ArticleDto.builder()
+                                .articleId(testArticleId)
+                                .createdUserId("articleWriter")
+                                .build());
 
         // then
         boolean result = articleStatusService.likeArticle(testArticleId, session);
 
         assertEquals(result, true);
+        verify(articleMapper).addLikeCount(testArticleId, 1, 0);
+        verify(articleInfoCache).evictAfterCommit(testArticleId);
+        verify(trendingArticleRanker).recordLike(testArticleId);
+        verify(notificationHub)
+                .publish(
+                        eq("articleWriter"),
+                        argThat(
+                                notification ->
+                                        notification.getType() == NotificationType.LIKE
+                                                && "test".equals(notification.getActorUserId())));
     }
 
     @Test
-    @DisplayName("게시글을 추천할떄, 이미 비추천을 한상황이면 BadRequest Exception이 발생한다.")
+    @DisplayName("게시글을 추천할떄, 이미 비추천을 한상황이면 추천, 비추천수는 변경되지 않고 BadRequest Exception이 발생한다.")
     void likeArticle_WhenArticleLikeAndHistoryIsNotLikeThenBadRequestException() {
         // given
         int testArticleId = 1;
@@ -103,17 +139,9 @@ class ArticleStatusServiceImplTest {
         HttpSession session = new MockHttpSession();
         session.setAttribute(SessionEnum.USER_LOGIN.getValue(), mockUserDto);
 
-        ArticleStatusDto mockArticleStatusDto =
-                new ArticleStatusDto()
-                        .builder()
-                        .articleId(testArticleId)
-                        .userId(mockUserDto.getUserId())
-                        .likeType(ArticleLikeStatus.NOT_LIKE)
-                        .build();
-
         // mock
-        when(articleStatusMapper.selectArticleStatusByArticleIdAndUserId(any()))
-                .thenReturn(mockArticleStatusDto);
+        when(articleStatusMapper.insertArticleStatusIfAbsent(any())).thenReturn(0);
+        when(articleStatusMapper.deleteArticleStatus(any())).thenReturn(0);
 
         // when
         Exception result =
@@ -125,6 +153,7 @@ class ArticleStatusServiceImplTest {
 
         // then
         assertEquals(result.getMessage(), ExceptionMessage.BAD_REQUEST);
+        verify(articleMapper, never()).addLikeCount(anyInt(), anyInt(), anyInt());
     }
 
     @Test
@@ -147,17 +176,8 @@ class ArticleStatusServiceImplTest {
         HttpSession session = new MockHttpSession();
         session.setAttribute(SessionEnum.USER_LOGIN.getValue(), mockUserDto);
 
-        ArticleStatusDto mockArticleStatusDto =
-                new ArticleStatusDto()
-                        .builder()
-                        .articleId(testArticleId)
-                        .userId(mockUserDto.getUserId())
-                        .likeType(ArticleLikeStatus.LIKE)
-                        .build();
-
         // mock
-        when(articleStatusMapper.selectArticleStatusByArticleIdAndUserId(any()))
-                .thenReturn(mockArticleStatusDto);
+        when(articleStatusMapper.insertArticleStatusIfAbsent(any())).thenReturn(0);
         when(articleStatusMapper.deleteArticleStatus(any())).thenReturn(1);
 
         // when
@@ -165,5 +185,10 @@ class ArticleStatusServiceImplTest {
 
         // then
         assertEquals(result, true);
+        verify(articleMapper).addLikeCount(testArticleId, -1, 0);
+        ArgumentCaptor<ArticleStatusDto> deleteCaptor =
+                ArgumentCaptor.forClass(ArticleStatusDto.class);
+        verify(articleStatusMapper).deleteArticleStatus(deleteCaptor.capture());
+        assertEquals(deleteCaptor.getValue().getLikeType(), ArticleLikeStatus.LIKE);
     }
 }
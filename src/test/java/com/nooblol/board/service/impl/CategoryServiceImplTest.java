@@ -10,6 +10,7 @@ import com.nooblol.board.dto.CategoryDto;
 import com.nooblol.board.dto.CategoryInsertDto;
 import com.nooblol.board.dto.CategoryUpdateDto;
 import com.nooblol.board.mapper.CategoryMapper;
+import com.nooblol.board.support.BoardNavigationCache;
 import com.nooblol.board.utils.BoardStatus;
 import com.nooblol.board.utils.CategoryStatus;
 import com.nooblol.global.exception.ExceptionMessage;
@@ -38,6 +39,8 @@ class CategoryServiceImplTest {
 
     @Mock CategoryMapper categoryMapper;
 
+    @Mock BoardNavigationCache boardNavigationCache;
+
     HttpSession authUserSession = SessionSampleObject.authUserLoginSession;
 
     HttpSession adminSession = SessionSampleObject.adminUserLoginSession;
@@ -129,6 +132,7 @@ class CategoryServiceImplTest {
 
                 // then
                 assertTrue(result);
+                verify(boardNavigationCache).invalidate();
             }
         }
 
@@ -403,6 +407,7 @@ class CategoryServiceImplTest {
 
                     // then
                     assertTrue(result);
+                    verify(boardNavigationCache).invalidate();
                 }
             }
 
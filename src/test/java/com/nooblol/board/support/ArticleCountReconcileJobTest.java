@@ -0,0 +1,66 @@
+package com.nooblol.board.support;
+
+import static org.mockito.BDDMockito.*;
+
+import com.nooblol.board.mapper.ArticleMapper;
+import com.nooblol.global.mapper.ScheduledJobLockMapper;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleCountReconcileJobTest {
+
+    @Mock private ArticleMapper articleMapper;
+
+    @Mock private ArticleInfoCache articleInfoCache;
+
+    @Mock private ScheduledJobLockMapper scheduledJobLockMapper;
+
+    @InjectMocks private ArticleCountReconcileJob articleCountReconcileJob;
+
+    @Test
+    @DisplayName("건수가 다른 게시물만 보정하고, 보정한 게시물의 Cache를 무효화한다")
+    void reconcile_WhenCountMismatchedThenReconcileAndEvict() {
+        // mock
+        when(scheduledJobLockMapper.claimJobLock(
+                        eq(ArticleCountReconcileJob.JOB_NAME), anyString(), any(), any()))
+                .thenReturn(1);
+        when(articleMapper.selectMaxArticleId()).thenReturn(1500);
+        when(articleMapper.selectCountMismatchedArticleIdsByRange(1, 1000))
+                .thenReturn(List.of(3, 7));
+        when(articleMapper.selectCountMismatchedArticleIdsByRange(1001, 2000))
+                .thenReturn(List.of());
+        when(articleMapper.reconcileArticleCountByArticleIds(List.of(3, 7))).thenReturn(2);
+
+        // when
+        articleCountReconcileJob.reconcile();
+
+        // then
+        verify(articleMapper).reconcileArticleCountByArticleIds(List.of(3, 7));
+        verify(articleMapper).reconcileArticleCountByArticleIds(anyList());
+        verify(articleInfoCache).evictAfterCommit(3);
+        verify(articleInfoCache).evictAfterCommit(7);
+        verifyNoMoreInteractions(articleInfoCache);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 먼저 실행한 경우 보정하지 않는다")
+    void reconcile_WhenClaimFailThenSkip() {
+        // mock
+        when(scheduledJobLockMapper.claimJobLock(
+                        eq(ArticleCountReconcileJob.JOB_NAME), anyString(), any(), any()))
+                .thenReturn(0);
+
+        // when
+        articleCountReconcileJob.reconcile();
+
+        // then
+        verify(articleMapper, never()).selectMaxArticleId();
+        verify(articleMapper, never()).reconcileArticleCountByArticleIds(anyList());
+    }
+}
@@ -0,0 +1,135 @@
+package com.nooblol.board.support;
+
+import static org.mockito.BDDMockito.*;
+
+import com.nooblol.board.dto.ArticleDeleteQueueDto;
+import com.nooblol.board.mapper.ArticleDeleteQueueMapper;
+import com.nooblol.board.mapper.ArticleMapper;
+import com.nooblol.board.mapper.ArticleReplyMapper;
+import com.nooblol.board.mapper.ArticleStatusMapper;
+import com.nooblol.board.mapper.ArticleUniqueViewerMapper;
+import com.nooblol.board.utils.ArticleDeleteQueueStatus;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleDeleteCleanupJobTest {
+
+    @Mock private ArticleDeleteQueueMapper articleDeleteQueueMapper;
+
+    @Mock private ArticleMapper articleMapper;
+
+    @Mock private ArticleStatusMapper articleStatusMapper;
+
+    @Mock private ArticleReplyMapper articleReplyMapper;
+
+    @Mock private ArticleUniqueViewerMapper articleUniqueViewerMapper;
+
+    @Mock private ArticleExistenceIndex articleExistenceIndex;
+
+    @Mock private ArticleSearchIndex articleSearchIndex;
+
+    @Mock private UniqueViewerCounter uniqueViewerCounter;
+
+    @InjectMocks private ArticleDeleteCleanupJob articleDeleteCleanupJob;
+
+    @Test
+    @DisplayName("추천, 비추천과 댓글을 Batch 단위로 모두 삭제한 뒤 게시물을 삭제하고 Queue를 완료처리한다")
+    void cleanup_WhenQueueExistsThenDeleteInBatchesAndComplete() {
+        // given
+        int articleId = 1;
+        ArticleDeleteQueueDto queue = ArticleDeleteQueueDto.builder().articleId(articleId).build();
+
+        // mock
+        when(articleDeleteQueueMapper.selectRunnableDeleteQueueList(any(), anyInt()))
+                .thenReturn(List.of(queue));
+        when(articleDeleteQueueMapper.claimDeleteQueue(eq(articleId), any())).thenReturn(1);
+        when(articleStatusMapper.deleteArticleStatusByArticleIdWithLimit(eq(articleId), anyInt()))
+                .thenReturn(500)
+                .thenReturn(30);
+        when(articleReplyMapper.deleteReplyByArticleIdWithLimit(eq(articleId), anyInt()))
+                .thenReturn(5);
+
+        // when
+        articleDeleteCleanupJob.cleanup();
+
+        // then
+        verify(articleStatusMapper, times(2))
+                .deleteArticleStatusByArticleIdWithLimit(eq(articleId), anyInt());
+        verify(articleDeleteQueueMapper).addDeletedCount(articleId, 500, 0);
+        verify(articleDeleteQueueMapper).addDeletedCount(articleId, 30, 0);
+        verify(articleDeleteQueueMapper).addDeletedCount(articleId, 0, 5);
+
+        InOrder inOrder = inOrder(articleReplyMapper, articleMapper, articleDeleteQueueMapper);
+        inOrder.verify(articleReplyMapper).deleteReplyByArticleIdWithLimit(eq(articleId), anyInt());
+        inOrder.verify(articleMapper).deleteArticleByArticleId(articleId);
+        inOrder.verify(articleDeleteQueueMapper).completeDeleteQueue(eq(articleId), any());
+        verify(articleSearchIndex).removeArticle(articleId);
+
+        InOrder sketchInOrder = inOrder(articleMapper, articleUniqueViewerMapper);
+        sketchInOrder.verify(articleMapper).deleteArticleByArticleId(articleId);
+        sketchInOrder.verify(articleUniqueViewerMapper).deleteSketch(articleId);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 먼저 처리중인 Queue는 정리하지 않는다")
+    void cleanup_WhenClaimFailThenSkip() {
+        // given
+        int articleId = 1;
+        ArticleDeleteQueueDto queue = ArticleDeleteQueueDto.builder().articleId(articleId).build();
+
+        // mock
+        when(articleDeleteQueueMapper.selectRunnableDeleteQueueList(any(), anyInt()))
+                .thenReturn(List.of(queue));
+        when(articleDeleteQueueMapper.claimDeleteQueue(eq(articleId), any())).thenReturn(0);
+
+        // when
+        articleDeleteCleanupJob.cleanup();
+
+        // then
+        verify(articleStatusMapper, never())
+                .deleteArticleStatusByArticleIdWithLimit(anyInt(), anyInt());
+        verify(articleMapper, never()).deleteArticleByArticleId(anyInt());
+    }
+
+    @Test
+    @DisplayName("정리중 실패하면 재시도 대기로 변경하고, 재시도 횟수를 초과하면 실패로 변경한다")
+    void cleanup_WhenCleanupFailThenRetryOrFail() {
+        // given
+        ArticleDeleteQueueDto firstQueue =
+                ArticleDeleteQueueDto.builder().articleId(1).retryCount(0).build();
+        ArticleDeleteQueueDto lastQueue =
+                ArticleDeleteQueueDto.builder().articleId(2).retryCount(4).build();
+
+        // mock
+        when(articleDeleteQueueMapper.selectRunnableDeleteQueueList(any(), anyInt()))
+                .thenReturn(List.of(firstQueue, lastQueue));
+        when(articleDeleteQueueMapper.claimDeleteQueue(anyInt(), any())).thenReturn(1);
+        when(articleStatusMapper.deleteArticleStatusByArticleIdWithLimit(anyInt(), anyInt()))
+                .thenThrow(new IllegalStateException("Lock wait timeout"));
+
+        // when
+        articleDeleteCleanupJob.cleanup();
+
+        // then
+        verify(articleDeleteQueueMapper)
+                .failDeleteQueue(
+                        eq(1),
+                        eq(ArticleDeleteQueueStatus.WAIT.getStatus()),
+                        any(),
+                        eq("Lock wait timeout"));
+        verify(articleDeleteQueueMapper)
+                .failDeleteQueue(
+                        eq(2),
+                        eq(ArticleDeleteQueueStatus.FAIL.getStatus()),
+                        any(),
+                        eq("Lock wait timeout"));
+        verify(articleDeleteQueueMapper, never()).completeDeleteQueue(anyInt(), any());
+    }
+}
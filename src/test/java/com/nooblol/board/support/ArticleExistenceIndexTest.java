@@ -0,0 +1,145 @@
+package com.nooblol.board.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.nooblol.board.mapper.ArticleMapper;
+import com.nooblol.global.cache.CacheInvalidationPublisher;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleExistenceIndexTest {
+
+    @Mock private ArticleMapper articleMapper;
+
+    @Mock private ObjectProvider<CacheInvalidationPublisher> cacheInvalidationPublisherProvider;
+
+    @Mock private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @InjectMocks private ArticleExistenceIndex articleExistenceIndex;
+
+    @Test
+    @DisplayName("적재된 articleId는 DB를 조회하지 않고 존재여부를 확인한다")
+    void exists_WhenLoadedArticleIdThenNotQueryDb() {
+        // mock
+        when(articleMapper.selectMaxArticleId()).thenReturn(3);
+        when(articleMapper.selectArticleIdsByRange(1, 10_000)).thenReturn(List.of(1, 3));
+
+        // when
+        articleExistenceIndex.load();
+
+        // then
+        assertTrue(articleExistenceIndex.exists(1));
+        assertTrue(articleExistenceIndex.exists(3));
+        verify(articleMapper, never()).existsArticleByArticleId(anyInt());
+    }
+
+    @Test
+    @DisplayName("BitSet에 없는 articleId는 DB로 확인하며, 존재하는 경우 이후에는 DB를 조회하지 않는다")
+    void exists_WhenNotInBitSetThenFallbackToDb() {
+        // mock
+        when(articleMapper.existsArticleByArticleId(5)).thenReturn(true);
+        when(articleMapper.existsArticleByArticleId(6)).thenReturn(false);
+
+        // when
+        boolean firstResult = articleExistenceIndex.exists(5);
+        boolean secondResult = articleExistenceIndex.exists(5);
+        boolean notExistsResult = articleExistenceIndex.exists(6);
+
+        // then
+        assertTrue(firstResult);
+        assertTrue(secondResult);
+        assertFalse(notExistsResult);
+        verify(articleMapper, times(1)).existsArticleByArticleId(5);
+    }
+
+    @Test
+    @DisplayName("삭제된 articleId는 DB로 다시 확인한다")
+    void remove_WhenRemovedThenFallbackToDb() {
+        // given
+        articleExistenceIndex.add(7);
+
+        // mock
+        when(articleMapper.existsArticleByArticleId(7)).thenReturn(false);
+
+        // when
+        articleExistenceIndex.remove(7);
+
+        // then
+        assertFalse(articleExistenceIndex.exists(7));
+    }
+
+    @Test
+    @DisplayName("0 이하의 articleId는 DB를 조회하지 않고 존재하지 않는것으로 판단한다")
+    void exists_WhenArticleIdIsNotPositiveThenReturnFalse() {
+        // when & then
+        assertFalse(articleExistenceIndex.exists(0));
+        verifyNoInteractions(articleMapper);
+    }
+
+    @Test
+    @DisplayName("삭제시 다른 서버에도 삭제된 articleId를 전달한다")
+    void remove_WhenRemovedThenPublishInvalidation() {
+        // mock
+        when(cacheInvalidationPublisherProvider.getIfAvailable())
+                .thenReturn(cacheInvalidationPublisher);
+
+        // when
+        articleExistenceIndex.remove(8);
+
+        // then
+        verify(cacheInvalidationPublisher)
+                .publish(ArticleExistenceIndex.INVALIDATION_NAME, 8);
+    }
+
+    @Test
+    @DisplayName("다른 서버의 삭제 메시지를 받으면 BitSet에서 제거하고 다시 발행하지 않는다")
+    void onInvalidation_WhenOtherServerRemovedThenFallbackToDb() {
+        // given
+        articleExistenceIndex.add(9);
+
+        // mock
+        when(articleMapper.existsArticleByArticleId(9)).thenReturn(false);
+
+        // when
+        articleExistenceIndex.onInvalidation(9);
+
+        // then
+        assertFalse(articleExistenceIndex.exists(9));
+        verifyNoInteractions(cacheInvalidationPublisherProvider);
+    }
+
+    @Test
+    @DisplayName("Commit 이전에 삭제전 Row를 조회하여 다시 추가되어도 Commit 이후 다시 제거한다")
+    void remove_WhenReAddedBeforeCommitThenRemovedAfterCommit() {
+        // given
+        articleExistenceIndex.add(10);
+
+        // mock
+        when(articleMapper.existsArticleByArticleId(10)).thenReturn(true).thenReturn(false);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            articleExistenceIndex.remove(10);
+            boolean existsBeforeCommit = articleExistenceIndex.exists(10);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            assertTrue(existsBeforeCommit);
+            assertFalse(articleExistenceIndex.exists(10));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
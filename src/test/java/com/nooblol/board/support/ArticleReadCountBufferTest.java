@@ -0,0 +1,140 @@
+package com.nooblol.board.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.nooblol.board.dto.ArticleReadCountDto;
+import com.nooblol.board.mapper.ArticleMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleReadCountBufferTest {
+
+    @Mock private ArticleMapper articleMapper;
+
+    @Mock private ArticleInfoCache articleInfoCache;
+
+    @InjectMocks private ArticleReadCountBuffer articleReadCountBuffer;
+
+    @Test
+    @DisplayName("조회수를 증가시키면 Flush 전까지는 DB에 반영하지 않고 PendingCount로 조회된다")
+    void increment_WhenNotFlushedThenPendingCountIsIncreased() {
+        // when
+        articleReadCountBuffer.increment(1);
+        articleReadCountBuffer.increment(1);
+        articleReadCountBuffer.increment(2);
+
+        // then
+        assertEquals(articleReadCountBuffer.getPendingCount(1), 2L);
+        assertEquals(articleReadCountBuffer.getPendingCount(2), 1L);
+        assertEquals(articleReadCountBuffer.getPendingCount(3), 0L);
+        verifyNoInteractions(articleMapper);
+    }
+
+    @Test
+    @DisplayName("Flush시 게시물별로 모인 조회수를 한번의 Batch로 반영하고, PendingCount는 0이 된다")
+    void flush_WhenHavePendingCountThenWriteOneBatch() {
+        // given
+        ArgumentCaptor<List<ArticleReadCountDto>> captor = ArgumentCaptor.forClass(List.class);
+        articleReadCountBuffer.increment(1);
+        articleReadCountBuffer.increment(1);
+        articleReadCountBuffer.increment(2);
+
+        // when
+        articleReadCountBuffer.flush();
+
+        // then
+        verify(articleMapper, times(1)).addReadCountBatch(captor.capture());
+        assertEquals(captor.getValue().size(), 2);
+        assertEquals(
+                captor.getValue().stream().mapToLong(ArticleReadCountDto::getReadCount).sum(), 3L);
+        assertEquals(articleReadCountBuffer.getPendingCount(1), 0L);
+        verify(articleInfoCache, times(1)).evictAfterCommit(1);
+        verify(articleInfoCache, times(1)).evictAfterCommit(2);
+    }
+
+    @Test
+    @DisplayName("Flush가 실패하면 조회수를 Buffer로 되돌려 다음 Flush에서 다시 반영한다")
+    void flush_WhenWriteFailThenCountIsRestored() {
+        // given
+        articleReadCountBuffer.increment(1);
+        articleReadCountBuffer.increment(1);
+
+        // mock
+        when(articleMapper.addReadCountBatch(any())).thenThrow(new RuntimeException("DB Down"));
+
+        // when
+        articleReadCountBuffer.flush();
+
+        // then
+        assertEquals(articleReadCountBuffer.getPendingCount(1), 2L);
+    }
+
+    @Test
+    @DisplayName("애플리케이션 종료시 남아있는 조회수를 Flush한다")
+    void destroy_WhenHavePendingCountThenFlush() {
+        // given
+        articleReadCountBuffer.increment(1);
+
+        // when
+        articleReadCountBuffer.destroy();
+
+        // then
+        verify(articleMapper, times(1)).addReadCountBatch(any());
+    }
+
+    @Test
+    @DisplayName("Flush가 조회가 없던 게시물을 제거하는 중에 증가된 조회수도 유실되지 않는다")
+    void flush_WhenIncrementConcurrentlyThenNotLoseCount() throws Exception {
+        // given
+        int threadCount = 4;
+        int incrementCount = 20_000;
+        AtomicLong writtenCount = new AtomicLong();
+        doAnswer(
+                        invocation -> {
+                            List<ArticleReadCountDto> batch = invocation.getArgument(0);
+                            batch.forEach(dto -> writtenCount.addAndGet(dto.getReadCount()));
+                            return null;
+                        })
+                .when(articleMapper)
+                .addReadCountBatch(anyList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> futureList = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futureList.add(
+                    executor.submit(
+                            () -> {
+                                for (int j = 0; j < incrementCount; j++) {
+                                    articleReadCountBuffer.increment(1);
+                                }
+                            }));
+        }
+        while (futureList.stream().anyMatch(future -> !future.isDone())) {
+            articleReadCountBuffer.flush();
+        }
+        for (Future<?> future : futureList) {
+            future.get();
+        }
+        executor.shutdown();
+        articleReadCountBuffer.flush();
+
+        // then
+        assertEquals(writtenCount.get(), (long) threadCount * incrementCount);
+        assertEquals(articleReadCountBuffer.getPendingCount(1), 0L);
+    }
+}
@@ -0,0 +1,284 @@
+package com.nooblol.board.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.nooblol.board.dto.ArticleDto;
+import com.nooblol.board.dto.ArticleSearchResultDto;
+import com.nooblol.board.dto.ReplyDto;
+import com.nooblol.board.mapper.ArticleMapper;
+import com.nooblol.board.mapper.ArticleReplyMapper;
+import com.nooblol.board.utils.ArticleStatus;
+import com.nooblol.board.utils.ReplyStatus;
+import com.nooblol.global.cache.CacheInvalidationPublisher;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchIndexTest {
+
+    @Mock private ArticleMapper articleMapper;
+
+    @Mock private ArticleReplyMapper articleReplyMapper;
+
+    @Mock private ObjectProvider<CacheInvalidationPublisher> cacheInvalidationPublisherProvider;
+
+    @Mock private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @TempDir Path tempDir;
+
+    // Background 재색인 작업을 바로 실행하지 않고 모아두었다가 runRebuildTasks에서 실행한다.
+    private final List<Runnable> rebuildTaskList = new ArrayList<>();
+
+    private ArticleSearchIndex articleSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        articleSearchIndex = createIndex();
+    }
+
+    @Test
+    @DisplayName("한글은 2글자 단위로 나누어지며, 1글자 단어는 그대로 Token이 된다")
+    void tokenize_WhenKoreanTextThenReturnBigram() {
+        // when
+        Map<String, Integer> result = ArticleSearchIndex.tokenize("롤토체스를 해요 a");
+
+        // then
+        assertEquals(result.keySet().size(), 6);
+        assertTrue(result.containsKey("토체"));
+        assertTrue(result.containsKey("스를"));
+        assertTrue(result.containsKey("a"));
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 단어도 검색되며, 제목에 검색어가 있는 게시물이 먼저 반환된다")
+    void search_WhenKeywordInTitleAndContentThenTitleFirst() {
+        // given
+        articleSearchIndex.indexArticle(createArticle(1, "오늘의 패치노트", "롤토체스를 했습니다"));
+        articleSearchIndex.indexArticle(createArticle(2, "롤토체스 덱 추천", "추천덱 정리"));
+        articleSearchIndex.indexArticle(createArticle(3, "자유게시판", "아무 내용"));
+
+        // when
+        List<ArticleSearchResultDto> result = articleSearchIndex.search("롤토체스", 0, 10);
+
+        // then
+        assertEquals(result.size(), 2);
+        assertEquals(result.get(0).getArticleId(), 2);
+        assertEquals(result.get(1).getArticleId(), 1);
+    }
+
+    @Test
+    @DisplayName("댓글에만 검색어가 있어도 게시물이 검색되지만, 비공개 게시물은 검색되지 않는다")
+    void search_WhenKeywordInReplyThenReturnArticleExceptSecret() {
+        // given
+        articleSearchIndex.indexArticle(createArticle(1, "질문", "내용"));
+        ArticleDto secretArticle = createArticle(2, "비밀글", "내용");
+        secretArticle.setStatus(ArticleStatus.SECRET);
+        articleSearchIndex.indexArticle(secretArticle);
+        articleSearchIndex.indexReply(createReply(10, 1, "정글 동선 추천"));
+        articleSearchIndex.indexReply(createReply(11, 2, "정글 동선 공유"));
+
+        // when
+        List<ArticleSearchResultDto> result = articleSearchIndex.search("정글 동선", 0, 10);
+
+        // then
+        assertEquals(result.size(), 1);
+        assertEquals(result.get(0).getArticleId(), 1);
+    }
+
+    @Test
+    @DisplayName("게시물을 삭제하면 게시물과 댓글이 모두 색인에서 제거된다")
+    void removeArticle_WhenRemovedThenNotSearched() {
+        // given
+        articleSearchIndex.indexArticle(createArticle(1, "정글 동선", "내용"));
+        articleSearchIndex.indexReply(createReply(10, 1, "댓글 내용"));
+
+        // when
+        articleSearchIndex.removeArticle(1);
+
+        // then
+        assertTrue(articleSearchIndex.search("정글", 0, 10).isEmpty());
+        assertTrue(articleSearchIndex.search("댓글", 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("게시물을 수정하면 이전 내용으로는 검색되지 않는다")
+    void indexArticle_WhenUpdatedThenOldContentNotSearched() {
+        // given
+        articleSearchIndex.indexArticle(createArticle(1, "정글 동선", "내용"));
+
+        // when
+        articleSearchIndex.indexArticle(createArticle(1, "탑 라인전", "내용"));
+
+        // then
+        assertTrue(articleSearchIndex.search("정글", 0, 10).isEmpty());
+        assertEquals(articleSearchIndex.search("라인전", 0, 10).size(), 1);
+    }
+
+    @Test
+    @DisplayName("저장된 Snapshot을 불러오는 경우 DB를 조회하기 전에 색인이 복구된다")
+    void load_WhenSnapshotExistsThenRestoreBeforeRebuild() {
+        // given
+        articleSearchIndex.indexArticle(createArticle(1, "정글 동선", "내용"));
+        articleSearchIndex.saveSnapshot();
+        ArticleSearchIndex restoredIndex = createIndex();
+
+        // when
+        restoredIndex.load();
+
+        // then
+        List<ArticleSearchResultDto> result = restoredIndex.search("정글", 0, 10);
+        assertEquals(result.size(), 1);
+        assertEquals(result.get(0).getArticleTitle(), "정글 동선");
+        assertEquals(rebuildTaskList.size(), 1);
+        verifyNoInteractions(articleMapper, articleReplyMapper);
+    }
+
+    @Test
+    @DisplayName("Snapshot을 불러온 이후 DB로 다시 색인하여, Snapshot 이후 삭제된 게시물은 제거되고 그 사이의 변경은 유지된다")
+    void load_WhenSnapshotRestoredThenRebuildFromDbInBackground() {
+        // given
+        articleSearchIndex.indexArticle(createArticle(1, "정글 동선", "내용"));
+        articleSearchIndex.indexArticle(createArticle(2, "탑 라인전", "내용"));
+        articleSearchIndex.saveSnapshot();
+        ArticleSearchIndex restoredIndex = createIndex();
+
+        // mock
+        when(articleMapper.selectMaxArticleId()).thenReturn(3);
+        when(articleMapper.selectArticleListByRange(1, 1000))
+                .thenAnswer(
+                        invocation -> {
+                            // DB를 조회한 이후 Commit된 변경
+                            restoredIndex.indexArticle(createArticle(3, "미드 운영", "내용"));
+                            return List.of(createArticle(2, "탑 라인전", "내용"));
+                        });
+
+        // when
+        restoredIndex.load();
+        runRebuildTasks();
+
+        // then
+        assertEquals(restoredIndex.search("정글", 0, 10).size(), 0);
+        assertEquals(restoredIndex.search("라인전", 0, 10).size(), 1);
+        assertEquals(restoredIndex.search("운영", 0, 10).size(), 1);
+    }
+
+    @Test
+    @DisplayName("이전 형식이거나 손상된 Snapshot은 사용하지 않고 DB로 색인을 재구성한다")
+    void load_WhenSnapshotCorruptedThenRebuildFromDb() throws Exception {
+        // given
+        Files.write(tempDir.resolve("index.bin"), new byte[] {1, 2, 3});
+
+        // mock
+        when(articleMapper.selectMaxArticleId()).thenReturn(0);
+
+        // when
+        articleSearchIndex.load();
+
+        // then
+        assertTrue(rebuildTaskList.isEmpty());
+        verify(articleMapper).selectMaxArticleId();
+    }
+
+    @Test
+    @DisplayName("Snapshot이 없는 경우 DB의 게시물과 댓글로 색인을 재구성한다")
+    void load_WhenSnapshotNotExistsThenRebuildFromDb() {
+        // mock
+        when(articleMapper.selectMaxArticleId()).thenReturn(1);
+        when(articleMapper.selectArticleListByRange(1, 1000))
+                .thenReturn(List.of(createArticle(1, "정글 동선", "내용")));
+        when(articleReplyMapper.selectReplyListByArticleIdRange(1, 1000))
+                .thenReturn(List.of(createReply(10, 1, "갱킹 타이밍")));
+
+        // when
+        articleSearchIndex.load();
+
+        // then
+        assertEquals(articleSearchIndex.search("갱킹", 0, 10).size(), 1);
+    }
+
+    @Test
+    @DisplayName("게시물을 색인하면 다른 서버에도 변경된 docKey를 전달한다")
+    void indexArticle_WhenIndexedThenPublishDocKey() {
+        // mock
+        when(cacheInvalidationPublisherProvider.getIfAvailable())
+                .thenReturn(cacheInvalidationPublisher);
+
+        // when
+        articleSearchIndex.indexArticle(createArticle(1, "정글 동선", "초반 동선"));
+
+        // then
+        verify(cacheInvalidationPublisher).publish(ArticleSearchIndex.INVALIDATION_NAME, "A1");
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 변경된 게시물은 DB에서 다시 읽어 색인하고, 삭제된 경우 댓글과 함께 제거한다")
+    void onInvalidation_WhenOtherServerChangedThenReloadFromDb() {
+        // given
+        articleSearchIndex.indexReply(createReply(10, 1, "갱킹 타이밍"));
+
+        // mock
+        when(articleMapper.selectArticleByArticleId(1))
+                .thenReturn(createArticle(1, "정글 동선", "갱킹 동선"))
+                .thenReturn(null);
+
+        // when
+        articleSearchIndex.onInvalidation("A1");
+        int indexedCount = articleSearchIndex.search("갱킹", 0, 10).size();
+        articleSearchIndex.onInvalidation("A1");
+
+        // then
+        assertEquals(indexedCount, 1);
+        assertTrue(articleSearchIndex.search("갱킹", 0, 10).isEmpty());
+        assertTrue(articleSearchIndex.search("타이밍", 0, 10).isEmpty());
+        verify(cacheInvalidationPublisherProvider, times(1)).getIfAvailable();
+    }
+
+    private ArticleSearchIndex createIndex() {
+        return new ArticleSearchIndex(
+                articleMapper,
+                articleReplyMapper,
+                cacheInvalidationPublisherProvider,
+                tempDir.resolve("index.bin").toString(),
+                rebuildTaskList::add);
+    }
+
+    private void runRebuildTasks() {
+        List<Runnable> taskList = new ArrayList<>(rebuildTaskList);
+        rebuildTaskList.clear();
+        taskList.forEach(Runnable::run);
+    }
+
+    private ArticleDto createArticle(int articleId, String title, String content) {
+        return new ArticleDto()
+                .builder()
+                .articleId(articleId)
+                .bbsId(1)
+                .articleTitle(title)
+                .articleContent(content)
+                .status(ArticleStatus.ACTIVE)
+                .createdUserId("test")
+                .build();
+    }
+
+    private ReplyDto createReply(int replyId, int articleId, String content) {
+        return new ReplyDto()
+                .builder()
+                .replyId(replyId)
+                .articleId(articleId)
+                .replyContent(content)
+                .status(ReplyStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.nooblol.board.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nooblol.board.dto.BbsDto;
+import com.nooblol.board.dto.BoardNavigationResponseDto;
+import com.nooblol.board.dto.CategoryDto;
+import com.nooblol.board.mapper.CategoryMapper;
+import com.nooblol.board.utils.BoardStatus;
+import com.nooblol.board.utils.CategoryStatus;
+import com.nooblol.global.cache.CacheInvalidationPublisher;
+import com.nooblol.global.config.ObjectMapperConfig;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class BoardNavigationCacheTest {
+
+    @Mock private CategoryMapper categoryMapper;
+
+    @Mock private ObjectProvider<CacheInvalidationPublisher> cacheInvalidationPublisherProvider;
+
+    @Mock private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapperConfig().objectMapper();
+
+    private BoardNavigationCache boardNavigationCache;
+
+    @BeforeEach
+    void setUp() {
+        boardNavigationCache =
+                new BoardNavigationCache(
+                        categoryMapper, objectMapper, cacheInvalidationPublisherProvider);
+    }
+
+    private CategoryDto createCategory(int categoryId) {
+        return CategoryDto.builder()
+                .categoryId(categoryId)
+                .categoryName("Category " + categoryId)
+                .status(CategoryStatus.ACTIVE)
+                .build();
+    }
+
+    private BbsDto createBbs(int bbsId, int categoryId, BoardStatus status) {
+        return BbsDto.builder()
+                .bbsId(bbsId)
+                .categoryId(categoryId)
+                .bbsName("Bbs " + bbsId)
+                .status(status)
+                .build();
+    }
+
+    @Test
+    @DisplayName("활성화된 카테고리별로 활성화된 게시판만 포함한 응답 JSON과 같은 내용의 gzip을 만든다")
+    void rebuild_WhenCalledThenSerializeActiveTree() throws Exception {
+        // mock
+        when(categoryMapper.selectCategoryList(CategoryStatus.ACTIVE.getStatus()))
+                .thenReturn(List.of(createCategory(2), createCategory(1)));
+        when(categoryMapper.selectAllBbsList())
+                .thenReturn(
+                        List.of(
+                                createBbs(3, 1, BoardStatus.ACTIVE),
+                                createBbs(1, 1, BoardStatus.ACTIVE),
+                                createBbs(2, 1, BoardStatus.DELETE)));
+
+        // when
+        BoardNavigationResponseDto snapshot = boardNavigationCache.rebuild();
+
+        // then
+        JsonNode result = objectMapper.readTree(snapshot.getJsonBody()).get("result");
+        assertEquals(result.get(0).get("categoryId").asInt(), 1);
+        assertEquals(result.get(0).get("bbsList").size(), 2);
+        assertEquals(result.get(0).get("bbsList").get(0).get("bbsId").asInt(), 1);
+        assertEquals(result.get(1).get("bbsList").size(), 0);
+
+        try (GZIPInputStream gzipInputStream =
+                new GZIPInputStream(new ByteArrayInputStream(snapshot.getGzipBody()))) {
+            assertArrayEquals(gzipInputStream.readAllBytes(), snapshot.getJsonBody());
+        }
+    }
+
+    @Test
+    @DisplayName("내용이 같으면 ETag가 같고, 내용이 바뀌면 ETag가 바뀐다")
+    void rebuild_WhenTreeChangedThenEtagChanged() {
+        // mock
+        when(categoryMapper.selectCategoryList(CategoryStatus.ACTIVE.getStatus()))
+                .thenReturn(List.of(createCategory(1)));
+        when(categoryMapper.selectAllBbsList())
+                .thenReturn(List.of(createBbs(1, 1, BoardStatus.ACTIVE)))
+                .thenReturn(List.of(createBbs(1, 1, BoardStatus.ACTIVE)))
+                .thenReturn(List.of());
+
+        // when
+        String firstEtag = boardNavigationCache.rebuild().getEtag();
+        String sameEtag = boardNavigationCache.rebuild().getEtag();
+        String changedEtag = boardNavigationCache.rebuild().getEtag();
+
+        // then
+        assertEquals(firstEtag, sameEtag);
+        assertNotEquals(firstEtag, changedEtag);
+        assertSame(boardNavigationCache.getSnapshot().getEtag(), changedEtag);
+    }
+
+    @Test
+    @DisplayName("변경되면 현재 서버의 Snapshot을 다시 만들고 다른 서버에 전달한다")
+    void invalidate_WhenCalledThenRebuildAndPublish() {
+        // mock
+        when(categoryMapper.selectCategoryList(CategoryStatus.ACTIVE.getStatus()))
+                .thenReturn(List.of(createCategory(1)));
+        when(categoryMapper.selectAllBbsList()).thenReturn(List.of());
+        when(cacheInvalidationPublisherProvider.getIfAvailable())
+                .thenReturn(cacheInvalidationPublisher);
+
+        // when
+        boardNavigationCache.invalidate();
+
+        // then
+        assertNotNull(boardNavigationCache.getSnapshot());
+        verify(categoryMapper).selectAllBbsList();
+        verify(cacheInvalidationPublisher).publish(BoardNavigationCache.INVALIDATION_NAME, null);
+    }
+
+    @Test
+    @DisplayName("다른 서버의 변경 메시지를 받으면 전달하지 않고 Snapshot만 다시 만든다")
+    void onInvalidation_WhenReceivedThenRebuildWithoutPublish() {
+        // mock
+        when(categoryMapper.selectCategoryList(CategoryStatus.ACTIVE.getStatus()))
+                .thenReturn(List.of(createCategory(1)));
+        when(categoryMapper.selectAllBbsList()).thenReturn(List.of());
+
+        // when
+        boardNavigationCache.onInvalidation(null);
+
+        // then
+        verify(categoryMapper).selectAllBbsList();
+        verify(cacheInvalidationPublisherProvider, never()).getIfAvailable();
+    }
+}
@@ -0,0 +1,249 @@
+package com.nooblol.board.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.nooblol.board.dto.ArticleSummaryDto;
+import com.nooblol.board.dto.ArticleTrendingDto;
+import com.nooblol.board.mapper.ArticleMapper;
+import com.nooblol.board.utils.ArticleStatus;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingArticleRankerTest {
+
+    private static final long HALF_LIFE_MINUTES = 60;
+
+    private static final long HALF_LIFE_MILLIS = HALF_LIFE_MINUTES * 60_000;
+
+    @Mock private ArticleMapper articleMapper;
+
+    private final AtomicLong currentTimeMillis = new AtomicLong(1_000_000L);
+
+    private TrendingArticleRanker trendingArticleRanker;
+
+    @BeforeEach
+    void setUp() {
+        trendingArticleRanker =
+                new TrendingArticleRanker(
+                        articleMapper, HALF_LIFE_MINUTES, 2, 100, currentTimeMillis::get);
+    }
+
+    private ArticleSummaryDto createArticle(int articleId, int bbsId, ArticleStatus status) {
+        return ArticleSummaryDto.builder()
+                .articleId(articleId)
+                .bbsId(bbsId)
+                .articleTitle("Title " + articleId)
+                .status(status)
+                .createdUserId("test")
+                .build();
+    }
+
+    @Test
+    @DisplayName("공개 전에는 빈 리스트를 반환하며, 공개 후에는 점수순으로 정렬된 리스트를 반환한다")
+    void publish_WhenEventsRecordedThenReturnSortedList() {
+        // given
+        trendingArticleRanker.recordView(1, 1);
+        trendingArticleRanker.recordView(2, 1);
+        trendingArticleRanker.recordLike(2);
+
+        // mock
+        when(articleMapper.selectArticleSummaryListByArticleIds(anyList()))
+                .thenReturn(
+                        List.of(
+                                createArticle(1, 1, ArticleStatus.ACTIVE),
+                                createArticle(2, 1, ArticleStatus.ACTIVE)));
+
+        // when
+        List<ArticleTrendingDto> beforePublish = trendingArticleRanker.getTrendingArticleList(null);
+        trendingArticleRanker.publish();
+        List<ArticleTrendingDto> result = trendingArticleRanker.getTrendingArticleList(null);
+
+        // then
+        assertTrue(beforePublish.isEmpty());
+        assertEquals(result.size(), 2);
+        assertEquals(result.get(0).getArticleId(), 2);
+        assertEquals(result.get(0).getScore(), 6.0, 0.0001);
+        assertEquals(result.get(1).getArticleId(), 1);
+        assertEquals(trendingArticleRanker.getTrendingArticleList(1).size(), 2);
+        assertTrue(trendingArticleRanker.getTrendingArticleList(2).isEmpty());
+        verify(articleMapper, times(1)).selectArticleSummaryListByArticleIds(anyList());
+    }
+
+    @Test
+    @DisplayName("반감기가 지나면 점수가 절반이 되며, 최근 이벤트가 오래된 이벤트보다 높은 점수를 갖는다")
+    void publish_WhenHalfLifePassedThenScoreIsHalved() {
+        // given
+        trendingArticleRanker.recordLike(1);
+        currentTimeMillis.addAndGet(HALF_LIFE_MILLIS);
+        trendingArticleRanker.recordView(2, 1);
+        trendingArticleRanker.recordView(2, 1);
+        trendingArticleRanker.recordView(2, 1);
+
+        // mock
+        when(articleMapper.selectArticleSummaryListByArticleIds(anyList()))
+                .thenReturn(
+                        List.of(
+                                createArticle(1, 1, ArticleStatus.ACTIVE),
+                                createArticle(2, 1, ArticleStatus.ACTIVE)));
+
+        // when
+        trendingArticleRanker.publish();
+        List<ArticleTrendingDto> result = trendingArticleRanker.getTrendingArticleList(null);
+
+        // then
+        assertEquals(result.get(0).getArticleId(), 2);
+        assertEquals(result.get(0).getScore(), 3.0, 0.0001);
+        assertEquals(result.get(1).getArticleId(), 1);
+        assertEquals(result.get(1).getScore(), 2.5, 0.0001);
+    }
+
+    @Test
+    @DisplayName("점수가 충분히 작아진 게시물은 더이상 리스트에 포함되지 않는다")
+    void publish_WhenScoreDecayedUnderMinimumThenRemoved() {
+        // given
+        trendingArticleRanker.recordView(1, 1);
+        currentTimeMillis.addAndGet(HALF_LIFE_MILLIS * 2);
+
+        // when
+        trendingArticleRanker.publish();
+
+        // then
+        assertTrue(trendingArticleRanker.getTrendingArticleList(null).isEmpty());
+        verifyNoInteractions(articleMapper);
+    }
+
+    @Test
+    @DisplayName("삭제되었거나 비공개인 게시물은 제외하고, 게시판별로 최대 topK개까지 포함한다")
+    void publish_WhenArticleIsNotActiveThenExcluded() {
+        // given
+        trendingArticleRanker.recordView(1, 1);
+        trendingArticleRanker.recordLike(2);
+        trendingArticleRanker.recordReply(3);
+        trendingArticleRanker.recordView(4, 2);
+        trendingArticleRanker.recordView(4, 2);
+
+        // mock
+        when(articleMapper.selectArticleSummaryListByArticleIds(anyList()))
+                .thenReturn(
+                        List.of(
+                                createArticle(1, 1, ArticleStatus.ACTIVE),
+                                createArticle(3, 1, ArticleStatus.SECRET),
+                                createArticle(4, 2, ArticleStatus.ACTIVE)));
+
+        // when
+        trendingArticleRanker.publish();
+
+        // then
+        List<ArticleTrendingDto> siteWide = trendingArticleRanker.getTrendingArticleList(null);
+        assertEquals(siteWide.size(), 2);
+        assertEquals(siteWide.get(0).getArticleId(), 4);
+        assertEquals(siteWide.get(1).getArticleId(), 1);
+        assertEquals(trendingArticleRanker.getTrendingArticleList(1).size(), 1);
+        assertEquals(trendingArticleRanker.getTrendingArticleList(2).size(), 1);
+    }
+
+    @Test
+    @DisplayName("점수판 교체 직전에 읽은 점수판에 늦게 더해진 점수도 다음 공개때 반영한다")
+    void publish_WhenRecordedToRetiredGenerationThenMovedNextPublish() {
+        // given
+        AtomicBoolean publishDuringRecord = new AtomicBoolean(false);
+        TrendingArticleRanker[] rankerHolder = new TrendingArticleRanker[1];
+        rankerHolder[0] =
+                new TrendingArticleRanker(
+                        articleMapper,
+                        HALF_LIFE_MINUTES,
+                        2,
+                        100,
+                        () -> {
+                            // 점수판을 읽은 뒤 점수를 더하기 전에 공개가 끝난 상황
+                            if (publishDuringRecord.getAndSet(false)) {
+                                rankerHolder[0].publish();
+                            }
+                            return currentTimeMillis.get();
+                        });
+        TrendingArticleRanker ranker = rankerHolder[0];
+
+        // mock
+        when(articleMapper.selectArticleSummaryListByArticleIds(anyList()))
+                .thenReturn(List.of(createArticle(1, 1, ArticleStatus.ACTIVE)));
+
+        // when
+        publishDuringRecord.set(true);
+        ranker.recordView(1, 1);
+        boolean isEmptyBeforePublish = ranker.getTrendingArticleList(null).isEmpty();
+        ranker.publish();
+
+        // then
+        assertTrue(isEmptyBeforePublish);
+        List<ArticleTrendingDto> result = ranker.getTrendingArticleList(null);
+        assertEquals(result.size(), 1);
+        assertEquals(result.get(0).getScore(), 1.0, 0.0001);
+    }
+
+    @Test
+    @DisplayName("Transaction 안에서 기록된 이벤트는 Commit 이후에 반영하고, Rollback된 경우 반영하지 않는다")
+    void recordLike_WhenInTransactionThenAppliedAfterCommit() {
+        // mock
+        when(articleMapper.selectArticleSummaryListByArticleIds(anyList()))
+                .thenReturn(List.of(createArticle(1, 1, ArticleStatus.ACTIVE)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            trendingArticleRanker.recordLike(1);
+            trendingArticleRanker.recordReply(2);
+            trendingArticleRanker.publish();
+            boolean isEmptyBeforeCommit =
+                    trendingArticleRanker.getTrendingArticleList(null).isEmpty();
+
+            // Commit된 추천만 반영하고, 댓글은 Rollback된 것으로 처리한다.
+            TransactionSynchronizationManager.getSynchronizations().get(0).afterCommit();
+            trendingArticleRanker.publish();
+
+            // then
+            assertTrue(isEmptyBeforeCommit);
+            List<ArticleTrendingDto> result = trendingArticleRanker.getTrendingArticleList(null);
+            assertEquals(result.size(), 1);
+            assertEquals(result.get(0).getArticleId(), 1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("점수 상위 maxCandidates개의 후보만 게시물 정보를 조회한다")
+    void publish_WhenCandidatesExceedMaxThenLoadOnlyTopCandidates() {
+        // given
+        TrendingArticleRanker ranker =
+                new TrendingArticleRanker(
+                        articleMapper, HALF_LIFE_MINUTES, 2, 2, currentTimeMillis::get);
+        ranker.recordLike(1);
+        ranker.recordReply(2);
+        ranker.recordView(3, 1);
+
+        // mock
+        when(articleMapper.selectArticleSummaryListByArticleIds(List.of(1, 2)))
+                .thenReturn(
+                        List.of(
+                                createArticle(1, 1, ArticleStatus.ACTIVE),
+                                createArticle(2, 1, ArticleStatus.ACTIVE)));
+
+        // when
+        ranker.publish();
+
+        // then
+        assertEquals(ranker.getTrendingArticleList(null).size(), 2);
+        verify(articleMapper, times(1)).selectArticleSummaryListByArticleIds(anyList());
+    }
+}
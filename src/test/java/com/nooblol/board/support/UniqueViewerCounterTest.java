@@ -0,0 +1,99 @@
+package com.nooblol.board.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.nooblol.board.mapper.ArticleUniqueViewerMapper;
+import com.nooblol.global.sketch.HyperLogLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class UniqueViewerCounterTest {
+
+    @Mock private ArticleUniqueViewerMapper articleUniqueViewerMapper;
+
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private UniqueViewerCounter uniqueViewerCounter;
+
+    @BeforeEach
+    void setUp() {
+        uniqueViewerCounter =
+                new UniqueViewerCounter(
+                        articleUniqueViewerMapper, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("같은 방문자가 여러번 조회해도 DB에 저장된 방문자와 합쳐 한번만 센다")
+    void getUniqueViewers_WhenSameViewerRepeatedThenCountOnce() {
+        // given
+        int articleId = 1;
+        HyperLogLog savedSketch = new HyperLogLog();
+        savedSketch.offer("user:saved");
+
+        // mock
+        when(articleUniqueViewerMapper.selectSketch(articleId)).thenReturn(savedSketch.toBytes());
+
+        // when
+        uniqueViewerCounter.recordViewer(articleId, "user:test");
+        uniqueViewerCounter.recordViewer(articleId, "user:test");
+        uniqueViewerCounter.recordViewer(articleId, "user:saved");
+
+        // then
+        assertEquals(uniqueViewerCounter.getUniqueViewers(articleId), 2L);
+    }
+
+    @Test
+    @DisplayName("Flush하면 DB의 Sketch에 Merge하여 저장하고, 이후 조회는 DB를 다시 읽지 않는다")
+    void flush_WhenPendingExistsThenMergeAndSave() {
+        // given
+        int articleId = 1;
+        HyperLogLog savedSketch = new HyperLogLog();
+        savedSketch.offer("user:saved");
+
+        // mock
+        when(articleUniqueViewerMapper.selectSketchForUpdate(articleId))
+                .thenReturn(savedSketch.toBytes());
+
+        // when
+        uniqueViewerCounter.recordViewer(articleId, "user:test");
+        uniqueViewerCounter.flush();
+
+        // then
+        ArgumentCaptor<byte[]> sketchCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(articleUniqueViewerMapper)
+                .upsertSketchIfArticleExists(eq(articleId), sketchCaptor.capture(), any());
+        assertEquals(HyperLogLog.fromBytes(sketchCaptor.getValue()).estimate(), 2L);
+        assertEquals(uniqueViewerCounter.getUniqueViewers(articleId), 2L);
+        verify(articleUniqueViewerMapper, never()).selectSketch(articleId);
+    }
+
+    @Test
+    @DisplayName("Flush에 실패하면 다음 Flush에서 다시 반영한다")
+    void flush_WhenSaveFailThenRetryNextFlush() {
+        // given
+        int articleId = 1;
+
+        // mock
+        when(articleUniqueViewerMapper.upsertSketchIfArticleExists(eq(articleId), any(), any()))
+                .thenThrow(new IllegalStateException("DB Error"))
+                .thenReturn(1);
+
+        // when
+        uniqueViewerCounter.recordViewer(articleId, "user:test");
+        uniqueViewerCounter.flush();
+        uniqueViewerCounter.flush();
+
+        // then
+        verify(articleUniqueViewerMapper, times(2))
+                .upsertSketchIfArticleExists(eq(articleId), any(), any());
+    }
+}
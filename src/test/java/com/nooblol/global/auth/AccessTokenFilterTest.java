@@ -0,0 +1,50 @@
+package com.nooblol.global.auth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Base64;
+import javax.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AccessTokenFilterTest {
+
+    private static final String KEY =
+            "k1:"
+                    + Base64.getEncoder()
+                            .encodeToString("a".repeat(32).getBytes(StandardCharsets.UTF_8));
+
+    private final AccessTokenProvider accessTokenProvider =
+            new AccessTokenProvider(true, KEY, "k1", 60_000, Clock.systemUTC());
+
+    private final AccessTokenFilter accessTokenFilter = new AccessTokenFilter(accessTokenProvider);
+
+    @Test
+    @DisplayName("Token 인증 요청은 Request 속성에 사용자를 저장하고, Session을 새로 만들지 않는다")
+    void doFilter_WhenTokenRequestThenNotCreateSession() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(
+                HttpHeaders.AUTHORIZATION, "Bearer " + accessTokenProvider.issue("test", 3));
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        accessTokenFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        // then
+        HttpServletRequest filteredRequest = (HttpServletRequest) filterChain.getRequest();
+        AccessTokenClaims claims =
+                (AccessTokenClaims)
+                        filteredRequest.getAttribute(AccessTokenFilter.CLAIMS_ATTRIBUTE);
+        assertEquals(claims.getUserId(), "test");
+        assertNull(filteredRequest.getSession());
+        assertNull(filteredRequest.getSession(true));
+        assertNull(request.getSession(false));
+    }
+}
@@ -0,0 +1,157 @@
+package com.nooblol.global.auth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AccessTokenProviderTest {
+
+    private static final long TTL_MILLIS = 60_000;
+
+    private static final String OLD_KEY = "k1:" + createSecret('a');
+
+    private static final String NEW_KEY = "k2:" + createSecret('b');
+
+    private final MutableClock clock = new MutableClock();
+
+    private AccessTokenProvider accessTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        accessTokenProvider = new AccessTokenProvider(true, OLD_KEY, "k1", TTL_MILLIS, clock);
+    }
+
+    @Test
+    @DisplayName("발급한 Token을 검증하면 사용자 ID와 권한을 획득한다")
+    void verify_WhenIssuedTokenThenReturnClaims() {
+        // given
+        String token = accessTokenProvider.issue("test", 3);
+
+        // when
+        AccessTokenClaims claims = accessTokenProvider.verify(token);
+
+        // then
+        assertEquals(claims.getUserId(), "test");
+        assertEquals(claims.getUserRole(), 3);
+    }
+
+    @Test
+    @DisplayName("서명이 변조되었거나 만료된 Token은 거부한다")
+    void verify_WhenTamperedOrExpiredThenReturnNull() {
+        // given
+        String token = accessTokenProvider.issue("test", 1);
+        byte[] adminPayloadBytes = "test\n9\n0\n9999999999999".getBytes(StandardCharsets.UTF_8);
+        String adminPayload =
+                Base64.getUrlEncoder().withoutPadding().encodeToString(adminPayloadBytes);
+        String tamperedToken = "k1." + adminPayload + token.substring(token.lastIndexOf('.'));
+
+        // when
+        AccessTokenClaims tamperedClaims = accessTokenProvider.verify(tamperedToken);
+        clock.advance(TTL_MILLIS);
+        AccessTokenClaims expiredClaims = accessTokenProvider.verify(token);
+
+        // then
+        assertNull(tamperedClaims);
+        assertNull(expiredClaims);
+    }
+
+    @Test
+    @DisplayName("Key를 교체한 뒤에도 이전 Key가 남아있는 동안은 이전 Key로 발급한 Token을 사용할 수 있다")
+    void verify_WhenKeyRotatedThenAcceptOldKeyUntilRemoved() {
+        // given
+        String oldToken = accessTokenProvider.issue("test", 1);
+        AccessTokenProvider rotatedProvider =
+                new AccessTokenProvider(true, OLD_KEY + "," + NEW_KEY, "k2", TTL_MILLIS, clock);
+        AccessTokenProvider oldKeyRemovedProvider =
+                new AccessTokenProvider(true, NEW_KEY, "k2", TTL_MILLIS, clock);
+
+        // when
+        String newToken = rotatedProvider.issue("test", 1);
+
+        // then
+        assertTrue(newToken.startsWith("k2."));
+        assertNotNull(rotatedProvider.verify(oldToken));
+        assertNotNull(oldKeyRemovedProvider.verify(newToken));
+        assertNull(oldKeyRemovedProvider.verify(oldToken));
+    }
+
+    @Test
+    @DisplayName("폐기된 사용자의 이전 Token은 거부하고, 폐기 이후 다시 발급받은 Token은 사용할 수 있다")
+    void verify_WhenRevokedThenRejectOnlyPreviousToken() {
+        // given
+        String previousToken = accessTokenProvider.issue("test", 1);
+
+        // when
+        accessTokenProvider.revoke("test");
+        clock.advance(1);
+        String reissuedToken = accessTokenProvider.issue("test", 1);
+
+        // then
+        assertNull(accessTokenProvider.verify(previousToken));
+        assertNotNull(accessTokenProvider.verify(reissuedToken));
+    }
+
+    @Test
+    @DisplayName("폐기 이후 ttl이 지나면 폐기목록에서 제거한다")
+    void removeExpiredRevocation_WhenTtlPassedThenRemove() {
+        // given
+        accessTokenProvider.revoke("test");
+
+        // when
+        clock.advance(TTL_MILLIS + 1);
+        accessTokenProvider.removeExpiredRevocation();
+
+        // then
+        assertEquals(accessTokenProvider.getRevokedCount(), 0);
+    }
+
+    @Test
+    @DisplayName("사용중인 Key가 설정되지 않은 경우 서버를 시작하지 않는다")
+    void constructor_WhenActiveKeyNotExistsThenThrow() {
+        assertThrows(
+                IllegalStateException.class,
+                () -> new AccessTokenProvider(true, OLD_KEY, "k2", TTL_MILLIS, clock));
+    }
+
+    private static String createSecret(char value) {
+        return Base64.getEncoder()
+                .encodeToString(String.valueOf(value).repeat(32).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private long millis = 1_000_000;
+
+        void advance(long deltaMillis) {
+            millis += deltaMillis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.nooblol.global.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+class CacheInvalidationListenerTest {
+
+    private static final String ORIGIN_ID = "this-server";
+
+    private final JdkSerializationRedisSerializer serializer =
+            new JdkSerializationRedisSerializer();
+
+    private ConcurrentMapCache shared;
+
+    private TwoTierCache twoTierCache;
+
+    private final List<Object> handledKeys = new ArrayList<>();
+
+    private final LocalInvalidationHandler localInvalidationHandler =
+            new LocalInvalidationHandler() {
+                @Override
+                public String getInvalidationName() {
+                    return "local";
+                }
+
+                @Override
+                public void onInvalidation(Object key) {
+                    handledKeys.add(key);
+                }
+            };
+
+    private CacheInvalidationListener cacheInvalidationListener;
+
+    @BeforeEach
+    void setUp() {
+        shared = new ConcurrentMapCache("bbs");
+        twoTierCache = new TwoTierCache(CacheType.BBS.buildLocalCache(), shared, null);
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(twoTierCache));
+        cacheManager.afterPropertiesSet();
+
+        cacheInvalidationListener =
+                new CacheInvalidationListener(
+                        cacheManager, serializer, ORIGIN_ID, List.of(localInvalidationHandler));
+    }
+
+    private DefaultMessage createMessage(String originId, Object key) {
+        return createMessage(originId, "bbs", key);
+    }
+
+    private DefaultMessage createMessage(String originId, String cacheName, Object key) {
+        CacheInvalidationMessage message =
+                CacheInvalidationMessage.builder()
+                        .originId(originId)
+                        .cacheName(cacheName)
+                        .key(key)
+                        .build();
+        return new DefaultMessage(
+                CacheInvalidationPublisher.CHANNEL.getBytes(), serializer.serialize(message));
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 메시지를 받으면 L1의 해당 key만 비운다")
+    void onMessage_WhenOtherServerMessageThenEvictLocal() {
+        // given
+        twoTierCache.put(1, "value");
+        twoTierCache.put(2, "value");
+        shared.clear();
+
+        // when
+        cacheInvalidationListener.onMessage(createMessage("other-server", 1), null);
+
+        // then
+        assertNull(twoTierCache.get(1));
+        assertEquals(twoTierCache.get(2).get(), "value");
+    }
+
+    @Test
+    @DisplayName("여러 key의 무효화 메시지를 받으면 L1의 해당 key들만 비운다")
+    void onMessage_WhenKeysMessageThenEvictLocalKeys() {
+        // given
+        twoTierCache.put(1, "value");
+        twoTierCache.put(2, "value");
+        twoTierCache.put(3, "value");
+        shared.clear();
+        CacheInvalidationMessage message =
+                CacheInvalidationMessage.builder()
+                        .originId("other-server")
+                        .cacheName("bbs")
+                        .keys(List.of(1, 2))
+                        .build();
+
+        // when
+        cacheInvalidationListener.onMessage(
+                new DefaultMessage(
+                        CacheInvalidationPublisher.CHANNEL.getBytes(),
+                        serializer.serialize(message)),
+                null);
+
+        // then
+        assertNull(twoTierCache.get(1));
+        assertNull(twoTierCache.get(2));
+        assertEquals(twoTierCache.get(3).get(), "value");
+    }
+
+    @Test
+    @DisplayName("key가 없는 무효화 메시지를 받으면 L1 전체를 비운다")
+    void onMessage_WhenKeyIsNullThenClearLocal() {
+        // given
+        twoTierCache.put(1, "value");
+        shared.clear();
+
+        // when
+        cacheInvalidationListener.onMessage(createMessage("other-server", null), null);
+
+        // then
+        assertNull(twoTierCache.get(1));
+    }
+
+    @Test
+    @DisplayName("자신이 발행한 무효화 메시지는 무시한다")
+    void onMessage_WhenOwnMessageThenIgnore() {
+        // given
+        twoTierCache.put(1, "value");
+        shared.clear();
+
+        // when
+        cacheInvalidationListener.onMessage(createMessage(ORIGIN_ID, 1), null);
+
+        // then
+        assertEquals(twoTierCache.get(1).get(), "value");
+    }
+
+    @Test
+    @DisplayName("Cache가 아닌 이름의 메시지는 같은 이름의 LocalInvalidationHandler에 전달한다")
+    void onMessage_WhenHandlerNameThenDelegateToHandler() {
+        // when
+        cacheInvalidationListener.onMessage(createMessage("other-server", "local", 3), null);
+        cacheInvalidationListener.onMessage(createMessage(ORIGIN_ID, "local", 4), null);
+
+        // then
+        assertEquals(handledKeys, List.of(3));
+    }
+}
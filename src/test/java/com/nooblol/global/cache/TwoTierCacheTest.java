@@ -0,0 +1,151 @@
+package com.nooblol.global.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.nooblol.global.dto.CacheStatsDto;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheTest {
+
+    @Mock private CacheInvalidationPublisher publisher;
+
+    // Redis 대신 같은 Cache 인터페이스를 구현한 ConcurrentMapCache를 L2로 사용한다.
+    private ConcurrentMapCache shared;
+
+    private TwoTierCache twoTierCache;
+
+    @BeforeEach
+    void setUp() {
+        shared = new ConcurrentMapCache("category");
+        twoTierCache = new TwoTierCache(CacheType.CATEGORY.buildLocalCache(), shared, publisher);
+    }
+
+    @Test
+    @DisplayName("L1에 없고 L2에 있는 값을 조회하면 L1을 채우며, 이후에는 L2를 조회하지 않는다")
+    void get_WhenOnlySharedHaveValueThenFillLocal() {
+        // given
+        shared.put(1, "value");
+
+        // when
+        Cache.ValueWrapper firstResult = twoTierCache.get(1);
+        shared.evict(1);
+        Cache.ValueWrapper secondResult = twoTierCache.get(1);
+
+        // then
+        assertEquals(firstResult.get(), "value");
+        assertEquals(secondResult.get(), "value");
+        CacheStatsDto stats = twoTierCache.getStats();
+        assertEquals(stats.getSharedHitCount(), 1L);
+        assertEquals(stats.getLocalHitCount(), 1L);
+    }
+
+    @Test
+    @DisplayName("둘다 없는 경우에만 원본을 조회하고, L1과 L2에 모두 저장한다")
+    void get_WhenNotCachedThenLoadAndPutBoth() {
+        // when
+        String result = twoTierCache.get(1, () -> "loaded");
+        String cachedResult = twoTierCache.get(1, () -> "reloaded");
+
+        // then
+        assertEquals(result, "loaded");
+        assertEquals(cachedResult, "loaded");
+        assertEquals(shared.get(1).get(), "loaded");
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("evict, clear를 하면 L1, L2를 모두 비우고 다른 서버에 무효화 메시지를 발행한다")
+    void evict_WhenCalledThenEvictBothAndPublish() {
+        // given
+        twoTierCache.put(1, "value");
+        twoTierCache.put(2, "value");
+
+        // when
+        twoTierCache.evict(1);
+        twoTierCache.clear();
+
+        // then
+        assertNull(twoTierCache.get(2));
+        assertNull(shared.get(1));
+        verify(publisher).publish("category", 1);
+        verify(publisher).publish("category", null);
+    }
+
+    @Test
+    @DisplayName("evictAll을 하면 L1, L2의 key를 모두 비우고 무효화 메시지는 한번만 발행한다")
+    void evictAll_WhenCalledThenEvictBothAndPublishOnce() {
+        // given
+        twoTierCache.put(1, "value");
+        twoTierCache.put(2, "value");
+        twoTierCache.put(3, "value");
+
+        // when
+        twoTierCache.evictAll(List.of(1, 2));
+
+        // then
+        assertNull(shared.get(1));
+        assertNull(shared.get(2));
+        assertNull(twoTierCache.get(1));
+        assertEquals(twoTierCache.get(3).get(), "value");
+        verify(publisher, times(1)).publishAll("category", List.of(1, 2));
+        verify(publisher, never()).publish(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("update를 하면 L2를 비우지 않고 새 값으로 덮어쓴 뒤 다른 서버에 무효화 메시지를 발행한다")
+    void update_WhenCalledThenOverwriteSharedAndPublish() {
+        // given
+        twoTierCache.put(1, "value");
+
+        // when
+        twoTierCache.update(1, "changed");
+
+        // then
+        assertEquals(shared.get(1).get(), "changed");
+        assertEquals(twoTierCache.get(1).get(), "changed");
+        verify(publisher).publish("category", 1);
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 메시지로 evictLocal을 하면 L1만 비우고 메시지를 발행하지 않는다")
+    void evictLocal_WhenCalledThenEvictOnlyLocal() {
+        // given
+        twoTierCache.put(1, "value");
+
+        // when
+        twoTierCache.evictLocal(1);
+
+        // then
+        assertEquals(shared.get(1).get(), "value");
+        assertEquals(twoTierCache.getStats().getLocalSize(), 0L);
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("L2 조회에 실패하는 경우 Exception 없이 원본을 조회한다")
+    void get_WhenSharedFailThenLoadFromValueLoader() {
+        // given
+        Cache failingShared = mock(Cache.class);
+        TwoTierCache cache =
+                new TwoTierCache(CacheType.CATEGORY.buildLocalCache(), failingShared, publisher);
+
+        // mock
+        when(failingShared.get(1)).thenThrow(new IllegalStateException("Redis Down"));
+
+        // when
+        String result = cache.get(1, () -> "loaded");
+
+        // then
+        assertEquals(result, "loaded");
+    }
+}
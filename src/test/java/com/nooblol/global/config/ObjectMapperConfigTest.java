@@ -0,0 +1,147 @@
+package com.nooblol.global.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nooblol.account.dto.match.MatchGameSimpleDto;
+import com.nooblol.global.dto.ResponseDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 전적 리스트 응답의 직렬화 결과가 BlackbirdModule 적용 전과 같은지 확인하고, 적용 전후의 직렬화 처리량을 기록한다.
+ *
+ * <p>처리량은 실행 환경에 따라 달라지므로 비교값은 로그로만 남기고 검증하지 않으며, 기본 test Task에서는 제외한다.
+ */
+@Slf4j
+class ObjectMapperConfigTest {
+
+    private static final int MATCH_COUNT = 20;
+
+    private static final int PARTICIPANT_COUNT = 10;
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+
+    private static final int MEASURE_ITERATIONS = 5_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapperConfig().objectMapper();
+
+    // BlackbirdModule을 적용하기 전의 설정
+    private final ObjectMapper reflectionObjectMapper =
+            Jackson2ObjectMapperBuilder.json()
+                    .featuresToDisable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .modules(new JavaTimeModule())
+                    .build();
+
+    @Test
+    @DisplayName("BlackbirdModule을 적용해도 전적 리스트의 직렬화 결과는 같다")
+    void objectMapper_WhenBlackbirdRegisteredThenSameJson() throws Exception {
+        // given
+        ResponseDto<List<MatchGameSimpleDto>> response = createMatchListResponse();
+
+        // when
+        String result = objectMapper.writeValueAsString(response);
+
+        // then
+        assertEquals(result, reflectionObjectMapper.writeValueAsString(response));
+        assertTrue(
+                objectMapper.getRegisteredModuleIds().stream()
+                        .anyMatch(moduleId -> moduleId.toString().contains("Blackbird")));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("전적 리스트 응답의 직렬화 처리량을 BlackbirdModule 적용 전후로 비교한다")
+    void objectMapper_Benchmark() throws Exception {
+        // given
+        ResponseDto<List<MatchGameSimpleDto>> response = createMatchListResponse();
+
+        // when
+        double reflectionOpsPerSecond = measure(reflectionObjectMapper, response);
+        double blackbirdOpsPerSecond = measure(objectMapper, response);
+
+        // then
+        log.info(
+                "[ObjectMapperConfigTest] "
+                        + MATCH_COUNT
+                        + " matches x "
+                        + PARTICIPANT_COUNT
+                        + " participants, reflection : "
+                        + Math.round(reflectionOpsPerSecond)
+                        + " ops/s, blackbird : "
+                        + Math.round(blackbirdOpsPerSecond)
+                        + " ops/s");
+        assertTrue(blackbirdOpsPerSecond > 0);
+    }
+
+    private double measure(ObjectMapper mapper, Object value) throws Exception {
+        long byteCount = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            byteCount += mapper.writeValueAsBytes(value).length;
+        }
+
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            byteCount += mapper.writeValueAsBytes(value).length;
+        }
+        long elapsedNanos = Math.max(System.nanoTime() - startNanos, 1);
+
+        // JIT이 직렬화를 제거하지 않도록 결과를 사용한다.
+        assertTrue(byteCount > 0);
+        return MEASURE_ITERATIONS * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    private ResponseDto<List<MatchGameSimpleDto>> createMatchListResponse() {
+        List<MatchGameSimpleDto> matchList = new ArrayList<>();
+        for (int matchIndex = 0; matchIndex < MATCH_COUNT; matchIndex++) {
+            List<MatchGameSimpleDto> participants = new ArrayList<>();
+            for (int i = 0; i < PARTICIPANT_COUNT; i++) {
+                participants.add(createMatch(matchIndex, i).build());
+            }
+            matchList.add(createMatch(matchIndex, 0).participants(participants).build());
+        }
+        return new ResponseDto<>(HttpStatus.OK.value(), matchList);
+    }
+
+    private MatchGameSimpleDto.MatchGameSimpleDtoBuilder createMatch(
+            int matchIndex, int participantIndex) {
+        return MatchGameSimpleDto.builder()
+                .puuid("puuid-" + participantIndex)
+                .matchId("KR_" + matchIndex)
+                .summonerId("summoner-" + participantIndex)
+                .summonerName("소환사" + participantIndex)
+                .championName("Ahri")
+                .championId(103)
+                .role("SOLO")
+                .lane("MIDDLE")
+                .teamId(participantIndex < 5 ? 100 : 200)
+                .teamPosition("MIDDLE")
+                .win(participantIndex < 5)
+                .kills(participantIndex)
+                .deaths(3)
+                .assists(7)
+                .summoner1Id(4)
+                .summoner2Id(14)
+                .item0(3089)
+                .item1(3157)
+                .item2(3020)
+                .item3(4645)
+                .item4(3135)
+                .item5(3165)
+                .item6(3363)
+                .gameCreation(1_664_000_000_000L + matchIndex)
+                .gameDuration(1_800)
+                .queueId(420)
+                .gameMode("CLASSIC");
+    }
+}
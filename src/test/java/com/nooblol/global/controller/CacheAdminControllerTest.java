@@ -0,0 +1,99 @@
+package com.nooblol.global.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+
+import com.nooblol.global.cache.CacheType;
+import com.nooblol.global.cache.TwoTierCache;
+import com.nooblol.global.utils.RestDocConfiguration;
+import com.nooblol.global.utils.SessionSampleObject;
+import java.util.List;
+import org.hamcrest.core.Is;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(CacheAdminController.class)
+@Import(RestDocConfiguration.class)
+@AutoConfigureRestDocs
+class CacheAdminControllerTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @MockBean CacheManager cacheManager;
+
+    MockHttpSession adminSession = (MockHttpSession) SessionSampleObject.adminUserLoginSession;
+
+    @Test
+    @DisplayName("Cache 통계를 조회하면, Cache별 L1, L2 통계를 획득한다")
+    void getCacheStats_WhenRequestThenReturnStatsList() throws Exception {
+        // given
+        TwoTierCache categoryCache =
+                new TwoTierCache(CacheType.CATEGORY.buildLocalCache(), null, null);
+        categoryCache.put(1, "value");
+        categoryCache.get(1);
+
+        // mock
+        when(cacheManager.getCacheNames()).thenReturn(List.of("category"));
+        when(cacheManager.getCache("category")).thenReturn(categoryCache);
+
+        // when & then
+        mockMvc
+                .perform(
+                        RestDocumentationRequestBuilders.get("/admin/cache/stats")
+                                .session(adminSession))
+                .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.result[0].cacheName", Is.is("category")))
+                .andExpect(jsonPath("$.result[0].localHitCount", Is.is(1)))
+                .andDo(
+                        document(
+                                "global/cache/stats",
+                                responseFields(
+                                        fieldWithPath("resultCode")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("실행 결과의 상태값"),
+                                        fieldWithPath("result[]")
+                                                .type(JsonFieldType.ARRAY)
+                                                .description("Cache별 통계"),
+                                        fieldWithPath("result[].cacheName")
+                                                .type(JsonFieldType.STRING)
+                                                .description("Cache 이름"),
+                                        fieldWithPath("result[].localSize")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("L1에 저장된 건수"),
+                                        fieldWithPath("result[].localHitCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("L1 적중 횟수"),
+                                        fieldWithPath("result[].localMissCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("L1 미적중 횟수"),
+                                        fieldWithPath("result[].localHitRate")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("L1 적중률"),
+                                        fieldWithPath("result[].localEvictionCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("L1 크기제한, 만료로 제거된 건수"),
+                                        fieldWithPath("result[].sharedEnabled")
+                                                .type(JsonFieldType.BOOLEAN)
+                                                .description("L2(Redis) 사용 여부"),
+                                        fieldWithPath("result[].sharedHitCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("L2 적중 횟수"),
+                                        fieldWithPath("result[].sharedMissCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("L2 미적중 횟수"))));
+    }
+}
@@ -0,0 +1,51 @@
+package com.nooblol.global.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nooblol.global.config.ObjectMapperConfig;
+import com.nooblol.global.exception.ExceptionMessage;
+import com.nooblol.global.utils.ResponseEnum;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class RestApiControllerAdviceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapperConfig().objectMapper();
+
+    private final RestApiControllerAdvice restApiControllerAdvice =
+            new RestApiControllerAdvice(objectMapper);
+
+    @Test
+    @DisplayName("미리 직렬화한 오류 응답은 설정된 ObjectMapper로 직렬화한 ResponseDto와 같다")
+    void illegalArgumentException_WhenHandledThenEqualsToObjectMapper() throws Exception {
+        // given
+        Map<String, ResponseEnum> expectedResponseMap =
+                Map.of(
+                        ExceptionMessage.NO_DATA, ResponseEnum.NOT_FOUND,
+                        ExceptionMessage.SERVER_ERROR, ResponseEnum.INTERNAL_SERVER_ERROR,
+                        ExceptionMessage.HAVE_DATA, ResponseEnum.CONFLICT,
+                        ExceptionMessage.UNAUTHORIZED, ResponseEnum.UNAUTHORIZED,
+                        ExceptionMessage.BAD_REQUEST, ResponseEnum.BAD_REQUEST);
+
+        for (Map.Entry<String, ResponseEnum> entry : expectedResponseMap.entrySet()) {
+            // when
+            ResponseEntity<byte[]> response =
+                    restApiControllerAdvice.illegalArgumentException(
+                            new IllegalArgumentException(entry.getKey()),
+                            new MockHttpServletRequest());
+            byte[] expected = objectMapper.writeValueAsBytes(entry.getValue().getResponse());
+
+            // then
+            assertEquals(response.getHeaders().getContentType(), MediaType.APPLICATION_JSON);
+            assertEquals(
+                    new String(response.getBody(), StandardCharsets.UTF_8),
+                    new String(expected, StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.nooblol.global.session;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.nooblol.global.cache.CacheInvalidationPublisher;
+import com.nooblol.global.cache.CacheType;
+import com.nooblol.global.cache.TwoTierCache;
+import com.nooblol.global.session.CacheSessionRepository.CacheSession;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+@ExtendWith(MockitoExtension.class)
+class CacheSessionRepositoryTest {
+
+    private static final String ATTRIBUTE_NAME = "USER_LOGIN";
+
+    private static final Duration TOUCH_INTERVAL = Duration.ofMinutes(1);
+
+    @Mock private CacheInvalidationPublisher publisher;
+
+    // Redis 대신 ConcurrentMapCache를 L2로 사용하여, 두 서버가 L2를 공유하는 상황을 만든다.
+    private ConcurrentMapCache shared;
+
+    private CacheSessionRepository serverA;
+
+    private CacheSessionRepository serverB;
+
+    @BeforeEach
+    void setUp() {
+        shared = spy(new ConcurrentMapCache("session"));
+        serverA = createRepository();
+        serverB = createRepository();
+    }
+
+    @Test
+    @DisplayName("한 서버에서 로그인한 Session을 다른 서버에서도 조회할 수 있다")
+    void findById_WhenSavedOnOtherServerThenShareLogin() {
+        // given
+        CacheSession session = serverA.createSession();
+        session.setAttribute(ATTRIBUTE_NAME, "test");
+
+        // when
+        serverA.save(session);
+        CacheSession result = serverB.findById(session.getId());
+
+        // then
+        assertEquals(result.getAttribute(ATTRIBUTE_NAME), "test");
+    }
+
+    @Test
+    @DisplayName("속성 변경없이 접근시간만 바뀐 경우 touchInterval이 지나기 전에는 저장하지 않는다")
+    void save_WhenOnlyAccessedWithinTouchIntervalThenNotWrite() {
+        // given
+        CacheSession session = serverA.createSession();
+        serverA.save(session);
+        Instant savedAccessedTime = session.getLastAccessedTime();
+        shared.clear();
+
+        // when
+        CacheSession loadedSession = serverA.findById(session.getId());
+        loadedSession.setLastAccessedTime(savedAccessedTime.plusSeconds(10));
+        serverA.save(loadedSession);
+
+        // then
+        assertNull(shared.get(session.getId()));
+
+        loadedSession.setLastAccessedTime(savedAccessedTime.plus(TOUCH_INTERVAL));
+        serverA.save(loadedSession);
+        assertNotNull(shared.get(session.getId()));
+    }
+
+    @Test
+    @DisplayName("로그아웃으로 속성이 변경된 경우 L2를 비우지 않고 덮어쓴 뒤 다른 서버의 L1 무효화를 요청한다")
+    void save_WhenAttributeRemovedThenPublishInvalidation() {
+        // given
+        CacheSession session = serverA.createSession();
+        session.setAttribute(ATTRIBUTE_NAME, "test");
+        serverA.save(session);
+
+        // when
+        CacheSession loadedSession = serverA.findById(session.getId());
+        loadedSession.removeAttribute(ATTRIBUTE_NAME);
+        serverA.save(loadedSession);
+
+        // then
+        verify(shared, never()).evict(session.getId());
+        verify(publisher).publish("session", session.getId());
+        assertNull(serverB.findById(session.getId()).getAttribute(ATTRIBUTE_NAME));
+    }
+
+    @Test
+    @DisplayName("Session ID가 변경된 경우 이전 ID로는 조회되지 않는다")
+    void save_WhenSessionIdChangedThenRemoveOriginalId() {
+        // given
+        CacheSession session = serverA.createSession();
+        serverA.save(session);
+        String originalId = session.getId();
+
+        // when
+        session.changeSessionId();
+        serverA.save(session);
+
+        // then
+        assertNull(serverB.findById(originalId));
+        assertNotNull(serverB.findById(session.getId()));
+    }
+
+    @Test
+    @DisplayName("만료된 Session은 조회되지 않고 삭제된다")
+    void findById_WhenExpiredThenReturnNull() {
+        // given
+        CacheSession session = serverA.createSession();
+        session.setMaxInactiveInterval(Duration.ofSeconds(1));
+        session.setLastAccessedTime(Instant.now().minusSeconds(10));
+        serverA.save(session);
+
+        // when
+        CacheSession result = serverB.findById(session.getId());
+
+        // then
+        assertNull(result);
+        assertNull(shared.get(session.getId()));
+    }
+
+    private CacheSessionRepository createRepository() {
+        return new CacheSessionRepository(
+                new TwoTierCache(CacheType.SESSION.buildLocalCache(), shared, publisher),
+                Duration.ofHours(1),
+                TOUCH_INTERVAL);
+    }
+}
@@ -0,0 +1,55 @@
+package com.nooblol.global.sketch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단한다")
+    void mightContain_WhenPutThenAlwaysTrue() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@test.com");
+        }
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@test.com"));
+        }
+    }
+
+    @Test
+    @DisplayName("예상 건수만큼 추가한 경우 추가하지 않은 값의 오탐률은 설정한 오탐률 근처이다")
+    void mightContain_WhenNotPutThenFalsePositiveRateIsBounded() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@test.com");
+        }
+
+        // when
+        int falsePositiveCount = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("guest" + i + "@test.com")) {
+                falsePositiveCount++;
+            }
+        }
+
+        // then
+        assertTrue(falsePositiveCount < 100_000 * 0.02);
+        assertEquals(filter.getHashCount(), 7);
+    }
+
+    @Test
+    @DisplayName("예상 건수나 오탐률이 범위를 벗어나면 Exception이 발생한다")
+    void constructor_WhenInvalidSizeThenThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+    }
+}
@@ -0,0 +1,64 @@
+package com.nooblol.global.sketch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("같은 값을 여러번 추가해도 서로 다른 값의 개수만 표준오차 범위 안에서 추정한다")
+    void estimate_WhenDuplicatedValueOfferedThenEstimateDistinctCount() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+        int distinctCount = 50_000;
+
+        // when
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (int i = 0; i < distinctCount; i++) {
+                sketch.offer("user:" + i);
+            }
+        }
+
+        // then
+        assertEquals(sketch.estimate(), distinctCount, distinctCount * 0.1);
+    }
+
+    @Test
+    @DisplayName("나누어 추가한 Sketch를 Merge하면 한 Sketch에 모두 추가한 것과 같다")
+    void merge_WhenMergedThenEqualsToSingleSketch() {
+        // given
+        HyperLogLog firstSketch = new HyperLogLog();
+        HyperLogLog secondSketch = new HyperLogLog();
+        HyperLogLog singleSketch = new HyperLogLog();
+        for (int i = 0; i < 1000; i++) {
+            (i % 2 == 0 ? firstSketch : secondSketch).offer("guest:" + i);
+            singleSketch.offer("guest:" + i);
+        }
+
+        // when
+        firstSketch.merge(secondSketch);
+
+        // then
+        assertArrayEquals(firstSketch.toBytes(), singleSketch.toBytes());
+    }
+
+    @Test
+    @DisplayName("저장한 byte로 복원하면 같은 추정값을 반환하며, 크기가 다른 경우 Exception이 발생한다")
+    void fromBytes_WhenRestoredThenSameEstimate() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 100; i++) {
+            sketch.offer("user:" + i);
+        }
+
+        // when
+        HyperLogLog restoredSketch = HyperLogLog.fromBytes(sketch.toBytes());
+
+        // then
+        assertEquals(restoredSketch.estimate(), sketch.estimate());
+        assertEquals(HyperLogLog.fromBytes(null).estimate(), 0L);
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[10]));
+    }
+}
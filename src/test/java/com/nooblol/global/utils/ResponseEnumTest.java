@@ -0,0 +1,25 @@
+package com.nooblol.global.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nooblol.global.dto.ResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResponseEnumTest {
+
+    @Test
+    @DisplayName("getResponse는 호출할 때마다 새 ResponseDto를 반환하여 result를 변경해도 다른 호출에 영향이 없다")
+    void getResponse_WhenResultChangedThenNotShared() {
+        // given
+        ResponseDto firstResponse = ResponseEnum.OK.getResponse();
+
+        // when
+        firstResponse.setResult("changed");
+        ResponseDto secondResponse = ResponseEnum.OK.getResponse();
+
+        // then
+        assertNotSame(firstResponse, secondResponse);
+        assertNull(secondResponse.getResult());
+    }
+}
@@ -0,0 +1,123 @@
+package com.nooblol.notification.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nooblol.notification.dto.NotificationDto;
+import com.nooblol.notification.utils.NotificationType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class NotificationHubTest {
+
+    private static final int BUFFER_SIZE = 10;
+
+    private static final String USER_ID = "test";
+
+    // 전송 작업을 바로 실행하지 않고 모아두었다가 runSendTasks에서 실행한다.
+    private final List<Runnable> sendTaskList = new ArrayList<>();
+
+    private final AtomicLong currentTimeMillis = new AtomicLong(1_000_000);
+
+    private NotificationHub notificationHub;
+
+    @BeforeEach
+    void setUp() {
+        notificationHub =
+                new NotificationHub(
+                        sendTaskList::add, BUFFER_SIZE, 60_000, 10_000, currentTimeMillis::get);
+    }
+
+    @Test
+    @DisplayName("전송되지 않은 알림이 Buffer 크기를 넘으면 오래된 알림부터 버리고, 전송 작업은 사용자당 하나만 등록된다")
+    void publish_WhenBufferFullThenDropOldestAndScheduleOnce() {
+        // given
+        notificationHub.subscribe(USER_ID);
+
+        // when
+        for (int i = 0; i < BUFFER_SIZE * 3; i++) {
+            notificationHub.publish(USER_ID, createNotification(i));
+        }
+
+        // then
+        assertEquals(notificationHub.getPendingCount(USER_ID), BUFFER_SIZE);
+        assertEquals(sendTaskList.size(), 1);
+
+        runSendTasks();
+        assertEquals(notificationHub.getPendingCount(USER_ID), 0);
+    }
+
+    @Test
+    @DisplayName("Transaction 안에서 발행한 알림은 Commit 이후에 전송 대기열에 추가된다")
+    void publish_WhenTransactionActiveThenSendAfterCommit() {
+        // given
+        notificationHub.subscribe(USER_ID);
+        runSendTasks();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            notificationHub.publish(USER_ID, createNotification(1));
+
+            // then
+            assertEquals(notificationHub.getPendingCount(USER_ID), 0);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertEquals(notificationHub.getPendingCount(USER_ID), 1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("연결되지 않은 사용자에게 발행한 알림은 무시하고, 같은 사용자가 다시 연결하면 연결은 하나만 유지된다")
+    void subscribe_WhenResubscribeThenKeepOneSubscriber() {
+        // when
+        notificationHub.publish("notConnectedUser", createNotification(1));
+        notificationHub.subscribe(USER_ID);
+        notificationHub.subscribe(USER_ID);
+
+        // then
+        assertEquals(notificationHub.getPendingCount("notConnectedUser"), 0);
+        assertEquals(notificationHub.getSubscriberCount(), 1);
+    }
+
+    @Test
+    @DisplayName("보낼 알림이 없는 연결에만 Heartbeat를 추가한다")
+    void heartbeat_WhenSubscriberIdleThenOfferHeartbeat() {
+        // given
+        notificationHub.subscribe(USER_ID);
+        notificationHub.subscribe("busyUser");
+        runSendTasks();
+        notificationHub.publish("busyUser", createNotification(1));
+
+        // when
+        notificationHub.heartbeat();
+
+        // then
+        assertEquals(notificationHub.getPendingCount(USER_ID), 1);
+        assertEquals(notificationHub.getPendingCount("busyUser"), 1);
+    }
+
+    private void runSendTasks() {
+        List<Runnable> taskList = new ArrayList<>(sendTaskList);
+        sendTaskList.clear();
+        taskList.forEach(Runnable::run);
+    }
+
+    private NotificationDto createNotification(int targetId) {
+        return NotificationDto.builder()
+                .type(NotificationType.LETTER)
+                .targetId(targetId)
+                .actorUserId("sender")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -19,10 +19,15 @@ import com.nooblol.global.utils.ResponseEnum;
 import com.nooblol.global.utils.ResponseFixtureUtils;
 import com.nooblol.global.utils.RestDocConfiguration;
 import com.nooblol.global.utils.SessionSampleObject;
+import com.nooblol.user.dto.MailOutboxStatsDto;
+import com.nooblol.user.dto.UserCountDto;
+import com.nooblol.user.dto.UserRoleCountDto;
 import com.nooblol.user.dto.UserSignOutDto;
 import com.nooblol.user.dto.UserSignUpRequestDto;
 import com.nooblol.user.service.AdminService;
 import com.nooblol.user.utils.UserFixtureUtils;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.hamcrest.core.Is;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -150,22 +155,26 @@ class AdminControllerTest {
 
     @Test
     @DisplayName("관리자가 사용자에 리스트에 대해서 조회할경우, 조회한 결과를 획득한다")
-    void getAllUserList_WhenIsRequestUserIsAdmin_ThenReturnUserList() throws Exception {
+    void getUserList_WhenIsRequestUserIsAdmin_ThenReturnUserList() throws Exception {
         // given
-        int pageNum = 1;
         int limitNum = 30;
 
         ResponseDto mockReturnDto = ResponseEnum.OK.getResponse();
         mockReturnDto.setResult(UserFixtureUtils.getUserListFixture());
 
         // mock
-        when(adminService.getAllUserList(pageNum * limitNum, limitNum)).thenReturn(mockReturnDto);
+        when(adminService.getUserList(any())).thenReturn(mockReturnDto);
 
         // when & then
         mockMvc
                 .perform(
                         RestDocumentationRequestBuilders.get("/admin/userList")
-                                .param("page", String.valueOf(pageNum))
+                                .param("userRole", "3")
+                                .param("createdFrom", "2022-09-01T00:00:00")
+                                .param("createdTo", "2022-10-01T00:00:00")
+                                .param("userName", "test")
+                                .param("cursorCreatedAt", "2022-09-20T12:00:00")
+                                .param("cursorUserId", "user30")
                                 .param("limit", String.valueOf(limitNum))
                                 .session(adminSession))
                 .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
@@ -173,8 +182,27 @@ class AdminControllerTest {
                         document(
                                 "user/admin/userList",
                                 requestParameters(
-                                        parameterWithName("page").description("요청하려는 Page"),
-                                        parameterWithName("limit").description("최대 limit 갯수만큼의 사용자 정보 반환")),
+                                        parameterWithName("userRole")
+                                                .description("조회할 사용자 권한, 생략시 전체 권한")
+                                                .optional(),
+                                        parameterWithName("createdFrom")
+                                                .description("가입일 조회 시작(포함)")
+                                                .optional(),
+                                        parameterWithName("createdTo")
+                                                .description("가입일 조회 종료(미포함)")
+                                                .optional(),
+                                        parameterWithName("userName")
+                                                .description("사용자 이름 앞부분")
+                                                .optional(),
+                                        parameterWithName("cursorCreatedAt")
+                                                .description("이전 페이지 마지막 사용자의 가입일, 첫 페이지는 생략")
+                                                .optional(),
+                                        parameterWithName("cursorUserId")
+                                                .description("이전 페이지 마지막 사용자의 ID, 첫 페이지는 생략")
+                                                .optional(),
+                                        parameterWithName("limit")
+                                                .description("최대 limit 갯수만큼의 사용자 정보 반환, 최대 100")
+                                                .optional()),
                                 DocumentSnippetsUtils.responseHeaders_ContentTypeApplicationJsonValue(),
                                 responseFields(
                                         fieldWithPath("resultCode")
@@ -263,4 +291,109 @@ class AdminControllerTest {
                                 DocumentSnippetsUtils.responseHeaders_ContentTypeApplicationJsonValue(),
                                 DocumentSnippetsUtils.responseFields_IsOkStatusAndResultTrue()));
     }
+
+    @Test
+    @DisplayName("관리자가 메일 발송 현황을 조회할 경우, 상태별 건수와 발송 현황을 획득한다")
+    void getMailOutboxStats_WhenIsRequestUserIsAdmin_ThenReturnStats() throws Exception {
+        // given
+        ResponseDto mockReturnDto = ResponseEnum.OK.getResponse();
+        mockReturnDto.setResult(
+                MailOutboxStatsDto.builder()
+                        .waitCount(3)
+                        .doneCount(120)
+                        .failCount(1)
+                        .sentCount(40)
+                        .retriedCount(2)
+                        .lastBatchSendMs(350)
+                        .build());
+
+        // mock
+        when(adminService.getMailOutboxStats()).thenReturn(mockReturnDto);
+
+        // when & then
+        mockMvc
+                .perform(RestDocumentationRequestBuilders.get("/admin/mailOutboxStats").session(adminSession))
+                .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.result.waitCount", Is.is(3)))
+                .andDo(
+                        document(
+                                "user/admin/mailOutboxStats",
+                                DocumentSnippetsUtils.responseHeaders_ContentTypeApplicationJsonValue(),
+                                responseFields(
+                                        fieldWithPath("resultCode")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("실행 결과의 상태값"),
+                                        fieldWithPath("result.waitCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("발송 대기중인 메일수"),
+                                        fieldWithPath("result.processingCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("발송중인 메일수"),
+                                        fieldWithPath("result.doneCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("발송 완료된 메일수"),
+                                        fieldWithPath("result.failCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("재시도 횟수를 초과하여 발송에 실패한 메일수"),
+                                        fieldWithPath("result.sentCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("서버 실행 이후 발송한 메일수"),
+                                        fieldWithPath("result.failedCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("서버 실행 이후 발송에 실패한 메일수"),
+                                        fieldWithPath("result.retriedCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("서버 실행 이후 재시도 대기로 변경한 메일수"),
+                                        fieldWithPath("result.lastBatchSendMs")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("마지막 batch의 SMTP 발송 소요시간(ms)"))));
+    }
+
+    @Test
+    @DisplayName("관리자가 권한별 사용자수를 조회할 경우, 집계된 사용자수를 획득한다")
+    void getUserCount_WhenIsRequestUserIsAdmin_ThenReturnCount() throws Exception {
+        // given
+        ResponseDto mockReturnDto = ResponseEnum.OK.getResponse();
+        mockReturnDto.setResult(
+                UserCountDto.builder()
+                        .totalCount(12)
+                        .roleCountList(
+                                List.of(
+                                        new UserRoleCountDto(3, 10),
+                                        new UserRoleCountDto(9, 2)))
+                        .refreshedAt(LocalDateTime.of(2022, 10, 1, 12, 0))
+                        .build());
+
+        // mock
+        when(adminService.getUserCount()).thenReturn(mockReturnDto);
+
+        // when & then
+        mockMvc
+                .perform(RestDocumentationRequestBuilders.get("/admin/userCount").session(adminSession))
+                .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.result.totalCount", Is.is(12)))
+                .andDo(
+                        document(
+                                "user/admin/userCount",
+                                DocumentSnippetsUtils.responseHeaders_ContentTypeApplicationJsonValue(),
+                                responseFields(
+                                        fieldWithPath("resultCode")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("실행 결과의 상태값"),
+                                        fieldWithPath("result.totalCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("전체 사용자수"),
+                                        fieldWithPath("result.roleCountList[]")
+                                                .type(JsonFieldType.ARRAY)
+                                                .description("권한별 사용자수 리스트"),
+                                        fieldWithPath("result.roleCountList[].userRole")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("계정 권한"),
+                                        fieldWithPath("result.roleCountList[].userCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("해당 권한의 사용자수"),
+                                        fieldWithPath("result.refreshedAt")
+                                                .type(JsonFieldType.STRING)
+                                                .description("사용자수를 집계한 시간"))));
+    }
 }
@@ -2,6 +2,7 @@ package com.nooblol.user.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
@@ -17,10 +18,14 @@ import com.nooblol.global.utils.DocumentSnippetsUtils;
 import com.nooblol.global.utils.RestDocConfiguration;
 import com.nooblol.global.utils.SessionSampleObject;
 import com.nooblol.global.utils.SessionUtils;
+import com.nooblol.user.dto.LetterBroadcastDto;
+import com.nooblol.user.dto.LetterBroadcastRequestDto;
 import com.nooblol.user.dto.LetterDto;
 import com.nooblol.user.dto.LetterInsertRequestDto;
+import com.nooblol.user.dto.LetterSummaryDto;
 import com.nooblol.user.mapper.LetterMapper;
 import com.nooblol.user.service.LetterService;
+import com.nooblol.user.utils.LetterBroadcastStatus;
 import com.nooblol.user.utils.LetterStatus;
 import com.nooblol.user.utils.LetterType;
 import java.time.LocalDateTime;
@@ -41,6 +46,7 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.restdocs.payload.ResponseFieldsSnippet;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
@@ -128,18 +134,15 @@ class LetterControllerTest {
         MockHttpSession reqSession = (MockHttpSession) SessionSampleObject.authUserLoginSession;
 
         String type = LetterType.FROM.name();
-        int page = 1;
         int limit = 30;
 
-        List<LetterDto> letterList = new ArrayList<LetterDto>();
+        List<LetterSummaryDto> letterList = new ArrayList<LetterSummaryDto>();
 
         for (int i = 1; i < 4; i++) {
             letterList.add(
-                    new LetterDto()
-                            .builder()
+                    LetterSummaryDto.builder()
                             .letterId(i)
                             .letterTitle("Sample Letter Title" + i)
-                            .letterContent("Sample Letter Content" + i)
                             .toUserId("testUserId")
                             .fromUserId(SessionUtils.getSessionUserId(reqSession))
                             .toStatus(LetterStatus.READ)
@@ -155,7 +158,8 @@ class LetterControllerTest {
         mockMvc
                 .perform(
                         RestDocumentationRequestBuilders.get("/letter/list/{type}", type)
-                                .param("page", String.valueOf(page))
+                                .param("cursorCreatedAt", "2022-10-01T12:00:00")
+                                .param("cursorLetterId", "4")
                                 .param("limit", String.valueOf(limit))
                                 .session(reqSession))
                 .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
@@ -164,8 +168,13 @@ class LetterControllerTest {
                                 "user/letter/getLetterList",
                                 pathParameters(parameterWithName("type").description("조회 할 쪽지의 ID")),
                                 requestParameters(
-                                        parameterWithName("page").description("요청하려는 Page"),
-                                        parameterWithName("limit").description("최대 limit 갯수만큼의 사용자 정보 반환")),
+                                        parameterWithName("cursorCreatedAt")
+                                                .description("이전 페이지 마지막 쪽지의 발송일, 첫 페이지는 생략")
+                                                .optional(),
+                                        parameterWithName("cursorLetterId")
+                                                .description("이전 페이지 마지막 쪽지의 ID, 첫 페이지는 생략")
+                                                .optional(),
+                                        parameterWithName("limit").description("최대 limit 갯수만큼의 쪽지 반환, 최대 100개")),
                                 DocumentSnippetsUtils.responseHeaders_ContentTypeApplicationJsonValue(),
                                 responseFields(
                                         fieldWithPath("resultCode")
@@ -178,9 +187,6 @@ class LetterControllerTest {
                                         fieldWithPath("result[].letterTitle")
                                                 .type(JsonFieldType.STRING)
                                                 .description("쪽지 제목"),
-                                        fieldWithPath("result[].letterContent")
-                                                .type(JsonFieldType.STRING)
-                                                .description("쪽지 내용"),
                                         fieldWithPath("result[].toUserId")
                                                 .type(JsonFieldType.STRING)
                                                 .description("쪽지 수신자"),
@@ -198,6 +204,34 @@ class LetterControllerTest {
                                                 .description("쪽지 발신일"))));
     }
 
+    @Test
+    @DisplayName("읽지 않은 쪽지수를 조회 할 때, OK상태값과 결과값으로 읽지 않은 쪽지수를 획득한다.")
+    void getUnreadCount_WhenLoginUser_ThenReturnUnreadCountAndOk() throws Exception {
+        // given
+        int unreadCount = 3;
+        MockHttpSession session = (MockHttpSession) SessionSampleObject.authUserLoginSession;
+
+        // mock
+        when(letterService.getUnreadCount(any(HttpSession.class))).thenReturn(unreadCount);
+
+        // when & then
+        mockMvc
+                .perform(RestDocumentationRequestBuilders.get("/letter/unread-count").session(session))
+                .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.result", Is.is(unreadCount)))
+                .andDo(
+                        document(
+                                "user/letter/unreadCount",
+                                DocumentSnippetsUtils.responseHeaders_ContentTypeApplicationJsonValue(),
+                                responseFields(
+                                        fieldWithPath("resultCode")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("실행 결과의 상태값"),
+                                        fieldWithPath("result")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("읽지 않은 수신 쪽지수"))));
+    }
+
     @Test
     @DisplayName("쪽지 발송을 할 때, 정상적으로 발송이 이뤄진 경우, OK상태값과 결과값으로 True를 획득한다.")
     void insertLetter_WhenInsertSuccess_ThenReturnTrueAndOk() throws Exception {
@@ -266,4 +300,204 @@ class LetterControllerTest {
                                 DocumentSnippetsUtils.responseHeaders_ContentTypeApplicationJsonValue(),
                                 DocumentSnippetsUtils.responseFields_IsOkStatusAndResultTrue()));
     }
+
+    @Test
+    @DisplayName("쪽지를 모두 읽음 처리 할 때, OK상태값과 결과값으로 읽음 상태로 변경된 쪽지수를 획득한다.")
+    void readAllLetter_WhenReadSuccess_ThenReturnReadCountAndOk() throws Exception {
+        // given
+        MockHttpSession session = (MockHttpSession) SessionSampleObject.authUserLoginSession;
+
+        // mock
+        when(letterService.readAllLetter(any(HttpSession.class))).thenReturn(5);
+
+        // when & then
+        mockMvc
+                .perform(RestDocumentationRequestBuilders.put("/letter/read-all").session(session))
+                .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.result", Is.is(5)))
+                .andDo(
+                        document(
+                                "user/letter/readAll",
+                                DocumentSnippetsUtils.responseHeaders_ContentTypeApplicationJsonValue(),
+                                responseFieldsOfCount("읽음 상태로 변경된 쪽지수")));
+    }
+
+    @Test
+    @DisplayName("선택한 쪽지를 삭제 할 때, OK상태값과 결과값으로 삭제된 쪽지수를 획득한다.")
+    void deleteLetterList_WhenDeleteSuccess_ThenReturnDeletedCountAndOk() throws Exception {
+        // given
+        String type = LetterType.TO.name();
+        MockHttpSession session = (MockHttpSession) SessionSampleObject.authUserLoginSession;
+
+        // mock
+        when(letterService.deleteLetterList(anyList(), any(LetterType.class), any(HttpSession.class)))
+                .thenReturn(3);
+
+        // when & then
+        mockMvc
+                .perform(
+                        RestDocumentationRequestBuilders.delete("/letter/{type}", type)
+                                .param("letterIds", "1", "2", "3")
+                                .session(session))
+                .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.result", Is.is(3)))
+                .andDo(
+                        document(
+                                "user/letter/deleteList",
+                                pathParameters(
+                                        parameterWithName("type").description("Type이 수신인지 발신인지 구분 값")),
+                                requestParameters(
+                                        parameterWithName("letterIds").description("삭제하고자 하는 쪽지 ID 목록, 최대 1000개")),
+                                DocumentSnippetsUtils.responseHeaders_ContentTypeApplicationJsonValue(),
+                                responseFieldsOfCount("삭제된 쪽지수")));
+    }
+
+    @Test
+    @DisplayName("쪽지함 전체를 삭제 할 때, OK상태값과 결과값으로 삭제된 쪽지수를 획득한다.")
+    void deleteAllLetter_WhenDeleteSuccess_ThenReturnDeletedCountAndOk() throws Exception {
+        // given
+        String type = LetterType.FROM.name();
+        MockHttpSession session = (MockHttpSession) SessionSampleObject.authUserLoginSession;
+
+        // mock
+        when(letterService.deleteAllLetter(any(LetterType.class), any(HttpSession.class)))
+                .thenReturn(10);
+
+        // when & then
+        mockMvc
+                .perform(
+                        RestDocumentationRequestBuilders.delete("/letter/{type}/all", type)
+                                .session(session))
+                .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.result", Is.is(10)))
+                .andDo(
+                        document(
+                                "user/letter/deleteAll",
+                                pathParameters(
+                                        parameterWithName("type").description("Type이 수신인지 발신인지 구분 값")),
+                                DocumentSnippetsUtils.responseHeaders_ContentTypeApplicationJsonValue(),
+                                responseFieldsOfCount("삭제된 쪽지수")));
+    }
+
+    @Test
+    @DisplayName("관리자가 전체 쪽지를 발송 할 때, OK상태값과 결과값으로 발송건의 ID를 획득한다.")
+    void insertBroadcastLetter_WhenAdminRequest_ThenReturnBroadcastIdAndOk() throws Exception {
+        // given
+        LetterBroadcastRequestDto requestDto =
+                LetterBroadcastRequestDto.builder()
+                        .letterTitle("Sample Notice")
+                        .letterContent("Sample Notice Content")
+                        .build();
+        MockHttpSession session = (MockHttpSession) SessionSampleObject.adminUserLoginSession;
+
+        // mock
+        when(letterService.insertBroadcastLetter(
+                        any(LetterBroadcastRequestDto.class), any(HttpSession.class)))
+                .thenReturn(1);
+
+        // when & then
+        mockMvc
+                .perform(
+                        MockMvcRequestBuilders.post("/letter/broadcast")
+                                .session(session)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.result", Is.is(1)))
+                .andDo(
+                        document(
+                                "user/letter/addBroadcast",
+                                DocumentSnippetsUtils.requestHeaders_ContentTypeApplicationJsonValue(),
+                                requestFields(
+                                        fieldWithPath("letterTitle").type(JsonFieldType.STRING).description("쪽지 제목"),
+                                        fieldWithPath("letterContent").type(JsonFieldType.STRING).description("쪽지 내용")),
+                                DocumentSnippetsUtils.responseHeaders_ContentTypeApplicationJsonValue(),
+                                responseFieldsOfCount("발송 진행상황 조회에 사용할 발송건 ID")));
+    }
+
+    @Test
+    @DisplayName("관리자가 전체 쪽지 발송건을 조회 할 때, OK상태값과 결과값으로 발송 진행상황을 획득한다.")
+    void getBroadcastLetter_WhenAdminRequest_ThenReturnProgressAndOk() throws Exception {
+        // given
+        int broadcastId = 1;
+        LetterBroadcastDto broadcastDto =
+                LetterBroadcastDto.builder()
+                        .broadcastId(broadcastId)
+                        .letterTitle("Sample Notice")
+                        .letterContent("Sample Notice Content")
+                        .fromUserId(SessionUtils.getSessionUserId(SessionSampleObject.adminUserLoginSession))
+                        .status(LetterBroadcastStatus.PROCESSING.getStatus())
+                        .targetCount(100)
+                        .sentCount(40)
+                        .lastUserId("sampleUser40")
+                        .retryCount(0)
+                        .nextRunAt(LocalDateTime.now())
+                        .createdAt(LocalDateTime.now())
+                        .updatedAt(LocalDateTime.now())
+                        .build();
+        MockHttpSession session = (MockHttpSession) SessionSampleObject.adminUserLoginSession;
+
+        // mock
+        when(letterService.getBroadcastLetter(broadcastId)).thenReturn(broadcastDto);
+
+        // when & then
+        mockMvc
+                .perform(
+                        RestDocumentationRequestBuilders.get("/letter/broadcast/{broadcastId}", broadcastId)
+                                .session(session))
+                .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.result.sentCount", Is.is(40)))
+                .andDo(
+                        document(
+                                "user/letter/getBroadcast",
+                                pathParameters(parameterWithName("broadcastId").description("조회 할 발송건 ID")),
+                                DocumentSnippetsUtils.responseHeaders_ContentTypeApplicationJsonValue(),
+                                responseFields(
+                                        fieldWithPath("resultCode")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("실행 결과의 상태값"),
+                                        fieldWithPath("result").type(JsonFieldType.OBJECT).description("발송건 데이터"),
+                                        fieldWithPath("result.broadcastId")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("발송건 ID"),
+                                        fieldWithPath("result.letterTitle")
+                                                .type(JsonFieldType.STRING)
+                                                .description("쪽지 제목"),
+                                        fieldWithPath("result.letterContent")
+                                                .type(JsonFieldType.STRING)
+                                                .description("쪽지 내용"),
+                                        fieldWithPath("result.fromUserId")
+                                                .type(JsonFieldType.STRING)
+                                                .description("발송한 관리자 ID"),
+                                        fieldWithPath("result.status")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("발송 상태, 0: 대기, 1: 처리중, 2: 완료, 3: 실패"),
+                                        fieldWithPath("result.targetCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("요청시점의 발송 대상 사용자수"),
+                                        fieldWithPath("result.sentCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("발송 완료된 사용자수"),
+                                        fieldWithPath("result.lastUserId")
+                                                .type(JsonFieldType.STRING)
+                                                .description("마지막으로 발송한 사용자 ID"),
+                                        fieldWithPath("result.retryCount")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("실패 후 재시도 횟수"),
+                                        fieldWithPath("result.nextRunAt")
+                                                .type(JsonFieldType.STRING)
+                                                .description("다음 발송 시도 시간"),
+                                        fieldWithPath("result.createdAt")
+                                                .type(JsonFieldType.STRING)
+                                                .description("발송 요청일"),
+                                        fieldWithPath("result.updatedAt")
+                                                .type(JsonFieldType.STRING)
+                                                .description("진행상황 갱신일"))));
+    }
+
+    private ResponseFieldsSnippet responseFieldsOfCount(String description) {
+        return responseFields(
+                fieldWithPath("resultCode").type(JsonFieldType.NUMBER).description("실행 결과의 상태값"),
+                fieldWithPath("result").type(JsonFieldType.NUMBER).description(description));
+    }
 }
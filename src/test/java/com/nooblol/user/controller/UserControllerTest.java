@@ -263,6 +263,32 @@ class UserControllerTest {
                                 DocumentSnippetsUtils.responseFields_IsOkStatusAndResultTrue()));
     }
 
+    @Test
+    @DisplayName("회원가입 전 Email 사용 가능여부 확인시, 사용중이 아닌 Email인 경우 Ok상태값과 결과값으로 True를 획득한다")
+    void checkEmailAvailable_WhenNotUsed_ThenReturnTrueAndStatusOk() throws Exception {
+        // given
+        String requestEmail = "new@test.com";
+
+        // mock
+        when(userSignUpService.checkEmailAvailable(requestEmail))
+                .thenReturn(ResponseFixtureUtils.getResultCodeIsOkAndResultTrueFixture());
+
+        // when & then
+        mockMvc
+                .perform(
+                        RestDocumentationRequestBuilders.get(
+                                "/user/signup/available/{email}", requestEmail))
+                .andExpect(jsonPath("$.resultCode", Is.is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.result", Is.is(true)))
+                .andDo(
+                        document(
+                                "user/signupAvailable",
+                                pathParameters(
+                                        parameterWithName("email").description("사용 가능여부를 확인할 이메일")),
+                                DocumentSnippetsUtils.responseHeaders_ContentTypeApplicationJsonValue(),
+                                DocumentSnippetsUtils.responseFields_IsOkStatusAndResultTrue()));
+    }
+
     @Test
     @DisplayName("사용자 인증메일의 재발송 요청시, 실제 인증이 필요한 사용자인 경우, 메일을 발송한 이후 Ok상태값과 결과값으로 True를 획득한다")
     void resendAuthMail_WhenIsSuccess_ThenReturnTrueAndStatusOk() throws Exception {
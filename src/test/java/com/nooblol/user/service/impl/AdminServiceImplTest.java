@@ -4,15 +4,28 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
 import static org.mockito.BDDMockito.when;
 
+import com.nooblol.global.auth.AccessTokenProvider;
 import com.nooblol.global.dto.ResponseDto;
 import com.nooblol.global.exception.ExceptionMessage;
+import com.nooblol.user.dto.MailOutboxStatsDto;
+import com.nooblol.user.dto.UserCountDto;
 import com.nooblol.user.dto.UserDto;
+import com.nooblol.user.dto.UserRoleCountDto;
+import com.nooblol.user.dto.UserSearchDto;
 import com.nooblol.user.dto.UserSignUpRequestDto;
 import com.nooblol.user.mapper.AdminMapper;
+import com.nooblol.user.mapper.MailOutboxMapper;
 import com.nooblol.user.mapper.UserSignUpMapper;
+import com.nooblol.user.support.MailOutboxJob;
+import com.nooblol.user.support.UserExistenceFilter;
+import com.nooblol.user.support.UserInfoCache;
+import com.nooblol.user.support.UserRoleCountCache;
 import com.nooblol.user.utils.UserRoleStatus;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -32,6 +45,18 @@ class AdminServiceImplTest {
 
     @Mock private AdminMapper adminMapper;
 
+    @Mock private MailOutboxMapper mailOutboxMapper;
+
+    @Mock private MailOutboxJob mailOutboxJob;
+
+    @Mock private AccessTokenProvider accessTokenProvider;
+
+    @Mock private UserRoleCountCache userRoleCountCache;
+
+    @Mock private UserInfoCache userInfoCache;
+
+    @Mock private UserExistenceFilter userExistenceFilter;
+
     @Test
     @DisplayName("관리자를 계정을 추가할 때, DB에 삽입된 데이터가 없는경우, OK상태값과 false결과를 획득한다.")
     void addAdminMember_ResponseOkAndFalse() {
@@ -78,6 +103,7 @@ class AdminServiceImplTest {
         // then
         assertEquals(result.getResultCode(), HttpStatus.OK.value());
         assertEquals(result.getResult(), true);
+        verify(userExistenceFilter).add(mockUserDto.getUserId(), "test@test.com");
     }
 
     @Test
@@ -124,11 +150,13 @@ class AdminServiceImplTest {
         // then
         assertEquals(result.getResultCode(), HttpStatus.OK.value());
         assertTrue((boolean) result.getResult());
+        verify(userInfoCache).evict(deleteUser);
+        verify(accessTokenProvider).revoke(deleteUser);
     }
 
     @Test
-    @DisplayName("pageNum과 limitNum을 제공할 경우 사용자의 정보를 획득한다")
-    void getAllUserList_WhenAdminThenResponseOk() {
+    @DisplayName("조회 조건을 제공할 경우 사용자의 정보를 획득한다")
+    void getUserList_WhenAdminThenResponseOk() {
         // given
         UserDto listUser1 =
                 new UserDto()
@@ -152,17 +180,93 @@ class AdminServiceImplTest {
         mockReturnList.add(listUser1);
         mockReturnList.add(listUser2);
 
+        UserSearchDto userSearchDto = UserSearchDto.builder().limitNum(30).build();
+
         // mock
-        when(adminMapper.getAllUserList(0, 30)).thenReturn(mockReturnList);
+        when(adminMapper.selectUserList(userSearchDto)).thenReturn(mockReturnList);
 
         // when
-        ResponseDto result = adminService.getAllUserList(0, 30);
+        ResponseDto result = adminService.getUserList(userSearchDto);
 
         // then
         assertEquals(result.getResultCode(), HttpStatus.OK.value());
         assertEquals(mockReturnList, result.getResult());
     }
 
+    @Test
+    @DisplayName("이름 검색어의 LIKE 특수문자는 Escape하고, 조회건수는 최대 100건으로 제한한다")
+    void getUserList_WhenNamePrefixHasWildcardThenEscape() {
+        // given
+        UserSearchDto userSearchDto =
+                UserSearchDto.builder().userNamePrefix("10%_a!").limitNum(1000).build();
+
+        // mock
+        when(adminMapper.selectUserList(userSearchDto)).thenReturn(new ArrayList<>());
+
+        // when
+        adminService.getUserList(userSearchDto);
+
+        // then
+        assertEquals(userSearchDto.getUserNamePrefix(), "10!%!_a!!");
+        assertEquals(userSearchDto.getLimitNum(), 100);
+    }
+
+    @Test
+    @DisplayName("Cursor값이 하나만 있거나, 가입일 조회 범위가 잘못된 경우 BAD_REQUEST Exception이 발생한다")
+    void getUserList_WhenInvalidConditionThenBadRequest() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        UserSearchDto halfCursorDto =
+                UserSearchDto.builder().cursorCreatedAt(now).limitNum(30).build();
+        UserSearchDto invalidRangeDto =
+                UserSearchDto.builder()
+                        .createdFrom(now)
+                        .createdTo(now.minusDays(1))
+                        .limitNum(30)
+                        .build();
+
+        // when
+        Exception halfCursorException =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> adminService.getUserList(halfCursorDto));
+        Exception invalidRangeException =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> adminService.getUserList(invalidRangeDto));
+
+        // then
+        assertEquals(halfCursorException.getMessage(), ExceptionMessage.BAD_REQUEST);
+        assertEquals(invalidRangeException.getMessage(), ExceptionMessage.BAD_REQUEST);
+        verify(adminMapper, never()).selectUserList(any());
+    }
+
+    @Test
+    @DisplayName("권한별 사용자수는 집계된 Snapshot을 반환한다")
+    void getUserCount_WhenAdminThenReturnSnapshot() {
+        // given
+        UserCountDto userCountDto =
+                UserCountDto.builder()
+                        .totalCount(3)
+                        .roleCountList(
+                                List.of(
+                                        UserRoleCountDto.builder()
+                                                .userRole(UserRoleStatus.AUTH_USER.getRoleValue())
+                                                .userCount(3)
+                                                .build()))
+                        .build();
+
+        // mock
+        when(userRoleCountCache.getUserCount()).thenReturn(userCountDto);
+
+        // when
+        ResponseDto result = adminService.getUserCount();
+
+        // then
+        assertEquals(result.getResultCode(), HttpStatus.OK.value());
+        assertEquals(result.getResult(), userCountDto);
+    }
+
     @Test
     @DisplayName("사용자의 권한을 AUTH_USER로 변경하려는 경우, Response로 Ok와 결과값으로 true를 획득한다.")
     void changeToActiveUser_WhenAdminThenResponseOk() {
@@ -178,5 +282,60 @@ class AdminServiceImplTest {
         // then
         assertEquals(result.getResultCode(), HttpStatus.OK.value());
         assertEquals(result.getResult(), true);
+        verify(userInfoCache).evict(changeUserId);
+        verify(accessTokenProvider).revoke(changeUserId);
+    }
+
+    @Test
+    @DisplayName("메일 발송 현황을 조회하는 경우, 상태별 건수와 Job의 발송 현황을 함께 획득한다.")
+    void getMailOutboxStats_ThenReturnStatusCountAndJobCount() {
+        // given
+        MailOutboxStatsDto mockStats =
+                MailOutboxStatsDto.builder().waitCount(3).doneCount(10).build();
+
+        // mock
+        when(mailOutboxMapper.selectMailStatusCount()).thenReturn(mockStats);
+        when(mailOutboxJob.getSentCount()).thenReturn(10L);
+
+        // when
+        ResponseDto result = adminService.getMailOutboxStats();
+
+        // then
+        MailOutboxStatsDto stats = (MailOutboxStatsDto) result.getResult();
+        assertEquals(result.getResultCode(), HttpStatus.OK.value());
+        assertEquals(stats.getWaitCount(), 3);
+        assertEquals(stats.getSentCount(), 10L);
+    }
+
+    @Test
+    @DisplayName("사용자를 일시정지 상태로 변경한 경우, 이전에 발급된 Access Token을 폐기한다.")
+    void changeToSuspensionUser_WhenChangedThenRevokeAccessToken() {
+        // given
+        String changeUserId = "test";
+
+        // mock
+        when(adminMapper.changeUserRole(any())).thenReturn(1);
+
+        // when
+        ResponseDto result = adminService.changeToSuspensionUser(changeUserId);
+
+        // then
+        assertEquals(result.getResult(), true);
+        verify(accessTokenProvider).revoke(changeUserId);
+    }
+
+    @Test
+    @DisplayName("일시정지로 변경된 사용자가 없는 경우, Access Token을 폐기하지 않는다.")
+    void changeToSuspensionUser_WhenNotChangedThenNotRevoke() {
+        // mock
+        when(adminMapper.changeUserRole(any())).thenReturn(0);
+
+        // when
+        ResponseDto result = adminService.changeToSuspensionUser("notExistsUser");
+
+        // then
+        assertEquals(result.getResult(), false);
+        verify(userInfoCache, never()).evict(any());
+        verify(accessTokenProvider, never()).revoke(any());
     }
 }
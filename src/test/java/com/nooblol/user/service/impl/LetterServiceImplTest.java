@@ -6,14 +6,23 @@ import static org.mockito.BDDMockito.*;
 import com.nooblol.global.exception.ExceptionMessage;
 import com.nooblol.global.utils.SessionSampleObject;
 import com.nooblol.global.utils.SessionUtils;
+import com.nooblol.notification.support.NotificationHub;
+import com.nooblol.notification.utils.NotificationType;
+import com.nooblol.user.dto.LetterBroadcastDto;
+import com.nooblol.user.dto.LetterBroadcastRequestDto;
 import com.nooblol.user.dto.LetterDto;
 import com.nooblol.user.dto.LetterInsertRequestDto;
 import com.nooblol.user.dto.LetterSearchDto;
+import com.nooblol.user.dto.LetterSummaryDto;
 import com.nooblol.user.dto.UserDto;
+import com.nooblol.user.mapper.LetterBroadcastMapper;
 import com.nooblol.user.mapper.LetterMapper;
 import com.nooblol.user.service.UserInfoService;
+import com.nooblol.user.support.LetterUnreadCounter;
+import com.nooblol.user.utils.LetterBroadcastStatus;
 import com.nooblol.user.utils.LetterStatus;
 import com.nooblol.user.utils.LetterType;
+import com.nooblol.user.utils.UserRoleStatus;
 import java.util.ArrayList;
 import java.util.List;
 import javax.servlet.http.HttpSession;
@@ -33,8 +42,14 @@ class LetterServiceImplTest {
 
     @Mock LetterMapper letterMapper;
 
+    @Mock LetterBroadcastMapper letterBroadcastMapper;
+
     @Mock UserInfoService userInfoService;
 
+    @Mock LetterUnreadCounter letterUnreadCounter;
+
+    @Mock NotificationHub notificationHub;
+
     HttpSession authUserSession = SessionSampleObject.authUserLoginSession;
 
     @Order(1)
@@ -109,6 +124,13 @@ class LetterServiceImplTest {
 
             // then
             assertTrue(result);
+            verify(letterUnreadCounter).increment(mockToUserId);
+            verify(notificationHub)
+                    .publish(
+                            eq(mockToUserId),
+                            argThat(
+                                    notification ->
+                                            notification.getType() == NotificationType.LETTER));
         }
     }
 
@@ -213,52 +235,78 @@ class LetterServiceImplTest {
             assertEquals(e.getMessage(), ExceptionMessage.BAD_REQUEST);
         }
 
+        @Test
+        @DisplayName("조회 갯수가 0 이하이거나 Cursor값이 하나만 있는 경우, BadRequest가 발생한다.")
+        void getLetterListByUserId_WhenInvalidLimitOrCursor_ThenBadRequestException() {
+            // given
+            LetterSearchDto zeroLimitDto =
+                    LetterSearchDto.builder().letterType(LetterType.TO).limitNum(0).build();
+            LetterSearchDto halfCursorDto =
+                    LetterSearchDto.builder()
+                            .letterType(LetterType.TO)
+                            .limitNum(30)
+                            .cursorLetterId(10)
+                            .build();
+
+            // when
+            Exception zeroLimitException =
+                    assertThrows(
+                            IllegalArgumentException.class,
+                            () -> letterService.getLetterListByUserId(zeroLimitDto));
+            Exception halfCursorException =
+                    assertThrows(
+                            IllegalArgumentException.class,
+                            () -> letterService.getLetterListByUserId(halfCursorDto));
+
+            // then
+            assertEquals(zeroLimitException.getMessage(), ExceptionMessage.BAD_REQUEST);
+            assertEquals(halfCursorException.getMessage(), ExceptionMessage.BAD_REQUEST);
+        }
+
         @Test
         @DisplayName("수신 리스트 조회시에 데이터가 없는 경우, 비어있는 리스트를 획득한다.")
         void getLetterListByUserId_WhenIsNotExistsLetterByDbTypeTo_ThenReturnEmptyLetterList() {
             // given
             LetterSearchDto requestDto =
-                    new LetterSearchDto().builder().letterType(LetterType.TO).build();
+                    LetterSearchDto.builder().letterType(LetterType.TO).limitNum(30).build();
 
             // mock
             when(letterMapper.selectLetterListByUserIdAndTypeTo(requestDto))
-                    .thenReturn(new ArrayList<LetterDto>());
+                    .thenReturn(new ArrayList<LetterSummaryDto>());
 
             // when
-            List<LetterDto> result = letterService.getLetterListByUserId(requestDto);
+            List<LetterSummaryDto> result = letterService.getLetterListByUserId(requestDto);
 
             // then
             assertTrue(result.isEmpty());
         }
 
         @Test
-        @DisplayName("수신 리스트 조회시 데이터가 있는 경우, 수신된 쪽지 리스트를 획득한다.")
+        @DisplayName("수신 리스트 조회시 데이터가 있는 경우, 삭제되지 않은 수신 쪽지 리스트를 획득한다.")
         void getLetterListByUserId_WhenIsExistsLetterAndTypeTo_ThenReturnLetterList() {
             // given
             LetterSearchDto requestDto =
-                    new LetterSearchDto()
-                            .builder()
+                    LetterSearchDto.builder()
                             .userId(SessionUtils.getSessionUserId(authUserSession))
                             .letterType(LetterType.TO)
-                            .statusArr(getLetterSearchTypeStr())
                             .limitNum(30)
-                            .pageNum(0)
                             .build();
 
-            List<LetterDto> mockReturnLetterList = new ArrayList<>();
-            mockReturnLetterList.add(LetterDto.builder().letterId(1).build());
-            mockReturnLetterList.add(LetterDto.builder().letterId(2).build());
-            mockReturnLetterList.add(LetterDto.builder().letterId(3).build());
+            List<LetterSummaryDto> mockReturnLetterList = new ArrayList<>();
+            mockReturnLetterList.add(LetterSummaryDto.builder().letterId(1).build());
+            mockReturnLetterList.add(LetterSummaryDto.builder().letterId(2).build());
+            mockReturnLetterList.add(LetterSummaryDto.builder().letterId(3).build());
 
             // mock
             when(letterMapper.selectLetterListByUserIdAndTypeTo(requestDto))
                     .thenReturn(mockReturnLetterList);
 
             // when
-            List<LetterDto> result = letterService.getLetterListByUserId(requestDto);
+            List<LetterSummaryDto> result = letterService.getLetterListByUserId(requestDto);
 
             // then
             assertEquals(result, mockReturnLetterList);
+            assertEquals(requestDto.getStatusList(), List.of(LetterStatus.SEARCH_STATUS_ARR));
         }
 
         @Test
@@ -266,60 +314,45 @@ class LetterServiceImplTest {
         void getLetterListByUserId_WhenIsNotExistsLetterByDbTypeFrom_ThenReturnEmptyLetterList() {
             // given
             LetterSearchDto requestDto =
-                    new LetterSearchDto().builder().letterType(LetterType.FROM).build();
+                    LetterSearchDto.builder().letterType(LetterType.FROM).limitNum(30).build();
 
             // mock
             when(letterMapper.selectLetterListByUserIdAndTypeFrom(requestDto))
-                    .thenReturn(new ArrayList<LetterDto>());
+                    .thenReturn(new ArrayList<LetterSummaryDto>());
 
             // when
-            List<LetterDto> result = letterService.getLetterListByUserId(requestDto);
+            List<LetterSummaryDto> result = letterService.getLetterListByUserId(requestDto);
 
             // then
             assertTrue(result.isEmpty());
         }
 
         @Test
-        @DisplayName("발송 리스트 조회시 데이터가 있는 경우, 발송한 쪽지 리스트를 획득한다.")
+        @DisplayName("발송 리스트 조회시 데이터가 있는 경우, 최대 조회 갯수까지 발송한 쪽지 리스트를 획득한다.")
         void getLetterListByUserId_WhenIsExistsLetterAndTypeFrom_ThenReturnLetterList() {
             // given
             LetterSearchDto requestDto =
                     LetterSearchDto.builder()
                             .userId(SessionUtils.getSessionUserId(authUserSession))
                             .letterType(LetterType.FROM)
-                            .statusArr(getLetterSearchTypeStr())
-                            .limitNum(30)
-                            .pageNum(0)
+                            .limitNum(1000)
                             .build();
 
-            List<LetterDto> mockReturnLetterList = new ArrayList<>();
-            mockReturnLetterList.add(LetterDto.builder().letterId(1).build());
-            mockReturnLetterList.add(LetterDto.builder().letterId(2).build());
-            mockReturnLetterList.add(LetterDto.builder().letterId(3).build());
+            List<LetterSummaryDto> mockReturnLetterList = new ArrayList<>();
+            mockReturnLetterList.add(LetterSummaryDto.builder().letterId(1).build());
+            mockReturnLetterList.add(LetterSummaryDto.builder().letterId(2).build());
+            mockReturnLetterList.add(LetterSummaryDto.builder().letterId(3).build());
 
             // mock
             when(letterMapper.selectLetterListByUserIdAndTypeFrom(requestDto))
                     .thenReturn(mockReturnLetterList);
 
             // when
-            List<LetterDto> result = letterService.getLetterListByUserId(requestDto);
+            List<LetterSummaryDto> result = letterService.getLetterListByUserId(requestDto);
 
             // then
             assertEquals(result, mockReturnLetterList);
-        }
-
-        String getLetterSearchTypeStr() {
-
-            String searchListStr = "(";
-
-            for (int i = 0; i < LetterStatus.SEARCH_STATUS_ARR.length; i++) {
-                searchListStr += "\'" + LetterStatus.SEARCH_STATUS_ARR[i] + "\',";
-                if (i != LetterStatus.SEARCH_STATUS_ARR.length - 1) {
-                    searchListStr += ",";
-                }
-            }
-            searchListStr += ")";
-            return searchListStr;
+            assertEquals(requestDto.getLimitNum(), 100);
         }
     }
 
@@ -383,6 +416,201 @@ class LetterServiceImplTest {
 
             // then
             assertTrue(result);
+            verify(letterUnreadCounter, never()).decrement(anyString());
+        }
+
+        @Test
+        @DisplayName("읽지 않은 수신 쪽지를 삭제하는 경우 읽지 않은 쪽지수를 차감하고 True를 획득한다.")
+        void deleteLetter_WhenUnreadLetter_ThenDecrementUnreadCount() {
+            // given
+            LetterDto requestDto = new LetterDto();
+            requestDto.setLetterId(1);
+            requestDto.setType(LetterType.TO);
+
+            // mock
+            when(letterMapper.updateUnreadLetterToStatusByLetterIdAndToUserId(any())).thenReturn(1);
+
+            // when
+            boolean result = letterService.deleteLetter(requestDto, authUserSession);
+
+            // then
+            assertTrue(result);
+            verify(letterUnreadCounter).decrement(SessionUtils.getSessionUserId(authUserSession));
+            verify(letterMapper, never()).updateLetterToStatusByLetterIdAndToUserId(any());
+        }
+    }
+
+    @Order(5)
+    @Nested
+    @DisplayName("읽지 않은 쪽지수 조회 테스트")
+    class LetterUnreadCountTest {
+
+        @Test
+        @DisplayName("로그인한 사용자의 읽지 않은 쪽지수를 획득한다.")
+        void getUnreadCount_WhenLoginUser_ThenReturnUnreadCount() {
+            // mock
+            when(letterUnreadCounter.getUnreadCount(SessionUtils.getSessionUserId(authUserSession)))
+                    .thenReturn(3);
+
+            // when
+            int result = letterService.getUnreadCount(authUserSession);
+
+            // then
+            assertEquals(result, 3);
+        }
+    }
+
+    @Order(6)
+    @Nested
+    @DisplayName("쪽지 일괄 처리 테스트")
+    class LetterBulkTest {
+
+        String userId = SessionUtils.getSessionUserId(authUserSession);
+
+        @Test
+        @DisplayName("모두 읽음 처리시 변경된 쪽지수만큼 읽지 않은 쪽지수를 차감하고, 변경 건수를 획득한다.")
+        void readAllLetter_WhenUnreadLetterExists_ThenDecrementAndReturnCount() {
+            // mock
+            when(letterMapper.updateLetterToStatusListByToUserId(
+                            userId, null, LetterStatus.UNREAD, LetterStatus.READ))
+                    .thenReturn(7);
+
+            // when
+            int result = letterService.readAllLetter(authUserSession);
+
+            // then
+            assertEquals(result, 7);
+            verify(letterUnreadCounter).decrement(userId, 7);
+        }
+
+        @Test
+        @DisplayName("선택한 쪽지가 없거나 최대 갯수를 초과하는 경우, BadRequest가 발생한다.")
+        void deleteLetterList_WhenEmptyOrTooManyIds_ThenBadRequestException() {
+            // given
+            List<Integer> tooManyIdList = new ArrayList<>();
+            for (int i = 0; i <= 1000; i++) {
+                tooManyIdList.add(i);
+            }
+
+            // when
+            Exception emptyException =
+                    assertThrows(
+                            IllegalArgumentException.class,
+                            () ->
+                                    letterService.deleteLetterList(
+                                            new ArrayList<>(), LetterType.TO, authUserSession));
+            Exception tooManyException =
+                    assertThrows(
+                            IllegalArgumentException.class,
+                            () ->
+                                    letterService.deleteLetterList(
+                                            tooManyIdList, LetterType.TO, authUserSession));
+
+            // then
+            assertEquals(emptyException.getMessage(), ExceptionMessage.BAD_REQUEST);
+            assertEquals(tooManyException.getMessage(), ExceptionMessage.BAD_REQUEST);
+        }
+
+        @Test
+        @DisplayName("선택한 수신 쪽지 삭제시 읽지 않은 쪽지수만큼 차감하고, 삭제된 전체 쪽지수를 획득한다.")
+        void deleteLetterList_WhenTypeTo_ThenDecrementUnreadAndReturnTotalCount() {
+            // given
+            List<Integer> letterIdList = List.of(1, 2, 3, 4);
+
+            // mock
+            when(letterMapper.updateLetterToStatusListByToUserId(
+                            userId, letterIdList, LetterStatus.UNREAD, LetterStatus.DELETE))
+                    .thenReturn(1);
+            when(letterMapper.updateLetterToStatusListByToUserId(
+                            userId, letterIdList, LetterStatus.READ, LetterStatus.DELETE))
+                    .thenReturn(2);
+
+            // when
+            int result =
+                    letterService.deleteLetterList(letterIdList, LetterType.TO, authUserSession);
+
+            // then
+            assertEquals(result, 3);
+            verify(letterUnreadCounter).decrement(userId, 1);
+        }
+
+        @Test
+        @DisplayName("발신함 전체 삭제시 발신 쪽지 전체를 대상으로 삭제하고, 삭제된 쪽지수를 획득한다.")
+        void deleteAllLetter_WhenTypeFrom_ThenReturnDeletedCount() {
+            // mock
+            when(letterMapper.updateLetterFromStatusListByFromUserId(
+                            userId, null, LetterStatus.DELETE))
+                    .thenReturn(5);
+
+            // when
+            int result = letterService.deleteAllLetter(LetterType.FROM, authUserSession);
+
+            // then
+            assertEquals(result, 5);
+            verify(letterUnreadCounter, never()).decrement(anyString(), anyInt());
+        }
+    }
+
+    @Order(7)
+    @Nested
+    @DisplayName("전체 쪽지 발송 테스트")
+    class LetterBroadcastTest {
+
+        HttpSession adminSession = SessionSampleObject.adminUserLoginSession;
+
+        @Test
+        @DisplayName("전체 쪽지 발송 요청시 발송 대상자수와 대기 상태로 저장하고, broadcastId를 획득한다.")
+        void insertBroadcastLetter_WhenRequest_ThenSaveWaitingBroadcast() {
+            // given
+            String adminUserId = SessionUtils.getSessionUserId(adminSession);
+            LetterBroadcastRequestDto requestDto =
+                    LetterBroadcastRequestDto.builder()
+                            .letterTitle("Notice")
+                            .letterContent("Notice Content")
+                            .build();
+
+            // mock
+            when(letterBroadcastMapper.selectBroadcastTargetCount(
+                            adminUserId, UserRoleStatus.SUSPENSION_USER.getRoleValue()))
+                    .thenReturn(100);
+            when(letterBroadcastMapper.insertBroadcast(any()))
+                    .thenAnswer(
+                            invocation -> {
+                                LetterBroadcastDto dto = invocation.getArgument(0);
+                                dto.setBroadcastId(7);
+                                return 1;
+                            });
+
+            // when
+            int result = letterService.insertBroadcastLetter(requestDto, adminSession);
+
+            // then
+            assertEquals(result, 7);
+            int waitStatus = LetterBroadcastStatus.WAIT.getStatus();
+            verify(letterBroadcastMapper)
+                    .insertBroadcast(
+                            argThat(
+                                    dto ->
+                                            dto.getTargetCount() == 100
+                                                    && dto.getStatus() == waitStatus
+                                                    && adminUserId.equals(dto.getFromUserId())));
+            verify(letterMapper, never()).insertLetter(any());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 전체 쪽지 발송건을 조회하는 경우, NoData Exception이 발생한다.")
+        void getBroadcastLetter_WhenNotExists_ThenNoDataException() {
+            // mock
+            when(letterBroadcastMapper.selectBroadcastByBroadcastId(1)).thenReturn(null);
+
+            // when
+            Exception e =
+                    assertThrows(
+                            IllegalArgumentException.class,
+                            () -> letterService.getBroadcastLetter(1));
+
+            // then
+            assertEquals(e.getMessage(), ExceptionMessage.NO_DATA);
         }
     }
 }
@@ -3,12 +3,16 @@ package com.nooblol.user.service.impl;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import com.nooblol.global.auth.AccessTokenProvider;
 import com.nooblol.global.dto.ResponseDto;
 import com.nooblol.global.exception.ExceptionMessage;
+import com.nooblol.global.utils.SessionEnum;
 import com.nooblol.user.dto.UserDto;
 import com.nooblol.user.dto.UserInfoUpdateDto;
 import com.nooblol.user.dto.UserLoginDto;
+import com.nooblol.user.dto.UserLoginTokenDto;
 import com.nooblol.user.mapper.UserInfoMapper;
+import com.nooblol.user.support.UserInfoCache;
 import com.nooblol.user.utils.UserRoleStatus;
 import java.util.UUID;
 import javax.servlet.http.HttpSession;
@@ -29,6 +33,10 @@ class UserInfoServiceImplTest {
 
     @Mock private UserInfoMapper userInfoMapper;
 
+    @Mock private AccessTokenProvider accessTokenProvider;
+
+    @Mock private UserInfoCache userInfoCache;
+
     @Test
     @DisplayName("변경가능한 닉네임, 패스워드 두개가 모두 Null인 경우, BadRequest메세지를 가진 Exception을 획득한다.")
     void updateUserInfo_BadRequestExceptionTest() {
@@ -68,6 +76,7 @@ class UserInfoServiceImplTest {
         // then
         assertEquals(result.getResultCode(), HttpStatus.OK.value());
         assertEquals(result.getResult(), false);
+        verify(userInfoCache, never()).evict(any());
     }
 
     @Test
@@ -91,6 +100,7 @@ class UserInfoServiceImplTest {
         // then
         assertEquals(result.getResultCode(), HttpStatus.OK.value());
         assertEquals(result.getResult(), true);
+        verify(userInfoCache).evict("TestUserId");
     }
 
     @Test
@@ -192,6 +202,38 @@ class UserInfoServiceImplTest {
         assertEquals(!ObjectUtils.isEmpty((UserDto) result.getResult()), true);
     }
 
+    @Test
+    @DisplayName("Token 인증을 사용하는 경우, 로그인시 Session에 저장하지 않고 Access Token을 획득한다.")
+    void userLogin_WhenTokenModeThenIssueAccessToken() {
+        // given
+        HttpSession session = new MockHttpSession();
+
+        UserLoginDto mockUserLoginDto = new UserLoginDto();
+        mockUserLoginDto.setUserEmail("test@Email.com");
+        mockUserLoginDto.setUserPassword("testPassword");
+
+        UserDto mockReturnDto = new UserDto();
+        mockReturnDto.setUserId(UUID.randomUUID().toString());
+        mockReturnDto.setUserRole(UserRoleStatus.AUTH_USER.getRoleValue());
+
+        // mock
+        when(userInfoMapper.selectUser(mockUserLoginDto)).thenReturn(mockReturnDto);
+        when(accessTokenProvider.isEnabled()).thenReturn(true);
+        when(accessTokenProvider.issue(
+                        mockReturnDto.getUserId(), UserRoleStatus.AUTH_USER.getRoleValue()))
+                .thenReturn("token");
+        when(accessTokenProvider.getTtlMillis()).thenReturn(900_000L);
+
+        // when
+        ResponseDto result = userInfoService.userLogin(mockUserLoginDto, session);
+
+        // then
+        UserLoginTokenDto tokenDto = (UserLoginTokenDto) result.getResult();
+        assertEquals(tokenDto.getAccessToken(), "token");
+        assertEquals(tokenDto.getExpiresIn(), 900L);
+        assertNull(session.getAttribute(SessionEnum.USER_LOGIN.getValue()));
+    }
+
     @Test
     @DisplayName("로그아웃을 진행할 경우 무조건 OK 상태값을 획득한다.")
     void userLogout_WhenDoLogoutThenOk() {
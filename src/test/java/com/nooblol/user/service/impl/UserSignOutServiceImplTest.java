@@ -7,6 +7,7 @@ import com.nooblol.global.dto.ResponseDto;
 import com.nooblol.global.exception.ExceptionMessage;
 import com.nooblol.user.dto.UserSignOutDto;
 import com.nooblol.user.mapper.UserSignOutMapper;
+import com.nooblol.user.support.UserInfoCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +21,8 @@ class UserSignOutServiceImplTest {
 
     @Mock private UserSignOutMapper userSignOutMapper;
 
+    @Mock private UserInfoCache userInfoCache;
+
     @InjectMocks private UserSignOutServiceImpl userSignOutService;
 
     @Test
@@ -63,5 +66,6 @@ class UserSignOutServiceImplTest {
         // then
         assertEquals(result.getResultCode(), HttpStatus.OK.value());
         assertEquals(result.getResult(), true);
+        verify(userInfoCache).evict("test");
     }
 }
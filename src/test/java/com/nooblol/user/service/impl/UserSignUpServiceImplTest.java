@@ -6,8 +6,12 @@ import static org.mockito.BDDMockito.*;
 import com.nooblol.global.dto.ResponseDto;
 import com.nooblol.global.exception.ExceptionMessage;
 import com.nooblol.user.dto.UserSignUpRequestDto;
+import com.nooblol.user.dto.MailOutboxDto;
+import com.nooblol.user.mapper.MailOutboxMapper;
 import com.nooblol.user.mapper.UserSignUpMapper;
-import com.nooblol.user.service.UserSendMailService;
+import com.nooblol.user.support.UserExistenceFilter;
+import com.nooblol.user.support.UserInfoCache;
+import com.nooblol.user.utils.MailOutboxStatus;
 import com.nooblol.user.utils.UserRoleStatus;
 import org.h2.jdbc.JdbcSQLIntegrityConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
@@ -27,7 +31,9 @@ class UserSignUpServiceImplTest {
 
     @Mock private UserSignUpMapper userSignUpMapper;
 
-    @Mock private UserSendMailService userSendMailService;
+    @Mock private MailOutboxMapper mailOutboxMapper;
+    @Mock private UserExistenceFilter userExistenceFilter;
+    @Mock private UserInfoCache userInfoCache;
     @Mock private Environment environment;
 
     @Test
@@ -40,13 +46,47 @@ class UserSignUpServiceImplTest {
         mockUserDto.setPassword("abcde");
 
         // mock
+        when(userExistenceFilter.isEmailAvailable("test@naver.com")).thenReturn(true);
+        when(userExistenceFilter.isUserIdAvailable(mockUserDto.getUserId())).thenReturn(true);
         when(userSignUpMapper.insertSignUpUser(mockUserDto)).thenReturn(1);
-        when(userSignUpService.sendSignUpUserMail(mockUserDto)).thenReturn(true);
+        when(mailOutboxMapper.insertMail(any())).thenReturn(1);
 
         // when
         ResponseDto result = userSignUpService.signUpUser(mockUserDto);
 
         assertEquals(result.getResultCode(), HttpStatus.OK.value());
+        assertEquals(result.getResult(), true);
+        verify(mailOutboxMapper)
+                .insertMail(
+                        argThat(
+                                (MailOutboxDto mail) ->
+                                        "test@naver.com".equals(mail.getToEmail())
+                                                && mail.getStatus()
+                                                        == MailOutboxStatus.WAIT.getStatus()));
+        verify(userExistenceFilter).add(mockUserDto.getUserId(), "test@naver.com");
+    }
+
+    @Test
+    @DisplayName("회원가입 진행시 사용중인 Email로 확인된 경우, INSERT하지 않고 HAVE_DATA라는 메세지를 가진 Exception을 획득한다.")
+    void signUpUser_WhenEmailNotAvailableThenNotInsert() {
+        // given
+        UserSignUpRequestDto mockUserDto = new UserSignUpRequestDto();
+        mockUserDto.setUserName("테스트1");
+        mockUserDto.setUserEmail("test@naver.com");
+        mockUserDto.setPassword("abcde");
+
+        // mock
+        when(userExistenceFilter.isEmailAvailable("test@naver.com")).thenReturn(false);
+
+        // when
+        Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> userSignUpService.signUpUser(mockUserDto));
+
+        // then
+        assertEquals(e.getMessage(), ExceptionMessage.HAVE_DATA);
+        verify(userSignUpMapper, never()).insertSignUpUser(any());
     }
 
     @Test
@@ -63,6 +103,8 @@ class UserSignUpServiceImplTest {
         DuplicateKeyException mockException = new DuplicateKeyException("error", se);
 
         // mock
+        when(userExistenceFilter.isEmailAvailable("test@naver.com")).thenReturn(true);
+        when(userExistenceFilter.isUserIdAvailable(mockUserDto.getUserId())).thenReturn(true);
         when(userSignUpMapper.insertSignUpUser(mockUserDto)).thenThrow(mockException);
 
         // when
@@ -199,10 +241,12 @@ class UserSignUpServiceImplTest {
 
         // mock
         when(userSignUpMapper.selectUserInfoByUserId(userId)).thenReturn(mockUserDto);
+        when(userSignUpMapper.updateUserRole(any())).thenReturn(1);
 
         // when
         ResponseDto result = userSignUpService.changeRoleAuthUser(userId);
 
         assertEquals(result.getResultCode(), HttpStatus.OK.value());
+        verify(userInfoCache).evict(userId);
     }
 }
@@ -0,0 +1,137 @@
+package com.nooblol.user.support;
+
+import static org.mockito.BDDMockito.*;
+
+import com.nooblol.user.dto.LetterBroadcastDto;
+import com.nooblol.user.mapper.LetterBroadcastMapper;
+import com.nooblol.user.mapper.LetterMapper;
+import com.nooblol.user.utils.LetterBroadcastStatus;
+import com.nooblol.user.utils.UserRoleStatus;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class LetterBroadcastJobTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private static final int EXCLUDE_ROLE = UserRoleStatus.SUSPENSION_USER.getRoleValue();
+
+    @Mock private LetterBroadcastMapper letterBroadcastMapper;
+
+    @Mock private LetterMapper letterMapper;
+
+    @Mock private LetterUnreadCounter letterUnreadCounter;
+
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private LetterBroadcastJob letterBroadcastJob;
+
+    @BeforeEach
+    void setUp() {
+        letterBroadcastJob =
+                new LetterBroadcastJob(
+                        letterBroadcastMapper,
+                        letterMapper,
+                        letterUnreadCounter,
+                        new TransactionTemplate(transactionManager),
+                        CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("사용자를 chunk 단위로 나누어 발송하고, chunk마다 진행상황을 기록한 뒤 완료처리한다")
+    void broadcast_WhenWaitingBroadcastExistsThenSendInChunksAndComplete() {
+        // given
+        LetterBroadcastDto broadcast =
+                LetterBroadcastDto.builder().broadcastId(1).fromUserId("admin").build();
+
+        // mock
+        when(letterBroadcastMapper.selectRunnableBroadcastList(any(), anyInt()))
+                .thenReturn(List.of(broadcast));
+        when(letterBroadcastMapper.claimBroadcast(eq(1), any())).thenReturn(1);
+        when(letterBroadcastMapper.selectBroadcastTargetUserIdList(
+                        "admin", EXCLUDE_ROLE, null, CHUNK_SIZE))
+                .thenReturn(List.of("a", "b"));
+        when(letterBroadcastMapper.selectBroadcastTargetUserIdList(
+                        "admin", EXCLUDE_ROLE, "b", CHUNK_SIZE))
+                .thenReturn(List.of("c"));
+
+        // when
+        letterBroadcastJob.broadcast();
+
+        // then
+        verify(letterMapper).insertBroadcastLetterList(any(), eq(List.of("a", "b")));
+        verify(letterMapper).insertBroadcastLetterList(any(), eq(List.of("c")));
+        verify(letterUnreadCounter).incrementAll(List.of("a", "b"));
+        verify(letterUnreadCounter).incrementAll(List.of("c"));
+        verify(letterBroadcastMapper).addBroadcastProgress(1, 2, "b");
+        verify(letterBroadcastMapper).addBroadcastProgress(1, 1, "c");
+        verify(letterBroadcastMapper).completeBroadcast(eq(1), any());
+    }
+
+    @Test
+    @DisplayName("이전에 발송하다 중단된 경우 마지막으로 발송한 사용자 다음부터 발송한다")
+    void broadcast_WhenLastUserIdExistsThenResumeFromNextUser() {
+        // given
+        LetterBroadcastDto broadcast =
+                LetterBroadcastDto.builder()
+                        .broadcastId(1)
+                        .fromUserId("admin")
+                        .lastUserId("m")
+                        .build();
+
+        // mock
+        when(letterBroadcastMapper.selectRunnableBroadcastList(any(), anyInt()))
+                .thenReturn(List.of(broadcast));
+        when(letterBroadcastMapper.claimBroadcast(eq(1), any())).thenReturn(1);
+        when(letterBroadcastMapper.selectBroadcastTargetUserIdList(
+                        "admin", EXCLUDE_ROLE, "m", CHUNK_SIZE))
+                .thenReturn(List.of());
+
+        // when
+        letterBroadcastJob.broadcast();
+
+        // then
+        verify(letterMapper, never()).insertBroadcastLetterList(any(), anyList());
+        verify(letterBroadcastMapper).completeBroadcast(eq(1), any());
+    }
+
+    @Test
+    @DisplayName("발송중 실패하면 재시도 대기로 변경하고, 완료처리하지 않는다")
+    void broadcast_WhenSendFailThenRetryLater() {
+        // given
+        LetterBroadcastDto broadcast =
+                LetterBroadcastDto.builder()
+                        .broadcastId(1)
+                        .fromUserId("admin")
+                        .retryCount(0)
+                        .build();
+
+        // mock
+        when(letterBroadcastMapper.selectRunnableBroadcastList(any(), anyInt()))
+                .thenReturn(List.of(broadcast));
+        when(letterBroadcastMapper.claimBroadcast(eq(1), any())).thenReturn(1);
+        when(letterBroadcastMapper.selectBroadcastTargetUserIdList(
+                        anyString(), anyInt(), any(), anyInt()))
+                .thenThrow(new IllegalStateException("Lock wait timeout"));
+
+        // when
+        letterBroadcastJob.broadcast();
+
+        // then
+        verify(letterBroadcastMapper)
+                .failBroadcast(
+                        eq(1),
+                        eq(LetterBroadcastStatus.WAIT.getStatus()),
+                        any(),
+                        eq("Lock wait timeout"));
+        verify(letterBroadcastMapper, never()).completeBroadcast(anyInt(), any());
+    }
+}
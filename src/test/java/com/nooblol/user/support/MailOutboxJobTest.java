@@ -0,0 +1,153 @@
+package com.nooblol.user.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.nooblol.user.dto.MailOutboxDto;
+import com.nooblol.user.mapper.MailOutboxMapper;
+import com.nooblol.user.service.UserSendMailService;
+import com.nooblol.user.utils.MailOutboxStatus;
+import java.util.List;
+import java.util.Map;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxJobTest {
+
+    private static final int BATCH_SIZE = 10;
+
+    @Mock private MailOutboxMapper mailOutboxMapper;
+
+    @Mock private UserSendMailService userSendMailService;
+
+    @Mock private JavaMailSender javaMailSender;
+
+    @Mock private MimeMessage firstMessage;
+
+    @Mock private MimeMessage secondMessage;
+
+    private MailOutboxJob mailOutboxJob;
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxJob =
+                new MailOutboxJob(
+                        mailOutboxMapper, userSendMailService, javaMailSender, BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("대기중인 메일을 한번의 SMTP 발송으로 보내고, 발송한 메일을 한번에 완료처리한다")
+    void sendOutboxMail_WhenSendSuccessThenCompleteAll() throws Exception {
+        // mock
+        mockClaimedMailList();
+
+        // when
+        mailOutboxJob.sendOutboxMail();
+
+        // then
+        verify(javaMailSender).send(new MimeMessage[] {firstMessage, secondMessage});
+        verify(mailOutboxMapper).completeMailList(eq(List.of(1, 2)), any());
+        verify(mailOutboxMapper, never()).failMail(anyInt(), anyInt(), any(), any());
+        assertEquals(mailOutboxJob.getSentCount(), 2L);
+    }
+
+    @Test
+    @DisplayName("일부 수신자에게 발송이 실패한 경우, 실패한 메일만 재시도 대기로 변경한다")
+    void sendOutboxMail_WhenPartiallyFailedThenRetryOnlyFailedMail() throws Exception {
+        // mock
+        mockClaimedMailList();
+        willThrow(new MailSendException(Map.of(secondMessage, new Exception("Invalid Address"))))
+                .given(javaMailSender)
+                .send(any(MimeMessage[].class));
+
+        // when
+        mailOutboxJob.sendOutboxMail();
+
+        // then
+        verify(mailOutboxMapper).completeMailList(eq(List.of(1)), any());
+        verify(mailOutboxMapper)
+                .failMail(
+                        eq(2),
+                        eq(MailOutboxStatus.WAIT.getStatus()),
+                        any(),
+                        eq("Invalid Address"));
+        assertEquals(mailOutboxJob.getRetriedCount(), 1L);
+    }
+
+    @Test
+    @DisplayName("SMTP 인증에 실패한 경우 batch 전체를 재시도 대기로 변경한다")
+    void sendOutboxMail_WhenAuthenticationFailThenRetryAll() throws Exception {
+        // mock
+        mockClaimedMailList();
+        willThrow(new MailAuthenticationException("Authentication failed"))
+                .given(javaMailSender)
+                .send(any(MimeMessage[].class));
+
+        // when
+        mailOutboxJob.sendOutboxMail();
+
+        // then
+        verify(mailOutboxMapper, never()).completeMailList(anyList(), any());
+        verify(mailOutboxMapper)
+                .failMail(eq(1), eq(MailOutboxStatus.WAIT.getStatus()), any(), anyString());
+        verify(mailOutboxMapper)
+                .failMail(eq(2), eq(MailOutboxStatus.WAIT.getStatus()), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 초과한 메일은 실패로 변경하고, 다른 서버가 먼저 가져간 메일은 발송하지 않는다")
+    void sendOutboxMail_WhenRetryExceededThenFail() throws Exception {
+        // given
+        MailOutboxDto claimedMail = createMail(1, 4);
+        MailOutboxDto otherServerMail = createMail(2, 0);
+
+        // mock
+        when(mailOutboxMapper.selectRunnableMailList(any(), eq(BATCH_SIZE)))
+                .thenReturn(List.of(claimedMail, otherServerMail));
+        when(mailOutboxMapper.claimMail(eq(1), any())).thenReturn(1);
+        when(mailOutboxMapper.claimMail(eq(2), any())).thenReturn(0);
+        when(userSendMailService.createMailMessage(eq("user1@test.com"), anyMap()))
+                .thenThrow(new IllegalArgumentException("Template Error"));
+
+        // when
+        mailOutboxJob.sendOutboxMail();
+
+        // then
+        verify(mailOutboxMapper)
+                .failMail(
+                        eq(1), eq(MailOutboxStatus.FAIL.getStatus()), any(), eq("Template Error"));
+        verify(javaMailSender, never()).send(any(MimeMessage[].class));
+        assertEquals(mailOutboxJob.getFailedCount(), 1L);
+    }
+
+    private void mockClaimedMailList() throws Exception {
+        when(mailOutboxMapper.selectRunnableMailList(any(), eq(BATCH_SIZE)))
+                .thenReturn(List.of(createMail(1, 0), createMail(2, 0)));
+        when(mailOutboxMapper.claimMail(anyInt(), any())).thenReturn(1);
+        when(userSendMailService.createMailMessage(eq("user1@test.com"), anyMap()))
+                .thenReturn(firstMessage);
+        when(userSendMailService.createMailMessage(eq("user2@test.com"), anyMap()))
+                .thenReturn(secondMessage);
+    }
+
+    private MailOutboxDto createMail(int mailId, int retryCount) {
+        return MailOutboxDto.builder()
+                .mailId(mailId)
+                .toEmail("user" + mailId + "@test.com")
+                .mailTitle("title")
+                .templateName("mail/signup.html")
+                .userName("user" + mailId)
+                .mailContent("http://localhost/user/auth/user" + mailId)
+                .retryCount(retryCount)
+                .build();
+    }
+}
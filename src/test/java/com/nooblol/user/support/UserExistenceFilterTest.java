@@ -0,0 +1,111 @@
+package com.nooblol.user.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.nooblol.global.cache.CacheInvalidationPublisher;
+import com.nooblol.user.dto.UserDto;
+import com.nooblol.user.mapper.UserSignUpMapper;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class UserExistenceFilterTest {
+
+    @Mock private UserSignUpMapper userSignUpMapper;
+
+    @Mock private ObjectProvider<CacheInvalidationPublisher> cacheInvalidationPublisherProvider;
+
+    @Mock private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    private UserExistenceFilter userExistenceFilter;
+
+    @BeforeEach
+    void setUp() {
+        userExistenceFilter =
+                new UserExistenceFilter(
+                        userSignUpMapper, cacheInvalidationPublisherProvider, 1_000, 0.01);
+    }
+
+    @Test
+    @DisplayName("Filter에 없는 Email은 DB를 조회하지 않고 사용 가능으로 판단한다")
+    void isEmailAvailable_WhenNotInFilterThenNotQueryDb() {
+        // when
+        boolean result = userExistenceFilter.isEmailAvailable("new@test.com");
+
+        // then
+        assertTrue(result);
+        verify(userSignUpMapper, never()).existsUserByEmail(any());
+    }
+
+    @Test
+    @DisplayName("적재된 Email은 대소문자와 관계없이 DB로 확인한다")
+    void isEmailAvailable_WhenLoadedThenConfirmWithDb() {
+        // given
+        UserDto user = UserDto.builder().userId("user1").userEmail("Test@Test.com").build();
+
+        // mock
+        when(userSignUpMapper.selectUserCount()).thenReturn(1L);
+        when(userSignUpMapper.selectUserIdAndEmailList(null, 10_000)).thenReturn(List.of(user));
+        when(userSignUpMapper.existsUserByEmail("test@test.com")).thenReturn(true);
+
+        // when
+        userExistenceFilter.load();
+
+        // then
+        assertFalse(userExistenceFilter.isEmailAvailable("test@test.com"));
+    }
+
+    @Test
+    @DisplayName("가입한 사용자를 추가하면 다시 적재하기 전에도 DB로 확인한다")
+    void add_WhenSignedUpThenConfirmWithDb() {
+        // given
+        userExistenceFilter.add("user1", "test@test.com");
+
+        // mock
+        when(userSignUpMapper.existsUserByUserId("user1")).thenReturn(false);
+
+        // when
+        boolean result = userExistenceFilter.isUserIdAvailable("user1");
+
+        // then
+        assertTrue(result);
+        verify(userSignUpMapper).existsUserByUserId("user1");
+    }
+
+    @Test
+    @DisplayName("가입한 사용자는 다른 서버에도 전달하며, 전달받은 서버는 Filter에 추가하여 DB로 확인한다")
+    void add_WhenSignedUpThenPublishAndOtherServerConfirmWithDb() {
+        // given
+        UserExistenceFilter otherServerFilter =
+                new UserExistenceFilter(
+                        userSignUpMapper, cacheInvalidationPublisherProvider, 1_000, 0.01);
+
+        // mock
+        when(cacheInvalidationPublisherProvider.getIfAvailable())
+                .thenReturn(cacheInvalidationPublisher);
+        doAnswer(
+                        invocation -> {
+                            List<String> keys = invocation.getArgument(1);
+                            keys.forEach(otherServerFilter::onInvalidation);
+                            return null;
+                        })
+                .when(cacheInvalidationPublisher)
+                .publishAll(eq(UserExistenceFilter.INVALIDATION_NAME), anyCollection());
+        when(userSignUpMapper.existsUserByEmail("New@Test.com")).thenReturn(true);
+        when(userSignUpMapper.existsUserByUserId("newUser")).thenReturn(true);
+
+        // when
+        userExistenceFilter.add("newUser", "new@test.com");
+
+        // then
+        assertFalse(otherServerFilter.isEmailAvailable("New@Test.com"));
+        assertFalse(otherServerFilter.isUserIdAvailable("newUser"));
+    }
+}